@@ -5,6 +5,7 @@ import com.maximum0.fastpickbe.auth.ui.dto.LoginRequest;
 import com.maximum0.fastpickbe.auth.ui.dto.SignUpRequest;
 import com.maximum0.fastpickbe.common.exception.BusinessException;
 import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.common.security.principal.PrincipalDetails;
 import com.maximum0.fastpickbe.common.security.provider.JwtTokenProvider;
 import com.maximum0.fastpickbe.user.domain.User;
 import com.maximum0.fastpickbe.user.domain.UserRepository;
@@ -82,7 +83,7 @@ public class AuthService {
 
     private Authentication createAuthentication(User user) {
         return new UsernamePasswordAuthenticationToken(
-                user.getEmail(),
+                new PrincipalDetails(user),
                 null,
                 Collections.singleton(new SimpleGrantedAuthority(user.getRole().getWithPrefix()))
         );
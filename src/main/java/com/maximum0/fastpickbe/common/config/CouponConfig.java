@@ -0,0 +1,39 @@
+package com.maximum0.fastpickbe.common.config;
+
+import com.maximum0.fastpickbe.coupon.application.CouponIssueAsyncProperties;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueGroupCommitProperties;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueIdempotencyProperties;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueLockProperties;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueOutboxProperties;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueOwnershipProperties;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueProperties;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueRingBufferProperties;
+import com.maximum0.fastpickbe.coupon.application.CouponRaffleProperties;
+import com.maximum0.fastpickbe.coupon.application.CouponStockLeaseProperties;
+import com.maximum0.fastpickbe.coupon.application.CouponWaitingRoomProperties;
+import com.maximum0.fastpickbe.coupon.application.admin.CouponBulkIssueProperties;
+import com.maximum0.fastpickbe.coupon.application.admin.CouponCampaignProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({
+        CouponIssueProperties.class,
+        CouponIssueAsyncProperties.class,
+        CouponIssueGroupCommitProperties.class,
+        CouponIssueLockProperties.class,
+        CouponIssueRingBufferProperties.class,
+        CouponWaitingRoomProperties.class,
+        CouponIssueIdempotencyProperties.class,
+        CouponIssueOutboxProperties.class,
+        CouponBulkIssueProperties.class,
+        CouponStockLeaseProperties.class,
+        CouponIssueOwnershipProperties.class,
+        CouponRaffleProperties.class,
+        CouponCampaignProperties.class
+})
+public class CouponConfig {
+
+}
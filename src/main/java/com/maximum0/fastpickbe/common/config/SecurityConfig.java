@@ -52,6 +52,8 @@ public class SecurityConfig {
                         // 관리자용 쿠폰 API 접근 허용 (관리자 권한 개발전으로 임시 추가)
                         .requestMatchers(HttpMethod.POST, "/api/v1/admin/coupons").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
+                        // 노드 간 발급 요청 전달 API 는 사용자 토큰 대신 노드 간 인증 토큰으로 검증
+                        .requestMatchers(HttpMethod.POST, "/internal/v1/coupon-issues").permitAll()
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(exception -> exception
@@ -86,7 +88,7 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(corsProperties.allowedOrigins());
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
-        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "Cache-Control"));
+        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "Cache-Control", "X-Admission-Token", "Idempotency-Key"));
         configuration.setExposedHeaders(List.of("Authorization"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
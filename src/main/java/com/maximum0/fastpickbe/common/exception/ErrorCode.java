@@ -1,5 +1,7 @@
 package com.maximum0.fastpickbe.common.exception;
 
+import java.util.Arrays;
+import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -25,9 +27,38 @@ public enum ErrorCode {
     COUPON_DISABLED(400, "CP02", "사용 중지된 쿠폰입니다."),
     COUPON_NOT_AVAILABLE_PERIOD(400, "CP03", "쿠폰 발급 기간이 아닙니다."),
     COUPON_EXHAUSTED(400, "CP04", "쿠폰 수량이 모두 소진되었습니다."),
-    ALREADY_ISSUED_COUPON(400, "CP05", "이미 발급받은 쿠폰입니다.");
+    ALREADY_ISSUED_COUPON(400, "CP05", "이미 발급받은 쿠폰입니다."),
+    COUPON_ISSUE_QUEUE_FULL(503, "CP06", "발급 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    COUPON_ISSUE_TICKET_NOT_FOUND(404, "CP07", "존재하지 않는 발급 요청입니다."),
+    COUPON_ASYNC_ISSUE_NOT_SUPPORTED(400, "CP08", "비동기 발급을 지원하지 않는 쿠폰입니다."),
+    COUPON_ISSUE_BUSY(503, "CP09", "발급 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    COUPON_ADMISSION_REQUIRED(403, "CP10", "발급 대기열의 입장 순서가 되지 않았거나 입장 토큰이 만료되었습니다."),
+    COUPON_WAITING_NOT_FOUND(404, "CP11", "발급 대기열에 입장하지 않은 사용자입니다."),
+    IDEMPOTENCY_KEY_REUSED(422, "CP12", "다른 쿠폰의 발급 요청에 사용된 Idempotency-Key 입니다."),
+    COUPON_BULK_ISSUE_JOB_NOT_FOUND(404, "CP13", "존재하지 않는 일괄 발급 작업입니다."),
+    INVALID_IDEMPOTENCY_KEY(400, "CP14", "Idempotency-Key 는 64자 이하여야 합니다."),
+    COUPON_ISSUE_OWNER_MOVED(503, "CP15", "쿠폰 발급 담당 노드가 변경되어 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    COUPON_ISSUE_OWNER_UNAVAILABLE(503, "CP16", "쿠폰 발급 담당 노드에 요청을 전달하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    COUPON_STOCK_NOT_RELEASED(400, "CP17", "현재까지 공개된 쿠폰 수량이 모두 소진되었습니다. 다음 공개 시각 이후 다시 시도해주세요."),
+    COUPON_RAFFLE_ONLY(400, "CP18", "추첨 쿠폰은 응모 후 추첨으로만 발급됩니다."),
+    COUPON_NOT_RAFFLE(400, "CP19", "추첨 쿠폰이 아닙니다."),
+    ALREADY_ENTERED_RAFFLE(400, "CP20", "이미 응모한 추첨 쿠폰입니다."),
+    COUPON_CAMPAIGN_EXHAUSTED(400, "CP21", "캠페인 발급 수량이 모두 소진되었습니다."),
+    COUPON_CAMPAIGN_NOT_FOUND(404, "CP22", "존재하지 않는 캠페인입니다."),
+    COUPON_BULK_ISSUE_NOT_SUPPORTED(400, "CP23", "일괄 발급을 지원하지 않는 쿠폰입니다.");
 
     private final int status;
     private final String code;
     private final String message;
+
+    /**
+     * 응답 본문의 에러 코드로 에러 코드 상수를 찾습니다.
+     * @param code 에러 코드 (예: CP04)
+     * @return 에러 코드 상수 (정의되지 않은 코드면 Optional.empty)
+     */
+    public static Optional<ErrorCode> findByCode(String code) {
+        return Arrays.stream(values())
+                .filter(errorCode -> errorCode.code.equals(code))
+                .findFirst();
+    }
 }
\ No newline at end of file
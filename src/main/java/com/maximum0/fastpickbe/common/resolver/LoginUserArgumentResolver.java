@@ -1,6 +1,7 @@
 package com.maximum0.fastpickbe.common.resolver;
 
 import com.maximum0.fastpickbe.common.annotation.LoginUser;
+import com.maximum0.fastpickbe.common.security.principal.PrincipalDetails;
 import com.maximum0.fastpickbe.user.domain.User;
 import com.maximum0.fastpickbe.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,11 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+/**
+ * {@link LoginUser} 파라미터에 현재 인증된 사용자를 주입합니다.
+ * 토큰에 사용자 식별자가 담겨 있으면 tb_user 조회 없이 식별자만 채워진 참조를 주입하고,
+ * 식별자 클레임이 없는 이전 토큰만 이메일로 사용자를 조회합니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
@@ -37,8 +43,12 @@ public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver
             throw new UsernameNotFoundException("인증된 사용자 정보를 찾을 수 없습니다.");
         }
 
+        if (authentication.getPrincipal() instanceof PrincipalDetails principal && principal.getId() != null) {
+            return userRepository.getReference(principal.getId());
+        }
+
         String userEmail = authentication.getName();
         return userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다. email: " + userEmail));
     }
-}
\ No newline at end of file
+}
@@ -22,10 +22,26 @@ public final class PrincipalDetails implements UserDetails {
     private final UserRole role;
 
     public PrincipalDetails(User user) {
-        this.id = user.getId();
-        this.email = user.getEmail();
-        this.password = user.getPassword();
-        this.role = user.getRole();
+        this(user.getId(), user.getEmail(), user.getPassword(), user.getRole());
+    }
+
+    private PrincipalDetails(Long id, String email, String password, UserRole role) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+    }
+
+    /**
+     * 토큰 클레임으로 인증 주체를 복원합니다. 비밀번호는 보관하지 않습니다.
+     *
+     * @param id    사용자 식별자
+     * @param email 사용자 이메일
+     * @param role  사용자 역할
+     * @return PrincipalDetails 인증 주체
+     */
+    public static PrincipalDetails of(Long id, String email, UserRole role) {
+        return new PrincipalDetails(id, email, "", role);
     }
 
     @Override
@@ -3,8 +3,11 @@ package com.maximum0.fastpickbe.common.security.provider;
 import com.maximum0.fastpickbe.common.exception.BusinessException;
 import com.maximum0.fastpickbe.common.exception.ErrorCode;
 import com.maximum0.fastpickbe.common.security.config.JwtProperties;
+import com.maximum0.fastpickbe.common.security.principal.PrincipalDetails;
+import com.maximum0.fastpickbe.user.domain.UserRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -35,6 +38,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class JwtTokenProvider {
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String USER_ID_KEY = "uid";
     private final JwtProperties jwtProperties;
     private final Clock clock;
     private SecretKey key;
@@ -69,6 +73,7 @@ public class JwtTokenProvider {
 
     /**
      * JWT 토큰을 복호화하여 Spring Security에서 사용할 인증 객체(Authentication)를 생성합니다.
+     * 사용자 식별자 클레임이 있으면 DB 조회 없이 {@link PrincipalDetails} 를 인증 주체로 복원합니다.
      *
      * @param token JWT 토큰
      * @return {@link UsernamePasswordAuthenticationToken} 기반의 인증 정보
@@ -86,7 +91,10 @@ public class JwtTokenProvider {
                         .map(SimpleGrantedAuthority::new)
                         .toList();
 
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        Long userId = claims.get(USER_ID_KEY, Long.class);
+        UserDetails principal = userId != null
+                ? PrincipalDetails.of(userId, claims.getSubject(), UserRole.fromAuthority(authorities.iterator().next().getAuthority()))
+                : new User(claims.getSubject(), "", authorities);
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
 
@@ -114,6 +122,7 @@ public class JwtTokenProvider {
 
     /**
      * 공통 토큰 생성 메서드입니다.
+     * 인증 주체가 {@link PrincipalDetails} 이면 사용자 식별자를 클레임으로 함께 담습니다.
      *
      * @param authentication 인증 정보
      * @param expirationMillis 만료 시간(ms)
@@ -127,13 +136,15 @@ public class JwtTokenProvider {
         Date now = new Date(clock.millis());
         Date validity = new Date(now.getTime() + expirationMillis);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(authentication.getName())
                 .claim(AUTHORITIES_KEY, authorities)
                 .issuedAt(now)
-                .expiration(validity)
-                .signWith(key)
-                .compact();
+                .expiration(validity);
+        if (authentication.getPrincipal() instanceof PrincipalDetails principal && principal.getId() != null) {
+            builder.claim(USER_ID_KEY, principal.getId());
+        }
+        return builder.signWith(key).compact();
     }
 
     /**
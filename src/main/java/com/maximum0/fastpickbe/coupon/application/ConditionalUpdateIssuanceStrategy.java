@@ -0,0 +1,25 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조건부 UPDATE 한 문장으로 발급 가능 여부 검증과 수량 증가를 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalUpdateIssuanceStrategy implements IssuanceStrategy {
+    private final CouponIssueService couponIssueService;
+
+    @Override
+    public CouponIssueMode mode() {
+        return CouponIssueMode.CONDITIONAL_UPDATE;
+    }
+
+    @Override
+    public Long issue(Long couponId, User user) {
+        return couponIssueService.issueWithConditionalUpdate(couponId, user);
+    }
+}
@@ -0,0 +1,68 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueNode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 노드를 가상 노드로 나누어 배치한 일관된 해시 링입니다.
+ * 쿠폰 식별자의 해시 위치에서 시계 방향으로 처음 만나는 노드가 담당 노드가 되며,
+ * 노드가 추가/제외되면 그 노드에 인접한 구간의 쿠폰만 담당 노드가 바뀝니다.
+ * 모든 노드가 같은 노드 목록으로 같은 링을 만들도록 해시는 JVM 에 의존하지 않는 MD5 를 사용합니다.
+ */
+public final class ConsistentHashRing {
+    public static final ConsistentHashRing EMPTY = new ConsistentHashRing(List.of(), 0);
+
+    private final NavigableMap<Long, CouponIssueNode> ring = new TreeMap<>();
+    private final Map<String, String> members;
+
+    public ConsistentHashRing(List<CouponIssueNode> nodes, int virtualNodes) {
+        for (CouponIssueNode node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node.getNodeId() + "#" + i), node);
+            }
+        }
+        this.members = nodes.stream()
+                .collect(Collectors.toUnmodifiableMap(CouponIssueNode::getNodeId, CouponIssueNode::getBaseUrl));
+    }
+
+    /**
+     * 쿠폰의 담당 노드를 찾습니다.
+     * @param couponId 쿠폰 식별자
+     * @return 담당 노드 (링에 노드가 없으면 Optional.empty)
+     */
+    public Optional<CouponIssueNode> ownerOf(Long couponId) {
+        if (ring.isEmpty()) {
+            return Optional.empty();
+        }
+        Map.Entry<Long, CouponIssueNode> entry = ring.ceilingEntry(hash("coupon:" + couponId));
+        return Optional.of(entry != null ? entry.getValue() : ring.firstEntry().getValue());
+    }
+
+    /**
+     * 노드 목록이 이 링의 구성(노드 식별자와 주소)과 같은지 확인합니다.
+     * @param nodes 비교할 노드 목록
+     * @return 구성이 같으면 true
+     */
+    public boolean hasSameMembers(List<CouponIssueNode> nodes) {
+        return nodes.size() == members.size()
+                && nodes.stream().allMatch(node -> node.getBaseUrl().equals(members.get(node.getNodeId())));
+    }
+
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
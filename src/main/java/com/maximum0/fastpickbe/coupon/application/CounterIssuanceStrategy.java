@@ -0,0 +1,61 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueCounter;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponReserveResult;
+import com.maximum0.fastpickbe.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발급 카운터에서 수량 차감과 중복 검증을 원자적으로 선점한 뒤, 행 잠금 없이 발급 이력을 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CounterIssuanceStrategy implements IssuanceStrategy {
+    private final CouponIssueCounter couponIssueCounter;
+    private final CouponRepository couponRepository;
+    private final CouponIssueService couponIssueService;
+
+    @Override
+    public CouponIssueMode mode() {
+        return CouponIssueMode.COUNTER;
+    }
+
+    /**
+     * 발급 카운터에서 수량과 사용자 슬롯을 선점합니다.
+     * 카운터가 적재되지 않은 쿠폰이면 DB 의 잔여 수량으로 초기화한 뒤 다시 선점합니다.
+     * @throws BusinessException 소진(COUPON_EXHAUSTED) 또는 중복(ALREADY_ISSUED_COUPON)일 경우
+     */
+    @Override
+    public void reserve(Long couponId, Long userId) {
+        CouponReserveResult result = couponIssueCounter.reserve(couponId, userId);
+        if (result == CouponReserveResult.NOT_INITIALIZED) {
+            Coupon coupon = couponRepository.findById(couponId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+            couponIssueCounter.initialize(couponId, Math.max(coupon.getTotalQuantity() - coupon.getIssuedQuantity(), 0));
+            result = couponIssueCounter.reserve(couponId, userId);
+        }
+
+        if (result == CouponReserveResult.ALREADY_ISSUED) {
+            throw new BusinessException(ErrorCode.ALREADY_ISSUED_COUPON);
+        }
+        if (result != CouponReserveResult.RESERVED) {
+            throw new BusinessException(ErrorCode.COUPON_EXHAUSTED);
+        }
+    }
+
+    @Override
+    public Long issue(Long couponId, User user) {
+        return couponIssueService.issueReserved(couponId, user);
+    }
+
+    @Override
+    public void cancel(Long couponId, Long userId, RuntimeException cause) {
+        couponIssueCounter.cancel(couponId, userId);
+    }
+}
@@ -0,0 +1,118 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaign;
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaignRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaignStripe;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 캠페인 소속 쿠폰의 발급 수량을 캠페인 잔여 수량에서 차감합니다.
+ * 요청마다 힌트(사용자 식별자 등)로 정한 기본 분할 행 하나만 갱신하므로, 소속 쿠폰의 동시 발급이 캠페인 행 하나에 직렬화되지 않습니다.
+ * 기본 분할 행이 비면 모든 분할 행을 번호 순서로 잠그고 필요한 수량을 차감한 뒤 남은 수량을 다시 고르게 나눕니다.
+ * 발급 트랜잭션 안에서 호출되므로, 발급이 롤백되면 차감한 수량도 함께 복구됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponCampaignStock {
+    private static final CampaignRef NO_CAMPAIGN = new CampaignRef(null, 0);
+
+    private final CouponRepository couponRepository;
+    private final CouponCampaignRepository couponCampaignRepository;
+    // 쿠폰의 캠페인 소속은 생성 시에만 정해지므로, 쿠폰별 캠페인 정보를 한 번만 조회하여 유지합니다.
+    private final Map<Long, CampaignRef> campaigns = new ConcurrentHashMap<>();
+
+    /**
+     * 캠페인 잔여 수량에서 요청 수량 전체를 차감합니다. 캠페인에 소속되지 않은 쿠폰은 아무것도 하지 않습니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param hint     기본 분할 행을 정할 값 (같은 값은 같은 분할 행을 사용)
+     * @param quantity 차감할 수량
+     * @throws BusinessException 캠페인 잔여 수량이 부족할 경우 (COUPON_CAMPAIGN_EXHAUSTED)
+     */
+    @Transactional
+    public void reserve(Long couponId, long hint, int quantity) {
+        if (reserveUpTo(couponId, hint, quantity) < quantity) {
+            throw new BusinessException(ErrorCode.COUPON_CAMPAIGN_EXHAUSTED);
+        }
+    }
+
+    /**
+     * 캠페인 잔여 수량에서 요청 수량까지 가능한 만큼 차감합니다. 캠페인에 소속되지 않은 쿠폰은 요청 수량을 그대로 반환합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param hint     기본 분할 행을 정할 값 (같은 값은 같은 분할 행을 사용)
+     * @param quantity 차감할 최대 수량
+     * @return 차감한 수량
+     */
+    @Transactional
+    public int reserveUpTo(Long couponId, long hint, int quantity) {
+        CampaignRef campaign = campaignOf(couponId);
+        if (campaign == NO_CAMPAIGN || quantity <= 0) {
+            return quantity;
+        }
+
+        int homeStripe = campaign.stripeOf(hint);
+        if (couponCampaignRepository.decreaseStripe(campaign.id(), homeStripe, quantity)) {
+            return quantity;
+        }
+        return rebalance(campaign, quantity);
+    }
+
+    /**
+     * 차감했지만 발급하지 않은 수량을 기본 분할 행으로 되돌립니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param hint     차감할 때 사용한 힌트
+     * @param quantity 되돌릴 수량
+     */
+    @Transactional
+    public void release(Long couponId, long hint, int quantity) {
+        CampaignRef campaign = campaignOf(couponId);
+        if (campaign == NO_CAMPAIGN || quantity <= 0) {
+            return;
+        }
+        couponCampaignRepository.increaseStripe(campaign.id(), campaign.stripeOf(hint), quantity);
+    }
+
+    /**
+     * 모든 분할 행을 잠그고 합계에서 가능한 만큼 차감한 뒤, 남은 수량을 분할 행에 다시 고르게 나눕니다.
+     */
+    private int rebalance(CampaignRef campaign, int quantity) {
+        int[] stripes = couponCampaignRepository.lockStripes(campaign.id());
+        int remaining = Arrays.stream(stripes).sum();
+        int granted = Math.min(quantity, remaining);
+        couponCampaignRepository.updateStripes(campaign.id(), CouponCampaignStripe.distribute(remaining - granted, stripes.length));
+        return granted;
+    }
+
+    private CampaignRef campaignOf(Long couponId) {
+        return campaigns.computeIfAbsent(couponId, this::load);
+    }
+
+    private CampaignRef load(Long couponId) {
+        Long campaignId = couponRepository.findById(couponId)
+                .map(Coupon::getCampaignId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+        if (campaignId == null) {
+            return NO_CAMPAIGN;
+        }
+        CouponCampaign campaign = couponCampaignRepository.findById(campaignId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_CAMPAIGN_NOT_FOUND));
+        return new CampaignRef(campaign.getId(), campaign.getStripeCount());
+    }
+
+    private record CampaignRef(Long id, int stripeCount) {
+        int stripeOf(long hint) {
+            return (int) Math.floorMod(hint, (long) stripeCount);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponEligibility;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 쿠폰별 발급 가능 조건(발급 기간, 사용 상태, 품절 여부)을 메모리에 보관하는 테이블입니다.
+ * 발급 기간 외, 사용 중지, 품절 요청을 트랜잭션 시작 전에 같은 에러 코드로 거절합니다.
+ * 쿠폰 생성/중지 시 갱신되며, DB 경로에서 확인된 거절 결과로 품절 처리하거나 스냅샷을 다시 적재합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponEligibilityTable {
+    private final CouponRepository couponRepository;
+    private final Clock clock;
+    private final ConcurrentMap<Long, CouponEligibility> eligibilities = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 시각 기준으로 쿠폰의 발급 가능 조건을 검증합니다.
+     * 최초 요청 시 DB 에서 쿠폰을 조회하여 스냅샷을 적재합니다.
+     *
+     * @param couponId 쿠폰 식별자
+     * @throws BusinessException 쿠폰이 없거나(COUPON_NOT_FOUND) 발급 조건 위반 시
+     */
+    public void validate(Long couponId) {
+        eligibilities.computeIfAbsent(couponId, this::load)
+                .validate(LocalDateTime.now(clock));
+    }
+
+    /**
+     * 현재 시각 기준으로 추첨 쿠폰의 응모 조건을 검증합니다.
+     *
+     * @param couponId 쿠폰 식별자
+     * @throws BusinessException 쿠폰이 없거나(COUPON_NOT_FOUND) 응모 조건 위반 시
+     */
+    public void validateEnterable(Long couponId) {
+        eligibilities.computeIfAbsent(couponId, this::load)
+                .validateEnterable(LocalDateTime.now(clock));
+    }
+
+    /**
+     * 현재 시각 기준으로 쿠폰의 발급 대기열 입장 조건을 검증합니다. 발급 시작 전에도 입장할 수 있습니다.
+     *
+     * @param couponId 쿠폰 식별자
+     * @throws BusinessException 쿠폰이 없거나(COUPON_NOT_FOUND) 입장 조건 위반 시
+     */
+    public void validateWaitable(Long couponId) {
+        eligibilities.computeIfAbsent(couponId, this::load)
+                .validateWaitable(LocalDateTime.now(clock));
+    }
+
+    /**
+     * 현재 시각 기준으로 쿠폰의 발급이 시작되었는지 확인합니다.
+     *
+     * @param couponId 쿠폰 식별자
+     * @return 발급 시작 시각이 지났으면 true
+     * @throws BusinessException 쿠폰이 존재하지 않을 경우 (COUPON_NOT_FOUND)
+     */
+    public boolean hasStarted(Long couponId) {
+        return eligibilities.computeIfAbsent(couponId, this::load)
+                .hasStarted(LocalDateTime.now(clock));
+    }
+
+    /**
+     * 현재 시각 기준으로 쿠폰이 삭제, 사용 중지되었거나 발급 기간이 끝났는지 확인합니다.
+     * 삭제된 쿠폰은 예외 대신 종료된 것으로 판단하며, 스냅샷을 적재하지 않습니다.
+     *
+     * @param couponId 쿠폰 식별자
+     * @return 쿠폰이 없거나 다시 발급될 수 없으면 true
+     */
+    public boolean hasEnded(Long couponId) {
+        CouponEligibility eligibility = eligibilities.computeIfAbsent(couponId, id -> couponRepository.findById(id)
+                .map(CouponEligibility::from)
+                .orElse(null));
+        return eligibility == null || eligibility.hasEnded(LocalDateTime.now(clock));
+    }
+
+    /**
+     * 쿠폰에 지정된 발급 방식을 조회합니다.
+     * 최초 요청 시 DB 에서 쿠폰을 조회하여 스냅샷을 적재합니다.
+     *
+     * @param couponId 쿠폰 식별자
+     * @return 쿠폰에 지정된 발급 방식 (미지정 시 Optional.empty)
+     * @throws BusinessException 쿠폰이 존재하지 않을 경우 (COUPON_NOT_FOUND)
+     */
+    public Optional<CouponIssueMode> issueModeOf(Long couponId) {
+        return Optional.ofNullable(eligibilities.computeIfAbsent(couponId, this::load).issueMode());
+    }
+
+    /**
+     * 한 사용자에게 여러 번 발급할 수 있는 쿠폰인지 확인합니다.
+     *
+     * @param couponId 쿠폰 식별자
+     * @return 인당 발급 한도가 2 이상이면 true
+     * @throws BusinessException 쿠폰이 존재하지 않을 경우 (COUPON_NOT_FOUND)
+     */
+    public boolean isRepeatIssuable(Long couponId) {
+        return eligibilities.computeIfAbsent(couponId, this::load).repeatIssuable();
+    }
+
+    /**
+     * 변경된 쿠폰 상태로 스냅샷을 갱신합니다.
+     * 트랜잭션 안에서 호출되면 롤백된 상태가 반영되지 않도록 커밋 이후에 갱신합니다.
+     * @param coupon 생성 또는 변경된 쿠폰
+     */
+    public void refresh(Coupon coupon) {
+        CouponEligibility eligibility = CouponEligibility.from(coupon);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eligibilities.put(eligibility.couponId(), eligibility);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eligibilities.put(eligibility.couponId(), eligibility);
+            }
+        });
+    }
+
+    /**
+     * DB 에서 품절이 확인된 쿠폰을 품절 처리합니다.
+     * @param couponId 쿠폰 식별자
+     */
+    public void markSoldOut(Long couponId) {
+        eligibilities.computeIfPresent(couponId, (id, eligibility) -> eligibility.markSoldOut());
+    }
+
+    /**
+     * DB 경로에서 확인된 거절 결과를 반영합니다.
+     * 품절은 즉시 반영하고, 사용 중지/기간 위반은 스냅샷이 오래된 것으로 보고 다음 요청 시 다시 적재합니다.
+     *
+     * @param couponId  쿠폰 식별자
+     * @param errorCode DB 경로의 거절 사유
+     */
+    public void onRejected(Long couponId, ErrorCode errorCode) {
+        switch (errorCode) {
+            case COUPON_EXHAUSTED -> markSoldOut(couponId);
+            case COUPON_DISABLED, COUPON_NOT_AVAILABLE_PERIOD, COUPON_NOT_FOUND -> evict(couponId);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 쿠폰의 스냅샷을 제거하여 다음 요청 시 DB 기준으로 다시 적재되도록 합니다.
+     * @param couponId 쿠폰 식별자
+     */
+    public void evict(Long couponId) {
+        eligibilities.remove(couponId);
+    }
+
+    private CouponEligibility load(Long couponId) {
+        return couponRepository.findById(couponId)
+                .map(CouponEligibility::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+    }
+}
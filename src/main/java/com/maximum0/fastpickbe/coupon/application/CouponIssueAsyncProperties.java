@@ -0,0 +1,19 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비동기 쿠폰 발급 파이프라인 설정입니다.
+ *
+ * @param queueCapacity 발급 대기열 최대 크기 (초과 시 요청 거절)
+ * @param batchSize     한 번에 저장하는 최대 발급 건수
+ * @param ticketTtl     처리가 끝난 티켓의 보관 기간
+ */
+@ConfigurationProperties(prefix = "coupon.issue.async")
+public record CouponIssueAsyncProperties(
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("10m") Duration ticketTtl
+) {}
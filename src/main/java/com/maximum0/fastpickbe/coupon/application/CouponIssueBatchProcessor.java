@@ -0,0 +1,182 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueCounter;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueTicket;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 발급 요청을 제한된 크기의 대기열에 모아 일괄 저장하는 처리기입니다.
+ * 단일 워커 스레드가 대기열을 비우며, 쿠폰별로 하나의 트랜잭션에서 발급 이력을 다건 INSERT 하고 발급 수량을 한 번만 갱신합니다.
+ * 애플리케이션 종료 시 웹 서버가 요청 수신을 멈춘 뒤 남은 대기열을 모두 처리하고 종료합니다.
+ */
+@Slf4j
+@Component
+public class CouponIssueBatchProcessor implements SmartLifecycle {
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000;
+
+    private final CouponIssueService couponIssueService;
+    private final CouponIssueCounter couponIssueCounter;
+    private final CouponIssueTicketStore couponIssueTicketStore;
+    private final IssuedUserBitmapRegistry issuedUserBitmapRegistry;
+    private final CouponEligibilityTable couponEligibilityTable;
+    private final CouponReleaseGate couponReleaseGate;
+    private final int batchSize;
+    private final BlockingQueue<CouponIssueTicket> queue;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public CouponIssueBatchProcessor(
+            CouponIssueService couponIssueService,
+            CouponIssueCounter couponIssueCounter,
+            CouponIssueTicketStore couponIssueTicketStore,
+            IssuedUserBitmapRegistry issuedUserBitmapRegistry,
+            CouponEligibilityTable couponEligibilityTable,
+            CouponReleaseGate couponReleaseGate,
+            CouponIssueAsyncProperties properties
+    ) {
+        this.couponIssueService = couponIssueService;
+        this.couponIssueCounter = couponIssueCounter;
+        this.couponIssueTicketStore = couponIssueTicketStore;
+        this.issuedUserBitmapRegistry = issuedUserBitmapRegistry;
+        this.couponEligibilityTable = couponEligibilityTable;
+        this.couponReleaseGate = couponReleaseGate;
+        this.batchSize = properties.batchSize();
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+    }
+
+    /**
+     * 발급 티켓을 대기열에 추가합니다.
+     * @param ticket 수량 선점이 끝난 발급 티켓
+     * @return 대기열에 추가되면 true, 대기열이 가득 찼거나 종료 중이면 false
+     */
+    public boolean submit(CouponIssueTicket ticket) {
+        return running && queue.offer(ticket);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "coupon-issue-batch");
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("⚠️ [CouponIssueBatchProcessor] 종료 시점에 처리되지 않은 발급 요청 {}건이 남아 있습니다.", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버의 graceful shutdown 이후에 종료되도록 웹 서버 생명주기보다 낮은 phase 를 사용합니다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<CouponIssueTicket> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                CouponIssueTicket first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("⛔️ [CouponIssueBatchProcessor] 발급 대기열 처리 중 오류 - {}건", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 대기열에서 꺼낸 요청을 쿠폰별로 묶어 저장하고 티켓 상태를 갱신합니다.
+     * @param batch 처리할 발급 티켓 목록
+     */
+    void process(List<CouponIssueTicket> batch) {
+        Map<Long, List<CouponIssueTicket>> ticketsByCoupon = new LinkedHashMap<>();
+        for (CouponIssueTicket ticket : batch) {
+            ticketsByCoupon.computeIfAbsent(ticket.couponId(), id -> new ArrayList<>()).add(ticket);
+        }
+        ticketsByCoupon.forEach(this::processCoupon);
+    }
+
+    private void processCoupon(Long couponId, List<CouponIssueTicket> tickets) {
+        List<Long> userIds = tickets.stream().map(CouponIssueTicket::userId).toList();
+
+        List<CouponIssueOutcome> outcomes;
+        try {
+            outcomes = couponIssueService.issueReservedBatch(couponId, userIds);
+        } catch (BusinessException e) {
+            couponEligibilityTable.onRejected(couponId, e.getErrorCode());
+            failAll(tickets, e.getErrorCode(), e);
+            return;
+        } catch (RuntimeException e) {
+            log.error("⛔️ [CouponIssueBatchProcessor] 쿠폰 {} 일괄 발급 실패 - {}건", couponId, tickets.size(), e);
+            failAll(tickets, ErrorCode.INTERNAL_SERVER_ERROR, e);
+            return;
+        }
+
+        for (int i = 0; i < tickets.size(); i++) {
+            CouponIssueTicket ticket = tickets.get(i);
+            CouponIssueOutcome outcome = outcomes.get(i);
+            if (outcome.isIssued()) {
+                issuedUserBitmapRegistry.markIssued(couponId, ticket.userId());
+                couponIssueTicketStore.update(ticket.issued(outcome.issuedCouponId()));
+                continue;
+            }
+            if (outcome.errorCode() == ErrorCode.ALREADY_ISSUED_COUPON) {
+                issuedUserBitmapRegistry.markIssued(couponId, ticket.userId());
+            } else {
+                // 남은 수량만큼 발급하고 남은 요청이므로 실제로 수량이 소진된 경우에만 품절로 반영됩니다.
+                couponEligibilityTable.onRejected(couponId, outcome.errorCode());
+            }
+            fail(ticket, outcome.errorCode(), new BusinessException(outcome.errorCode()));
+        }
+    }
+
+    private void failAll(List<CouponIssueTicket> tickets, ErrorCode errorCode, RuntimeException cause) {
+        tickets.forEach(ticket -> fail(ticket, errorCode, cause));
+    }
+
+    /**
+     * 실패한 티켓이 접수 시점에 선점한 카운터 수량과 공개 수량 게이트의 통과 건수를 되돌립니다.
+     */
+    private void fail(CouponIssueTicket ticket, ErrorCode errorCode, RuntimeException cause) {
+        couponIssueCounter.cancel(ticket.couponId(), ticket.userId());
+        couponReleaseGate.cancel(ticket.couponId(), cause);
+        couponIssueTicketStore.update(ticket.failed(errorCode));
+    }
+}
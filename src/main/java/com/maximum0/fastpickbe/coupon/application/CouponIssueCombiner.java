@@ -0,0 +1,148 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 쿠폰에 대한 동시 발급 요청을 모아 하나의 트랜잭션으로 커밋하는 리더/팔로워 결합기입니다.
+ * 먼저 리더 권한을 얻은 요청 스레드가 짧은 대기 시간 동안 쌓인 요청을 모아 일괄 처리하고,
+ * 나머지 스레드는 자신의 결과가 채워질 때까지 기다립니다.
+ * 리더가 처리하지 못한 요청이 남으면 대기 중인 스레드 중 하나가 다음 리더가 됩니다.
+ */
+@Component
+public class CouponIssueCombiner {
+    private final CouponIssueService couponIssueService;
+    private final CouponLockRetryExecutor couponLockRetryExecutor;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ConcurrentMap<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    public CouponIssueCombiner(CouponIssueService couponIssueService, CouponLockRetryExecutor couponLockRetryExecutor, CouponIssueGroupCommitProperties properties) {
+        this.couponIssueService = couponIssueService;
+        this.couponLockRetryExecutor = couponLockRetryExecutor;
+        this.windowNanos = properties.window().toNanos();
+        this.maxBatchSize = properties.maxBatchSize();
+    }
+
+    /**
+     * 발급 요청을 쿠폰별 대기열에 합류시키고, 함께 커밋된 결과를 반환합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param userId   발급 대상 사용자 식별자
+     * @return Long    생성된 발급 이력 ID
+     * @throws BusinessException 개별 요청 또는 배치 전체의 발급 조건 위반 시
+     */
+    public Long issue(Long couponId, Long userId) {
+        Lane lane = lanes.computeIfAbsent(couponId, id -> new Lane());
+        Request request = new Request(userId, new CompletableFuture<>());
+        lane.enqueue(request);
+
+        while (!request.result.isDone()) {
+            if (lane.leading.compareAndSet(false, true)) {
+                try {
+                    lead(couponId, lane);
+                } finally {
+                    lane.leading.set(false);
+                }
+            } else {
+                awaitFollower(request);
+            }
+        }
+        try {
+            return request.result.join().issuedCouponId();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 대기 시간 동안 요청을 모은 뒤, 최대 배치 크기만큼 꺼내 하나의 트랜잭션으로 처리합니다.
+     */
+    private void lead(Long couponId, Lane lane) {
+        long deadline = System.nanoTime() + windowNanos;
+        while (lane.size.get() < maxBatchSize && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(windowNanos / 10 + 1);
+        }
+
+        List<Request> batch = new ArrayList<>(maxBatchSize);
+        Request next;
+        while (batch.size() < maxBatchSize && (next = lane.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Long> userIds = batch.stream().map(Request::userId).toList();
+        try {
+            List<CouponIssueOutcome> outcomes = couponLockRetryExecutor.execute(couponId, () -> couponIssueService.issueGroup(couponId, userIds));
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i), outcomes.get(i));
+            }
+        } catch (BusinessException e) {
+            batch.forEach(request -> request.result.completeExceptionally(new BusinessException(e.getErrorCode())));
+        } catch (RuntimeException e) {
+            batch.forEach(request -> request.result.completeExceptionally(e));
+        }
+    }
+
+    private void complete(Request request, CouponIssueOutcome outcome) {
+        if (outcome.isIssued()) {
+            request.result.complete(outcome);
+        } else {
+            request.result.completeExceptionally(new BusinessException(outcome.errorCode()));
+        }
+    }
+
+    /**
+     * 리더가 결과를 채울 때까지 대기합니다. 일정 시간 안에 결과가 없으면 다시 리더 획득을 시도합니다.
+     */
+    private void awaitFollower(Request request) {
+        try {
+            request.result.get(windowNanos * 2 + TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("쿠폰 발급 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException | TimeoutException e) {
+            // 결과는 issue() 에서 join 으로 전달하고, 타임아웃이면 리더 획득을 다시 시도합니다.
+        }
+    }
+
+    private record Request(Long userId, CompletableFuture<CouponIssueOutcome> result) {}
+
+    private static final class Lane {
+        private final Queue<Request> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean leading = new AtomicBoolean(false);
+
+        private void enqueue(Request request) {
+            pending.add(request);
+            size.incrementAndGet();
+        }
+
+        private Request poll() {
+            Request request = pending.poll();
+            if (request != null) {
+                size.decrementAndGet();
+            }
+            return request;
+        }
+    }
+}
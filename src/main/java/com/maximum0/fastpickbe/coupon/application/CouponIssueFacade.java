@@ -0,0 +1,206 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueTicket;
+import com.maximum0.fastpickbe.user.domain.User;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Service;
+
+/**
+ * 쿠폰 발급 요청의 진입점입니다.
+ * 쿠폰에 지정된 발급 방식(미지정 시 {@link CouponIssueProperties#mode()})에 해당하는 {@link IssuanceStrategy} 로
+ * 트랜잭션 밖에서 수량을 먼저 선점한 뒤, 선점에 성공한 요청만 DB 발급 로직으로 전달합니다.
+ * 공개 일정이 있는 쿠폰은 선점 전에 {@link CouponReleaseGate} 로 현재 시각까지 공개된 수량만큼만 통과시킵니다.
+ */
+@Service
+public class CouponIssueFacade {
+    private final Map<CouponIssueMode, IssuanceStrategy> strategies = new EnumMap<>(CouponIssueMode.class);
+    private final CouponIssueProperties couponIssueProperties;
+    private final CouponIssueTicketStore couponIssueTicketStore;
+    private final CouponIssueBatchProcessor couponIssueBatchProcessor;
+    private final IssuedUserBitmapRegistry issuedUserBitmapRegistry;
+    private final CouponEligibilityTable couponEligibilityTable;
+    private final CouponReleaseGate couponReleaseGate;
+    private final CouponIssueMetrics couponIssueMetrics;
+
+    public CouponIssueFacade(List<IssuanceStrategy> issuanceStrategies,
+                             CouponIssueProperties couponIssueProperties,
+                             CouponIssueTicketStore couponIssueTicketStore,
+                             CouponIssueBatchProcessor couponIssueBatchProcessor,
+                             IssuedUserBitmapRegistry issuedUserBitmapRegistry,
+                             CouponEligibilityTable couponEligibilityTable,
+                             CouponReleaseGate couponReleaseGate,
+                             CouponIssueMetrics couponIssueMetrics) {
+        issuanceStrategies.forEach(strategy -> strategies.put(strategy.mode(), strategy));
+        this.couponIssueProperties = couponIssueProperties;
+        this.couponIssueTicketStore = couponIssueTicketStore;
+        this.couponIssueBatchProcessor = couponIssueBatchProcessor;
+        this.issuedUserBitmapRegistry = issuedUserBitmapRegistry;
+        this.couponEligibilityTable = couponEligibilityTable;
+        this.couponReleaseGate = couponReleaseGate;
+        this.couponIssueMetrics = couponIssueMetrics;
+    }
+
+    /**
+     * 쿠폰 발급을 처리합니다.
+     * 발급 가능 조건 테이블과 발급 사용자 비트맵에서 거절 대상을 먼저 걸러내고, 발급 트랜잭션이 커밋되면 비트맵에 사용자를 추가합니다.
+     * 인당 여러 번 발급하는 쿠폰은 발급 사용자 비트맵을 사용하지 않고, 발급 트랜잭션의 사용자별 발급 횟수로만 한도를 검증합니다.
+     * 발급 트랜잭션이 롤백되면 선점했던 수량을 반환합니다.
+     * 사전 검증 단계의 거절을 포함한 모든 결과를 발급 결과 지표로 기록합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param user     발급 대상 사용자
+     * @return Long    생성된 발급 이력 ID
+     */
+    public Long issue(Long couponId, User user) {
+        return issue(couponId, user, null);
+    }
+
+    /**
+     * 쿠폰에 지정된 발급 방식 대신 호출자가 지정한 발급 방식 구현으로 쿠폰 발급을 처리합니다.
+     * 사전 검증, 비트맵 반영, 선점 수량 반환, 지표 기록은 {@link #issue(Long, User)} 와 같습니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param user     발급 대상 사용자
+     * @param strategy 사용할 발급 방식 구현 (null 이면 쿠폰에 지정된 발급 방식)
+     * @return Long    생성된 발급 이력 ID
+     */
+    public Long issue(Long couponId, User user, IssuanceStrategy strategy) {
+        try {
+            Long issuedId = doIssue(couponId, user, strategy);
+            couponIssueMetrics.recordOutcome(null);
+            return issuedId;
+        } catch (RuntimeException e) {
+            couponIssueMetrics.recordOutcome(e);
+            throw e;
+        }
+    }
+
+    private Long doIssue(Long couponId, User user, IssuanceStrategy requestedStrategy) {
+        couponEligibilityTable.validate(couponId);
+        boolean repeatIssuable = couponEligibilityTable.isRepeatIssuable(couponId);
+        if (!repeatIssuable) {
+            rejectIfAlreadyIssued(couponId, user.getId());
+        }
+
+        IssuanceStrategy strategy = requestedStrategy != null ? requestedStrategy : strategyOf(resolveIssueMode(couponId));
+        CouponIssueMode mode = strategy.mode();
+        couponReleaseGate.acquire(couponId);
+        try {
+            strategy.reserve(couponId, user.getId());
+        } catch (RuntimeException e) {
+            couponReleaseGate.cancel(couponId, e);
+            throw e;
+        }
+
+        Long issuedId;
+        try {
+            issuedId = couponIssueMetrics.recordTransaction(mode,
+                    () -> withEligibilityFeedback(couponId, () -> strategy.issue(couponId, user)));
+        } catch (RuntimeException e) {
+            strategy.cancel(couponId, user.getId(), e);
+            couponReleaseGate.cancel(couponId, e);
+            throw e;
+        }
+        if (!repeatIssuable) {
+            issuedUserBitmapRegistry.markIssued(couponId, user.getId());
+        }
+        return issuedId;
+    }
+
+    /**
+     * 쿠폰 발급을 비동기로 접수합니다.
+     * 발급 카운터에서 수량을 선점한 뒤 대기열에 추가하고, DB 저장을 기다리지 않고 즉시 티켓을 반환합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param user     발급 대상 사용자
+     * @return CouponIssueTicket 발급 상태를 조회할 수 있는 티켓
+     * @throws BusinessException 대기열이 가득 찬 경우 (COUPON_ISSUE_QUEUE_FULL),
+     *                           티켓 행 발급 방식이거나 인당 여러 번 발급하는 쿠폰일 경우 (COUPON_ASYNC_ISSUE_NOT_SUPPORTED),
+     *                           현재 시각까지 공개된 수량이 모두 접수된 경우 (COUPON_STOCK_NOT_RELEASED)
+     */
+    public CouponIssueTicket issueAsync(Long couponId, User user) {
+        couponEligibilityTable.validate(couponId);
+        if (resolveIssueMode(couponId) == CouponIssueMode.TICKET || couponEligibilityTable.isRepeatIssuable(couponId)) {
+            throw new BusinessException(ErrorCode.COUPON_ASYNC_ISSUE_NOT_SUPPORTED);
+        }
+        rejectIfAlreadyIssued(couponId, user.getId());
+
+        // 비동기 발급은 방식과 관계없이 발급 카운터로 수량을 선점하고, 대기열 처리기가 일괄 저장합니다.
+        IssuanceStrategy counter = strategyOf(CouponIssueMode.COUNTER);
+        couponReleaseGate.acquire(couponId);
+        try {
+            counter.reserve(couponId, user.getId());
+        } catch (RuntimeException e) {
+            couponReleaseGate.cancel(couponId, e);
+            throw e;
+        }
+
+        CouponIssueTicket ticket = couponIssueTicketStore.create(couponId, user.getId());
+        if (!couponIssueBatchProcessor.submit(ticket)) {
+            couponIssueTicketStore.remove(ticket.id());
+            BusinessException queueFull = new BusinessException(ErrorCode.COUPON_ISSUE_QUEUE_FULL);
+            counter.cancel(couponId, user.getId(), queueFull);
+            couponReleaseGate.cancel(couponId, queueFull);
+            throw queueFull;
+        }
+        return ticket;
+    }
+
+    /**
+     * 비동기 발급 티켓을 조회합니다. 본인이 요청한 티켓만 조회할 수 있습니다.
+     *
+     * @param ticketId 티켓 식별자
+     * @param user     조회 요청 사용자
+     * @return CouponIssueTicket 발급 티켓
+     * @throws BusinessException 티켓이 없거나 다른 사용자의 티켓일 경우 (COUPON_ISSUE_TICKET_NOT_FOUND)
+     */
+    public CouponIssueTicket getTicket(String ticketId, User user) {
+        return couponIssueTicketStore.findById(ticketId)
+                .filter(ticket -> ticket.userId().equals(user.getId()))
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_ISSUE_TICKET_NOT_FOUND));
+    }
+
+    /**
+     * DB 발급 경로에서 확인된 거절 사유(품절, 사용 중지, 기간 위반)를 발급 가능 조건 테이블에 반영합니다.
+     */
+    private Long withEligibilityFeedback(Long couponId, Supplier<Long> issuance) {
+        try {
+            return issuance.get();
+        } catch (BusinessException e) {
+            couponEligibilityTable.onRejected(couponId, e.getErrorCode());
+            throw e;
+        }
+    }
+
+    /**
+     * 쿠폰에 지정된 발급 방식을 조회하고, 지정되지 않았으면 설정된 기본 발급 방식을 사용합니다.
+     */
+    private CouponIssueMode resolveIssueMode(Long couponId) {
+        return couponEligibilityTable.issueModeOf(couponId)
+                .orElse(couponIssueProperties.mode());
+    }
+
+    private IssuanceStrategy strategyOf(CouponIssueMode mode) {
+        IssuanceStrategy strategy = strategies.get(mode);
+        if (strategy == null) {
+            throw new IllegalStateException("발급 방식 구현이 등록되지 않았습니다: " + mode);
+        }
+        return strategy;
+    }
+
+    /**
+     * 발급 사용자 비트맵으로 재요청을 락/트랜잭션 획득 전에 거절합니다.
+     * @throws BusinessException 이미 발급받은 사용자일 경우 (ALREADY_ISSUED_COUPON)
+     */
+    private void rejectIfAlreadyIssued(Long couponId, Long userId) {
+        if (issuedUserBitmapRegistry.isIssued(couponId, userId)) {
+            throw new BusinessException(ErrorCode.ALREADY_ISSUED_COUPON);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 그룹 커밋(GROUP_COMMIT) 발급 방식 설정입니다.
+ *
+ * @param window       리더가 후속 요청을 모으기 위해 대기하는 최대 시간
+ * @param maxBatchSize 하나의 트랜잭션으로 처리하는 최대 요청 수
+ */
+@ConfigurationProperties(prefix = "coupon.issue.group-commit")
+public record CouponIssueGroupCommitProperties(
+        @DefaultValue("2ms") Duration window,
+        @DefaultValue("100") int maxBatchSize
+) {}
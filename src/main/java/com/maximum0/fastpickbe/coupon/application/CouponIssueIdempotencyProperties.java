@@ -0,0 +1,19 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 쿠폰 발급 요청의 Idempotency-Key 처리 설정입니다.
+ *
+ * @param ttl         발급 결과를 보관하는 기간
+ * @param maxEntries  보관하는 최대 키 수 (초과 시 가장 오래된 키부터 제거)
+ * @param waitTimeout 같은 키의 선행 요청이 끝나기를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "coupon.issue.idempotency")
+public record CouponIssueIdempotencyProperties(
+        @DefaultValue("5m") Duration ttl,
+        @DefaultValue("100000") int maxEntries,
+        @DefaultValue("5s") Duration waitTimeout
+) {}
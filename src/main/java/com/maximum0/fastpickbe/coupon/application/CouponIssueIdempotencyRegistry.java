@@ -0,0 +1,103 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트가 보낸 Idempotency-Key 별로 쿠폰 발급 결과를 보관하는 레지스트리입니다.
+ * 같은 키로 재요청하면 발급 경로(락/트랜잭션)를 거치지 않고 최초 발급 이력 ID 를 그대로 반환하며,
+ * 최초 요청이 처리 중이면 그 결과를 기다립니다.
+ * 키는 보관 기간이 지나거나 최대 보관 수를 넘으면 오래된 순서로 제거됩니다.
+ */
+@Component
+public class CouponIssueIdempotencyRegistry {
+    private final Clock clock;
+    private final CouponIssueIdempotencyProperties properties;
+    private final Map<Key, Entry> entries;
+
+    public CouponIssueIdempotencyRegistry(Clock clock, CouponIssueIdempotencyProperties properties) {
+        this.clock = clock;
+        this.properties = properties;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > properties.maxEntries() || eldest.getValue().isExpired(LocalDateTime.now(clock));
+            }
+        });
+    }
+
+    /**
+     * Idempotency-Key 기준으로 발급을 한 번만 수행합니다.
+     * 키가 없으면 매번 발급을 수행하고, 발급에 실패한 키는 보관하지 않아 같은 키로 다시 시도할 수 있습니다.
+     *
+     * @param userId         발급 대상 사용자 식별자
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 null)
+     * @param couponId       발급할 쿠폰 식별자
+     * @param issuance       실제 발급 작업
+     * @return Long          생성된 (또는 최초 요청에서 생성된) 발급 이력 ID
+     * @throws BusinessException 같은 키가 다른 쿠폰 발급에 사용된 경우 (IDEMPOTENCY_KEY_REUSED),
+     *                           선행 요청을 기다리는 시간이 초과된 경우 (COUPON_ISSUE_BUSY)
+     */
+    public Long execute(Long userId, String idempotencyKey, Long couponId, Supplier<Long> issuance) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return issuance.get();
+        }
+
+        Key key = new Key(userId, idempotencyKey);
+        Entry created = new Entry(couponId, new CompletableFuture<>(), LocalDateTime.now(clock).plus(properties.ttl()));
+        Entry entry = entries.compute(key, (k, existing) ->
+                existing == null || existing.isExpired(LocalDateTime.now(clock)) ? created : existing);
+
+        if (!entry.couponId.equals(couponId)) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        if (entry != created) {
+            return await(entry);
+        }
+
+        try {
+            Long issuedId = issuance.get();
+            created.result.complete(issuedId);
+            return issuedId;
+        } catch (RuntimeException e) {
+            entries.remove(key, created);
+            created.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Long await(Entry entry) {
+        try {
+            return entry.result.get(properties.waitTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("쿠폰 발급 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorCode.COUPON_ISSUE_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record Key(Long userId, String idempotencyKey) {}
+
+    private record Entry(Long couponId, CompletableFuture<Long> result, LocalDateTime expiresAt) {
+        boolean isExpired(LocalDateTime now) {
+            return result.isDone() && !now.isBefore(expiresAt);
+        }
+    }
+}
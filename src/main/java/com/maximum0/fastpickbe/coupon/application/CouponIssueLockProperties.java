@@ -0,0 +1,21 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비관적 락 발급 경로의 잠금 대기 설정입니다.
+ *
+ * @param timeout     쿠폰 행 잠금 대기 한도 (0 이면 대기하지 않고 즉시 실패하는 NOWAIT)
+ * @param maxAttempts 잠금 획득 실패 시 재시도를 포함한 최대 시도 횟수
+ * @param backoff     재시도 대기 시간의 기준값 (시도마다 2배씩 증가)
+ * @param maxBackoff  재시도 대기 시간의 상한
+ */
+@ConfigurationProperties(prefix = "coupon.issue.lock")
+public record CouponIssueLockProperties(
+        @DefaultValue("500ms") Duration timeout,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("20ms") Duration backoff,
+        @DefaultValue("200ms") Duration maxBackoff
+) {}
@@ -0,0 +1,118 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueNode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueNodeRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 쿠폰 발급 담당 노드 배정에 참여하는 노드 목록을 관리합니다.
+ * 노드는 하트비트로 자신의 생존을 알리고, 살아 있는 노드 목록이 바뀌면 일관된 해시 링을 다시 만들어 담당 노드를 재배정합니다.
+ * 담당 노드 배정이 비활성화되어 있으면 하트비트를 남기지 않습니다.
+ */
+@Slf4j
+@Component
+public class CouponIssueMembership {
+    private final CouponIssueNodeRepository couponIssueNodeRepository;
+    private final CouponIssueOwnershipProperties couponIssueOwnershipProperties;
+    private final String nodeId;
+    private volatile String baseUrl;
+    private volatile ConsistentHashRing ring = ConsistentHashRing.EMPTY;
+
+    public CouponIssueMembership(CouponIssueNodeRepository couponIssueNodeRepository,
+                                 CouponIssueOwnershipProperties couponIssueOwnershipProperties) {
+        this.couponIssueNodeRepository = couponIssueNodeRepository;
+        this.couponIssueOwnershipProperties = couponIssueOwnershipProperties;
+        this.nodeId = StringUtils.hasText(couponIssueOwnershipProperties.nodeId())
+                ? couponIssueOwnershipProperties.nodeId()
+                : UUID.randomUUID().toString();
+        this.baseUrl = StringUtils.hasText(couponIssueOwnershipProperties.baseUrl())
+                ? couponIssueOwnershipProperties.baseUrl()
+                : null;
+    }
+
+    /**
+     * 웹 서버가 뜬 뒤 주소가 지정되지 않았으면 서버 포트로 주소를 정하고, 바로 노드 목록에 참여합니다.
+     */
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        if (event.getApplicationContext().getServerNamespace() != null) {
+            return;
+        }
+        if (baseUrl == null) {
+            baseUrl = "http://localhost:" + event.getWebServer().getPort();
+        }
+        heartbeat();
+    }
+
+    /**
+     * 하트비트를 남기고 살아 있는 노드 목록으로 해시 링을 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.ownership.heartbeat-interval:1000}")
+    public void heartbeat() {
+        if (!isEnabled() || baseUrl == null) {
+            return;
+        }
+        couponIssueNodeRepository.heartbeat(nodeId, baseUrl);
+        refresh();
+    }
+
+    /**
+     * 살아 있는 노드 목록을 다시 조회하여, 구성이 바뀌었으면 해시 링을 다시 만듭니다.
+     */
+    public void refresh() {
+        List<CouponIssueNode> alive = couponIssueNodeRepository.findAlive(couponIssueOwnershipProperties.nodeTtl());
+        if (!ring.hasSameMembers(alive)) {
+            ring = new ConsistentHashRing(alive, couponIssueOwnershipProperties.virtualNodes());
+            log.info("쿠폰 발급 담당 노드 목록이 변경되었습니다: {}", alive.stream().map(CouponIssueNode::getNodeId).toList());
+        }
+    }
+
+    /**
+     * @param couponId 쿠폰 식별자
+     * @return 현재 노드 목록 기준의 담당 노드 (노드 목록을 아직 모르면 Optional.empty)
+     */
+    public Optional<CouponIssueNode> ownerOf(Long couponId) {
+        return ring.ownerOf(couponId);
+    }
+
+    /**
+     * @param couponId 쿠폰 식별자
+     * @return 이 노드가 쿠폰의 담당 노드이거나, 노드 목록을 아직 몰라 직접 처리해야 하면 true
+     */
+    public boolean owns(Long couponId) {
+        return ownerOf(couponId)
+                .map(this::isSelf)
+                .orElse(true);
+    }
+
+    public boolean isSelf(CouponIssueNode node) {
+        return node.getNodeId().equals(nodeId);
+    }
+
+    public boolean isEnabled() {
+        return couponIssueOwnershipProperties.enabled();
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 노드가 종료될 때 노드 목록에서 빠져, 다른 노드가 하트비트 만료를 기다리지 않고 담당을 넘겨받도록 합니다.
+     */
+    @PreDestroy
+    public void leave() {
+        if (isEnabled() && baseUrl != null) {
+            couponIssueNodeRepository.delete(nodeId);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 발급 경로의 잠금 대기/실패, 트랜잭션/INSERT 처리 시간, 발급 결과, 링 버퍼 적재/처리, 발급 이벤트 전달 지표를 기록합니다.
+ * 쿠폰별 경합 시간은 태그로 내보내지 않고, 집계 구간마다 상위 {@value #TOP_CONTENDED_SIZE}개 쿠폰만 순위 태그 게이지로 노출하여
+ * 쿠폰 수와 관계없이 시계열 수를 고정합니다.
+ */
+@Component
+public class CouponIssueMetrics {
+    public static final int TOP_CONTENDED_SIZE = 10;
+    static final String SUCCESS = "SUCCESS";
+    static final String UNKNOWN_ERROR = "UNKNOWN_ERROR";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer lockWaitTimer;
+    private final Counter lockTimeoutCounter;
+    private final Counter versionConflictCounter;
+    private final Counter lockRetryCounter;
+    private final Counter lockRejectedCounter;
+    private final Timer ringBufferLatencyTimer;
+    private final Counter outboxRelayedCounter;
+    private final Counter outboxParkedCounter;
+    private final AtomicLong outboxWatermark = new AtomicLong();
+    private final Timer insertTimer;
+    private final ConcurrentMap<Long, LongAdder> contentionNanos = new ConcurrentHashMap<>();
+    private volatile ContendedCoupon[] topContended = new ContendedCoupon[0];
+
+    public CouponIssueMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.lockWaitTimer = Timer.builder("coupon.issue.lock.wait")
+                .description("쿠폰 행 잠금 획득까지의 대기 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.insertTimer = Timer.builder("coupon.issue.insert")
+                .description("발급 이력 INSERT 처리 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.lockTimeoutCounter = Counter.builder("coupon.issue.lock.timeouts")
+                .description("잠금 대기 한도 초과로 실패한 발급 시도 수")
+                .register(meterRegistry);
+        this.versionConflictCounter = Counter.builder("coupon.issue.lock.conflicts")
+                .description("낙관적 락 버전 충돌로 실패한 발급 시도 수")
+                .register(meterRegistry);
+        this.lockRetryCounter = Counter.builder("coupon.issue.lock.retries")
+                .description("잠금 획득 실패 또는 버전 충돌 후 재시도한 횟수")
+                .register(meterRegistry);
+        this.lockRejectedCounter = Counter.builder("coupon.issue.lock.rejected")
+                .description("재시도 한도를 모두 소진하여 거절된 발급 요청 수")
+                .register(meterRegistry);
+        this.ringBufferLatencyTimer = Timer.builder("coupon.issue.ring-buffer.latency")
+                .description("링 버퍼 적재부터 발급 결과 확정까지의 시간")
+                .register(meterRegistry);
+        this.outboxRelayedCounter = Counter.builder("coupon.issue.outbox.relayed")
+                .description("아웃박스에서 전달한 발급 이벤트 수")
+                .register(meterRegistry);
+        this.outboxParkedCounter = Counter.builder("coupon.issue.outbox.parked")
+                .description("전달 시도 한도에 도달하여 보류 처리된 발급 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("coupon.issue.outbox.watermark", outboxWatermark, AtomicLong::get)
+                .description("전달이 완료된 발급 이벤트의 최대 아웃박스 ID")
+                .register(meterRegistry);
+        for (int rank = 1; rank <= TOP_CONTENDED_SIZE; rank++) {
+            int index = rank - 1;
+            Gauge.builder("coupon.issue.contention.top.coupon", this, metrics -> metrics.topContendedCouponId(index))
+                    .description("직전 집계 구간의 경합 시간 순위별 쿠폰 식별자")
+                    .tag("rank", String.valueOf(rank))
+                    .register(meterRegistry);
+            Gauge.builder("coupon.issue.contention.top.wait", this, metrics -> metrics.topContendedMillis(index))
+                    .description("직전 집계 구간의 경합 시간 순위별 잠금 대기 및 충돌로 소모한 시간(ms)")
+                    .tag("rank", String.valueOf(rank))
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 쿠폰 행 잠금 획득에 걸린 시간을 기록하고 쿠폰의 경합 시간에 더합니다. 잠금 획득에 실패해도 대기한 시간은 기록됩니다.
+     * @param couponId        잠금 대상 쿠폰 식별자
+     * @param lockAcquisition 잠금 조회 작업
+     * @return 잠금 조회 결과
+     */
+    public <T> T recordLockWait(Long couponId, Supplier<T> lockAcquisition) {
+        long startedAt = System.nanoTime();
+        try {
+            return lockAcquisition.get();
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            lockWaitTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            recordContention(couponId, elapsed);
+        }
+    }
+
+    /**
+     * 잠금 대기 한도 초과나 버전 충돌로 버려진 발급 시도의 소요 시간을 쿠폰의 경합 시간에 더합니다.
+     * @param couponId 쿠폰 식별자
+     * @param nanos    버려진 시도의 소요 시간
+     */
+    public void recordContention(Long couponId, long nanos) {
+        contentionNanos.computeIfAbsent(couponId, id -> new LongAdder()).add(nanos);
+    }
+
+    /**
+     * 발급 이력 INSERT 처리 시간을 기록합니다.
+     * @param insert INSERT 작업
+     * @return INSERT 결과
+     */
+    public <T> T recordInsert(Supplier<T> insert) {
+        return insertTimer.record(insert);
+    }
+
+    /**
+     * 발급 방식별로 DB 발급 단계(재시도와 커밋 포함)의 처리 시간을 결과와 함께 기록합니다.
+     * @param mode        발급 방식
+     * @param transaction DB 발급 작업
+     * @return 발급 작업 결과
+     */
+    public <T> T recordTransaction(CouponIssueMode mode, Supplier<T> transaction) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = SUCCESS;
+        try {
+            return transaction.get();
+        } catch (RuntimeException e) {
+            result = resultOf(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("coupon.issue.transaction")
+                    .description("발급 방식별 DB 발급 단계(재시도, 커밋 포함) 처리 시간")
+                    .tag("mode", mode.name())
+                    .tag("result", result)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 동기 발급 요청의 최종 결과를 기록합니다. 실패는 {@link com.maximum0.fastpickbe.common.exception.ErrorCode} 이름으로 집계합니다.
+     * @param failure 발급 실패 원인 (성공 시 null)
+     */
+    public void recordOutcome(RuntimeException failure) {
+        Counter.builder("coupon.issue.outcomes")
+                .description("발급 요청의 결과별(성공 또는 에러 코드) 건수")
+                .tag("result", failure == null ? SUCCESS : resultOf(failure))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 직전 집계 구간의 쿠폰별 경합 시간으로 상위 쿠폰 순위를 갱신하고 다음 구간을 시작합니다.
+     * 구간 동안 경합이 없던 쿠폰은 집계 대상에서 제거하므로, 쿠폰별 누적 상태는 경합이 발생한 쿠폰 수로 제한됩니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.metrics.contention-window:10000}")
+    public void rotateContentionWindow() {
+        PriorityQueue<ContendedCoupon> top = new PriorityQueue<>(Comparator.comparingLong(ContendedCoupon::nanos));
+        for (Map.Entry<Long, LongAdder> entry : contentionNanos.entrySet()) {
+            long nanos = entry.getValue().sumThenReset();
+            if (nanos == 0) {
+                contentionNanos.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            top.offer(new ContendedCoupon(entry.getKey(), nanos));
+            if (top.size() > TOP_CONTENDED_SIZE) {
+                top.poll();
+            }
+        }
+
+        ContendedCoupon[] ranked = top.toArray(ContendedCoupon[]::new);
+        Arrays.sort(ranked, Comparator.comparingLong(ContendedCoupon::nanos).reversed());
+        this.topContended = ranked;
+    }
+
+    double topContendedCouponId(int index) {
+        ContendedCoupon[] ranked = topContended;
+        return index < ranked.length ? ranked[index].couponId() : Double.NaN;
+    }
+
+    double topContendedMillis(int index) {
+        ContendedCoupon[] ranked = topContended;
+        return index < ranked.length ? ranked[index].nanos() / 1_000_000.0 : Double.NaN;
+    }
+
+    private static String resultOf(RuntimeException e) {
+        return e instanceof BusinessException businessException
+                ? businessException.getErrorCode().name()
+                : UNKNOWN_ERROR;
+    }
+
+    public void incrementLockTimeout() {
+        lockTimeoutCounter.increment();
+    }
+
+    public void incrementVersionConflict() {
+        versionConflictCounter.increment();
+    }
+
+    public void incrementLockRetry() {
+        lockRetryCounter.increment();
+    }
+
+    public void incrementLockRejected() {
+        lockRejectedCounter.increment();
+    }
+
+    /**
+     * 모든 쿠폰 링 버퍼에 쌓인 요청 수의 합을 게이지로 등록합니다.
+     * 쿠폰별 태그를 붙이지 않으므로 링 버퍼를 쓰는 쿠폰 수와 관계없이 시계열은 하나입니다.
+     * @param depth 링 버퍼에 쌓인 전체 요청 수
+     */
+    public void registerRingBufferDepth(Supplier<Number> depth) {
+        Gauge.builder("coupon.issue.ring-buffer.depth", depth)
+                .description("링 버퍼에 적재되어 처리를 기다리는 전체 요청 수")
+                .register(meterRegistry);
+    }
+
+    public void recordRingBufferLatency(long nanos) {
+        ringBufferLatencyTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 전달이 커밋된 발급 이벤트 수를 기록하고 전달 워터마크를 전진시킵니다.
+     * 여러 노드의 릴레이가 배치를 나눠 처리하므로 워터마크는 뒤로 가지 않습니다.
+     * @param count         전달한 이벤트 수
+     * @param lastOutboxId  전달한 배치의 최대 아웃박스 ID
+     */
+    public void recordOutboxRelayed(int count, long lastOutboxId) {
+        outboxRelayedCounter.increment(count);
+        outboxWatermark.accumulateAndGet(lastOutboxId, Math::max);
+    }
+
+    public void incrementOutboxParked(int count) {
+        outboxParkedCounter.increment(count);
+    }
+
+    public long outboxWatermark() {
+        return outboxWatermark.get();
+    }
+
+    private record ContendedCoupon(Long couponId, long nanos) {}
+}
@@ -0,0 +1,18 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 발급 이벤트 아웃박스 릴레이 설정입니다.
+ *
+ * @param batchSize     한 트랜잭션에서 잠그고 전달할 최대 이벤트 수
+ * @param relayInterval 릴레이 실행 간격(ms). 배치가 가득 차면 간격을 기다리지 않고 이어서 처리합니다.
+ * @param maxAttempts   전달에 실패한 이벤트를 보류 처리하기 전까지의 최대 전달 시도 횟수
+ */
+@ConfigurationProperties(prefix = "coupon.issue.outbox")
+public record CouponIssueOutboxProperties(
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("500") long relayInterval,
+        @DefaultValue("5") int maxAttempts
+) {}
@@ -0,0 +1,94 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueOutboxRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssuedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스에 기록된 발급 이벤트를 발급 트랜잭션 밖에서 배치 단위로 전달합니다.
+ * 배치는 SKIP LOCKED 로 잠그므로 여러 노드가 동시에 실행해도 같은 이벤트를 나눠 갖지 않습니다.
+ * 이벤트마다 세이브포인트를 두고 발행하므로, 구독자 처리에 실패한 이벤트는 그 이벤트의 변경만 되돌리고 건너뛰며
+ * 같은 배치의 나머지 이벤트는 전달됩니다. 실패한 이벤트는 다음 실행에서 다시 전달되고(at-least-once),
+ * {@link CouponIssueOutboxProperties#maxAttempts()} 번 실패하면 보류 처리되어 이후 이벤트의 전달을 막지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueOutboxRelay {
+    private final CouponIssueOutboxRepository couponIssueOutboxRepository;
+    private final CouponIssueOutboxProperties couponIssueOutboxProperties;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final CouponIssueMetrics couponIssueMetrics;
+
+    /**
+     * 배치의 모든 이벤트가 전달되는 동안 배치를 반복 전달합니다.
+     * 실패한 이벤트가 있는 배치에서 멈추므로, 실패한 이벤트는 같은 실행에서 곧바로 다시 시도되지 않습니다.
+     * @return 전달한 이벤트 수
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.outbox.relay-interval:500}")
+    public int relay() {
+        int relayed = 0;
+        int batchSize = couponIssueOutboxProperties.batchSize();
+        try {
+            int published;
+            do {
+                published = relayBatch(batchSize);
+                relayed += published;
+            } while (published == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("발급 이벤트 전달에 실패하여 다음 실행에서 다시 전달합니다", e);
+        }
+        return relayed;
+    }
+
+    /**
+     * 발급 이벤트 한 배치를 잠가 기록 순서대로 발행하고, 전달된 이벤트는 삭제하며 실패한 이벤트는 시도 횟수를 기록합니다.
+     * 트랜잭션은 잠금, 발행, 삭제, 실패 기록만 포함하며 커밋 후 전달 워터마크를 전진시킵니다.
+     * @return 전달한 이벤트 수
+     */
+    int relayBatch(int batchSize) {
+        List<CouponIssuedEvent> events = transactionTemplate.execute(status -> {
+            List<CouponIssuedEvent> batch = couponIssueOutboxRepository.lockNextBatch(batchSize);
+            if (batch.isEmpty()) {
+                return batch;
+            }
+
+            List<CouponIssuedEvent> delivered = new ArrayList<>(batch.size());
+            List<Long> failedIds = new ArrayList<>();
+            for (CouponIssuedEvent event : batch) {
+                Object savepoint = status.createSavepoint();
+                try {
+                    applicationEventPublisher.publishEvent(event);
+                    status.releaseSavepoint(savepoint);
+                    delivered.add(event);
+                } catch (RuntimeException e) {
+                    status.rollbackToSavepoint(savepoint);
+                    failedIds.add(event.outboxId());
+                    log.warn("발급 이벤트 전달에 실패하여 다음 실행에서 다시 전달합니다. outboxId={}", event.outboxId(), e);
+                }
+            }
+
+            couponIssueOutboxRepository.deleteAllByIdIn(delivered.stream().map(CouponIssuedEvent::outboxId).toList());
+            int parked = couponIssueOutboxRepository.recordFailures(failedIds, couponIssueOutboxProperties.maxAttempts());
+            if (parked > 0) {
+                log.error("전달 시도 한도에 도달한 발급 이벤트 {}건을 보류 처리했습니다", parked);
+                couponIssueMetrics.incrementOutboxParked(parked);
+            }
+            return delivered;
+        });
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        couponIssueMetrics.recordOutboxRelayed(events.size(), events.get(events.size() - 1).outboxId());
+        return events.size();
+    }
+}
@@ -0,0 +1,26 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+
+/**
+ * 여러 요청을 함께 처리할 때, 개별 요청의 발급 결과입니다.
+ *
+ * @param issuedCouponId 발급 성공 시 생성된 발급 이력 ID
+ * @param errorCode      발급 실패 시 원인
+ */
+public record CouponIssueOutcome(
+        Long issuedCouponId,
+        ErrorCode errorCode
+) {
+    public static CouponIssueOutcome issued(Long issuedCouponId) {
+        return new CouponIssueOutcome(issuedCouponId, null);
+    }
+
+    public static CouponIssueOutcome failed(ErrorCode errorCode) {
+        return new CouponIssueOutcome(null, errorCode);
+    }
+
+    public boolean isIssued() {
+        return errorCode == null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 여러 노드 환경의 쿠폰별 발급 담당 노드 배정 설정입니다.
+ *
+ * @param enabled           true 이면 쿠폰별 담당 노드가 발급을 처리하고, 다른 노드는 담당 노드로 요청을 전달합니다.
+ * @param nodeId            노드 식별자 (미지정 시 임의 식별자)
+ * @param baseUrl           다른 노드가 발급 요청을 전달할 이 노드의 주소 (미지정 시 http://localhost:{서버 포트})
+ * @param internalToken     노드 간 전달 요청 인증 토큰 (모든 노드가 같은 값을 사용)
+ * @param virtualNodes      해시 링에 배치할 노드당 가상 노드 수
+ * @param heartbeatInterval 하트비트 및 노드 목록 갱신 간격(ms)
+ * @param nodeTtl           하트비트 유효 시간. 이 시간 동안 하트비트가 없는 노드는 배정 대상에서 제외됩니다.
+ * @param forwardTimeout    담당 노드로 요청을 전달할 때의 연결/응답 대기 한도
+ */
+@ConfigurationProperties(prefix = "coupon.issue.ownership")
+public record CouponIssueOwnershipProperties(
+        @DefaultValue("false") boolean enabled,
+        String nodeId,
+        String baseUrl,
+        String internalToken,
+        @DefaultValue("160") int virtualNodes,
+        @DefaultValue("1000") long heartbeatInterval,
+        @DefaultValue("5s") Duration nodeTtl,
+        @DefaultValue("3s") Duration forwardTimeout
+) {}
@@ -0,0 +1,157 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueForwarder;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueNode;
+import com.maximum0.fastpickbe.coupon.domain.CouponOwnershipFence;
+import com.maximum0.fastpickbe.coupon.domain.CouponOwnershipRepository;
+import com.maximum0.fastpickbe.user.domain.User;
+import com.maximum0.fastpickbe.user.domain.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 여러 노드 환경에서 쿠폰 발급 요청을 쿠폰의 담당 노드로 보냅니다.
+ * 일관된 해시 링으로 정해진 담당 노드는 쿠폰별 잠금으로 발급을 메모리에서 직렬화하여 쿠폰 행 잠금 경합을 없애고,
+ * 다른 노드는 발급 요청을 담당 노드로 전달합니다.
+ * 담당 노드는 쿠폰을 처음 발급할 때 담당 세대를 넘겨받으며, 발급은 넘겨받은 세대의 펜싱 토큰으로 검증됩니다.
+ * 담당 노드 배정이 비활성화되어 있으면 모든 요청을 이 노드의 {@link CouponIssueFacade} 로 처리합니다.
+ * 담당 노드 발급은 쿠폰 행의 발급 수량만 검증하므로, 재고를 쿠폰 행에 두는 발급 방식({@link #OWNER_ROUTED_MODES})의 쿠폰만 담당 노드로 보내고
+ * 티켓, 카운터, 리스처럼 재고를 별도 저장소에 두는 발급 방식의 쿠폰은 요청을 받은 노드에서 쿠폰의 발급 방식으로 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponIssueOwnershipRouter {
+    /**
+     * 재고가 쿠폰 행의 발급 수량에만 있어 펜싱 토큰을 검증하는 조건부 UPDATE 로 발급할 수 있는 발급 방식입니다.
+     */
+    static final Set<CouponIssueMode> OWNER_ROUTED_MODES = EnumSet.of(
+            CouponIssueMode.PESSIMISTIC_LOCK, CouponIssueMode.OPTIMISTIC_LOCK, CouponIssueMode.CONDITIONAL_UPDATE);
+
+    private final CouponIssueFacade couponIssueFacade;
+    private final CouponIssueService couponIssueService;
+    private final CouponIssueMembership couponIssueMembership;
+    private final CouponIssueForwarder couponIssueForwarder;
+    private final CouponOwnershipRepository couponOwnershipRepository;
+    private final CouponEligibilityTable couponEligibilityTable;
+    private final CouponIssueOwnershipProperties couponIssueOwnershipProperties;
+    private final CouponIssueProperties couponIssueProperties;
+    private final UserRepository userRepository;
+    private final ConcurrentMap<Long, ReentrantLock> ownerLocks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, CouponOwnershipFence> fences = new ConcurrentHashMap<>();
+
+    /**
+     * 쿠폰 발급을 처리합니다. 이 노드가 담당 노드가 아니면 담당 노드로 요청을 전달합니다.
+     * 전달하기 전에 발급 가능 조건 테이블로 발급 기간 외, 사용 중지, 품절 요청을 먼저 거절하고,
+     * 담당 노드가 거절한 사유도 이 노드의 발급 가능 조건 테이블에 반영합니다.
+     * 재고를 별도 저장소에 두는 발급 방식의 쿠폰은 담당 노드로 보내지 않고 이 노드에서 쿠폰의 발급 방식으로 처리합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param user     발급 대상 사용자
+     * @return Long    생성된 발급 이력 ID
+     * @throws BusinessException 발급 조건 위반 시, 담당 노드가 바뀌었거나 전달하지 못한 경우 (COUPON_ISSUE_OWNER_MOVED, COUPON_ISSUE_OWNER_UNAVAILABLE)
+     */
+    public Long issue(Long couponId, User user) {
+        if (!couponIssueMembership.isEnabled() || !isOwnerRouted(couponId)) {
+            return couponIssueFacade.issue(couponId, user);
+        }
+
+        Optional<CouponIssueNode> owner = couponIssueMembership.ownerOf(couponId)
+                .filter(node -> !couponIssueMembership.isSelf(node));
+        if (owner.isEmpty()) {
+            return issueAsOwner(couponId, user);
+        }
+
+        couponEligibilityTable.validate(couponId);
+        try {
+            return couponIssueForwarder.forward(owner.get(), couponId, user.getId());
+        } catch (BusinessException e) {
+            couponEligibilityTable.onRejected(couponId, e.getErrorCode());
+            throw e;
+        }
+    }
+
+    /**
+     * 다른 노드가 전달한 발급 요청을 담당 노드로서 처리합니다.
+     * 노드 목록이 서로 달라 이 노드가 담당 노드가 아니라고 판단하면, 다시 전달하지 않고 거절합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param userId   발급 대상 사용자 식별자
+     * @return Long    생성된 발급 이력 ID
+     * @throws BusinessException 이 노드가 담당 노드가 아닐 경우 (COUPON_ISSUE_OWNER_MOVED), 발급 조건 위반 시
+     */
+    public Long issueForwarded(Long couponId, Long userId) {
+        if (!couponIssueMembership.owns(couponId)) {
+            throw new BusinessException(ErrorCode.COUPON_ISSUE_OWNER_MOVED);
+        }
+        User user = userRepository.getReference(userId);
+        if (!isOwnerRouted(couponId)) {
+            return couponIssueFacade.issue(couponId, user);
+        }
+        return issueAsOwner(couponId, user);
+    }
+
+    /**
+     * 노드 간 전달 요청의 인증 토큰을 검증합니다.
+     * @param internalToken 요청에 담긴 인증 토큰
+     * @throws BusinessException 담당 노드 배정이 비활성화되었거나 토큰이 일치하지 않을 경우 (FORBIDDEN)
+     */
+    public void verifyInternalToken(String internalToken) {
+        String expected = couponIssueOwnershipProperties.internalToken();
+        if (!couponIssueMembership.isEnabled() || !StringUtils.hasText(expected) || internalToken == null
+                || !MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), internalToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+    }
+
+    /**
+     * 쿠폰별 잠금으로 발급을 직렬화하여 담당 노드로서 발급합니다.
+     * 다른 노드가 담당 세대를 넘겨받아 발급이 거절되면, 노드 목록을 다시 확인하여 여전히 담당 노드일 때만 세대를 다시 넘겨받고 한 번 더 시도합니다.
+     */
+    private Long issueAsOwner(Long couponId, User user) {
+        ReentrantLock lock = ownerLocks.computeIfAbsent(couponId, id -> new ReentrantLock(true));
+        lock.lock();
+        try {
+            try {
+                return issueFenced(couponId, user);
+            } catch (BusinessException e) {
+                if (e.getErrorCode() != ErrorCode.COUPON_ISSUE_OWNER_MOVED) {
+                    throw e;
+                }
+                fences.remove(couponId);
+                couponIssueMembership.refresh();
+                if (!couponIssueMembership.owns(couponId)) {
+                    throw e;
+                }
+                return issueFenced(couponId, user);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 쿠폰에 지정된 발급 방식(미지정 시 기본 발급 방식)이 담당 노드로 보낼 수 있는 발급 방식인지 확인합니다.
+     */
+    private boolean isOwnerRouted(Long couponId) {
+        CouponIssueMode mode = couponEligibilityTable.issueModeOf(couponId).orElse(couponIssueProperties.mode());
+        return OWNER_ROUTED_MODES.contains(mode);
+    }
+
+    private Long issueFenced(Long couponId, User user) {
+        CouponOwnershipFence fence = fences.computeIfAbsent(couponId,
+                id -> couponOwnershipRepository.claim(id, couponIssueMembership.nodeId()));
+        return couponIssueFacade.issue(couponId, user, new FencedIssuanceStrategy(couponIssueService, fence));
+    }
+}
@@ -0,0 +1,15 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 쿠폰 발급 관련 설정입니다.
+ *
+ * @param mode 쿠폰에 발급 방식이 지정되지 않았을 때 사용할 기본 발급 동시성 제어 방식
+ */
+@ConfigurationProperties(prefix = "coupon.issue")
+public record CouponIssueProperties(
+        @DefaultValue("PESSIMISTIC_LOCK") CouponIssueMode mode
+) {}
@@ -0,0 +1,296 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰별 링 버퍼와 단일 작성자 스레드로 발급을 처리하는 엔진입니다.
+ * 같은 쿠폰의 요청은 모두 하나의 링 버퍼에 적재되고, 쿠폰 전용 작성자 스레드만이 메모리의 쿠폰 상태에 {@link Coupon#issue} 를 적용합니다.
+ * 통과한 요청은 배치 단위로 발급 이력 다건 INSERT 와 발급 수량 UPDATE 한 번으로 반영되므로 쿠폰 행 잠금 경합이 발생하지 않으며,
+ * 요청 스레드는 자신의 발급 결과가 확정될 때까지 대기하여 동기 응답을 반환합니다.
+ * 요청이 끊긴 채 유휴 시간이 지난 쿠폰의 링 버퍼와 작성자 스레드는 정리하므로, 작성자 스레드 수는 최근 요청이 있는 쿠폰 수를 넘지 않습니다.
+ * 여러 노드가 같은 쿠폰을 각자의 메모리 상태로 처리하더라도 DB 반영은 총 발행 수량을 넘지 않는 조건부 UPDATE 로 막습니다.
+ */
+@Slf4j
+@Component
+public class CouponIssueRingBuffer implements SmartLifecycle {
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000;
+
+    private final CouponRepository couponRepository;
+    private final CouponIssueService couponIssueService;
+    private final CouponIssueMetrics couponIssueMetrics;
+    private final Clock clock;
+    private final CouponIssueRingBufferProperties properties;
+    private final ConcurrentMap<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+
+    public CouponIssueRingBuffer(
+            CouponRepository couponRepository,
+            CouponIssueService couponIssueService,
+            CouponIssueMetrics couponIssueMetrics,
+            Clock clock,
+            CouponIssueRingBufferProperties properties
+    ) {
+        this.couponRepository = couponRepository;
+        this.couponIssueService = couponIssueService;
+        this.couponIssueMetrics = couponIssueMetrics;
+        this.clock = clock;
+        this.properties = properties;
+        couponIssueMetrics.registerRingBufferDepth(this::depth);
+    }
+
+    /**
+     * 발급 요청을 쿠폰의 링 버퍼에 적재하고 작성자 스레드의 처리 결과를 기다립니다.
+     * 적재하려던 링 버퍼가 유휴 정리로 닫혔으면 새 링 버퍼를 열어 다시 적재합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param userId   발급 대상 사용자 식별자
+     * @return Long    생성된 발급 이력 ID
+     * @throws BusinessException 링 버퍼가 가득 찼거나 종료 중일 경우 (COUPON_ISSUE_QUEUE_FULL),
+     *                           응답 대기 시간을 초과한 경우 (COUPON_ISSUE_BUSY),
+     *                           그 외 발급 조건 위반 시 작성자 스레드가 판정한 에러
+     */
+    public Long issue(Long couponId, Long userId) {
+        if (!running) {
+            throw new BusinessException(ErrorCode.COUPON_ISSUE_QUEUE_FULL);
+        }
+        Request request = new Request(userId, new CompletableFuture<>(), System.nanoTime());
+        while (true) {
+            Lane lane = lanes.computeIfAbsent(couponId, this::openLane);
+            synchronized (lane) {
+                if (lane.retired) {
+                    continue;
+                }
+                if (!lane.queue.offer(request)) {
+                    throw new BusinessException(ErrorCode.COUPON_ISSUE_QUEUE_FULL);
+                }
+            }
+            return await(request);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+        for (Lane lane : lanes.values()) {
+            try {
+                lane.writer.join(Math.max(deadline - System.currentTimeMillis(), 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!lane.queue.isEmpty()) {
+                log.warn("⚠️ [CouponIssueRingBuffer] 쿠폰 {} 링 버퍼에 처리되지 않은 요청 {}건이 남아 있습니다.", lane.couponId, lane.queue.size());
+            }
+        }
+        lanes.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버의 graceful shutdown 이후에 종료되도록 웹 서버 생명주기보다 낮은 phase 를 사용합니다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private Long await(Request request) {
+        try {
+            return request.result.get(properties.responseTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("쿠폰 발급 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (TimeoutException e) {
+            // 작성자 스레드가 이후에 요청을 반영할 수 있으므로, 재요청은 중복 발급 검증으로 걸러집니다.
+            throw new BusinessException(ErrorCode.COUPON_ISSUE_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 열려 있는 링 버퍼 수입니다. 쿠폰마다 작성자 스레드가 하나씩 있으므로 작성자 스레드 수와 같습니다.
+     */
+    int laneCount() {
+        return lanes.size();
+    }
+
+    private int depth() {
+        return lanes.values().stream().mapToInt(lane -> lane.queue.size()).sum();
+    }
+
+    private Lane openLane(Long couponId) {
+        Lane lane = new Lane(couponId, new ArrayBlockingQueue<>(properties.capacity()));
+        lane.writer = new Thread(() -> drainLoop(lane), "coupon-issue-writer-" + couponId);
+        lane.writer.start();
+        return lane;
+    }
+
+    private void drainLoop(Lane lane) {
+        List<Request> batch = new ArrayList<>(properties.batchSize());
+        long idleNanos = properties.idleTimeout().toNanos();
+        long lastActiveAt = System.nanoTime();
+        while (running || !lane.queue.isEmpty()) {
+            try {
+                Request first = lane.queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (System.nanoTime() - lastActiveAt >= idleNanos && retireIfIdle(lane)) {
+                        return;
+                    }
+                    continue;
+                }
+                lastActiveAt = System.nanoTime();
+                batch.add(first);
+                lane.queue.drainTo(batch, properties.batchSize() - 1);
+                process(lane, batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("⛔️ [CouponIssueRingBuffer] 쿠폰 {} 링 버퍼 처리 중 오류 - {}건", lane.couponId, batch.size(), e);
+                lane.coupon = null;
+                failAll(batch, ErrorCode.INTERNAL_SERVER_ERROR);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 비어 있는 링 버퍼를 닫고 목록에서 제거합니다.
+     * 적재와 같은 잠금 안에서 닫으므로, 닫힌 뒤 적재된 요청이 처리되지 않은 채 남지 않습니다.
+     * @return 링 버퍼를 닫았으면 true, 그 사이 요청이 적재되었으면 false
+     */
+    private boolean retireIfIdle(Lane lane) {
+        synchronized (lane) {
+            if (!lane.queue.isEmpty()) {
+                return false;
+            }
+            lane.retired = true;
+        }
+        lanes.remove(lane.couponId, lane);
+        return true;
+    }
+
+    /**
+     * 링 버퍼에서 꺼낸 요청에 메모리의 쿠폰 상태로 발급 조건을 적용하고, 통과한 요청만 하나의 트랜잭션으로 반영합니다.
+     * DB 반영 결과가 메모리 상태와 어긋나면 다음 배치에서 쿠폰 상태를 DB 기준으로 다시 적재합니다.
+     *
+     * @param lane  쿠폰 전용 링 버퍼
+     * @param batch 요청 순서대로 꺼낸 발급 요청 목록
+     */
+    void process(Lane lane, List<Request> batch) {
+        if (lane.coupon == null) {
+            lane.coupon = couponRepository.findById(lane.couponId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        Set<Long> batchUserIds = new HashSet<>();
+        List<Request> accepted = new ArrayList<>(batch.size());
+        for (Request request : batch) {
+            if (!batchUserIds.add(request.userId)) {
+                fail(request, ErrorCode.ALREADY_ISSUED_COUPON);
+                continue;
+            }
+            try {
+                lane.coupon.issue(now);
+                accepted.add(request);
+            } catch (BusinessException e) {
+                fail(request, e.getErrorCode());
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<CouponIssueOutcome> outcomes;
+        try {
+            outcomes = couponIssueService.issueReservedBatch(lane.couponId, accepted.stream().map(Request::userId).toList());
+        } catch (BusinessException e) {
+            lane.coupon = null;
+            failAll(accepted, e.getErrorCode());
+            return;
+        }
+
+        for (int i = 0; i < accepted.size(); i++) {
+            Request request = accepted.get(i);
+            CouponIssueOutcome outcome = outcomes.get(i);
+            if (outcome.isIssued()) {
+                complete(request, outcome.issuedCouponId());
+            } else {
+                // 발급되지 않은 요청에 차감했던 메모리 수량을 되돌리기 위해 상태를 다시 적재합니다.
+                lane.coupon = null;
+                fail(request, outcome.errorCode());
+            }
+        }
+    }
+
+    private void complete(Request request, Long issuedId) {
+        request.result.complete(issuedId);
+        couponIssueMetrics.recordRingBufferLatency(System.nanoTime() - request.enqueuedAt);
+    }
+
+    private void failAll(List<Request> requests, ErrorCode errorCode) {
+        requests.forEach(request -> fail(request, errorCode));
+    }
+
+    private void fail(Request request, ErrorCode errorCode) {
+        request.result.completeExceptionally(new BusinessException(errorCode));
+        couponIssueMetrics.recordRingBufferLatency(System.nanoTime() - request.enqueuedAt);
+    }
+
+    record Request(Long userId, CompletableFuture<Long> result, long enqueuedAt) {}
+
+    /**
+     * 쿠폰 하나의 링 버퍼와 작성자 스레드, 작성자 스레드만 접근하는 메모리 쿠폰 상태입니다.
+     * 닫힘 여부는 링 버퍼 객체의 잠금 안에서만 읽고 씁니다.
+     */
+    static final class Lane {
+        private final Long couponId;
+        private final BlockingQueue<Request> queue;
+        private Thread writer;
+        private Coupon coupon;
+        private boolean retired;
+
+        Lane(Long couponId, BlockingQueue<Request> queue) {
+            this.couponId = couponId;
+            this.queue = queue;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 단일 작성자(SINGLE_WRITER) 발급 방식 설정입니다.
+ *
+ * @param capacity        쿠폰별 링 버퍼에 쌓아둘 수 있는 최대 요청 수
+ * @param batchSize       작성자 스레드가 한 번에 DB 로 반영하는 최대 요청 수
+ * @param responseTimeout 요청 스레드가 발급 결과를 기다리는 최대 시간
+ * @param idleTimeout     요청이 없는 쿠폰의 링 버퍼와 작성자 스레드를 정리하기까지의 유휴 시간
+ */
+@ConfigurationProperties(prefix = "coupon.issue.ring-buffer")
+public record CouponIssueRingBufferProperties(
+        @DefaultValue("4096") int capacity,
+        @DefaultValue("256") int batchSize,
+        @DefaultValue("3s") Duration responseTimeout,
+        @DefaultValue("30s") Duration idleTimeout
+) {}
@@ -3,26 +3,52 @@ package com.maximum0.fastpickbe.coupon.application;
 import com.maximum0.fastpickbe.common.exception.BusinessException;
 import com.maximum0.fastpickbe.common.exception.ErrorCode;
 import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueOutboxRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponOwnershipFence;
+import com.maximum0.fastpickbe.coupon.domain.CouponOwnershipRepository;
 import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponTicketRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponUserIssueCountRepository;
 import com.maximum0.fastpickbe.coupon.domain.IssuedCoupon;
 import com.maximum0.fastpickbe.coupon.domain.IssuedCouponRepository;
 import com.maximum0.fastpickbe.user.domain.User;
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 발급 방식별 DB 발급 트랜잭션을 처리합니다.
+ * 캠페인에 소속된 쿠폰은 모든 경로에서 쿠폰 수량과 함께 {@link CouponCampaignStock} 의 캠페인 수량도 같은 트랜잭션에서 차감합니다.
+ * 캠페인 분할 행과 쿠폰 행을 서로 반대 순서로 잠가 교착되지 않도록, 모든 경로는 캠페인 수량을 먼저 차감한 뒤 쿠폰 행을 잠그거나 갱신합니다.
+ * 한 건씩 발급하는 경로는 사용자별 발급 횟수를 원자적으로 증가시켜 인당 발급 한도를 검증하고, 증가된 횟수를 발급 회차로 저장합니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class CouponIssueService {
     private final CouponRepository couponRepository;
     private final IssuedCouponRepository issuedCouponRepository;
+    private final CouponUserIssueCountRepository couponUserIssueCountRepository;
+    private final CouponTicketRepository couponTicketRepository;
+    private final CouponIssueOutboxRepository couponIssueOutboxRepository;
+    private final CouponOwnershipRepository couponOwnershipRepository;
+    private final CouponCampaignStock couponCampaignStock;
+    private final CouponReleaseGate couponReleaseGate;
+    private final CouponIssueLockProperties couponIssueLockProperties;
+    private final CouponIssueMetrics couponIssueMetrics;
     private final Clock clock;
 
     /**
      * 쿠폰 발급을 처리합니다.
      * 비관적 락을 획득하여 동시성 상황에서 정확한 수량 차감을 보장합니다.
+     * 잠금 대기는 {@link CouponIssueLockProperties#timeout()} 으로 제한되며, 재시도는 호출자가 새 트랜잭션으로 수행합니다.
      *
      * @param couponId 발급할 쿠폰 식별자
      * @param user     발급 대상 사용자
@@ -31,16 +57,348 @@ public class CouponIssueService {
     @Transactional
     public Long issue(Long couponId, User user) {
         LocalDateTime now = LocalDateTime.now(clock);
-        Coupon coupon = couponRepository.findByIdWithLock(couponId)
+        couponCampaignStock.reserve(couponId, user.getId(), 1);
+        Coupon coupon = findByIdWithLock(couponId);
+        int issueSeq = nextIssueSeq(couponId, user.getId());
+
+        coupon.issue(now);
+
+        return saveIssued(coupon, user, issueSeq, now);
+    }
+
+    /**
+     * 쿠폰 행을 잠그지 않고 조회한 뒤 발급하며, 커밋 시점에 버전(@Version)이 달라졌으면 실패합니다.
+     * 버전 충돌은 {@link org.springframework.dao.OptimisticLockingFailureException} 으로 전달되며, 재시도는 호출자가 새 트랜잭션으로 수행합니다.
+     * 인당 발급 한도는 사용자별 발급 횟수로 검증하며, (user_id, coupon_id, issue_seq) 유니크 제약이 중복 발급을 한 번 더 차단합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param user     발급 대상 사용자
+     * @return Long    생성된 발급 이력 ID
+     * @throws BusinessException 발급 조건 위반 시, 인당 발급 한도 도달 시 (ALREADY_ISSUED_COUPON)
+     */
+    @Transactional
+    public Long issueWithOptimisticLock(Long couponId, User user) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Coupon coupon = couponRepository.findById(couponId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
 
-        if (issuedCouponRepository.existsByUserAndCoupon(user, coupon)) {
+        coupon.issue(now);
+        couponCampaignStock.reserve(couponId, user.getId(), 1);
+
+        return insertIssued(couponId, user.getId(), now);
+    }
+
+    /**
+     * 발급 이력을 먼저 저장한 뒤, 조건부 UPDATE 한 문장으로 발급 가능 여부 검증과 수량 증가를 처리합니다.
+     * 공개 일정이 있는 쿠폰은 {@link CouponReleaseGate} 가 계산한 공개 수량을 UPDATE 조건에 함께 넘겨 공개되지 않은 수량을 발급하지 않습니다.
+     * UPDATE 가 잡은 쿠폰 행 잠금은 커밋까지 유지되므로, 사용자별 발급 횟수, 발급 이력, 아웃박스, 캠페인 수량 쓰기를 모두 마친 뒤
+     * 커밋 직전에 쿠폰 행을 갱신하여 같은 쿠폰의 다른 발급 요청이 기다리는 시간을 줄입니다.
+     * 갱신된 행이 없으면 앞서 쓴 내용은 예외로 롤백되며, 쿠폰을 조회하여 정확한 실패 원인을 판별합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param user     발급 대상 사용자
+     * @return Long    생성된 발급 이력 ID
+     * @throws BusinessException 발급 조건 위반 시, 인당 발급 한도 도달 시 (ALREADY_ISSUED_COUPON)
+     */
+    @Transactional
+    public Long issueWithConditionalUpdate(Long couponId, User user) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Long issuedId = insertIssued(couponId, user.getId(), now);
+        couponCampaignStock.reserve(couponId, user.getId(), 1);
+
+        if (couponRepository.increaseIssuedQuantityIfAvailable(couponId, now, couponReleaseGate.releasedQuantity(couponId)) == 0) {
+            Coupon coupon = couponRepository.findById(couponId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+            coupon.validateIssuanceCondition(now);
+            throw new BusinessException(ErrorCode.COUPON_EXHAUSTED);
+        }
+        return issuedId;
+    }
+
+    /**
+     * 쿠폰의 담당 노드가 펜싱 토큰으로 담당 세대를 검증하며 발급합니다.
+     * 담당 세대 검증, 발급 가능 여부 검증, 수량 증가를 조건부 UPDATE 한 문장으로 처리하므로,
+     * 다른 노드가 담당을 넘겨받은 뒤에는 이전 담당 노드의 발급이 반영되지 않습니다.
+     * {@link #issueWithConditionalUpdate} 와 같이 쿠폰 행 잠금을 커밋 직전에만 잡도록 쿠폰 행을 마지막에 갱신합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param user     발급 대상 사용자
+     * @param fence    담당 노드가 발급받은 펜싱 토큰
+     * @return Long    생성된 발급 이력 ID
+     * @throws BusinessException 담당 세대가 바뀐 경우 (COUPON_ISSUE_OWNER_MOVED), 발급 조건 위반 시, 인당 발급 한도 도달 시 (ALREADY_ISSUED_COUPON)
+     */
+    @Transactional
+    public Long issueFenced(Long couponId, User user, CouponOwnershipFence fence) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Long issuedId = insertIssued(couponId, user.getId(), now);
+        couponCampaignStock.reserve(couponId, user.getId(), 1);
+
+        if (couponRepository.increaseIssuedQuantityIfOwned(couponId, now, couponReleaseGate.releasedQuantity(couponId), fence) == 0) {
+            if (!couponOwnershipRepository.isCurrent(fence)) {
+                throw new BusinessException(ErrorCode.COUPON_ISSUE_OWNER_MOVED);
+            }
+            Coupon coupon = couponRepository.findById(couponId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+            coupon.validateIssuanceCondition(now);
+            throw new BusinessException(ErrorCode.COUPON_EXHAUSTED);
+        }
+        return issuedId;
+    }
+
+    /**
+     * 미리 생성된 티켓 행 하나를 SKIP LOCKED 로 선점하여 사용자에게 바인딩한 뒤 발급 이력을 저장합니다.
+     * 동시 요청은 단일 쿠폰 행 대신 서로 다른 티켓 행을 잠그므로 대기하지 않으며, 쿠폰의 발급 수량은 갱신하지 않습니다.
+     * 발급 수량은 {@link CouponIssuedQuantityReconciler} 가 선점된 티켓 수로 비동기 보정합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param user     발급 대상 사용자
+     * @return Long    생성된 발급 이력 ID
+     * @throws BusinessException 발급 조건 위반 시, 남은 티켓이 없을 경우 (COUPON_EXHAUSTED), 인당 발급 한도 도달 시 (ALREADY_ISSUED_COUPON)
+     */
+    @Transactional
+    public Long issueWithTicket(Long couponId, User user) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+        coupon.validateIssuanceStatus(now);
+
+        couponTicketRepository.claim(couponId, user.getId(), now)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_EXHAUSTED));
+        couponCampaignStock.reserve(couponId, user.getId(), 1);
+
+        return insertIssued(couponId, user.getId(), now);
+    }
+
+    /**
+     * 발급 카운터에서 수량과 중복 검증을 이미 선점한 요청의 발급 이력을 저장합니다.
+     * 쿠폰 행을 잠그지 않고, 총 발행 수량과 공개된 수량을 넘지 않을 때만 발급 수량을 증가시키는 단일 UPDATE 문으로 반영합니다.
+     * 카운터는 다른 경로의 발급을 알지 못하므로, 카운터 선점과 별개로 사용자별 발급 횟수와 총 발행 수량을 DB 에서 다시 검증합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param user     발급 대상 사용자
+     * @return Long    생성된 발급 이력 ID
+     * @throws BusinessException 다른 경로의 발급으로 총 발행 수량에 도달한 경우 (COUPON_EXHAUSTED), 공개된 수량에 도달한 경우 (COUPON_STOCK_NOT_RELEASED)
+     */
+    @Transactional
+    public Long issueReserved(Long couponId, User user) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Coupon coupon = findIssuableWithoutLock(couponId, now);
+        int issueSeq = nextIssueSeq(couponId, user.getId());
+        couponCampaignStock.reserve(couponId, user.getId(), 1);
+        increaseIssuedQuantity(coupon, 1, now);
+        return saveIssued(coupon, user, issueSeq, now);
+    }
+
+    /**
+     * 노드가 리스로 빌려온 재고에서 수량을 선점한 요청의 발급 이력을 저장합니다.
+     * 발급 수량은 리스를 받을 때 이미 반영되었으므로 쿠폰 행을 잠그거나 갱신하지 않습니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param user     발급 대상 사용자
+     * @return Long    생성된 발급 이력 ID
+     */
+    @Transactional
+    public Long issueLeased(Long couponId, User user) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Coupon coupon = findIssuableWithoutLock(couponId, now);
+        int issueSeq = nextIssueSeq(couponId, user.getId());
+        couponCampaignStock.reserve(couponId, user.getId(), 1);
+        return saveIssued(coupon, user, issueSeq, now);
+    }
+
+    /**
+     * 발급 카운터에서 선점이 끝난 같은 쿠폰의 요청들을 하나의 트랜잭션에서 일괄 저장합니다.
+     * 발급 이력은 단일 다건 INSERT 로, 발급 수량은 배치당 한 번의 UPDATE 로 반영합니다.
+     * 캠페인 잔여 수량과 쿠폰 잔여 수량이 배치보다 적으면 남은 수량만큼 요청 순서대로 발급하고, 나머지 요청만 실패합니다.
+     * 이미 발급받은 사용자를 제외하므로 사용자당 한 번만 발급하며, 발급된 사용자의 발급 횟수는 배치 UPSERT 로 반영합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param userIds  요청 순서대로 정렬된 발급 대상 사용자 식별자 목록
+     * @return 요청 순서와 동일한 순서의 개별 발급 결과
+     * @throws BusinessException 쿠폰이 없거나 발급 가능한 상태가 아닐 경우 (배치 전체 실패)
+     */
+    @Transactional
+    public List<CouponIssueOutcome> issueReservedBatch(Long couponId, List<Long> userIds) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+
+        coupon.validateIssuanceStatus(now);
+
+        Set<Long> issuedUserIds = issuedCouponRepository.findIssuedUserIds(couponId, userIds);
+        List<Long> targetUserIds = userIds.stream()
+                .filter(userId -> !issuedUserIds.contains(userId))
+                .toList();
+
+        int campaignBudget = couponCampaignStock.reserveUpTo(couponId, couponId, targetUserIds.size());
+        int releasedQuantity = coupon.releasedQuantity(now);
+        int granted = campaignBudget == 0 ? 0 : couponRepository.reserveQuantity(couponId, campaignBudget, releasedQuantity);
+        couponCampaignStock.release(couponId, couponId, campaignBudget - granted);
+
+        List<Long> grantedUserIds = targetUserIds.subList(0, granted);
+        Map<Long, Long> issuedIds = Map.of();
+        if (!grantedUserIds.isEmpty()) {
+            couponUserIssueCountRepository.incrementAll(couponId, grantedUserIds);
+            issuedIds = couponIssueMetrics.recordInsert(() -> issuedCouponRepository.insertAll(couponId, grantedUserIds, now));
+            recordIssued(couponId, issuedIds, now);
+        }
+
+        ErrorCode shortage = granted < campaignBudget
+                ? (releasedQuantity < coupon.getTotalQuantity() ? ErrorCode.COUPON_STOCK_NOT_RELEASED : ErrorCode.COUPON_EXHAUSTED)
+                : ErrorCode.COUPON_CAMPAIGN_EXHAUSTED;
+        List<CouponIssueOutcome> outcomes = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            Long issuedId = issuedIds.get(userId);
+            if (issuedId != null) {
+                outcomes.add(CouponIssueOutcome.issued(issuedId));
+            } else {
+                // 선점 후에도 저장되지 않은 사용자는 동시에 다른 경로로 발급받은 사용자입니다.
+                boolean alreadyIssued = issuedUserIds.contains(userId) || grantedUserIds.contains(userId);
+                outcomes.add(CouponIssueOutcome.failed(alreadyIssued ? ErrorCode.ALREADY_ISSUED_COUPON : shortage));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * 같은 쿠폰에 대한 여러 발급 요청을 하나의 비관적 락 트랜잭션에서 처리합니다.
+     * 요청별로 중복(DB 및 배치 내)과 잔여 수량을 검증하고, 통과한 요청만 다건 INSERT 로 저장합니다.
+     * 발급 수량은 엔티티 변경 감지로 트랜잭션당 한 번만 UPDATE 됩니다.
+     * 캠페인 수량은 요청 수만큼 한 번에 차감해 두고 요청별로 소진하며, 쓰지 않은 수량은 트랜잭션 안에서 되돌립니다.
+     * 이미 발급받은 사용자를 제외하므로 사용자당 한 번만 발급하며, 발급된 사용자의 발급 횟수는 배치 UPSERT 로 반영합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param userIds  요청 순서대로 정렬된 발급 대상 사용자 식별자 목록 (중복 가능)
+     * @return 요청 순서와 동일한 순서의 개별 발급 결과
+     * @throws BusinessException 쿠폰이 없거나 발급 가능한 상태가 아닐 경우 (배치 전체 실패)
+     */
+    @Transactional
+    public List<CouponIssueOutcome> issueGroup(Long couponId, List<Long> userIds) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int campaignBudget = couponCampaignStock.reserveUpTo(couponId, couponId, userIds.size());
+        Coupon coupon = findByIdWithLock(couponId);
+
+        coupon.validateIssuanceStatus(now);
+
+        Set<Long> issuedUserIds = new HashSet<>(issuedCouponRepository.findIssuedUserIds(couponId, userIds));
+        List<Long> targetUserIds = new ArrayList<>();
+        List<ErrorCode> failures = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            if (!issuedUserIds.add(userId)) {
+                failures.add(ErrorCode.ALREADY_ISSUED_COUPON);
+            } else if (coupon.isExhausted()) {
+                failures.add(ErrorCode.COUPON_EXHAUSTED);
+            } else if (coupon.isReleasedExhausted(now)) {
+                failures.add(ErrorCode.COUPON_STOCK_NOT_RELEASED);
+            } else if (campaignBudget == 0) {
+                failures.add(ErrorCode.COUPON_CAMPAIGN_EXHAUSTED);
+            } else {
+                coupon.issue(now);
+                campaignBudget--;
+                targetUserIds.add(userId);
+                failures.add(null);
+            }
+        }
+        couponCampaignStock.release(couponId, couponId, campaignBudget);
+
+        couponUserIssueCountRepository.incrementAll(couponId, targetUserIds);
+        Map<Long, Long> issuedIds = couponIssueMetrics.recordInsert(() -> issuedCouponRepository.insertAll(couponId, targetUserIds, now));
+        recordIssued(couponId, issuedIds, now);
+
+        List<CouponIssueOutcome> outcomes = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            ErrorCode failure = failures.get(i);
+            outcomes.add(failure == null
+                    ? CouponIssueOutcome.issued(issuedIds.get(userIds.get(i)))
+                    : CouponIssueOutcome.failed(failure));
+        }
+        return outcomes;
+    }
+
+    /**
+     * 쿠폰 행을 잠그지 않고 조회하여 수량을 제외한 발급 조건을 검증합니다.
+     * @throws BusinessException 쿠폰이 없거나(COUPON_NOT_FOUND) 발급 조건 위반 시
+     */
+    private Coupon findIssuableWithoutLock(Long couponId, LocalDateTime now) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+
+        coupon.validateIssuanceStatus(now);
+        return coupon;
+    }
+
+    /**
+     * 총 발행 수량과 현재 시각까지 공개된 수량을 넘지 않을 때만 발급 수량을 증가시킵니다.
+     * 카운터나 링 버퍼처럼 DB 밖에서 수량을 선점한 경로도, 같은 쿠폰의 다른 경로 발급과 합쳐 총 발행 수량을 넘지 않도록 DB 에서 한 번 더 막습니다.
+     * @throws BusinessException 남은 수량이 부족한 경우 (COUPON_EXHAUSTED), 공개된 수량이 부족한 경우 (COUPON_STOCK_NOT_RELEASED)
+     */
+    private void increaseIssuedQuantity(Coupon coupon, int quantity, LocalDateTime now) {
+        int releasedQuantity = coupon.releasedQuantity(now);
+        if (couponRepository.increaseIssuedQuantity(coupon.getId(), quantity, releasedQuantity) == 0) {
+            throw new BusinessException(releasedQuantity < coupon.getTotalQuantity()
+                    ? ErrorCode.COUPON_STOCK_NOT_RELEASED
+                    : ErrorCode.COUPON_EXHAUSTED);
+        }
+    }
+
+    /**
+     * 사용자별 발급 횟수를 인당 발급 한도 안에서 1 증가시키고, 이번 발급의 회차를 반환합니다.
+     * 발급 이력을 집계하지 않고 (coupon_id, user_id) 행 하나만 갱신하므로 발급 이력이 늘어나도 비용이 일정합니다.
+     * @throws BusinessException 인당 발급 한도에 도달한 경우 (ALREADY_ISSUED_COUPON)
+     */
+    private int nextIssueSeq(Long couponId, Long userId) {
+        int issueSeq = couponUserIssueCountRepository.increment(couponId, userId);
+        if (issueSeq == 0) {
             throw new BusinessException(ErrorCode.ALREADY_ISSUED_COUPON);
         }
+        return issueSeq;
+    }
 
-        coupon.issue(now);
+    /**
+     * 발급 이력 한 건을 저장하고 발급 이벤트를 기록합니다.
+     * @throws BusinessException 중복 발급 시 (ALREADY_ISSUED_COUPON)
+     */
+    private Long saveIssued(Coupon coupon, User user, int issueSeq, LocalDateTime now) {
+        Long issuedId;
+        try {
+            issuedId = couponIssueMetrics.recordInsert(() -> issuedCouponRepository.save(IssuedCoupon.create(user, coupon, issueSeq))).getId();
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ErrorCode.ALREADY_ISSUED_COUPON);
+        }
+        recordIssued(coupon.getId(), Map.of(user.getId(), issuedId), now);
+        return issuedId;
+    }
 
-        IssuedCoupon issuedCoupon = IssuedCoupon.create(user, coupon);
-        return issuedCouponRepository.save(issuedCoupon).getId();
+    /**
+     * 사용자별 발급 횟수로 인당 발급 한도를 검증한 뒤, 발급 이력 한 건을 영속성 컨텍스트 없이 JDBC INSERT 로 저장하고 발급 이벤트를 기록합니다.
+     * @throws BusinessException 인당 발급 한도 도달 또는 중복 발급 시 (ALREADY_ISSUED_COUPON)
+     */
+    private Long insertIssued(Long couponId, Long userId, LocalDateTime now) {
+        int issueSeq = nextIssueSeq(couponId, userId);
+        Long issuedId;
+        try {
+            issuedId = couponIssueMetrics.recordInsert(() -> issuedCouponRepository.insert(couponId, userId, issueSeq, now));
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ErrorCode.ALREADY_ISSUED_COUPON);
+        }
+        recordIssued(couponId, Map.of(userId, issuedId), now);
+        return issuedId;
+    }
+
+    /**
+     * 발급 이력과 같은 트랜잭션에서 발급 이벤트를 아웃박스에 기록합니다.
+     * 후속 처리는 커밋 이후 {@link CouponIssueOutboxRelay} 가 전달하므로, 발급 트랜잭션에는 이 INSERT 한 번만 추가됩니다.
+     */
+    private void recordIssued(Long couponId, Map<Long, Long> issuedIdsByUserId, LocalDateTime now) {
+        couponIssueOutboxRepository.appendAll(couponId, issuedIdsByUserId, now);
+    }
+
+    /**
+     * 잠금 대기 한도를 적용하여 쿠폰 행을 잠그고, 대기 시간을 지표로 기록합니다.
+     * @throws BusinessException 쿠폰이 존재하지 않을 경우 (COUPON_NOT_FOUND)
+     */
+    private Coupon findByIdWithLock(Long couponId) {
+        return couponIssueMetrics.recordLockWait(couponId, () -> couponRepository.findByIdWithLock(couponId, couponIssueLockProperties.timeout()))
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
     }
-}
\ No newline at end of file
+}
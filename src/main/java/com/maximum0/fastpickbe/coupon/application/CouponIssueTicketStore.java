@@ -0,0 +1,60 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueTicket;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 발급 티켓을 JVM 메모리에 보관하는 저장소입니다.
+ * 처리가 끝난 티켓은 보관 기간({@link CouponIssueAsyncProperties#ticketTtl()})이 지나면 제거됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponIssueTicketStore {
+    private final Clock clock;
+    private final CouponIssueAsyncProperties properties;
+    private final ConcurrentMap<String, CouponIssueTicket> tickets = new ConcurrentHashMap<>();
+
+    /**
+     * 새로운 대기 상태의 티켓을 생성하여 저장합니다.
+     * @param couponId 쿠폰 식별자
+     * @param userId   사용자 식별자
+     * @return CouponIssueTicket 생성된 티켓
+     */
+    public CouponIssueTicket create(Long couponId, Long userId) {
+        CouponIssueTicket ticket = CouponIssueTicket.pending(couponId, userId, LocalDateTime.now(clock));
+        tickets.put(ticket.id(), ticket);
+        return ticket;
+    }
+
+    /**
+     * 티켓의 상태를 갱신합니다.
+     * @param ticket 상태가 반영된 티켓
+     */
+    public void update(CouponIssueTicket ticket) {
+        tickets.put(ticket.id(), ticket);
+    }
+
+    public Optional<CouponIssueTicket> findById(String ticketId) {
+        return Optional.ofNullable(tickets.get(ticketId));
+    }
+
+    public void remove(String ticketId) {
+        tickets.remove(ticketId);
+    }
+
+    /**
+     * 보관 기간이 지난 완료 티켓을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.async.ticket-eviction-interval:60000}")
+    public void evictExpired() {
+        LocalDateTime threshold = LocalDateTime.now(clock).minus(properties.ticketTtl());
+        tickets.values().removeIf(ticket -> ticket.isCompleted() && ticket.requestedAt().isBefore(threshold));
+    }
+}
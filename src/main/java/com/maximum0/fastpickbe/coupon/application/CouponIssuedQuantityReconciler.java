@@ -0,0 +1,38 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 티켓 행 발급 방식 쿠폰의 발급 수량을 선점된 티켓 수로 주기적으로 보정합니다.
+ * 티켓 발급 경로는 쿠폰 행을 갱신하지 않으므로, 발급 수량과 품절 여부는 이 작업이 반영하기 전까지 지연될 수 있습니다.
+ * 리스 방식 쿠폰은 발급 수량에 노드가 빌려간 미발급 재고가 포함되므로, 품절 여부를 발급 이력 수로 따로 보정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponIssuedQuantityReconciler {
+    private final CouponRepository couponRepository;
+
+    /**
+     * 품절 처리되지 않은 티켓 발급 쿠폰의 발급 수량과 품절 여부를 갱신합니다.
+     * @return 갱신된 쿠폰 수
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${coupon.issue.ticket.reconcile-interval:1000}")
+    public int reconcile() {
+        return couponRepository.reconcileTicketIssuedQuantities();
+    }
+
+    /**
+     * 리스 방식 쿠폰 중 전체 수량만큼 발급 이력이 저장된 쿠폰을 품절 처리합니다.
+     * @return 품절 처리된 쿠폰 수
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${coupon.issue.lease.check-interval:1000}")
+    public int reconcileLeaseSoldOut() {
+        return couponRepository.reconcileLeaseSoldOut();
+    }
+}
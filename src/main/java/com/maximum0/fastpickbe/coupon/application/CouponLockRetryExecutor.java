@@ -0,0 +1,65 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 행 잠금 획득에 실패하거나 버전 충돌이 발생한 발급 트랜잭션을 지터가 적용된 지수 백오프로 제한된 횟수만큼 재시도합니다.
+ * 재시도 한도를 모두 소진하면 커넥션 풀이 고갈될 때까지 대기하는 대신 재시도 가능한 에러로 즉시 거절합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponLockRetryExecutor {
+    private final CouponIssueLockProperties properties;
+    private final CouponIssueMetrics couponIssueMetrics;
+
+    /**
+     * 발급 트랜잭션을 실행하고, 잠금 획득 실패 또는 버전 충돌 시 새 트랜잭션으로 재시도합니다.
+     * 실패한 시도의 소요 시간은 쿠폰의 경합 시간으로 기록하고, 실패 횟수는 버전 충돌과 잠금 대기 한도 초과를 나누어 기록합니다.
+     * @param couponId    발급할 쿠폰 식별자
+     * @param transaction 트랜잭션 경계를 가진 발급 작업
+     * @return 발급 작업 결과
+     * @throws BusinessException 재시도 한도 내에 발급하지 못한 경우 (COUPON_ISSUE_BUSY)
+     */
+    public <T> T execute(Long couponId, Supplier<T> transaction) {
+        for (int attempt = 1; ; attempt++) {
+            long startedAt = System.nanoTime();
+            try {
+                return transaction.get();
+            } catch (ConcurrencyFailureException e) {
+                couponIssueMetrics.recordContention(couponId, System.nanoTime() - startedAt);
+                if (e instanceof OptimisticLockingFailureException) {
+                    couponIssueMetrics.incrementVersionConflict();
+                } else {
+                    couponIssueMetrics.incrementLockTimeout();
+                }
+                if (attempt >= properties.maxAttempts()) {
+                    couponIssueMetrics.incrementLockRejected();
+                    throw new BusinessException(ErrorCode.COUPON_ISSUE_BUSY);
+                }
+                couponIssueMetrics.incrementLockRetry();
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 시도 횟수에 따라 2배씩 증가하는 상한 안에서 무작위 시간(full jitter)만큼 대기합니다.
+     */
+    private void backoff(int attempt) {
+        long baseMillis = properties.backoff().toMillis() << Math.min(attempt - 1, 16);
+        long capMillis = Math.min(baseMillis, properties.maxBackoff().toMillis());
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(capMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.COUPON_ISSUE_BUSY);
+        }
+    }
+}
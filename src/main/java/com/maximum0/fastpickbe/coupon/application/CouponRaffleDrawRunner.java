@@ -0,0 +1,32 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponRaffleDrawRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 응모 기간이 끝났지만 아직 추첨하지 않은 추첨 쿠폰을 주기적으로 찾아 추첨합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponRaffleDrawRunner {
+    private final CouponRaffleDrawRepository couponRaffleDrawRepository;
+    private final CouponRaffleService couponRaffleService;
+    private final Clock clock;
+
+    @Scheduled(fixedDelayString = "${coupon.issue.raffle.draw-interval:1000}")
+    public void run() {
+        for (Long couponId : couponRaffleDrawRepository.findUndrawnCouponIds(LocalDateTime.now(clock))) {
+            try {
+                couponRaffleService.draw(couponId);
+            } catch (RuntimeException e) {
+                log.warn("추첨 쿠폰 {} 의 추첨에 실패하여 다음 실행에서 다시 추첨합니다", couponId, e);
+            }
+        }
+    }
+}
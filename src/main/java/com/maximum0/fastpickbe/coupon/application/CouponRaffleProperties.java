@@ -0,0 +1,14 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 추첨 쿠폰 설정입니다.
+ *
+ * @param drawInterval 응모 기간이 끝난 추첨 쿠폰을 확인하는 간격(ms)
+ */
+@ConfigurationProperties(prefix = "coupon.issue.raffle")
+public record CouponRaffleProperties(
+        @DefaultValue("1000") long drawInterval
+) {}
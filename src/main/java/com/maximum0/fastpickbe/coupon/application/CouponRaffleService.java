@@ -0,0 +1,94 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.application.admin.CouponBulkIssueJobRunner;
+import com.maximum0.fastpickbe.coupon.application.admin.CouponBulkIssueProperties;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJob;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJobRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueTargetRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponRaffleDraw;
+import com.maximum0.fastpickbe.coupon.domain.CouponRaffleDrawRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponRaffleEntryRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.user.domain.User;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 추첨 방식({@link CouponIssueMode#RAFFLE}) 쿠폰의 응모와 추첨을 처리합니다.
+ * 응모 기간(발급 시작 시각부터 응모 마감 시각까지)에는 수량을 확인하지 않고 응모 행만 추가하며, 응모 마감 시각이 지나면 시드로 응모자를 섞어 총 발행 수량만큼 당첨자를 뽑습니다.
+ * 당첨자에게 발급된 쿠폰은 쿠폰의 종료 시각까지 사용할 수 있습니다.
+ * 당첨자 발급은 일괄 발급 작업으로 등록되어 {@link CouponBulkIssueJobRunner} 가 청크 단위로 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponRaffleService {
+    private final CouponRepository couponRepository;
+    private final CouponRaffleEntryRepository couponRaffleEntryRepository;
+    private final CouponRaffleDrawRepository couponRaffleDrawRepository;
+    private final CouponBulkIssueJobRepository couponBulkIssueJobRepository;
+    private final CouponBulkIssueTargetRepository couponBulkIssueTargetRepository;
+    private final CouponBulkIssueProperties couponBulkIssueProperties;
+    private final CouponEligibilityTable couponEligibilityTable;
+    private final Clock clock;
+    private final SecureRandom seedSource = new SecureRandom();
+
+    /**
+     * 추첨 쿠폰에 응모합니다. 쿠폰 행을 잠그거나 수량을 차감하지 않습니다.
+     *
+     * @param couponId 응모할 쿠폰 식별자
+     * @param user     응모 사용자
+     * @throws BusinessException 응모 조건 위반 시 (COUPON_DISABLED, COUPON_NOT_AVAILABLE_PERIOD, COUPON_NOT_RAFFLE),
+     *                           이미 응모한 경우 (ALREADY_ENTERED_RAFFLE)
+     */
+    public void enter(Long couponId, User user) {
+        couponEligibilityTable.validateEnterable(couponId);
+        if (!couponRaffleEntryRepository.append(couponId, user.getId(), LocalDateTime.now(clock))) {
+            throw new BusinessException(ErrorCode.ALREADY_ENTERED_RAFFLE);
+        }
+    }
+
+    /**
+     * 응모 마감 시각이 지난 추첨 쿠폰의 당첨자를 뽑아 일괄 발급 작업으로 등록합니다.
+     * 추첨 행을 먼저 선점하므로 여러 노드가 같은 쿠폰을 동시에 추첨하더라도 한 번만 추첨되고,
+     * 당첨자 적재와 작업 등록이 같은 트랜잭션에서 커밋되므로 중간에 실패하면 다음 실행에서 처음부터 다시 추첨합니다.
+     *
+     * @param couponId 추첨할 쿠폰 식별자
+     * @return 추첨했으면 true, 다른 노드가 이미 추첨했으면 false
+     * @throws BusinessException 쿠폰이 존재하지 않을 경우 (COUPON_NOT_FOUND), 추첨할 수 없는 상태일 경우 (COUPON_DISABLED, COUPON_NOT_AVAILABLE_PERIOD)
+     */
+    @Transactional
+    public boolean draw(Long couponId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+        coupon.validateDrawable(now);
+
+        long seed = seedSource.nextLong();
+        if (!couponRaffleDrawRepository.claim(couponId, seed, now)) {
+            return false;
+        }
+
+        List<Long> entrantIds = couponRaffleEntryRepository.findUserIds(couponId);
+        int remaining = coupon.getTotalQuantity() - coupon.getIssuedQuantity();
+        List<Long> winnerIds = CouponRaffleDraw.pickWinners(entrantIds, remaining, seed);
+
+        CouponBulkIssueJob job = couponBulkIssueJobRepository.save(CouponBulkIssueJob.create(couponId));
+        int chunkSize = couponBulkIssueProperties.chunkSize();
+        for (int from = 0; from < winnerIds.size(); from += chunkSize) {
+            couponBulkIssueTargetRepository.appendAll(job.getId(), winnerIds.subList(from, Math.min(from + chunkSize, winnerIds.size())));
+        }
+        job.staged(winnerIds.size());
+
+        couponRaffleDrawRepository.record(couponId, job.getId(), entrantIds.size(), winnerIds.size());
+        return true;
+    }
+}
@@ -0,0 +1,84 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponRedemption;
+import com.maximum0.fastpickbe.coupon.domain.CouponRedemptionStatus;
+import com.maximum0.fastpickbe.coupon.domain.IssuedCouponRepository;
+import com.maximum0.fastpickbe.user.domain.User;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 시점에 발급된 쿠폰을 사용 처리하는 서비스입니다.
+ * 발급 이력 엔티티를 적재하지 않고 조건부 UPDATE 한 번으로 여러 쿠폰을 차감하며, 실패한 항목만 거절 사유를 추가로 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponRedemptionService {
+    public static final int MAX_REDEMPTION_KEY_LENGTH = 64;
+
+    private final IssuedCouponRepository issuedCouponRepository;
+    private final Clock clock;
+
+    /**
+     * 발급된 쿠폰 한 건을 사용 처리합니다.
+     *
+     * @param user           사용 요청 사용자
+     * @param issuedCouponId 사용할 발급 이력 ID
+     * @param redemptionKey  재요청을 식별하기 위한 사용 요청 키 (없으면 null)
+     * @return CouponRedemption 처리 결과
+     * @throws BusinessException 사용 요청 키가 너무 긴 경우 (INVALID_IDEMPOTENCY_KEY)
+     */
+    @Transactional
+    public CouponRedemption redeem(User user, Long issuedCouponId, String redemptionKey) {
+        return redeemAll(user, List.of(issuedCouponId), redemptionKey).get(0);
+    }
+
+    /**
+     * 발급된 쿠폰 여러 건(장바구니 단위)을 한 번에 사용 처리하고 항목별 결과를 반환합니다.
+     * 일부 항목이 거절되어도 나머지 항목의 사용 처리는 유지됩니다.
+     * 같은 사용 요청 키로 다시 요청하면 이전 요청에서 사용 처리된 항목은 REDEEMED 로 응답합니다.
+     *
+     * @param user            사용 요청 사용자
+     * @param issuedCouponIds 사용할 발급 이력 ID 목록 (중복은 한 번만 처리)
+     * @param redemptionKey   재요청을 식별하기 위한 사용 요청 키 (없으면 null)
+     * @return List<CouponRedemption> 요청 순서대로 정렬된 항목별 처리 결과
+     * @throws BusinessException 사용 요청 키가 너무 긴 경우 (INVALID_IDEMPOTENCY_KEY)
+     */
+    @Transactional
+    public List<CouponRedemption> redeemAll(User user, List<Long> issuedCouponIds, String redemptionKey) {
+        String key = normalize(redemptionKey);
+        List<Long> ids = issuedCouponIds.stream().distinct().toList();
+
+        Set<Long> redeemed = issuedCouponRepository.useAll(user.getId(), ids, LocalDateTime.now(clock), key);
+        List<Long> rejected = ids.stream()
+                .filter(id -> !redeemed.contains(id))
+                .toList();
+        Map<Long, CouponRedemptionStatus> rejections = rejected.isEmpty()
+                ? Map.of()
+                : issuedCouponRepository.findRedemptionRejections(user.getId(), rejected);
+
+        return ids.stream()
+                .map(id -> new CouponRedemption(id, redeemed.contains(id)
+                        ? CouponRedemptionStatus.REDEEMED
+                        : rejections.getOrDefault(id, CouponRedemptionStatus.NOT_FOUND)))
+                .toList();
+    }
+
+    private String normalize(String redemptionKey) {
+        if (redemptionKey == null || redemptionKey.isBlank()) {
+            return null;
+        }
+        if (redemptionKey.length() > MAX_REDEMPTION_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+        return redemptionKey;
+    }
+}
@@ -0,0 +1,116 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponReleaseSchedule;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공개 일정이 있는 쿠폰의 발급 요청을 현재 시각까지 공개된 수량만큼만 통과시키는 게이트입니다.
+ * 공개된 수량은 쿠폰의 공개 일정과 {@link Clock} 으로 메모리에서 계산하므로, 공개되지 않은 수량에 대한 요청은
+ * 발급 방식과 관계없이 수량 선점과 DB 락 경로에 도달하기 전에 거절됩니다.
+ * 통과 건수는 이 노드 기준으로 집계하며, 최종 정합성은 DB 발급 경로의 공개 수량 검증이 보장합니다.
+ * 쿠폰 행을 읽지 않는 DB 발급 경로는 {@link #releasedQuantity} 로 계산한 공개 수량을 조건부 UPDATE 에 넘겨,
+ * 여러 노드가 각자 공개 수량만큼 통과시키더라도 클러스터 전체 발급이 공개 수량을 넘지 않게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponReleaseGate {
+    private static final ReleaseState UNSCHEDULED = new ReleaseState(null, null, 0, null);
+
+    private final CouponRepository couponRepository;
+    private final Clock clock;
+    private final ConcurrentMap<Long, ReleaseState> states = new ConcurrentHashMap<>();
+
+    /**
+     * 공개된 수량 안에서 발급 요청 하나를 통과시킵니다. 공개 일정이 없는 쿠폰은 항상 통과합니다.
+     * 최초 요청 시 DB 에서 쿠폰의 공개 일정과 발행 수량을 적재합니다.
+     *
+     * @param couponId 쿠폰 식별자
+     * @throws BusinessException 현재 시각까지 공개된 수량이 모두 통과된 경우 (COUPON_STOCK_NOT_RELEASED),
+     *                           쿠폰이 존재하지 않을 경우 (COUPON_NOT_FOUND)
+     */
+    public void acquire(Long couponId) {
+        ReleaseState state = states.computeIfAbsent(couponId, this::load);
+        if (state == UNSCHEDULED) {
+            return;
+        }
+
+        int released = state.releasedQuantity(LocalDateTime.now(clock));
+        int current;
+        do {
+            current = state.admitted.get();
+            if (current >= released) {
+                throw new BusinessException(ErrorCode.COUPON_STOCK_NOT_RELEASED);
+            }
+        } while (!state.admitted.compareAndSet(current, current + 1));
+    }
+
+    /**
+     * 현재 시각까지 공개된 수량을 계산합니다. 최초 요청 시 DB 에서 쿠폰의 공개 일정과 발행 수량을 적재합니다.
+     *
+     * @param couponId 쿠폰 식별자
+     * @return 공개된 수량 (공개 일정이 없으면 수량 제한이 없다는 뜻으로 Integer.MAX_VALUE)
+     * @throws BusinessException 쿠폰이 존재하지 않을 경우 (COUPON_NOT_FOUND)
+     */
+    public int releasedQuantity(Long couponId) {
+        ReleaseState state = states.computeIfAbsent(couponId, this::load);
+        if (state == UNSCHEDULED) {
+            return Integer.MAX_VALUE;
+        }
+        return state.releasedQuantity(LocalDateTime.now(clock));
+    }
+
+    /**
+     * 통과시킨 발급 요청이 실패하면 통과 건수를 되돌립니다.
+     * DB 경로에서 공개 수량 소진이 확인되면 다른 노드가 먼저 발급한 것으로 보고, 현재 공개분을 모두 통과된 것으로 처리합니다.
+     *
+     * @param couponId 쿠폰 식별자
+     * @param cause    발급 실패 원인
+     */
+    public void cancel(Long couponId, RuntimeException cause) {
+        ReleaseState state = states.get(couponId);
+        if (state == null || state == UNSCHEDULED) {
+            return;
+        }
+
+        if (cause instanceof BusinessException e && e.getErrorCode() == ErrorCode.COUPON_STOCK_NOT_RELEASED) {
+            int released = state.releasedQuantity(LocalDateTime.now(clock));
+            state.admitted.accumulateAndGet(released, Math::max);
+        } else {
+            state.admitted.decrementAndGet();
+        }
+    }
+
+    /**
+     * 쿠폰의 적재 상태를 제거하여 다음 요청 시 DB 기준으로 다시 적재되도록 합니다.
+     * @param couponId 쿠폰 식별자
+     */
+    public void evict(Long couponId) {
+        states.remove(couponId);
+    }
+
+    private ReleaseState load(Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+        if (coupon.getReleaseSchedule() == null) {
+            return UNSCHEDULED;
+        }
+        return new ReleaseState(coupon.getReleaseSchedule(), coupon.getStartAt(), coupon.getTotalQuantity(),
+                new AtomicInteger(coupon.getIssuedQuantity()));
+    }
+
+    private record ReleaseState(CouponReleaseSchedule schedule, LocalDateTime startAt, int totalQuantity, AtomicInteger admitted) {
+        int releasedQuantity(LocalDateTime now) {
+            return schedule.releasedQuantity(startAt, totalQuantity, now);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰별 잔여 수량을 JVM 메모리의 원자적 카운터(permit)로 관리하는 재고 게이트입니다.
+ * 품절된 쿠폰에 대한 요청을 트랜잭션/DB 커넥션 획득 전에 차단하며, 최종 정합성은 DB 락 경로가 보장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponStockGate {
+    private final CouponRepository couponRepository;
+    private final ConcurrentMap<Long, AtomicInteger> permits = new ConcurrentHashMap<>();
+
+    /**
+     * 쿠폰의 발급 permit 을 하나 획득합니다.
+     * 최초 요청 시 DB 에서 (totalQuantity - issuedQuantity) 값으로 카운터를 초기화합니다.
+     *
+     * @param couponId 쿠폰 식별자
+     * @return permit 획득 성공 시 true, 잔여 수량이 없으면 false
+     * @throws BusinessException 쿠폰이 존재하지 않을 경우 (COUPON_NOT_FOUND)
+     */
+    public boolean tryAcquire(Long couponId) {
+        AtomicInteger remaining = permits.computeIfAbsent(couponId, this::loadRemaining);
+
+        int current;
+        do {
+            current = remaining.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!remaining.compareAndSet(current, current - 1));
+
+        return true;
+    }
+
+    /**
+     * 발급에 실패(트랜잭션 롤백)한 요청의 permit 을 반환합니다.
+     * @param couponId 쿠폰 식별자
+     */
+    public void release(Long couponId) {
+        AtomicInteger remaining = permits.get(couponId);
+        if (remaining != null) {
+            remaining.incrementAndGet();
+        }
+    }
+
+    /**
+     * DB 에서 품절이 확인된 쿠폰의 permit 을 모두 회수합니다.
+     * @param couponId 쿠폰 식별자
+     */
+    public void markSoldOut(Long couponId) {
+        AtomicInteger remaining = permits.get(couponId);
+        if (remaining != null) {
+            remaining.set(0);
+        }
+    }
+
+    /**
+     * 쿠폰의 카운터를 제거하여 다음 요청 시 DB 기준으로 다시 적재되도록 합니다.
+     * @param couponId 쿠폰 식별자
+     */
+    public void evict(Long couponId) {
+        permits.remove(couponId);
+    }
+
+    private AtomicInteger loadRemaining(Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+        return new AtomicInteger(Math.max(coupon.getTotalQuantity() - coupon.getIssuedQuantity(), 0));
+    }
+}
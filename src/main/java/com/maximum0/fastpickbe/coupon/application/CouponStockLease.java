@@ -0,0 +1,77 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한 노드가 쿠폰 행에서 빌려온 재고 묶음입니다.
+ * 잔여 수량을 CAS 로 차감하여 노드 안의 요청끼리는 DB 없이 수량을 나눠 가지며,
+ * 닫힌 리스는 더 이상 수량을 내주거나 돌려받지 않습니다.
+ */
+class CouponStockLease {
+    private static final int CLOSED = Integer.MIN_VALUE;
+
+    private final int granted;
+    private final Instant grantedAt;
+    private final Instant expiresAt;
+    private final AtomicInteger remaining;
+
+    CouponStockLease(int granted, Instant grantedAt, Duration ttl) {
+        this.granted = granted;
+        this.grantedAt = grantedAt;
+        this.expiresAt = grantedAt.plus(ttl);
+        this.remaining = new AtomicInteger(granted);
+    }
+
+    /**
+     * 리스에서 수량을 하나 차감합니다.
+     * @return 차감에 성공하면 true, 잔여 수량이 없거나 닫힌 리스면 false
+     */
+    boolean tryTake() {
+        int current;
+        do {
+            current = remaining.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!remaining.compareAndSet(current, current - 1));
+        return true;
+    }
+
+    /**
+     * 발급에 실패한 요청의 수량을 리스로 되돌립니다.
+     * @return 되돌렸으면 true, 이미 닫힌 리스면 false (호출자가 쿠폰으로 직접 반환해야 합니다)
+     */
+    boolean giveBack() {
+        int current;
+        do {
+            current = remaining.get();
+            if (current == CLOSED) {
+                return false;
+            }
+        } while (!remaining.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * 리스를 닫고 사용하지 않은 수량을 반환합니다. 이미 닫힌 리스면 0 을 반환합니다.
+     * @return 쿠폰으로 반환해야 할 미사용 수량
+     */
+    int close() {
+        int unused = remaining.getAndSet(CLOSED);
+        return unused == CLOSED ? 0 : unused;
+    }
+
+    int granted() {
+        return granted;
+    }
+
+    boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    Instant grantedAt() {
+        return grantedAt;
+    }
+}
@@ -0,0 +1,175 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 행에서 재고 묶음을 빌려와(리스) 노드 안에서 발급 수량을 선점하는 관리자입니다.
+ * 리스는 한 번의 원자적 UPDATE 로 쿠폰의 발급 수량에 미리 반영되므로, 여러 노드가 동시에 리스를 받아도
+ * 전체 발급 수량은 쿠폰의 전체 수량과 {@link CouponReleaseGate} 가 계산한 공개 수량을 넘지 않습니다. 리스의 미사용 재고는 만료 또는 종료 시 쿠폰으로 반환합니다.
+ * 다음 리스 크기는 직전 리스의 소진 속도로 리스 유지 시간 동안의 요청 수를 추정하여 정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponStockLeaseManager {
+    private final CouponRepository couponRepository;
+    private final CouponStockLeaseProperties couponStockLeaseProperties;
+    private final CouponReleaseGate couponReleaseGate;
+    private final Clock clock;
+    private final ConcurrentMap<Long, CouponStockLease> leases = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Integer> leaseSizes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Instant> exhaustedUntil = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Object> renewLocks = new ConcurrentHashMap<>();
+
+    /**
+     * 노드가 보유한 리스에서 수량을 하나 선점합니다.
+     * 리스가 없거나 소진되었으면 쿠폰별로 한 요청만 새 리스를 받아오고, 나머지 요청은 그 결과를 기다립니다.
+     *
+     * @param couponId 쿠폰 식별자
+     * @throws BusinessException 쿠폰에 빌려올 재고가 없을 경우 (COUPON_EXHAUSTED)
+     */
+    public void acquire(Long couponId) {
+        CouponStockLease lease = leases.get(couponId);
+        if (lease != null && lease.tryTake()) {
+            return;
+        }
+
+        synchronized (renewLockOf(couponId)) {
+            CouponStockLease current = leases.get(couponId);
+            if (current != null && current.tryTake()) {
+                return;
+            }
+
+            Instant now = clock.instant();
+            Instant backoffUntil = exhaustedUntil.get(couponId);
+            if (backoffUntil != null && now.isBefore(backoffUntil)) {
+                throw new BusinessException(ErrorCode.COUPON_EXHAUSTED);
+            }
+            if (current != null) {
+                retire(couponId, current, now);
+            }
+
+            int leaseSize = leaseSizes.getOrDefault(couponId, couponStockLeaseProperties.initialSize());
+            int granted = couponRepository.reserveQuantity(couponId, leaseSize, couponReleaseGate.releasedQuantity(couponId));
+            if (granted == 0) {
+                exhaustedUntil.put(couponId, now.plus(couponStockLeaseProperties.exhaustedBackoff()));
+                throw new BusinessException(ErrorCode.COUPON_EXHAUSTED);
+            }
+            exhaustedUntil.remove(couponId);
+
+            CouponStockLease renewed = new CouponStockLease(granted, now, couponStockLeaseProperties.ttl());
+            renewed.tryTake();
+            leases.put(couponId, renewed);
+        }
+    }
+
+    /**
+     * 발급에 실패한 요청이 선점했던 수량을 노드의 리스로 되돌립니다.
+     * 그 사이 리스가 만료되어 닫혔으면 쿠폰으로 직접 반환합니다.
+     *
+     * @param couponId 쿠폰 식별자
+     */
+    public void release(Long couponId) {
+        CouponStockLease lease = leases.get(couponId);
+        if (lease != null && lease.giveBack()) {
+            return;
+        }
+        returnToCoupon(couponId, 1);
+    }
+
+    /**
+     * 유지 시간이 지난 리스를 닫고 미사용 재고를 쿠폰으로 반환합니다.
+     * @return 반환한 재고 수량
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.lease.check-interval:1000}")
+    public int releaseExpired() {
+        if (leases.isEmpty()) {
+            return 0;
+        }
+        Instant now = clock.instant();
+        int released = 0;
+        for (Long couponId : leases.keySet()) {
+            CouponStockLease lease = leases.get(couponId);
+            if (lease == null || !lease.isExpired(now)) {
+                continue;
+            }
+            synchronized (renewLockOf(couponId)) {
+                if (leases.get(couponId) == lease) {
+                    released += retire(couponId, lease, now);
+                }
+            }
+        }
+        return released;
+    }
+
+    /**
+     * 노드가 종료될 때 보유한 모든 리스를 닫고 미사용 재고를 쿠폰으로 반환합니다.
+     * @return 반환한 재고 수량
+     */
+    @PreDestroy
+    public int releaseAll() {
+        int released = 0;
+        for (Long couponId : leases.keySet()) {
+            synchronized (renewLockOf(couponId)) {
+                CouponStockLease lease = leases.remove(couponId);
+                if (lease != null) {
+                    int unused = lease.close();
+                    returnToCoupon(couponId, unused);
+                    released += unused;
+                }
+            }
+        }
+        return released;
+    }
+
+    /**
+     * 리스를 닫아 미사용 재고를 반환하고, 리스의 소진 속도로 다음 리스 크기를 정합니다.
+     * 쿠폰별 갱신 잠금을 잡은 상태에서 호출해야 합니다.
+     */
+    private int retire(Long couponId, CouponStockLease lease, Instant now) {
+        leases.remove(couponId, lease);
+        int unused = lease.close();
+        leaseSizes.put(couponId, nextLeaseSize(lease.granted() - unused, Duration.between(lease.grantedAt(), now)));
+        returnToCoupon(couponId, unused);
+        return unused;
+    }
+
+    /**
+     * 직전 리스의 소진 속도가 리스 유지 시간 동안 이어진다고 보고 다음 리스 크기를 추정하며, 설정된 하한과 상한으로 제한합니다.
+     */
+    private int nextLeaseSize(int consumed, Duration elapsed) {
+        long elapsedMillis = Math.max(elapsed.toMillis(), 1);
+        long projected = (long) Math.ceil((double) consumed * couponStockLeaseProperties.ttl().toMillis() / elapsedMillis);
+        return (int) Math.min(Math.max(projected, couponStockLeaseProperties.minSize()), couponStockLeaseProperties.maxSize());
+    }
+
+    /**
+     * 미사용 재고를 쿠폰으로 반환합니다. 반환에 실패한 재고는 발급 수량에 남아 초과 발급 없이 발급되지 않은 채로 남습니다.
+     */
+    private void returnToCoupon(Long couponId, int quantity) {
+        if (quantity <= 0) {
+            return;
+        }
+        try {
+            couponRepository.releaseQuantity(couponId, quantity);
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 {} 의 리스 미사용 재고 {}개 반환에 실패했습니다", couponId, quantity, e);
+        }
+    }
+
+    private Object renewLockOf(Long couponId) {
+        return renewLocks.computeIfAbsent(couponId, id -> new Object());
+    }
+}
@@ -0,0 +1,25 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 재고 리스(LEASE) 발급 방식 설정입니다.
+ *
+ * @param initialSize      요청 빈도를 관측하기 전 처음 빌려오는 재고 크기
+ * @param minSize          빌려오는 재고 크기의 하한
+ * @param maxSize          빌려오는 재고 크기의 상한
+ * @param ttl              리스 유지 시간. 만료된 리스의 미사용 재고는 쿠폰으로 반환됩니다.
+ * @param checkInterval    만료 리스 반환 확인 간격(ms)
+ * @param exhaustedBackoff 쿠폰 재고가 없음을 확인한 뒤 다시 리스를 요청하기까지의 대기 시간
+ */
+@ConfigurationProperties(prefix = "coupon.issue.lease")
+public record CouponStockLeaseProperties(
+        @DefaultValue("50") int initialSize,
+        @DefaultValue("10") int minSize,
+        @DefaultValue("1000") int maxSize,
+        @DefaultValue("5s") Duration ttl,
+        @DefaultValue("1000") long checkInterval,
+        @DefaultValue("1s") Duration exhaustedBackoff
+) {}
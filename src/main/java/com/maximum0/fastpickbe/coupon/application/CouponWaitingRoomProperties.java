@@ -0,0 +1,36 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 쿠폰 발급 대기열 설정입니다.
+ *
+ * @param admissionRequired 발급 API 호출 시 입장 토큰을 요구할지 여부
+ * @param admitRate         쿠폰별 초당 입장 허용 인원 (노드마다 적용)
+ * @param admitInterval     대기열에서 입장 허용 인원을 꺼내는 주기
+ * @param admissionTtl      입장 토큰 유효 기간
+ */
+@ConfigurationProperties(prefix = "coupon.issue.waiting-room")
+public record CouponWaitingRoomProperties(
+        @DefaultValue("false") boolean admissionRequired,
+        @DefaultValue("100") int admitRate,
+        @DefaultValue("100ms") Duration admitInterval,
+        @DefaultValue("30s") Duration admissionTtl
+) {
+    /**
+     * 입장 허용 주기마다 꺼낼 인원 수를 계산합니다. 최소 1명입니다.
+     */
+    public int admitBatchSize() {
+        return (int) Math.max(1, admitRate * admitInterval.toMillis() / 1000);
+    }
+
+    /**
+     * 대기 순번에 해당하는 예상 대기 시간을 계산합니다.
+     * @param position 대기 순번 (1부터 시작)
+     */
+    public Duration estimatedWaitOf(long position) {
+        return Duration.ofMillis(position * 1000 / admitRate);
+    }
+}
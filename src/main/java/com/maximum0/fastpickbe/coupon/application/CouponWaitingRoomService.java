@@ -0,0 +1,117 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponAdmission;
+import com.maximum0.fastpickbe.coupon.domain.CouponWaitingRoom;
+import com.maximum0.fastpickbe.coupon.domain.CouponWaitingState;
+import com.maximum0.fastpickbe.user.domain.User;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 인기 쿠폰의 발급 시작 시점에 요청이 한꺼번에 DB 커넥션 풀로 몰리지 않도록 발급 대기열을 운영합니다.
+ * 사용자는 쿠폰별 FIFO 대기열에 입장하고, 설정된 속도({@link CouponWaitingRoomProperties#admitRate()})로 입장 토큰을 부여받은 뒤
+ * 토큰을 제출하여 발급 API 를 호출합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponWaitingRoomService {
+    private final CouponWaitingRoom couponWaitingRoom;
+    private final CouponEligibilityTable couponEligibilityTable;
+    private final CouponWaitingRoomProperties properties;
+    private final Clock clock;
+
+    /**
+     * 쿠폰 발급 대기열에 입장합니다. 발급 시작 전에도 입장할 수 있으며, 이미 입장한 사용자는 기존 순번을 유지합니다.
+     *
+     * @param couponId 쿠폰 식별자
+     * @param user     입장할 사용자
+     * @return CouponWaitingState 대기 순번과 예상 대기 시간, 또는 이미 부여된 입장 토큰
+     * @throws BusinessException 쿠폰이 없거나 사용 중지, 발급 기간 종료, 품절일 경우
+     */
+    public CouponWaitingState enter(Long couponId, User user) {
+        couponEligibilityTable.validateWaitable(couponId);
+        return couponWaitingRoom.findAdmission(couponId, user.getId())
+                .map(admission -> CouponWaitingState.admitted(couponId, admission))
+                .orElseGet(() -> waiting(couponId, couponWaitingRoom.enter(couponId, user.getId())));
+    }
+
+    /**
+     * 사용자의 대기 상태를 조회합니다. 입장 순서가 되면 입장 토큰을 함께 반환합니다.
+     *
+     * @param couponId 쿠폰 식별자
+     * @param user     조회할 사용자
+     * @return CouponWaitingState 대기 순번과 예상 대기 시간, 또는 부여된 입장 토큰
+     * @throws BusinessException 대기열에 없고 유효한 입장 토큰도 없을 경우 (COUPON_WAITING_NOT_FOUND)
+     */
+    public CouponWaitingState getState(Long couponId, User user) {
+        return couponWaitingRoom.findAdmission(couponId, user.getId())
+                .map(admission -> CouponWaitingState.admitted(couponId, admission))
+                .or(() -> couponWaitingRoom.positionOf(couponId, user.getId()).stream()
+                        .mapToObj(position -> waiting(couponId, position))
+                        .findFirst())
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_WAITING_NOT_FOUND));
+    }
+
+    /**
+     * 발급 요청에 제출된 입장 토큰을 검증합니다. 입장 토큰을 요구하지 않도록 설정된 경우 검증하지 않습니다.
+     * 토큰은 유효 기간 동안 재사용할 수 있으며, 중복 발급은 발급 경로의 중복 검증으로 거절됩니다.
+     *
+     * @param couponId       발급할 쿠폰 식별자
+     * @param user           발급 대상 사용자
+     * @param admissionToken 제출된 입장 토큰
+     * @throws BusinessException 토큰이 없거나 일치하지 않거나 만료된 경우 (COUPON_ADMISSION_REQUIRED)
+     */
+    public void verifyAdmission(Long couponId, User user, String admissionToken) {
+        if (!properties.admissionRequired()) {
+            return;
+        }
+        boolean admitted = admissionToken != null && couponWaitingRoom.findAdmission(couponId, user.getId())
+                .filter(admission -> admission.matches(admissionToken))
+                .isPresent();
+        if (!admitted) {
+            throw new BusinessException(ErrorCode.COUPON_ADMISSION_REQUIRED);
+        }
+    }
+
+    /**
+     * 발급이 시작된 쿠폰의 대기열에서 입장 허용 주기마다 정해진 인원을 꺼내 입장 토큰을 부여합니다.
+     * 삭제, 사용 중지되었거나 발급 기간이 끝난 쿠폰의 대기열은 닫아 다음 주기부터 순회하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.waiting-room.admit-interval:100}")
+    public void admit() {
+        for (Long couponId : couponWaitingRoom.couponIds()) {
+            try {
+                admit(couponId);
+            } catch (RuntimeException e) {
+                log.error("⛔️ [CouponWaitingRoomService] 쿠폰 {} 대기열 입장 처리 실패", couponId, e);
+            }
+        }
+    }
+
+    private void admit(Long couponId) {
+        if (couponEligibilityTable.hasEnded(couponId)) {
+            couponWaitingRoom.close(couponId);
+            return;
+        }
+        if (!couponEligibilityTable.hasStarted(couponId)) {
+            return;
+        }
+        List<Long> userIds = couponWaitingRoom.poll(couponId, properties.admitBatchSize());
+        LocalDateTime expiresAt = LocalDateTime.now(clock).plus(properties.admissionTtl());
+        for (Long userId : userIds) {
+            couponWaitingRoom.grant(couponId, userId, CouponAdmission.issue(expiresAt), properties.admissionTtl());
+        }
+    }
+
+    private CouponWaitingState waiting(Long couponId, long position) {
+        return CouponWaitingState.waiting(couponId, position, properties.estimatedWaitOf(position));
+    }
+}
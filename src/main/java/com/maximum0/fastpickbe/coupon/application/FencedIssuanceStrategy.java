@@ -0,0 +1,22 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponOwnershipFence;
+import com.maximum0.fastpickbe.user.domain.User;
+
+/**
+ * 쿠폰의 담당 노드가 펜싱 토큰으로 담당 세대를 검증하며 발급하는 방식입니다.
+ * 담당 노드가 쿠폰별로 발급을 직렬화하므로 수량 선점 없이 조건부 UPDATE 로 발급하며, 발급 지표도 조건부 UPDATE 방식으로 집계합니다.
+ */
+record FencedIssuanceStrategy(CouponIssueService couponIssueService, CouponOwnershipFence fence) implements IssuanceStrategy {
+
+    @Override
+    public CouponIssueMode mode() {
+        return CouponIssueMode.CONDITIONAL_UPDATE;
+    }
+
+    @Override
+    public Long issue(Long couponId, User user) {
+        return couponIssueService.issueFenced(couponId, user, fence);
+    }
+}
@@ -0,0 +1,25 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 쿠폰에 대한 동시 요청을 모아 하나의 트랜잭션으로 커밋합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupCommitIssuanceStrategy implements IssuanceStrategy {
+    private final CouponIssueCombiner couponIssueCombiner;
+
+    @Override
+    public CouponIssueMode mode() {
+        return CouponIssueMode.GROUP_COMMIT;
+    }
+
+    @Override
+    public Long issue(Long couponId, User user) {
+        return couponIssueCombiner.issue(couponId, user.getId());
+    }
+}
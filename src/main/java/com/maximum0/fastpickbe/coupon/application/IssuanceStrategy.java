@@ -0,0 +1,45 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.user.domain.User;
+
+/**
+ * 쿠폰 발급의 수량 차감/중복 검증 동시성 제어 방식입니다.
+ * {@link CouponIssueFacade} 는 쿠폰별 발급 방식({@link #mode()})에 해당하는 구현을 선택하여
+ * {@link #reserve} → {@link #issue} 순서로 호출하고, 발급이 실패하면 {@link #cancel} 을 호출합니다.
+ */
+public interface IssuanceStrategy {
+
+    /**
+     * @return 이 구현이 처리하는 발급 방식
+     */
+    CouponIssueMode mode();
+
+    /**
+     * DB 발급 전에 트랜잭션 밖에서 수량을 선점합니다. 선점 단계의 거절은 발급 가능 조건 테이블에 반영되지 않습니다.
+     * @param couponId 발급할 쿠폰 식별자
+     * @param userId   발급 대상 사용자 식별자
+     * @throws BusinessException 선점에 실패한 경우
+     */
+    default void reserve(Long couponId, Long userId) {
+    }
+
+    /**
+     * DB 에 발급 이력을 저장합니다.
+     * @param couponId 발급할 쿠폰 식별자
+     * @param user     발급 대상 사용자
+     * @return Long    생성된 발급 이력 ID
+     * @throws BusinessException 발급 조건 위반 시
+     */
+    Long issue(Long couponId, User user);
+
+    /**
+     * 발급에 실패한 요청이 선점했던 수량을 반환합니다.
+     * @param couponId 발급할 쿠폰 식별자
+     * @param userId   발급 대상 사용자 식별자
+     * @param cause    발급 실패 원인
+     */
+    default void cancel(Long couponId, Long userId, RuntimeException cause) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.coupon.domain.IssuedCouponRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰별 발급 사용자 식별자를 압축 비트맵(Roaring)으로 보관하는 레지스트리입니다.
+ * 최초 조회 시 tb_issued_coupon 에서 적재하고, 발급이 커밋된 뒤 사용자를 추가합니다.
+ * 비트맵에 있는 사용자는 확실히 발급받은 사용자이므로 락 획득 전에 거절할 수 있으며,
+ * 적재 시점 경합으로 누락된 사용자는 기존 DB 중복 검증이 걸러냅니다.
+ */
+@Component
+public class IssuedUserBitmapRegistry {
+    private static final double ONE_MILLION = 1_000_000d;
+
+    private final IssuedCouponRepository issuedCouponRepository;
+    private final ConcurrentMap<Long, Roaring64NavigableMap> bitmaps = new ConcurrentHashMap<>();
+
+    public IssuedUserBitmapRegistry(IssuedCouponRepository issuedCouponRepository, MeterRegistry meterRegistry) {
+        this.issuedCouponRepository = issuedCouponRepository;
+
+        Gauge.builder("coupon.issued.bitmap.bytes", this, IssuedUserBitmapRegistry::sizeInBytes)
+                .description("발급 사용자 비트맵 전체 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("coupon.issued.bitmap.cardinality", this, IssuedUserBitmapRegistry::cardinality)
+                .description("발급 사용자 비트맵에 적재된 전체 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("coupon.issued.bitmap.bytes.per.million", this, IssuedUserBitmapRegistry::bytesPerMillion)
+                .description("발급 사용자 100만 명당 비트맵 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자가 쿠폰을 이미 발급받았는지 확인합니다.
+     * @param couponId 쿠폰 식별자
+     * @param userId   사용자 식별자
+     * @return 발급 이력이 확인되면 true
+     */
+    public boolean isIssued(Long couponId, Long userId) {
+        Roaring64NavigableMap bitmap = bitmaps.computeIfAbsent(couponId, this::load);
+        synchronized (bitmap) {
+            return bitmap.contains(userId);
+        }
+    }
+
+    /**
+     * 커밋된 발급 이력을 비트맵에 반영합니다. 적재되지 않은 쿠폰은 다음 적재 시 DB 에서 읽어옵니다.
+     * @param couponId 쿠폰 식별자
+     * @param userId   사용자 식별자
+     */
+    public void markIssued(Long couponId, Long userId) {
+        Roaring64NavigableMap bitmap = bitmaps.get(couponId);
+        if (bitmap == null) {
+            return;
+        }
+        synchronized (bitmap) {
+            bitmap.addLong(userId);
+        }
+    }
+
+    /**
+     * 쿠폰의 비트맵을 제거합니다.
+     * @param couponId 쿠폰 식별자
+     */
+    public void evict(Long couponId) {
+        bitmaps.remove(couponId);
+    }
+
+    private Roaring64NavigableMap load(Long couponId) {
+        Roaring64NavigableMap bitmap = new Roaring64NavigableMap();
+        issuedCouponRepository.forEachIssuedUserId(couponId, bitmap::addLong);
+        bitmap.runOptimize();
+        return bitmap;
+    }
+
+    private double sizeInBytes() {
+        long bytes = 0;
+        for (Roaring64NavigableMap bitmap : bitmaps.values()) {
+            synchronized (bitmap) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+        }
+        return bytes;
+    }
+
+    private double cardinality() {
+        long cardinality = 0;
+        for (Roaring64NavigableMap bitmap : bitmaps.values()) {
+            synchronized (bitmap) {
+                cardinality += bitmap.getLongCardinality();
+            }
+        }
+        return cardinality;
+    }
+
+    private double bytesPerMillion() {
+        double cardinality = cardinality();
+        return cardinality == 0 ? 0 : sizeInBytes() / cardinality * ONE_MILLION;
+    }
+}
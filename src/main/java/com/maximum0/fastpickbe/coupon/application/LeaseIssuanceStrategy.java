@@ -0,0 +1,41 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드가 쿠폰 행에서 빌려온 재고 리스에서 수량을 선점한 뒤, 쿠폰 행을 잠그거나 갱신하지 않고 발급 이력을 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaseIssuanceStrategy implements IssuanceStrategy {
+    private final CouponStockLeaseManager couponStockLeaseManager;
+    private final CouponIssueService couponIssueService;
+
+    @Override
+    public CouponIssueMode mode() {
+        return CouponIssueMode.LEASE;
+    }
+
+    /**
+     * 노드의 재고 리스에서 수량을 선점합니다.
+     * @throws BusinessException 쿠폰에 빌려올 재고가 없을 경우 (COUPON_EXHAUSTED)
+     */
+    @Override
+    public void reserve(Long couponId, Long userId) {
+        couponStockLeaseManager.acquire(couponId);
+    }
+
+    @Override
+    public Long issue(Long couponId, User user) {
+        return couponIssueService.issueLeased(couponId, user);
+    }
+
+    @Override
+    public void cancel(Long couponId, Long userId, RuntimeException cause) {
+        couponStockLeaseManager.release(couponId);
+    }
+}
@@ -0,0 +1,27 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 행을 잠그지 않고 버전(@Version) 비교로 갱신하며, 충돌하면 새 트랜잭션으로 재시도합니다.
+ * 충돌이 드문 저수요 쿠폰에서 잠금 대기 없이 발급하기 위한 방식입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OptimisticLockIssuanceStrategy implements IssuanceStrategy {
+    private final CouponIssueService couponIssueService;
+    private final CouponLockRetryExecutor couponLockRetryExecutor;
+
+    @Override
+    public CouponIssueMode mode() {
+        return CouponIssueMode.OPTIMISTIC_LOCK;
+    }
+
+    @Override
+    public Long issue(Long couponId, User user) {
+        return couponLockRetryExecutor.execute(couponId, () -> couponIssueService.issueWithOptimisticLock(couponId, user));
+    }
+}
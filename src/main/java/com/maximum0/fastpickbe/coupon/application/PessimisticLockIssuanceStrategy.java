@@ -0,0 +1,55 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 게이트의 permit 을 획득한 요청만 쿠폰 행을 비관적 락으로 잠그고 발급합니다.
+ * 잠금 대기 한도를 넘기면 제한된 횟수만큼 새 트랜잭션으로 재시도합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PessimisticLockIssuanceStrategy implements IssuanceStrategy {
+    private final CouponStockGate couponStockGate;
+    private final CouponIssueService couponIssueService;
+    private final CouponLockRetryExecutor couponLockRetryExecutor;
+
+    @Override
+    public CouponIssueMode mode() {
+        return CouponIssueMode.PESSIMISTIC_LOCK;
+    }
+
+    /**
+     * @throws BusinessException 재고 게이트에서 소진이 확인될 경우 (COUPON_EXHAUSTED)
+     */
+    @Override
+    public void reserve(Long couponId, Long userId) {
+        if (!couponStockGate.tryAcquire(couponId)) {
+            throw new BusinessException(ErrorCode.COUPON_EXHAUSTED);
+        }
+    }
+
+    /**
+     * @throws BusinessException 잠금 재시도 한도 초과 시 (COUPON_ISSUE_BUSY)
+     */
+    @Override
+    public Long issue(Long couponId, User user) {
+        return couponLockRetryExecutor.execute(couponId, () -> couponIssueService.issue(couponId, user));
+    }
+
+    /**
+     * DB 에서 소진이 확인되면 게이트의 permit 을 모두 회수하고, 그 외 실패는 permit 을 반환합니다.
+     */
+    @Override
+    public void cancel(Long couponId, Long userId, RuntimeException cause) {
+        if (cause instanceof BusinessException e && e.getErrorCode() == ErrorCode.COUPON_EXHAUSTED) {
+            couponStockGate.markSoldOut(couponId);
+        } else {
+            couponStockGate.release(couponId);
+        }
+    }
+}
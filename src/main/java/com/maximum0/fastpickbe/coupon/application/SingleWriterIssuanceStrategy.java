@@ -0,0 +1,25 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰별 링 버퍼에 요청을 적재하고, 단일 작성자 스레드가 일괄 반영한 결과를 기다립니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleWriterIssuanceStrategy implements IssuanceStrategy {
+    private final CouponIssueRingBuffer couponIssueRingBuffer;
+
+    @Override
+    public CouponIssueMode mode() {
+        return CouponIssueMode.SINGLE_WRITER;
+    }
+
+    @Override
+    public Long issue(Long couponId, User user) {
+        return couponIssueRingBuffer.issue(couponId, user.getId());
+    }
+}
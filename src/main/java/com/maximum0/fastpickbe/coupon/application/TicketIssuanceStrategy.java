@@ -0,0 +1,25 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미리 생성된 티켓 행 하나를 SKIP LOCKED 로 선점하여 발급합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketIssuanceStrategy implements IssuanceStrategy {
+    private final CouponIssueService couponIssueService;
+
+    @Override
+    public CouponIssueMode mode() {
+        return CouponIssueMode.TICKET;
+    }
+
+    @Override
+    public Long issue(Long couponId, User user) {
+        return couponIssueService.issueWithTicket(couponId, user);
+    }
+}
@@ -1,9 +1,18 @@
 package com.maximum0.fastpickbe.coupon.application.admin;
 
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.application.CouponEligibilityTable;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueProperties;
+import com.maximum0.fastpickbe.coupon.application.CouponStockGate;
 import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaign;
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaignRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
 import com.maximum0.fastpickbe.coupon.domain.CouponKeyword;
 import com.maximum0.fastpickbe.coupon.domain.CouponKeywordRepository;
 import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponTicketRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,14 +25,27 @@ public class CouponAdminService {
     private final CouponRepository couponRepository;
     private final CouponKeywordRepository couponKeywordRepository;
     private final KeywordExtractor keywordExtractor;
+    private final CouponEligibilityTable couponEligibilityTable;
+    private final CouponStockGate couponStockGate;
+    private final CouponTicketRepository couponTicketRepository;
+    private final CouponIssueProperties couponIssueProperties;
+    private final CouponCampaignRepository couponCampaignRepository;
+    private final CouponCampaignProperties couponCampaignProperties;
 
     /**
      * 쿠폰을 생성하고 검색 최적화를 위한 키워드 인덱스를 저장합니다.
+     * 발급 방식이 지정되지 않은 쿠폰에는 현재 기본 발급 방식을 저장합니다.
+     * 티켓 행 발급 방식의 쿠폰이면 총 발행 수량만큼 발급 티켓 행을 함께 생성합니다.
      * @param coupon 생성할 쿠폰 엔티티
      * @return 생성된 쿠폰 식별자
+     * @throws BusinessException 소속시킬 캠페인이 존재하지 않을 경우 (COUPON_CAMPAIGN_NOT_FOUND)
      */
     @Transactional
     public Long createCoupon(Coupon coupon) {
+        if (coupon.getCampaignId() != null && !couponCampaignRepository.existsById(coupon.getCampaignId())) {
+            throw new BusinessException(ErrorCode.COUPON_CAMPAIGN_NOT_FOUND);
+        }
+        coupon.assignDefaultIssueMode(couponIssueProperties.mode());
         Coupon savedCoupon = couponRepository.save(coupon);
         List<String> keywords = keywordExtractor.extract(savedCoupon.getBrand(), savedCoupon.getTitle());
 
@@ -32,8 +54,45 @@ public class CouponAdminService {
                 .toList();
 
         couponKeywordRepository.saveAll(couponKeywords);
+        if (savedCoupon.getIssueMode() == CouponIssueMode.TICKET) {
+            couponTicketRepository.generate(savedCoupon.getId(), savedCoupon.getTotalQuantity());
+        }
+        couponEligibilityTable.refresh(savedCoupon);
 
         return savedCoupon.getId();
     }
 
+    /**
+     * 쿠폰을 사용 중지 처리하고, 발급 가능 조건 테이블에 즉시 반영합니다.
+     * 더 이상 발급하지 않는 쿠폰이므로 재고 게이트의 카운터도 제거합니다.
+     * 발급 트랜잭션과의 버전 충돌을 피하기 위해 쿠폰 행을 잠근 뒤 변경합니다.
+     * @param couponId 중지할 쿠폰 식별자
+     * @throws BusinessException 쿠폰이 존재하지 않을 경우 (COUPON_NOT_FOUND)
+     */
+    @Transactional
+    public void disableCoupon(Long couponId) {
+        Coupon coupon = couponRepository.findByIdWithLock(couponId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+
+        coupon.disable();
+        couponEligibilityTable.refresh(coupon);
+        couponStockGate.evict(couponId);
+    }
+
+    /**
+     * 여러 쿠폰이 함께 쓰는 발급 수량을 가진 캠페인을 생성합니다.
+     * 캠페인 수량은 설정된 수의 분할 행에 고르게 나누어 저장합니다.
+     * @param name          캠페인명
+     * @param totalQuantity 소속 쿠폰이 함께 쓰는 총 발급 수량
+     * @return 생성된 캠페인 식별자
+     * @throws BusinessException 총 수량이 1 미만일 경우 (INVALID_INPUT_VALUE)
+     */
+    @Transactional
+    public Long createCampaign(String name, int totalQuantity) {
+        CouponCampaign campaign = couponCampaignRepository.save(
+                CouponCampaign.create(name, totalQuantity, couponCampaignProperties.stripeCount()));
+        couponCampaignRepository.createStripes(campaign.getId(), campaign.initialStripeQuantities());
+        return campaign.getId();
+    }
+
 }
@@ -0,0 +1,88 @@
+package com.maximum0.fastpickbe.coupon.application.admin;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+/**
+ * 일괄 발급 대상 업로드 형식입니다. 한 줄에 사용자 한 명을 기술합니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum CouponBulkIssueFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String contentType;
+
+    /**
+     * 요청의 Content-Type 에 해당하는 업로드 형식을 찾습니다.
+     * @param contentType 요청 Content-Type (charset 등 파라미터 포함 가능)
+     * @return 업로드 형식
+     * @throws BusinessException 지원하지 않는 형식일 경우 (INVALID_INPUT_VALUE)
+     */
+    public static CouponBulkIssueFormat from(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            for (CouponBulkIssueFormat format : values()) {
+                if (MediaType.parseMediaType(format.contentType).isCompatibleWith(mediaType)) {
+                    return format;
+                }
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    /**
+     * 업로드 한 줄에서 사용자 식별자를 읽습니다.
+     * CSV 는 첫 번째 열을 사용하며 첫 줄이 숫자가 아니면 헤더로 보고 건너뜁니다.
+     * NDJSON 은 {@code {"userId": 1}} 형태의 객체 또는 숫자 하나를 허용합니다.
+     *
+     * @param line         업로드 한 줄
+     * @param firstLine    첫 줄 여부
+     * @param objectMapper NDJSON 파싱에 사용할 ObjectMapper
+     * @return 사용자 식별자 (빈 줄이거나 헤더면 null)
+     * @throws BusinessException 사용자 식별자를 읽을 수 없는 줄일 경우 (INVALID_INPUT_VALUE)
+     */
+    public Long parseUserId(String line, boolean firstLine, ObjectMapper objectMapper) {
+        String trimmed = line.strip();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        return switch (this) {
+            case CSV -> parseCsv(trimmed, firstLine);
+            case NDJSON -> parseNdjson(trimmed, objectMapper);
+        };
+    }
+
+    private static Long parseCsv(String line, boolean firstLine) {
+        int comma = line.indexOf(',');
+        String column = (comma < 0 ? line : line.substring(0, comma)).strip().replace("\"", "");
+        try {
+            return Long.parseLong(column);
+        } catch (NumberFormatException e) {
+            if (firstLine) {
+                return null;
+            }
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private static Long parseNdjson(String line, ObjectMapper objectMapper) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            JsonNode userId = node.isObject() ? node.get("userId") : node;
+            if (userId == null || !userId.canConvertToLong() || !userId.isIntegralNumber()) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            return userId.longValue();
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
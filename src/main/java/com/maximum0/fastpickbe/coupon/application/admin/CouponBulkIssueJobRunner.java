@@ -0,0 +1,38 @@
+package com.maximum0.fastpickbe.coupon.application.admin;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 완료되지 않은 일괄 발급 작업을 주기적으로 찾아 청크 단위로 발급합니다.
+ * 재시작이나 청크 실패 후에도 다음 실행에서 작업에 기록된 커서부터 이어서 처리합니다.
+ * 스케줄러 스레드를 오래 점유하지 않도록 한 번 실행에서는 설정된 수의 청크까지만 처리하고, 남은 청크는 다음 실행에서 이어서 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponBulkIssueJobRunner {
+    private final CouponBulkIssueJobRepository couponBulkIssueJobRepository;
+    private final CouponBulkIssueService couponBulkIssueService;
+    private final CouponBulkIssueProperties couponBulkIssueProperties;
+
+    @Scheduled(fixedDelayString = "${coupon.issue.bulk.run-interval:1000}")
+    public void run() {
+        int budget = couponBulkIssueProperties.chunksPerRun();
+        for (Long jobId : couponBulkIssueJobRepository.findUnfinishedIds()) {
+            if (budget <= 0) {
+                return;
+            }
+            try {
+                while (budget-- > 0 && couponBulkIssueService.issueNextChunk(jobId)) {
+                    // 남은 청크가 없거나, 작업이 중단되거나, 이번 실행의 청크 수를 모두 쓸 때까지 이어서 처리합니다.
+                }
+            } catch (RuntimeException e) {
+                log.warn("일괄 발급 작업 {} 의 청크 처리에 실패하여 다음 실행에서 마지막 커밋 지점부터 재개합니다", jobId, e);
+            }
+        }
+    }
+}
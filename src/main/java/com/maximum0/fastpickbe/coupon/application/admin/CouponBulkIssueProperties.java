@@ -0,0 +1,18 @@
+package com.maximum0.fastpickbe.coupon.application.admin;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 관리자 일괄 발급 작업 설정입니다.
+ *
+ * @param chunkSize   한 트랜잭션에서 처리할 대상 행 수 (업로드 적재 배치 크기로도 사용)
+ * @param runInterval 미완료 작업을 확인하는 간격(ms)
+ * @param chunksPerRun 한 번 실행에서 모든 작업을 합쳐 처리할 최대 청크 수
+ */
+@ConfigurationProperties(prefix = "coupon.issue.bulk")
+public record CouponBulkIssueProperties(
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("1000") long runInterval,
+        @DefaultValue("10") int chunksPerRun
+) {}
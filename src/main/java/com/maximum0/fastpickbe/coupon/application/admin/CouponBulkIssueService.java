@@ -0,0 +1,204 @@
+package com.maximum0.fastpickbe.coupon.application.admin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.application.CouponCampaignStock;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueProperties;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueChunk;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJob;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJobRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueTargetRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueOutboxRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponUserIssueCountRepository;
+import com.maximum0.fastpickbe.coupon.domain.IssuedCouponRepository;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 관리자가 업로드한 사용자 목록에 쿠폰을 일괄 발급합니다.
+ * 업로드는 스트림을 읽으면서 대상 행으로 적재만 하고, 발급은 {@link CouponBulkIssueJobRunner} 가 청크 단위 트랜잭션으로 처리합니다.
+ * 추첨 쿠폰의 당첨자 발급도 같은 작업으로 처리하며, 이때는 발행 기간 대신 응모 기간 종료 여부를 검증합니다.
+ * 이미 발급받은 사용자는 건너뛰므로 인당 발급 한도와 무관하게 사용자당 한 번만 발급하며, 발급된 사용자의 발급 횟수는 청크마다 배치 UPSERT 로 반영합니다.
+ * 청크는 쿠폰 행의 발급 수량으로만 재고를 선점하므로, 재고를 별도 저장소에 두는 발급 방식({@link #UNSUPPORTED_MODES})의 쿠폰은 일괄 발급하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CouponBulkIssueService {
+    /**
+     * 티켓 행, 발급 카운터, 링 버퍼의 메모리 쿠폰 상태처럼 쿠폰 행 밖에 재고를 두어 일괄 발급분을 알 수 없는 발급 방식입니다.
+     */
+    static final Set<CouponIssueMode> UNSUPPORTED_MODES = EnumSet.of(
+            CouponIssueMode.TICKET, CouponIssueMode.COUNTER, CouponIssueMode.SINGLE_WRITER);
+
+    private final CouponRepository couponRepository;
+    private final IssuedCouponRepository issuedCouponRepository;
+    private final CouponUserIssueCountRepository couponUserIssueCountRepository;
+    private final CouponIssueOutboxRepository couponIssueOutboxRepository;
+    private final CouponBulkIssueJobRepository couponBulkIssueJobRepository;
+    private final CouponBulkIssueTargetRepository couponBulkIssueTargetRepository;
+    private final CouponCampaignStock couponCampaignStock;
+    private final CouponBulkIssueProperties couponBulkIssueProperties;
+    private final CouponIssueProperties couponIssueProperties;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    /**
+     * 업로드 스트림을 한 줄씩 읽어 일괄 발급 대상으로 적재하고 발급 대기 상태의 작업을 생성합니다.
+     * 목록 전체를 메모리에 올리지 않고 청크 크기만큼 모아 JDBC 배치 INSERT 로 적재합니다.
+     *
+     * @param couponId 발급할 쿠폰 식별자
+     * @param format   업로드 형식
+     * @param content  업로드 스트림
+     * @return CouponBulkIssueJob 생성된 작업
+     * @throws BusinessException 쿠폰이 존재하지 않을 경우 (COUPON_NOT_FOUND),
+     *                           일괄 발급을 지원하지 않는 발급 방식의 쿠폰일 경우 (COUPON_BULK_ISSUE_NOT_SUPPORTED),
+     *                           읽을 수 없는 줄이 있을 경우 (INVALID_INPUT_VALUE)
+     */
+    @Transactional
+    public CouponBulkIssueJob createJob(Long couponId, CouponBulkIssueFormat format, InputStream content) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+        validateBulkIssuable(coupon);
+        CouponBulkIssueJob job = couponBulkIssueJobRepository.save(CouponBulkIssueJob.create(couponId));
+
+        int chunkSize = couponBulkIssueProperties.chunkSize();
+        List<Long> buffer = new ArrayList<>(chunkSize);
+        long totalCount = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8))) {
+            boolean firstLine = true;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Long userId = format.parseUserId(line, firstLine, objectMapper);
+                firstLine = false;
+                if (userId == null) {
+                    continue;
+                }
+                buffer.add(userId);
+                if (buffer.size() == chunkSize) {
+                    couponBulkIssueTargetRepository.appendAll(job.getId(), buffer);
+                    totalCount += buffer.size();
+                    buffer.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        couponBulkIssueTargetRepository.appendAll(job.getId(), buffer);
+        totalCount += buffer.size();
+
+        job.staged(totalCount);
+        return job;
+    }
+
+    /**
+     * 일괄 발급 작업의 진행 상태를 조회합니다.
+     * @param jobId 작업 식별자
+     * @return CouponBulkIssueJob 작업
+     * @throws BusinessException 작업이 존재하지 않을 경우 (COUPON_BULK_ISSUE_JOB_NOT_FOUND)
+     */
+    public CouponBulkIssueJob getJob(Long jobId) {
+        return couponBulkIssueJobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_BULK_ISSUE_JOB_NOT_FOUND));
+    }
+
+    /**
+     * 작업의 다음 청크를 하나의 트랜잭션에서 발급합니다.
+     * 이미 발급받은 사용자를 제외한 뒤 청크당 한 번의 UPDATE 로 수량을 선점하고, 선점한 수만큼 다건 INSERT 로 저장합니다.
+     * 캠페인에 소속된 쿠폰은 캠페인 잔여 수량을 먼저 선점한 뒤 그 수량까지만 쿠폰 수량을 선점하고, 쿠폰 수량이 부족해 쓰지 못한 캠페인 수량은 되돌립니다.
+     * 작업의 커서는 같은 트랜잭션에서 갱신되므로, 중단되더라도 마지막으로 커밋된 청크 다음부터 재개합니다.
+     * 작업 생성 이후 쿠폰의 발급 방식이 일괄 발급을 지원하지 않는 방식으로 바뀌었으면 COUPON_BULK_ISSUE_NOT_SUPPORTED 로 작업을 중단합니다.
+     * 다른 노드가 처리 중인 작업(행 잠금)은 건너뜁니다.
+     *
+     * @param jobId 작업 식별자
+     * @return 처리할 청크가 남아 있으면 true
+     */
+    @Transactional
+    public boolean issueNextChunk(Long jobId) {
+        Optional<CouponBulkIssueJob> locked = couponBulkIssueJobRepository.findByIdForUpdateSkipLocked(jobId);
+        if (locked.isEmpty() || locked.get().isFinished()) {
+            return false;
+        }
+        CouponBulkIssueJob job = locked.get();
+
+        CouponBulkIssueChunk chunk = couponBulkIssueTargetRepository.findChunk(jobId, job.getLastTargetId(), couponBulkIssueProperties.chunkSize());
+        if (chunk.isEmpty()) {
+            job.complete();
+            couponBulkIssueTargetRepository.deleteAllByJobId(jobId);
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        Long couponId = job.getCouponId();
+        Coupon coupon;
+        try {
+            coupon = couponRepository.findById(couponId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+            validateBulkIssuable(coupon);
+            if (coupon.getIssueMode() == CouponIssueMode.RAFFLE) {
+                coupon.validateDrawable(now);
+            } else {
+                coupon.validateIssuanceStatus(now);
+            }
+        } catch (BusinessException e) {
+            return stop(job, e.getErrorCode());
+        }
+
+        Set<Long> issuedUserIds = issuedCouponRepository.findIssuedUserIds(couponId, chunk.userIds());
+        List<Long> candidates = chunk.userIds().stream()
+                .filter(userId -> !issuedUserIds.contains(userId))
+                .toList();
+
+        int campaignGranted = couponCampaignStock.reserveUpTo(couponId, couponId, candidates.size());
+        int granted = campaignGranted == 0 ? 0 : couponRepository.reserveQuantity(couponId, campaignGranted, coupon.releasedQuantity(now));
+        couponCampaignStock.release(couponId, couponId, campaignGranted - granted);
+        List<Long> targetUserIds = candidates.subList(0, granted);
+        couponUserIssueCountRepository.incrementAll(couponId, targetUserIds);
+        Map<Long, Long> issuedIds = issuedCouponRepository.insertAll(couponId, targetUserIds, now);
+        couponIssueOutboxRepository.appendAll(couponId, issuedIds, now);
+
+        job.advance(chunk.lastTargetId(), chunk.size(), granted);
+        if (granted < campaignGranted) {
+            return stop(job, ErrorCode.COUPON_EXHAUSTED);
+        }
+        if (campaignGranted < candidates.size()) {
+            return stop(job, ErrorCode.COUPON_CAMPAIGN_EXHAUSTED);
+        }
+        return true;
+    }
+
+    /**
+     * 쿠폰에 지정된 발급 방식(미지정 시 기본 발급 방식)이 쿠폰 행의 발급 수량으로 재고를 선점할 수 있는 방식인지 검증합니다.
+     * @throws BusinessException 일괄 발급을 지원하지 않는 발급 방식일 경우 (COUPON_BULK_ISSUE_NOT_SUPPORTED)
+     */
+    private void validateBulkIssuable(Coupon coupon) {
+        if (UNSUPPORTED_MODES.contains(coupon.resolveIssueMode(couponIssueProperties.mode()))) {
+            throw new BusinessException(ErrorCode.COUPON_BULK_ISSUE_NOT_SUPPORTED);
+        }
+    }
+
+    private boolean stop(CouponBulkIssueJob job, ErrorCode reason) {
+        job.fail(reason);
+        couponBulkIssueTargetRepository.deleteAllByJobId(job.getId());
+        return false;
+    }
+}
@@ -0,0 +1,14 @@
+package com.maximum0.fastpickbe.coupon.application.admin;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 캠페인 공유 수량 설정입니다.
+ *
+ * @param stripeCount 캠페인 생성 시 캠페인 수량을 나누어 관리할 분할 행 수
+ */
+@ConfigurationProperties(prefix = "coupon.issue.campaign")
+public record CouponCampaignProperties(
+        @DefaultValue("16") int stripeCount
+) {}
@@ -4,6 +4,7 @@ import com.maximum0.fastpickbe.common.domain.BaseEntity;
 import com.maximum0.fastpickbe.common.exception.BusinessException;
 import com.maximum0.fastpickbe.common.exception.ErrorCode;
 import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -11,11 +12,13 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Entity
@@ -57,12 +60,30 @@ public class Coupon extends BaseEntity {
     @Column(nullable = false)
     private LocalDateTime endAt;
 
+    @Column(name = "entry_end_at")
+    private LocalDateTime entryEndAt;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private CouponUseStatus useStatus;
 
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private CouponIssueMode issueMode;
+
+    @Embedded
+    private CouponReleaseSchedule releaseSchedule;
+
+    @Column(name = "campaign_id")
+    private Long campaignId;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     @Builder(access = AccessLevel.PRIVATE)
-    public Coupon(Long id, String brand, String title, String summary, String description, int totalQuantity, int issuedQuantity, LocalDateTime startAt, LocalDateTime endAt, CouponUseStatus useStatus) {
+    public Coupon(Long id, String brand, String title, String summary, String description, int totalQuantity, int issuedQuantity, LocalDateTime startAt, LocalDateTime endAt, CouponUseStatus useStatus, CouponIssueMode issueMode, CouponReleaseSchedule releaseSchedule, LocalDateTime entryEndAt) {
         this.id = id;
         this.brand = brand;
         this.title = title;
@@ -75,6 +96,9 @@ public class Coupon extends BaseEntity {
         this.startAt = startAt;
         this.endAt = endAt;
         this.useStatus = useStatus;
+        this.issueMode = issueMode;
+        this.releaseSchedule = releaseSchedule;
+        this.entryEndAt = entryEndAt;
     }
 
     // --- 정적 팩토리 메서드 ---
@@ -92,6 +116,62 @@ public class Coupon extends BaseEntity {
                 .build();
     }
 
+    public static Coupon create(String brand, String title, String summary, String description, int totalQuantity, LocalDateTime startAt, LocalDateTime endAt, CouponIssueMode issueMode) {
+        return Coupon.builder()
+                .brand(brand)
+                .title(title)
+                .summary(summary)
+                .description(description)
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(0)
+                .startAt(startAt)
+                .endAt(endAt)
+                .useStatus(CouponUseStatus.AVAILABLE)
+                .issueMode(issueMode)
+                .build();
+    }
+
+    /**
+     * 총 발행 수량을 공개 일정에 따라 나누어 공개하는 쿠폰을 생성합니다.
+     * @throws BusinessException 회차 공개 일정의 공개 수량 합계가 총 발행 수량보다 적거나, 추첨 쿠폰에 공개 일정을 지정한 경우 (INVALID_INPUT_VALUE)
+     */
+    public static Coupon create(String brand, String title, String summary, String description, int totalQuantity, LocalDateTime startAt, LocalDateTime endAt, CouponIssueMode issueMode, CouponReleaseSchedule releaseSchedule) {
+        return create(brand, title, summary, description, totalQuantity, startAt, endAt, issueMode, releaseSchedule, null);
+    }
+
+    /**
+     * 응모 마감 시각을 지정하여 쿠폰을 생성합니다.
+     * 추첨 쿠폰은 발급 시작 시각부터 응모 마감 시각까지 응모를 받고, 당첨자에게 발급된 쿠폰은 종료 시각까지 사용할 수 있습니다.
+     * @param entryEndAt 추첨 쿠폰의 응모 마감 시각 (추첨 쿠폰이 아니면 null)
+     * @throws BusinessException 공개 일정이 잘못되었거나, 추첨 쿠폰의 응모 마감 시각이 발급 기간 안에 있지 않거나,
+     *                           추첨 쿠폰이 아닌데 응모 마감 시각을 지정한 경우 (INVALID_INPUT_VALUE)
+     */
+    public static Coupon create(String brand, String title, String summary, String description, int totalQuantity, LocalDateTime startAt, LocalDateTime endAt, CouponIssueMode issueMode, CouponReleaseSchedule releaseSchedule, LocalDateTime entryEndAt) {
+        if (releaseSchedule != null && (issueMode == CouponIssueMode.RAFFLE || releaseSchedule.finalReleasedQuantity(totalQuantity) < totalQuantity)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (issueMode != null && (issueMode == CouponIssueMode.RAFFLE) != (entryEndAt != null)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (entryEndAt != null && (!entryEndAt.isAfter(startAt) || !entryEndAt.isBefore(endAt))) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return Coupon.builder()
+                .brand(brand)
+                .title(title)
+                .summary(summary)
+                .description(description)
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(0)
+                .startAt(startAt)
+                .endAt(endAt)
+                .useStatus(CouponUseStatus.AVAILABLE)
+                .issueMode(issueMode)
+                .releaseSchedule(releaseSchedule)
+                .entryEndAt(entryEndAt)
+                .build();
+    }
+
     public static Coupon create(String brand, String title, String summary, String description, int totalQuantity, int issuedQuantity, LocalDateTime startAt, LocalDateTime endAt) {
         return Coupon.builder()
                 .brand(brand)
@@ -141,14 +221,48 @@ public class Coupon extends BaseEntity {
         return !now.isBefore(endAt);
     }
 
+    /**
+     * 추첨 쿠폰의 응모 기간이 끝났는지 확인합니다.
+     * @param now 기준 시간
+     * @return 응모 마감 시각이 지정되어 있고 현재 시각 >= 응모 마감 시각이면 true
+     */
+    public boolean isEntryClosed(LocalDateTime now) {
+        return entryEndAt != null && !now.isBefore(entryEndAt);
+    }
+
     /**
      * 쿠폰이 소진(품절) 상태인지 확인합니다.
-     * @return 발행 수량 >= 전체 수량이면 true
+     * 리스 방식 쿠폰의 발행 수량에는 노드가 빌려간 미발급 재고가 포함되므로, 발급 이력 기준으로 보정된 품절 여부로 판단합니다.
+     * @return 발행 수량 >= 전체 수량이면 true (리스 방식 쿠폰은 품절 처리되었으면 true)
      */
     public boolean isExhausted() {
+        if (issueMode == CouponIssueMode.LEASE) {
+            return isSoldOut;
+        }
         return issuedQuantity >= totalQuantity;
     }
 
+    /**
+     * 현재 시각까지 공개된 수량을 계산합니다. 공개 일정이 없으면 총 발행 수량 전체가 공개된 것으로 봅니다.
+     * @param now 기준 시간
+     * @return 공개된 수량
+     */
+    public int releasedQuantity(LocalDateTime now) {
+        if (releaseSchedule == null) {
+            return totalQuantity;
+        }
+        return releaseSchedule.releasedQuantity(startAt, totalQuantity, now);
+    }
+
+    /**
+     * 현재 시각까지 공개된 수량이 모두 발급되었는지 확인합니다.
+     * @param now 기준 시간
+     * @return 발행 수량 >= 공개된 수량이면 true
+     */
+    public boolean isReleasedExhausted(LocalDateTime now) {
+        return issuedQuantity >= releasedQuantity(now);
+    }
+
     /**
      * 현재 쿠폰의 상태를 동적으로 계산하여 반환합니다.
      * @param now 기준 시간
@@ -162,22 +276,80 @@ public class Coupon extends BaseEntity {
         return CouponStatus.ISSUING;
     }
 
+    /**
+     * 발급 방식이 지정되지 않은 쿠폰에 기본 발급 방식을 지정합니다.
+     * 생성 시점의 기본 발급 방식을 쿠폰에 저장하여, 이후 기본 발급 방식 설정이 바뀌어도 이미 만든 쿠폰의 발급 방식이 바뀌지 않게 합니다.
+     * 발급 방식이 정해지기 전에 지정된 인당 발급 한도는 이 시점에 기본 발급 방식으로 검증합니다.
+     * @param defaultMode 기본 발급 방식
+     * @throws BusinessException 기본 발급 방식이 응모 마감 일시 지정 여부나 인당 발급 한도와 맞지 않을 경우 (INVALID_INPUT_VALUE)
+     */
+    public void assignDefaultIssueMode(CouponIssueMode defaultMode) {
+        if (issueMode != null) {
+            return;
+        }
+        if ((defaultMode == CouponIssueMode.RAFFLE) != (entryEndAt != null)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (limitPerUser > 1 && !defaultMode.isRepeatIssuable()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        this.issueMode = defaultMode;
+    }
+
+    /**
+     * 쿠폰에 지정된 발급 방식을 반환합니다.
+     * @param defaultMode 쿠폰에 발급 방식이 지정되지 않았을 때 사용할 기본 발급 방식
+     * @return 쿠폰의 발급 방식
+     */
+    public CouponIssueMode resolveIssueMode(CouponIssueMode defaultMode) {
+        return issueMode != null ? issueMode : defaultMode;
+    }
+
     // --- 비즈니스 행위 로직 ---
 
     /**
      * 쿠폰 발행 조건을 검증합니다.
+     * 공개 일정이 있는 쿠폰은 현재 시각까지 공개된 수량을 넘어 발급할 수 없습니다.
      * @param now 기준 시간
      * @throws BusinessException 조건 위반 시 적절한 에러 발생
      */
     public void validateIssuanceCondition(LocalDateTime now) {
+        validateIssuanceStatus(now);
+        if (isExhausted()) {
+            throw new BusinessException(ErrorCode.COUPON_EXHAUSTED);
+        }
+        if (isReleasedExhausted(now)) {
+            throw new BusinessException(ErrorCode.COUPON_STOCK_NOT_RELEASED);
+        }
+    }
+
+    /**
+     * 수량을 제외한 발행 조건(사용 상태, 발행 기간)을 검증합니다.
+     * 수량 차감을 외부 카운터가 담당하는 경우에 사용합니다.
+     * @param now 기준 시간
+     * @throws BusinessException 조건 위반 시 적절한 에러 발생
+     */
+    public void validateIssuanceStatus(LocalDateTime now) {
         if (this.useStatus == CouponUseStatus.DISABLED) {
             throw new BusinessException(ErrorCode.COUPON_DISABLED);
         }
         if (isReady(now) || isExpired(now)) {
             throw new BusinessException(ErrorCode.COUPON_NOT_AVAILABLE_PERIOD);
         }
-        if (isExhausted()) {
-            throw new BusinessException(ErrorCode.COUPON_EXHAUSTED);
+    }
+
+    /**
+     * 추첨 쿠폰의 당첨자 발급 조건(사용 상태, 응모 기간 종료, 사용 기간)을 검증합니다.
+     * 추첨 쿠폰은 응모 마감 시각이 지난 뒤 발급되며, 당첨자가 사용할 수 있도록 종료 시각 전까지만 발급합니다.
+     * @param now 기준 시간
+     * @throws BusinessException 사용 중지된 경우 (COUPON_DISABLED), 응모 기간이 끝나지 않았거나 종료 시각이 지난 경우 (COUPON_NOT_AVAILABLE_PERIOD)
+     */
+    public void validateDrawable(LocalDateTime now) {
+        if (this.useStatus == CouponUseStatus.DISABLED) {
+            throw new BusinessException(ErrorCode.COUPON_DISABLED);
+        }
+        if (!isEntryClosed(now) || isExpired(now)) {
+            throw new BusinessException(ErrorCode.COUPON_NOT_AVAILABLE_PERIOD);
         }
     }
 
@@ -195,6 +367,43 @@ public class Coupon extends BaseEntity {
         }
     }
 
+    /**
+     * 쿠폰을 캠페인에 소속시킵니다. 캠페인 수량과 발급 수량이 어긋나지 않도록 발급 전에만 소속시킬 수 있습니다.
+     * @param campaignId 소속될 캠페인 식별자
+     * @throws BusinessException 이미 발급된 쿠폰일 경우 (INVALID_INPUT_VALUE)
+     */
+    public void joinCampaign(Long campaignId) {
+        if (this.issuedQuantity > 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        this.campaignId = campaignId;
+    }
+
+    /**
+     * 사용자 한 명이 발급받을 수 있는 최대 횟수를 변경합니다. 발급된 횟수와 한도가 어긋나지 않도록 발급 전에만 변경할 수 있습니다.
+     * 2 이상의 한도는 발급 요청마다 사용자별 발급 횟수를 검증하는 발급 방식({@link CouponIssueMode#isRepeatIssuable()})에만 지정할 수 있습니다.
+     * 발급 방식이 아직 정해지지 않은 쿠폰은 {@link #assignDefaultIssueMode} 에서 기본 발급 방식으로 검증합니다.
+     * @param limitPerUser 인당 발급 한도
+     * @throws BusinessException 한도가 1 미만이거나, 이미 발급된 쿠폰이거나, 발급 방식이 여러 번 발급을 지원하지 않을 경우 (INVALID_INPUT_VALUE)
+     */
+    public void changeLimitPerUser(int limitPerUser) {
+        if (limitPerUser < 1 || this.issuedQuantity > 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (limitPerUser > 1 && issueMode != null && !issueMode.isRepeatIssuable()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        this.limitPerUser = limitPerUser;
+    }
+
+    /**
+     * 한 사용자에게 여러 번 발급할 수 있는 쿠폰인지 확인합니다.
+     * @return 인당 발급 한도가 2 이상이면 true
+     */
+    public boolean isRepeatIssuable() {
+        return limitPerUser > 1;
+    }
+
     /**
      * 쿠폰을 중단(비활성화) 처리합니다.
      * 관리자에 의해 쿠폰 발급 및 조회를 제한할 때 사용합니다.
@@ -0,0 +1,32 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 발급 대기열을 통과한 사용자에게 부여되는 단기 입장 토큰입니다.
+ *
+ * @param token     발급 API 호출 시 제출할 토큰 값
+ * @param expiresAt 토큰 만료 시각
+ */
+public record CouponAdmission(
+        String token,
+        LocalDateTime expiresAt
+) {
+    /**
+     * 새로운 입장 토큰을 생성합니다.
+     * @param expiresAt 토큰 만료 시각
+     * @return CouponAdmission 생성된 입장 토큰
+     */
+    public static CouponAdmission issue(LocalDateTime expiresAt) {
+        return new CouponAdmission(UUID.randomUUID().toString(), expiresAt);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    public boolean matches(String token) {
+        return this.token.equals(token);
+    }
+}
@@ -0,0 +1,20 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.util.List;
+
+/**
+ * 일괄 발급 작업에서 한 번에 처리할 대상 행 묶음입니다.
+ *
+ * @param lastTargetId 청크의 마지막 대상 행 ID (다음 청크의 시작 커서)
+ * @param size         청크의 대상 행 수 (중복, 존재하지 않는 사용자 포함)
+ * @param userIds      청크에서 처음 등장한 순서대로 중복을 제거한, 존재하는 사용자 식별자 목록
+ */
+public record CouponBulkIssueChunk(
+        long lastTargetId,
+        int size,
+        List<Long> userIds
+) {
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
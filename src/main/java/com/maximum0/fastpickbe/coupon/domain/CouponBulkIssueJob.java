@@ -0,0 +1,119 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import com.maximum0.fastpickbe.common.domain.BaseEntity;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관리자가 업로드한 사용자 목록에 쿠폰을 일괄 발급하는 작업입니다.
+ * 업로드된 대상은 {@link CouponBulkIssueTarget} 에 적재되고, 작업은 대상 행을 청크 단위로 발급하며
+ * 청크가 커밋될 때마다 마지막으로 처리한 대상 행 ID 를 기록하여 중단되더라도 다음 청크부터 이어서 처리합니다.
+ */
+@Entity
+@Table(name = "tb_coupon_bulk_issue_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponBulkIssueJob extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private CouponBulkIssueJobStatus status;
+
+    @Column(nullable = false)
+    private long totalCount;
+
+    @Column(nullable = false)
+    private long processedCount;
+
+    @Column(nullable = false)
+    private long issuedCount;
+
+    @Column(nullable = false)
+    private long lastTargetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private ErrorCode failureCode;
+
+    private CouponBulkIssueJob(Long couponId) {
+        this.couponId = couponId;
+        this.status = CouponBulkIssueJobStatus.PENDING;
+    }
+
+    /**
+     * 발급 대기 상태의 일괄 발급 작업을 생성합니다.
+     * @param couponId 발급할 쿠폰 식별자
+     * @return CouponBulkIssueJob 생성된 작업
+     */
+    public static CouponBulkIssueJob create(Long couponId) {
+        return new CouponBulkIssueJob(couponId);
+    }
+
+    public static CouponBulkIssueJob forTest(Long id, Long couponId) {
+        CouponBulkIssueJob job = new CouponBulkIssueJob(couponId);
+        job.id = id;
+        return job;
+    }
+
+    /**
+     * 업로드가 끝난 대상 수를 기록합니다.
+     * @param totalCount 적재된 대상 행 수 (중복 포함)
+     */
+    public void staged(long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * 커밋된 청크의 처리 결과를 반영합니다.
+     * @param lastTargetId 청크에서 마지막으로 처리한 대상 행 ID
+     * @param processed    청크의 대상 행 수
+     * @param issued       청크에서 발급된 수
+     */
+    public void advance(long lastTargetId, int processed, int issued) {
+        this.status = CouponBulkIssueJobStatus.RUNNING;
+        this.lastTargetId = lastTargetId;
+        this.processedCount += processed;
+        this.issuedCount += issued;
+    }
+
+    public void complete() {
+        this.status = CouponBulkIssueJobStatus.COMPLETED;
+    }
+
+    /**
+     * 더 이상 발급할 수 없는 사유(품절, 사용 중지 등)로 작업을 중단합니다.
+     * @param failureCode 중단 사유
+     */
+    public void fail(ErrorCode failureCode) {
+        this.status = CouponBulkIssueJobStatus.FAILED;
+        this.failureCode = failureCode;
+    }
+
+    public boolean isFinished() {
+        return status == CouponBulkIssueJobStatus.COMPLETED || status == CouponBulkIssueJobStatus.FAILED;
+    }
+
+    /**
+     * 처리했지만 발급하지 않은 대상 수 (이미 발급받은 사용자, 존재하지 않는 사용자, 목록 내 중복)
+     * @return 건너뛴 대상 수
+     */
+    public long getSkippedCount() {
+        return processedCount - issuedCount;
+    }
+}
@@ -0,0 +1,12 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CouponBulkIssueJobRepository {
+    CouponBulkIssueJob save(CouponBulkIssueJob job);
+    Optional<CouponBulkIssueJob> findById(Long id);
+    Optional<CouponBulkIssueJob> findByIdForUpdateSkipLocked(Long id);
+    List<Long> findUnfinishedIds();
+    void deleteAllInBatch();
+}
@@ -0,0 +1,18 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 관리자 일괄 발급 작업의 처리 상태입니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum CouponBulkIssueJobStatus {
+    PENDING("발급 대기"),
+    RUNNING("발급 중"),
+    COMPLETED("발급 완료"),
+    FAILED("발급 중단");
+
+    private final String description;
+}
@@ -0,0 +1,35 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 발급 작업에 업로드된 대상 사용자 한 명을 나타내는 행입니다.
+ * 업로드 순서대로 증가하는 ID 가 작업의 진행 위치(커서)로 사용되며, 작업이 끝나면 삭제됩니다.
+ */
+@Entity
+@Table(
+        name = "tb_coupon_bulk_issue_target",
+        indexes = @Index(name = "idx_coupon_bulk_issue_target_job", columnList = "job_id, id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponBulkIssueTarget {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+}
@@ -0,0 +1,10 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.util.List;
+
+public interface CouponBulkIssueTargetRepository {
+    void appendAll(Long jobId, List<Long> userIds);
+    CouponBulkIssueChunk findChunk(Long jobId, long afterTargetId, int chunkSize);
+    int deleteAllByJobId(Long jobId);
+    void deleteAllInBatch();
+}
@@ -0,0 +1,73 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import com.maximum0.fastpickbe.common.domain.BaseEntity;
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 쿠폰이 하나의 발급 수량을 나누어 쓰는 캠페인입니다.
+ * 캠페인 수량은 {@link CouponCampaignStripe} 여러 행으로 나누어 관리하여, 소속 쿠폰의 발급이 하나의 행 잠금에 직렬화되지 않도록 합니다.
+ * 소속 쿠폰은 각자의 총 발행 수량과 캠페인 잔여 수량을 모두 넘지 않는 범위에서만 발급됩니다.
+ */
+@Entity
+@Table(name = "tb_coupon_campaign")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponCampaign extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 100, nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private int totalQuantity;
+
+    @Column(nullable = false)
+    private int stripeCount;
+
+    private CouponCampaign(String name, int totalQuantity, int stripeCount) {
+        this.name = name;
+        this.totalQuantity = totalQuantity;
+        this.stripeCount = stripeCount;
+    }
+
+    /**
+     * 캠페인을 생성합니다. 분할 행 수는 총 수량을 넘지 않도록 조정합니다.
+     * @param name          캠페인명
+     * @param totalQuantity 소속 쿠폰이 함께 쓰는 총 발급 수량
+     * @param stripeCount   캠페인 수량을 나누어 관리할 행 수
+     * @return CouponCampaign 생성된 캠페인
+     * @throws BusinessException 총 수량이나 분할 행 수가 1 미만일 경우 (INVALID_INPUT_VALUE)
+     */
+    public static CouponCampaign create(String name, int totalQuantity, int stripeCount) {
+        if (totalQuantity < 1 || stripeCount < 1) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return new CouponCampaign(name, totalQuantity, Math.min(stripeCount, totalQuantity));
+    }
+
+    public static CouponCampaign forTest(Long id, String name, int totalQuantity, int stripeCount) {
+        CouponCampaign campaign = new CouponCampaign(name, totalQuantity, stripeCount);
+        campaign.id = id;
+        return campaign;
+    }
+
+    /**
+     * 캠페인 생성 시 각 분할 행에 배정할 수량을 계산합니다.
+     * @return 분할 행 번호 순서의 배정 수량
+     */
+    public int[] initialStripeQuantities() {
+        return CouponCampaignStripe.distribute(totalQuantity, stripeCount);
+    }
+}
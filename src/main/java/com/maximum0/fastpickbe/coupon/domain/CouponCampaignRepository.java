@@ -0,0 +1,16 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.util.Optional;
+
+public interface CouponCampaignRepository {
+    CouponCampaign save(CouponCampaign campaign);
+    Optional<CouponCampaign> findById(Long id);
+    boolean existsById(Long id);
+    void createStripes(Long campaignId, int[] quantities);
+    boolean decreaseStripe(Long campaignId, int stripeNo, int quantity);
+    void increaseStripe(Long campaignId, int stripeNo, int quantity);
+    int[] lockStripes(Long campaignId);
+    void updateStripes(Long campaignId, int[] quantities);
+    int remainingQuantity(Long campaignId);
+    void deleteAllInBatch();
+}
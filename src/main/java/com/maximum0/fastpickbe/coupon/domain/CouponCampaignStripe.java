@@ -0,0 +1,54 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캠페인 잔여 수량을 나누어 담은 행입니다.
+ * 발급은 요청마다 정해지는 기본 행에서만 수량을 차감하므로 동시 발급이 여러 행으로 분산되며,
+ * 기본 행이 비면 모든 행을 잠그고 잔여 수량을 다시 나눕니다. 행 간 이동은 합계를 바꾸지 않으므로 캠페인 수량을 넘어 발급되지 않습니다.
+ */
+@Entity
+@Table(
+        name = "tb_coupon_campaign_stripe",
+        uniqueConstraints = @UniqueConstraint(name = "uk_coupon_campaign_stripe_campaign_no", columnNames = {"campaign_id", "stripe_no"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponCampaignStripe {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "campaign_id", nullable = false)
+    private Long campaignId;
+
+    @Column(name = "stripe_no", nullable = false)
+    private int stripeNo;
+
+    @Column(nullable = false)
+    private int remainingQuantity;
+
+    /**
+     * 잔여 수량을 분할 행에 고르게 나눕니다. 나누어떨어지지 않는 수량은 앞 번호 행부터 하나씩 더 배정합니다.
+     *
+     * @param remaining   나눌 잔여 수량 합계
+     * @param stripeCount 분할 행 수
+     * @return 분할 행 번호 순서의 배정 수량
+     */
+    public static int[] distribute(int remaining, int stripeCount) {
+        int[] quantities = new int[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            quantities[i] = remaining / stripeCount + (i < remaining % stripeCount ? 1 : 0);
+        }
+        return quantities;
+    }
+}
@@ -0,0 +1,126 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 없이 발급 가능 여부를 판별하기 위한 쿠폰 상태 스냅샷입니다.
+ *
+ * @param couponId  쿠폰 식별자
+ * @param startAt   발급 시작 시각
+ * @param endAt     발급 종료 시각
+ * @param entryEndAt 추첨 쿠폰의 응모 마감 시각 (추첨 쿠폰이 아니면 null)
+ * @param useStatus 사용 상태
+ * @param soldOut   품절 여부
+ * @param issueMode 쿠폰에 지정된 발급 방식 (미지정 시 null)
+ * @param repeatIssuable 한 사용자에게 여러 번 발급할 수 있는지 여부
+ */
+public record CouponEligibility(
+        Long couponId,
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        LocalDateTime entryEndAt,
+        CouponUseStatus useStatus,
+        boolean soldOut,
+        CouponIssueMode issueMode,
+        boolean repeatIssuable
+) {
+    public static CouponEligibility from(Coupon coupon) {
+        return new CouponEligibility(
+                coupon.getId(),
+                coupon.getStartAt(),
+                coupon.getEndAt(),
+                coupon.getEntryEndAt(),
+                coupon.getUseStatus(),
+                coupon.isSoldOut() || coupon.isExhausted(),
+                coupon.getIssueMode(),
+                coupon.isRepeatIssuable()
+        );
+    }
+
+    /**
+     * 품절 상태로 변경된 스냅샷을 반환합니다.
+     * 리스 방식 쿠폰의 재고 부족은 다른 노드의 리스가 반환되면 풀리는 일시적인 상태이므로 스냅샷을 바꾸지 않고,
+     * 재시도 억제는 리스 관리자의 대기 시간에 맡깁니다.
+     */
+    public CouponEligibility markSoldOut() {
+        if (issueMode == CouponIssueMode.LEASE) {
+            return this;
+        }
+        return new CouponEligibility(couponId, startAt, endAt, entryEndAt, useStatus, true, issueMode, repeatIssuable);
+    }
+
+    /**
+     * {@link Coupon#validateIssuanceCondition(LocalDateTime)} 와 같은 순서, 같은 에러 코드로 발급 조건을 검증합니다.
+     * 추첨 쿠폰은 응모 후 추첨으로만 발급되므로 선착순 발급 요청을 거절합니다.
+     * @param now 기준 시간
+     * @throws BusinessException 조건 위반 시 적절한 에러 발생, 추첨 쿠폰일 경우 (COUPON_RAFFLE_ONLY)
+     */
+    public void validate(LocalDateTime now) {
+        if (useStatus == CouponUseStatus.DISABLED) {
+            throw new BusinessException(ErrorCode.COUPON_DISABLED);
+        }
+        if (now.isBefore(startAt) || !now.isBefore(endAt)) {
+            throw new BusinessException(ErrorCode.COUPON_NOT_AVAILABLE_PERIOD);
+        }
+        if (issueMode == CouponIssueMode.RAFFLE) {
+            throw new BusinessException(ErrorCode.COUPON_RAFFLE_ONLY);
+        }
+        if (soldOut) {
+            throw new BusinessException(ErrorCode.COUPON_EXHAUSTED);
+        }
+    }
+
+    /**
+     * 발급 대기열 입장 조건을 검증합니다. 발급 시작 전에도 입장할 수 있도록 시작 시각은 검증하지 않습니다.
+     * @param now 기준 시간
+     * @throws BusinessException 사용 중지, 발급 기간 종료, 품절 시 적절한 에러 발생
+     */
+    public void validateWaitable(LocalDateTime now) {
+        if (useStatus == CouponUseStatus.DISABLED) {
+            throw new BusinessException(ErrorCode.COUPON_DISABLED);
+        }
+        if (!now.isBefore(endAt)) {
+            throw new BusinessException(ErrorCode.COUPON_NOT_AVAILABLE_PERIOD);
+        }
+        if (soldOut) {
+            throw new BusinessException(ErrorCode.COUPON_EXHAUSTED);
+        }
+    }
+
+    /**
+     * 추첨 쿠폰의 응모 조건을 검증합니다. 응모는 수량과 무관하므로 품절 여부는 검증하지 않습니다.
+     * 응모 기간은 발급 시작 시각부터 응모 마감 시각까지입니다.
+     * @param now 기준 시간
+     * @throws BusinessException 사용 중지, 응모 기간 위반 시 적절한 에러 발생, 추첨 쿠폰이 아닐 경우 (COUPON_NOT_RAFFLE)
+     */
+    public void validateEnterable(LocalDateTime now) {
+        if (useStatus == CouponUseStatus.DISABLED) {
+            throw new BusinessException(ErrorCode.COUPON_DISABLED);
+        }
+        if (now.isBefore(startAt) || !now.isBefore(entryEndAt != null ? entryEndAt : endAt)) {
+            throw new BusinessException(ErrorCode.COUPON_NOT_AVAILABLE_PERIOD);
+        }
+        if (issueMode != CouponIssueMode.RAFFLE) {
+            throw new BusinessException(ErrorCode.COUPON_NOT_RAFFLE);
+        }
+    }
+
+    /**
+     * 발급 시작 시각이 지났는지 확인합니다.
+     * @param now 기준 시간
+     */
+    public boolean hasStarted(LocalDateTime now) {
+        return !now.isBefore(startAt);
+    }
+
+    /**
+     * 사용 중지되었거나 발급 기간이 끝나 다시 발급될 수 없는지 확인합니다.
+     * 품절은 선점 수량 반환으로 해제될 수 있으므로 포함하지 않습니다.
+     * @param now 기준 시간
+     */
+    public boolean hasEnded(LocalDateTime now) {
+        return useStatus == CouponUseStatus.DISABLED || !now.isBefore(endAt);
+    }
+}
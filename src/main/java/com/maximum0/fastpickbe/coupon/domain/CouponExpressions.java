@@ -40,10 +40,13 @@ public abstract class CouponExpressions {
 
     /**
      * 쿠폰이 소진(품절) 상태인지 확인하는 조건을 생성합니다.
-     * @return 발행 수량 >= 전체 수량 조건
+     * 리스 방식 쿠폰은 {@link Coupon#isExhausted()} 와 같이 보정된 품절 여부로 판단합니다.
+     * @return 발행 수량 >= 전체 수량 조건 (리스 방식 쿠폰은 품절 여부 조건)
      */
     public static BooleanExpression isExhausted() {
-        return coupon.totalQuantity.loe(coupon.issuedQuantity);
+        BooleanExpression leased = coupon.issueMode.eq(CouponIssueMode.LEASE);
+        return leased.and(coupon.isSoldOut.isTrue())
+                .or(coupon.issueMode.isNull().or(leased.not()).and(coupon.totalQuantity.loe(coupon.issuedQuantity)));
     }
 
     /**
@@ -0,0 +1,29 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+/**
+ * 쿠폰별 잔여 수량 차감과 사용자 중복 검증을 하나의 원자적 연산으로 처리하는 발급 카운터입니다.
+ * 구현체에 따라 단일 노드(in-process) 또는 여러 노드가 공유하는 저장소(Redis)를 사용합니다.
+ */
+public interface CouponIssueCounter {
+    /**
+     * 잔여 수량을 1 차감하고 사용자를 발급 대상으로 기록합니다.
+     * @param couponId 쿠폰 식별자
+     * @param userId   사용자 식별자
+     * @return 선점 결과
+     */
+    CouponReserveResult reserve(Long couponId, Long userId);
+
+    /**
+     * 카운터가 적재되지 않은 경우에만 잔여 수량으로 초기화합니다.
+     * @param couponId          쿠폰 식별자
+     * @param remainingQuantity 초기 잔여 수량
+     */
+    void initialize(Long couponId, int remainingQuantity);
+
+    /**
+     * 선점을 취소하여 수량과 사용자 기록을 되돌립니다.
+     * @param couponId 쿠폰 식별자
+     * @param userId   사용자 식별자
+     */
+    void cancel(Long couponId, Long userId);
+}
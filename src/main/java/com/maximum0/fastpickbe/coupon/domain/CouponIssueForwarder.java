@@ -0,0 +1,21 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+
+/**
+ * 쿠폰 발급 요청을 쿠폰의 담당 노드로 전달합니다.
+ */
+public interface CouponIssueForwarder {
+    String FORWARD_PATH = "/internal/v1/coupon-issues";
+    String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
+    /**
+     * @param owner    쿠폰의 담당 노드
+     * @param couponId 발급할 쿠폰 식별자
+     * @param userId   발급 대상 사용자 식별자
+     * @return Long    담당 노드가 생성한 발급 이력 ID
+     * @throws BusinessException 담당 노드가 거절한 경우 같은 에러 코드로,
+     *                           담당 노드에 전달하지 못한 경우 (COUPON_ISSUE_OWNER_UNAVAILABLE)
+     */
+    Long forward(CouponIssueNode owner, Long couponId, Long userId);
+}
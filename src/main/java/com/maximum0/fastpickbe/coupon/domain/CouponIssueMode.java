@@ -0,0 +1,35 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+/**
+ * 쿠폰 발급 시 수량 차감/중복 검증에 사용할 동시성 제어 방식입니다.
+ */
+public enum CouponIssueMode {
+    PESSIMISTIC_LOCK("비관적 락", true),
+    OPTIMISTIC_LOCK("낙관적 락", true),
+    COUNTER("원자적 카운터", false),
+    GROUP_COMMIT("그룹 커밋", false),
+    CONDITIONAL_UPDATE("조건부 UPDATE", true),
+    TICKET("티켓 행 선점", true),
+    SINGLE_WRITER("단일 작성자 링 버퍼", false),
+    LEASE("노드별 재고 리스", true),
+    RAFFLE("추첨", false)
+    ;
+
+    private final String description;
+    private final boolean repeatIssuable;
+
+    CouponIssueMode(String description, boolean repeatIssuable) {
+        this.description = description;
+        this.repeatIssuable = repeatIssuable;
+    }
+
+    /**
+     * 한 사용자에게 같은 쿠폰을 여러 번 발급할 수 있는 발급 방식인지 확인합니다.
+     * 발급 요청마다 사용자별 발급 횟수를 검증하는 방식만 해당하며,
+     * 발급 사용자 집합이나 배치 단위 조회로 중복을 거르는 방식은 사용자당 한 번만 발급합니다.
+     * @return 인당 발급 한도를 2 이상으로 지정할 수 있으면 true
+     */
+    public boolean isRepeatIssuable() {
+        return repeatIssuable;
+    }
+}
@@ -0,0 +1,40 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 쿠폰 발급 담당 노드 배정에 참여하는 애플리케이션 노드입니다.
+ * 노드는 주기적으로 하트비트 시각을 갱신하며, 유효 시간 안에 하트비트를 남긴 노드만 담당 노드 배정 대상이 됩니다.
+ */
+@Entity
+@Table(name = "tb_coupon_issue_node")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponIssueNode {
+    @Id
+    @Column(length = 64)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private String baseUrl;
+
+    @Column(nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    private CouponIssueNode(String nodeId, String baseUrl, LocalDateTime heartbeatAt) {
+        this.nodeId = nodeId;
+        this.baseUrl = baseUrl;
+        this.heartbeatAt = heartbeatAt;
+    }
+
+    public static CouponIssueNode forTest(String nodeId, String baseUrl) {
+        return new CouponIssueNode(nodeId, baseUrl, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,10 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface CouponIssueNodeRepository {
+    void heartbeat(String nodeId, String baseUrl);
+    List<CouponIssueNode> findAlive(Duration ttl);
+    void delete(String nodeId);
+}
@@ -0,0 +1,47 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 쿠폰 발급 트랜잭션에서 발급 이력과 함께 기록하는 발급 이벤트(트랜잭셔널 아웃박스) 행입니다.
+ * 후속 처리(분석, 알림, 캐시 갱신)는 발급 트랜잭션 밖에서 {@link CouponIssuedEvent} 로 전달되며, 전달된 행은 삭제됩니다.
+ * 전달에 실패한 행은 시도 횟수를 늘려 다음 실행에서 다시 전달하고, 시도 한도에 도달하면 보류 시각을 기록하여 전달 대상에서 제외합니다.
+ */
+@Entity
+@Table(name = "tb_coupon_issue_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponIssueOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "issued_coupon_id", nullable = false)
+    private Long issuedCouponId;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime issuedAt;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+}
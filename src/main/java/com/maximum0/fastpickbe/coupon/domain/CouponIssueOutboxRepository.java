@@ -0,0 +1,15 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface CouponIssueOutboxRepository {
+    void appendAll(Long couponId, Map<Long, Long> issuedIdsByUserId, LocalDateTime issuedAt);
+    List<CouponIssuedEvent> lockNextBatch(int batchSize);
+    int deleteAllByIdIn(Collection<Long> ids);
+    int recordFailures(Collection<Long> ids, int maxAttempts);
+    long count();
+    void deleteAllInBatch();
+}
@@ -0,0 +1,62 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 비동기 발급 요청을 추적하기 위한 티켓입니다.
+ * 상태가 바뀔 때마다 새로운 인스턴스를 반환하는 불변 객체입니다.
+ *
+ * @param id             티켓 식별자
+ * @param couponId       발급 요청한 쿠폰 식별자
+ * @param userId         발급 요청한 사용자 식별자
+ * @param status         처리 상태
+ * @param issuedCouponId 발급 완료 시 생성된 발급 이력 ID
+ * @param errorCode      발급 실패 시 원인
+ * @param requestedAt    요청 접수 시각
+ */
+public record CouponIssueTicket(
+        String id,
+        Long couponId,
+        Long userId,
+        CouponIssueTicketStatus status,
+        Long issuedCouponId,
+        ErrorCode errorCode,
+        LocalDateTime requestedAt
+) {
+    /**
+     * 발급 대기 상태의 티켓을 생성합니다.
+     * @param couponId 쿠폰 식별자
+     * @param userId   사용자 식별자
+     * @param now      요청 접수 시각
+     * @return CouponIssueTicket 대기 상태의 티켓
+     */
+    public static CouponIssueTicket pending(Long couponId, Long userId, LocalDateTime now) {
+        return new CouponIssueTicket(UUID.randomUUID().toString(), couponId, userId,
+                CouponIssueTicketStatus.PENDING, null, null, now);
+    }
+
+    /**
+     * 발급 완료 상태의 티켓을 반환합니다.
+     * @param issuedCouponId 생성된 발급 이력 ID
+     */
+    public CouponIssueTicket issued(Long issuedCouponId) {
+        return new CouponIssueTicket(id, couponId, userId, CouponIssueTicketStatus.ISSUED, issuedCouponId, null, requestedAt);
+    }
+
+    /**
+     * 발급 실패 상태의 티켓을 반환합니다.
+     * @param errorCode 실패 원인
+     */
+    public CouponIssueTicket failed(ErrorCode errorCode) {
+        return new CouponIssueTicket(id, couponId, userId, CouponIssueTicketStatus.FAILED, null, errorCode, requestedAt);
+    }
+
+    /**
+     * 처리가 끝난(완료 또는 실패) 티켓인지 확인합니다.
+     */
+    public boolean isCompleted() {
+        return status != CouponIssueTicketStatus.PENDING;
+    }
+}
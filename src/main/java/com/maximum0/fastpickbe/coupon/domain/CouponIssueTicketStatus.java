@@ -0,0 +1,17 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 비동기 발급 요청(티켓)의 처리 상태입니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum CouponIssueTicketStatus {
+    PENDING("발급 대기"),
+    ISSUED("발급 완료"),
+    FAILED("발급 실패");
+
+    private final String description;
+}
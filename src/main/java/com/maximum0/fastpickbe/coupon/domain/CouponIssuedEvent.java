@@ -0,0 +1,22 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 발급이 커밋된 뒤 아웃박스에서 전달되는 발급 이벤트입니다.
+ * 최소 한 번(at-least-once) 전달되므로 같은 이벤트가 다시 전달될 수 있으며,
+ * 구독자는 {@code outboxId} 로 중복을 걸러야 합니다.
+ *
+ * @param outboxId       아웃박스 행 식별자 (기록 순서대로 증가)
+ * @param issuedCouponId 생성된 발급 이력 ID
+ * @param couponId       발급된 쿠폰 식별자
+ * @param userId         발급받은 사용자 식별자
+ * @param issuedAt       발급 시각
+ */
+public record CouponIssuedEvent(
+        Long outboxId,
+        Long issuedCouponId,
+        Long couponId,
+        Long userId,
+        LocalDateTime issuedAt
+) {}
@@ -0,0 +1,33 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 쿠폰의 발급 담당 노드와 담당 세대(epoch)입니다.
+ * 노드가 담당을 넘겨받을 때마다 세대가 증가하며, 이전 세대로 시도한 발급은 {@link CouponOwnershipFence} 로 거절됩니다.
+ */
+@Entity
+@Table(name = "tb_coupon_ownership")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponOwnership {
+    @Id
+    @Column(name = "coupon_id")
+    private Long couponId;
+
+    @Column(nullable = false, length = 64)
+    private String ownerNode;
+
+    @Column(nullable = false)
+    private long epoch;
+
+    @Column(nullable = false)
+    private LocalDateTime claimedAt;
+}
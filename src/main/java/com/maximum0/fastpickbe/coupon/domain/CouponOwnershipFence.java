@@ -0,0 +1,15 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+/**
+ * 담당 노드가 쿠폰을 넘겨받을 때 발급받은 펜싱 토큰입니다.
+ * 발급 수량 갱신은 DB 의 담당 노드와 세대가 이 토큰과 일치할 때만 반영되므로, 담당을 빼앗긴 노드의 발급은 거절됩니다.
+ *
+ * @param couponId  쿠폰 식별자
+ * @param ownerNode 담당 노드 식별자
+ * @param epoch     담당 세대
+ */
+public record CouponOwnershipFence(
+        Long couponId,
+        String ownerNode,
+        long epoch
+) {}
@@ -0,0 +1,10 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.util.Optional;
+
+public interface CouponOwnershipRepository {
+    CouponOwnershipFence claim(Long couponId, String ownerNode);
+    boolean isCurrent(CouponOwnershipFence fence);
+    Optional<CouponOwnershipFence> findByCouponId(Long couponId);
+    void deleteAllInBatch();
+}
@@ -0,0 +1,66 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 추첨 쿠폰의 추첨 결과입니다.
+ * 쿠폰당 한 행만 생성되어 여러 노드가 같은 쿠폰을 중복 추첨하지 않으며,
+ * 기록된 시드와 응모 순서로 같은 당첨자 목록을 다시 계산할 수 있습니다.
+ * 당첨자 발급은 {@link CouponBulkIssueJob} 으로 청크 단위 처리됩니다.
+ */
+@Entity
+@Table(name = "tb_coupon_raffle_draw")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponRaffleDraw {
+    @Id
+    @Column(name = "coupon_id")
+    private Long couponId;
+
+    @Column(nullable = false)
+    private long seed;
+
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(nullable = false)
+    private int entryCount;
+
+    @Column(nullable = false)
+    private int winnerCount;
+
+    @Column(nullable = false)
+    private LocalDateTime drawnAt;
+
+    /**
+     * 응모자 목록을 시드로 섞어 당첨자를 뽑습니다.
+     * 앞에서부터 당첨자 수만큼만 섞는 부분 Fisher-Yates 셔플이므로, 같은 응모 순서와 시드로는 항상 같은 당첨자가 같은 순서로 뽑힙니다.
+     *
+     * @param entrantIds  응모 순서대로 정렬된 응모자 식별자 목록
+     * @param winnerCount 뽑을 당첨자 수 (응모자 수보다 크면 응모자 전원)
+     * @param seed        추첨 시드
+     * @return 당첨 순서대로 정렬된 당첨자 식별자 목록
+     */
+    public static List<Long> pickWinners(List<Long> entrantIds, int winnerCount, long seed) {
+        List<Long> pool = new ArrayList<>(entrantIds);
+        int picks = Math.min(Math.max(winnerCount, 0), pool.size());
+        Random random = new Random(seed);
+        for (int i = 0; i < picks; i++) {
+            int j = i + random.nextInt(pool.size() - i);
+            Long picked = pool.get(j);
+            pool.set(j, pool.get(i));
+            pool.set(i, picked);
+        }
+        return new ArrayList<>(pool.subList(0, picks));
+    }
+}
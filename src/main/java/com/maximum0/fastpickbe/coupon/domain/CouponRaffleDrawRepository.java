@@ -0,0 +1,13 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface CouponRaffleDrawRepository {
+    boolean claim(Long couponId, long seed, LocalDateTime now);
+    void record(Long couponId, Long jobId, int entryCount, int winnerCount);
+    Optional<CouponRaffleDraw> findByCouponId(Long couponId);
+    List<Long> findUndrawnCouponIds(LocalDateTime now);
+    void deleteAllInBatch();
+}
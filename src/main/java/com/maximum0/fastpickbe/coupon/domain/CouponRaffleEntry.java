@@ -0,0 +1,41 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 추첨 방식({@link CouponIssueMode#RAFFLE}) 쿠폰의 응모 한 건입니다.
+ * 응모 기간 동안 수량 검증 없이 추가만 되며, 응모 순서대로 증가하는 ID 가 추첨 시 응모자 목록의 순서가 됩니다.
+ */
+@Entity
+@Table(
+        name = "tb_coupon_raffle_entry",
+        uniqueConstraints = @UniqueConstraint(name = "uk_coupon_raffle_entry_coupon_user", columnNames = {"coupon_id", "user_id"}),
+        indexes = @Index(name = "idx_coupon_raffle_entry_coupon", columnList = "coupon_id, id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponRaffleEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime enteredAt;
+}
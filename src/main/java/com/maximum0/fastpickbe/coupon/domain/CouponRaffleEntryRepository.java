@@ -0,0 +1,10 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CouponRaffleEntryRepository {
+    boolean append(Long couponId, Long userId, LocalDateTime now);
+    List<Long> findUserIds(Long couponId);
+    void deleteAllInBatch();
+}
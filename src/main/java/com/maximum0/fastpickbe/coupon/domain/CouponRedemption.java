@@ -0,0 +1,12 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+/**
+ * 발급된 쿠폰 한 건의 사용 처리 결과입니다.
+ *
+ * @param issuedCouponId 사용 요청한 발급 이력 ID
+ * @param status         처리 결과
+ */
+public record CouponRedemption(
+        Long issuedCouponId,
+        CouponRedemptionStatus status
+) {}
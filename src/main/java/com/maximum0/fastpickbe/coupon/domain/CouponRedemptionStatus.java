@@ -0,0 +1,18 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 발급된 쿠폰 사용(결제 시 차감) 요청의 항목별 처리 결과입니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum CouponRedemptionStatus {
+    REDEEMED("사용 처리 완료"),
+    ALREADY_USED("이미 사용된 쿠폰"),
+    EXPIRED("사용 기간이 지난 쿠폰"),
+    NOT_FOUND("존재하지 않거나 본인에게 발급되지 않은 쿠폰");
+
+    private final String description;
+}
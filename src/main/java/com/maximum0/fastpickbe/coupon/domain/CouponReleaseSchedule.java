@@ -0,0 +1,120 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 쿠폰의 총 발행 수량을 발급 기간에 나누어 공개하는 일정입니다.
+ * 발급 시작 시각부터 일정 간격마다 같은 수량을 공개하거나(분할 공개), 이름 붙은 회차별 시각에 지정한 수량을 공개합니다(회차 공개).
+ * 공개된 수량은 저장된 일정과 현재 시각만으로 계산되므로 DB 조회 없이 확인할 수 있습니다.
+ */
+@Getter
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponReleaseSchedule {
+
+    @Column
+    private Integer releaseUnit;
+
+    @Column
+    private Long releaseIntervalSeconds;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<CouponReleaseWave> releaseWaves;
+
+    private CouponReleaseSchedule(Integer releaseUnit, Long releaseIntervalSeconds, List<CouponReleaseWave> releaseWaves) {
+        this.releaseUnit = releaseUnit;
+        this.releaseIntervalSeconds = releaseIntervalSeconds;
+        this.releaseWaves = releaseWaves;
+    }
+
+    // --- 정적 팩토리 메서드 ---
+
+    /**
+     * 발급 시작 시각부터 간격마다 같은 수량을 공개하는 분할 공개 일정을 생성합니다.
+     * @param unit     간격마다 공개할 수량
+     * @param interval 공개 간격 (1초 이상)
+     * @throws BusinessException 공개 수량이나 간격이 올바르지 않을 경우 (INVALID_INPUT_VALUE)
+     */
+    public static CouponReleaseSchedule drip(int unit, Duration interval) {
+        if (unit < 1 || interval == null || interval.getSeconds() < 1) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return new CouponReleaseSchedule(unit, interval.getSeconds(), null);
+    }
+
+    /**
+     * 회차별 시각에 지정한 수량을 공개하는 회차 공개 일정을 생성합니다.
+     * @param waves 공개 회차 목록 (순서와 관계없이 공개 시각 순으로 정렬됩니다)
+     * @throws BusinessException 회차가 없거나, 공개 시각이 없거나, 공개 수량이 1 미만인 회차가 있을 경우 (INVALID_INPUT_VALUE)
+     */
+    public static CouponReleaseSchedule waves(List<CouponReleaseWave> waves) {
+        if (waves == null || waves.isEmpty()
+                || waves.stream().anyMatch(wave -> wave.releaseAt() == null || wave.quantity() < 1)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        List<CouponReleaseWave> sorted = waves.stream()
+                .sorted(Comparator.comparing(CouponReleaseWave::releaseAt))
+                .toList();
+        return new CouponReleaseSchedule(null, null, sorted);
+    }
+
+    // --- 상태 확인 및 계산 로직 ---
+
+    /**
+     * 현재 시각까지 공개된 수량을 계산합니다.
+     * 분할 공개는 발급 시작 시각에 첫 수량을 공개하며, 공개된 수량은 총 발행 수량을 넘지 않습니다.
+     *
+     * @param startAt       발급 시작 시각
+     * @param totalQuantity 총 발행 수량
+     * @param now           기준 시간
+     * @return 공개된 수량
+     */
+    public int releasedQuantity(LocalDateTime startAt, int totalQuantity, LocalDateTime now) {
+        long released;
+        if (isDrip()) {
+            if (now.isBefore(startAt)) {
+                return 0;
+            }
+            long steps = Duration.between(startAt, now).getSeconds() / releaseIntervalSeconds + 1;
+            released = steps * releaseUnit;
+        } else {
+            released = releaseWaves.stream()
+                    .filter(wave -> !wave.releaseAt().isAfter(now))
+                    .mapToLong(CouponReleaseWave::quantity)
+                    .sum();
+        }
+        return (int) Math.min(totalQuantity, released);
+    }
+
+    /**
+     * 일정에 따라 최종적으로 공개되는 수량을 계산합니다. 분할 공개는 시간이 지나면 총 발행 수량을 모두 공개합니다.
+     * @param totalQuantity 총 발행 수량
+     * @return 최종 공개 수량
+     */
+    public int finalReleasedQuantity(int totalQuantity) {
+        if (isDrip()) {
+            return totalQuantity;
+        }
+        long released = releaseWaves.stream()
+                .mapToLong(CouponReleaseWave::quantity)
+                .sum();
+        return (int) Math.min(totalQuantity, released);
+    }
+
+    private boolean isDrip() {
+        return releaseUnit != null;
+    }
+}
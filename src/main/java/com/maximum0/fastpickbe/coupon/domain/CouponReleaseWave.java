@@ -0,0 +1,17 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지정한 시각에 공개되는 쿠폰 수량 묶음입니다.
+ *
+ * @param name      공개 회차 이름 (예: "오전 오픈")
+ * @param releaseAt 공개 시각
+ * @param quantity  이 회차에 공개되는 수량
+ */
+public record CouponReleaseWave(
+        String name,
+        LocalDateTime releaseAt,
+        int quantity
+) {
+}
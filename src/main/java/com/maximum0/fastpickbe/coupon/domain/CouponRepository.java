@@ -1,13 +1,24 @@
 package com.maximum0.fastpickbe.coupon.domain;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface CouponRepository {
     Coupon save(Coupon coupon);
+    Optional<Coupon> findById(Long id);
     Optional<Coupon> findActiveById(Long id);
     Optional<Coupon> findByIdWithLock(Long id);
+    Optional<Coupon> findByIdWithLock(Long id, Duration lockTimeout);
     List<Coupon> findAllByIds(List<Long> ids);
+    int increaseIssuedQuantity(Long id, int quantity, int releasedQuantity);
+    int reserveQuantity(Long id, int quantity, int releasedQuantity);
+    int releaseQuantity(Long id, int quantity);
+    int increaseIssuedQuantityIfAvailable(Long id, LocalDateTime now, int releasedQuantity);
+    int increaseIssuedQuantityIfOwned(Long id, LocalDateTime now, int releasedQuantity, CouponOwnershipFence fence);
+    int reconcileTicketIssuedQuantities();
+    int reconcileLeaseSoldOut();
 
     void deleteAllInBatch();
 }
@@ -0,0 +1,11 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+/**
+ * 발급 카운터에 대한 수량 선점 결과입니다.
+ */
+public enum CouponReserveResult {
+    RESERVED, // 선점 성공
+    EXHAUSTED, // 잔여 수량 없음
+    ALREADY_ISSUED, // 이미 선점(발급)한 사용자
+    NOT_INITIALIZED // 카운터 미적재
+}
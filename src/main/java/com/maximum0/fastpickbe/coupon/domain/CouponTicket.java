@@ -0,0 +1,44 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import com.maximum0.fastpickbe.common.domain.BaseCreateEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 티켓 행 발급 방식({@link CouponIssueMode#TICKET})에서 쿠폰 수량 1개를 나타내는 행입니다.
+ * 쿠폰 생성 시 총 발행 수량만큼 미리 생성되며, 발급 요청은 아직 선점되지 않은 행 하나를 사용자에게 바인딩합니다.
+ */
+@Entity
+@Table(
+        name = "tb_coupon_ticket",
+        uniqueConstraints = @UniqueConstraint(name = "uk_coupon_ticket_coupon_seq", columnNames = {"coupon_id", "seq"}),
+        indexes = @Index(name = "idx_coupon_ticket_claim", columnList = "coupon_id, user_id, id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponTicket extends BaseCreateEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(nullable = false)
+    private int seq;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    private LocalDateTime claimedAt;
+}
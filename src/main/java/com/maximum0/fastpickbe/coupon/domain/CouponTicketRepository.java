@@ -0,0 +1,11 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface CouponTicketRepository {
+    int generate(Long couponId, int quantity);
+    Optional<Long> claim(Long couponId, Long userId, LocalDateTime claimedAt);
+    long countClaimed(Long couponId);
+    void deleteAllInBatch();
+}
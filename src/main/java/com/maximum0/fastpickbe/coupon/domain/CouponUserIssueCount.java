@@ -0,0 +1,40 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 쿠폰 발급 횟수입니다.
+ * 발급 요청은 (coupon_id, user_id) 행 하나를 원자적 UPSERT 로 증가시키며 인당 발급 한도({@link Coupon#getLimitPerUser()})를 검증하므로,
+ * 발급 이력이 늘어나도 한도 검증 비용이 발급 이력 행 수와 무관합니다.
+ * 증가된 횟수는 발급 이력의 회차({@link IssuedCoupon#getIssueSeq()})로 사용됩니다.
+ */
+@Entity
+@Table(
+        name = "tb_coupon_user_issue_count",
+        uniqueConstraints = @UniqueConstraint(name = "uk_coupon_user_issue_count_coupon_user", columnNames = {"coupon_id", "user_id"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponUserIssueCount {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private int issuedCount;
+}
@@ -0,0 +1,10 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.util.Collection;
+
+public interface CouponUserIssueCountRepository {
+    int increment(Long couponId, Long userId);
+    void incrementAll(Long couponId, Collection<Long> userIds);
+    int findIssuedCount(Long couponId, Long userId);
+    void deleteAllInBatch();
+}
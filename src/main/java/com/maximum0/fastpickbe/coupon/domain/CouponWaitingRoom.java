@@ -0,0 +1,65 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * 쿠폰별 발급 대기열(FIFO)과 대기열을 통과한 사용자의 입장 토큰을 관리하는 저장소입니다.
+ * 구현체에 따라 단일 노드(in-process) 또는 여러 노드가 공유하는 저장소(Redis)를 사용합니다.
+ */
+public interface CouponWaitingRoom {
+    /**
+     * 사용자를 쿠폰 대기열의 맨 뒤에 추가합니다. 이미 대기 중인 사용자는 기존 순번을 유지합니다.
+     * @param couponId 쿠폰 식별자
+     * @param userId   사용자 식별자
+     * @return 대기 순번 (1부터 시작)
+     */
+    long enter(Long couponId, Long userId);
+
+    /**
+     * 사용자의 현재 대기 순번을 조회합니다.
+     * @param couponId 쿠폰 식별자
+     * @param userId   사용자 식별자
+     * @return 대기 순번 (1부터 시작), 대기 중이 아니면 비어 있음
+     */
+    OptionalLong positionOf(Long couponId, Long userId);
+
+    /**
+     * 대기열의 앞에서부터 최대 count 명을 꺼냅니다.
+     * @param couponId 쿠폰 식별자
+     * @param count    꺼낼 최대 인원
+     * @return 대기 순서대로 정렬된 사용자 식별자 목록
+     */
+    List<Long> poll(Long couponId, int count);
+
+    /**
+     * 대기열이 생성된 쿠폰 식별자 목록을 조회합니다. 닫힌 대기열의 쿠폰은 포함하지 않습니다.
+     */
+    Set<Long> couponIds();
+
+    /**
+     * 쿠폰의 대기열을 닫고 대기 중인 사용자와 함께 제거합니다. 이미 부여된 입장 토큰은 유효 기간까지 유지됩니다.
+     * @param couponId 쿠폰 식별자
+     */
+    void close(Long couponId);
+
+    /**
+     * 대기열을 통과한 사용자에게 입장 토큰을 부여합니다.
+     * @param couponId  쿠폰 식별자
+     * @param userId    사용자 식별자
+     * @param admission 입장 토큰
+     * @param ttl       입장 토큰 유효 기간
+     */
+    void grant(Long couponId, Long userId, CouponAdmission admission, Duration ttl);
+
+    /**
+     * 사용자의 유효한 입장 토큰을 조회합니다.
+     * @param couponId 쿠폰 식별자
+     * @param userId   사용자 식별자
+     * @return 만료되지 않은 입장 토큰
+     */
+    Optional<CouponAdmission> findAdmission(Long couponId, Long userId);
+}
@@ -0,0 +1,28 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import java.time.Duration;
+
+/**
+ * 발급 대기열에서의 사용자 상태와 대기 정보를 나타냅니다.
+ *
+ * @param couponId      쿠폰 식별자
+ * @param status        대기 상태
+ * @param position      대기 순번 (입장 허용 시 null)
+ * @param estimatedWait 입장까지 예상 대기 시간 (입장 허용 시 0)
+ * @param admission     입장 토큰 (대기 중이면 null)
+ */
+public record CouponWaitingState(
+        Long couponId,
+        CouponWaitingStatus status,
+        Long position,
+        Duration estimatedWait,
+        CouponAdmission admission
+) {
+    public static CouponWaitingState waiting(Long couponId, long position, Duration estimatedWait) {
+        return new CouponWaitingState(couponId, CouponWaitingStatus.WAITING, position, estimatedWait, null);
+    }
+
+    public static CouponWaitingState admitted(Long couponId, CouponAdmission admission) {
+        return new CouponWaitingState(couponId, CouponWaitingStatus.ADMITTED, null, Duration.ZERO, admission);
+    }
+}
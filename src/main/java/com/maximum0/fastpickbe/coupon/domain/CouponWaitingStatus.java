@@ -0,0 +1,16 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 발급 대기열에서의 사용자 상태입니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum CouponWaitingStatus {
+    WAITING("입장 대기"),
+    ADMITTED("입장 허용");
+
+    private final String description;
+}
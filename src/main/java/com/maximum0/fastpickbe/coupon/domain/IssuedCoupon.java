@@ -10,7 +10,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,12 +21,21 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "tb_issued_coupon")
+@Table(
+        name = "tb_issued_coupon",
+        uniqueConstraints = @UniqueConstraint(name = "uk_issued_coupon_user_coupon_seq", columnNames = {"user_id", "coupon_id", "issue_seq"})
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class IssuedCoupon extends BaseCreateEntity {
+    /**
+     * 발급 이력 ID 시퀀스입니다. JPA 저장은 할당 크기만큼 ID 를 미리 받아 INSERT 를 배치로 묶고,
+     * 다건 INSERT 문은 행마다 이 시퀀스에서 ID 를 받습니다.
+     */
+    public static final String ID_SEQUENCE = "tb_issued_coupon_seq";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issued_coupon_id_generator")
+    @SequenceGenerator(name = "issued_coupon_id_generator", sequenceName = ID_SEQUENCE, allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,13 +46,23 @@ public class IssuedCoupon extends BaseCreateEntity {
     @JoinColumn(name = "coupon_id", nullable = false)
     private Coupon coupon;
 
+    /**
+     * 같은 사용자에게 발급된 같은 쿠폰 중 몇 번째 발급인지 나타냅니다. 인당 발급 한도가 1 인 쿠폰은 항상 1 입니다.
+     */
+    @Column(name = "issue_seq", nullable = false)
+    private int issueSeq;
+
     @Column(nullable = true)
     private LocalDateTime usedAt;
 
+    @Column(length = 64)
+    private String redemptionKey;
+
     @Builder(access = AccessLevel.PRIVATE)
-    private IssuedCoupon(User user, Coupon coupon) {
+    private IssuedCoupon(User user, Coupon coupon, int issueSeq) {
         this.user = user;
         this.coupon = coupon;
+        this.issueSeq = issueSeq;
     }
 
     /**
@@ -51,9 +72,21 @@ public class IssuedCoupon extends BaseCreateEntity {
      * @return IssuedCoupon 발급된 쿠폰 객체
      */
     public static IssuedCoupon create(User user, Coupon coupon) {
+        return create(user, coupon, 1);
+    }
+
+    /**
+     * 특정 유저에게 쿠폰의 지정된 회차를 발급 처리합니다.
+     * @param user 발급 대상 유저
+     * @param coupon 발급될 쿠폰
+     * @param issueSeq 사용자별 발급 회차
+     * @return IssuedCoupon 발급된 쿠폰 객체
+     */
+    public static IssuedCoupon create(User user, Coupon coupon, int issueSeq) {
         return IssuedCoupon.builder()
                 .user(user)
                 .coupon(coupon)
+                .issueSeq(issueSeq)
                 .build();
     }
 
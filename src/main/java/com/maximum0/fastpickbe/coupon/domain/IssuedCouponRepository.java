@@ -3,12 +3,23 @@ package com.maximum0.fastpickbe.coupon.domain;
 import com.maximum0.fastpickbe.coupon.ui.dto.MyCouponListRequest;
 import com.maximum0.fastpickbe.user.domain.User;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface IssuedCouponRepository {
     boolean existsByUserAndCoupon(User user, Coupon coupon);
     IssuedCoupon save(IssuedCoupon issuedCoupon);
+    Long insert(Long couponId, Long userId, int issueSeq, LocalDateTime createdAt);
+    Map<Long, Long> insertAll(Long couponId, List<Long> userIds, LocalDateTime createdAt);
+    Set<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds);
+    void forEachIssuedUserId(Long couponId, LongConsumer consumer);
+    Set<Long> useAll(Long userId, Collection<Long> issuedCouponIds, LocalDateTime usedAt, String redemptionKey);
+    Map<Long, CouponRedemptionStatus> findRedemptionRejections(Long userId, Collection<Long> issuedCouponIds);
     long countByCouponId(Long couponId);
     long count();
     void deleteAllInBatch();
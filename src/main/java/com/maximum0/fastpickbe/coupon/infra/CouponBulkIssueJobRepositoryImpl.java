@@ -0,0 +1,50 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJob;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJobRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJobStatus;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponBulkIssueJobRepositoryImpl implements CouponBulkIssueJobRepository {
+    private final JpaCouponBulkIssueJobRepository jpaRepository;
+
+    @Override
+    public CouponBulkIssueJob save(CouponBulkIssueJob job) {
+        return jpaRepository.save(job);
+    }
+
+    @Override
+    public Optional<CouponBulkIssueJob> findById(Long id) {
+        return jpaRepository.findById(id);
+    }
+
+    /**
+     * 작업 행을 잠가서 조회합니다. 다른 노드가 청크를 처리하며 잠근 작업은 기다리지 않고 빈 Optional 을 반환합니다(SKIP LOCKED).
+     * @param id 작업 식별자
+     * @return 잠근 작업 (이미 잠겨 있거나 없으면 Optional.empty)
+     */
+    @Override
+    public Optional<CouponBulkIssueJob> findByIdForUpdateSkipLocked(Long id) {
+        return jpaRepository.findByIdForUpdateSkipLocked(id);
+    }
+
+    /**
+     * 완료되지 않은(발급 대기 또는 발급 중) 작업의 식별자를 생성 순서대로 조회합니다.
+     * @return 작업 식별자 목록
+     */
+    @Override
+    public List<Long> findUnfinishedIds() {
+        return jpaRepository.findIdsByStatusIn(EnumSet.of(CouponBulkIssueJobStatus.PENDING, CouponBulkIssueJobStatus.RUNNING));
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        jpaRepository.deleteAllInBatch();
+    }
+}
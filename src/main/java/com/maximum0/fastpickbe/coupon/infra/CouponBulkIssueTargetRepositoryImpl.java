@@ -0,0 +1,83 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueChunk;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueTargetRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponBulkIssueTargetRepositoryImpl implements CouponBulkIssueTargetRepository {
+    private final JpaCouponBulkIssueTargetRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일괄 발급 대상 사용자를 JDBC 배치 INSERT 로 적재합니다. 대상 행 ID 는 적재 순서대로 증가합니다.
+     * @param jobId   작업 식별자
+     * @param userIds 대상 사용자 식별자 목록 (업로드 순서)
+     */
+    @Override
+    public void appendAll(Long jobId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into tb_coupon_bulk_issue_target (job_id, user_id) values (?, ?)",
+                userIds, userIds.size(),
+                (ps, userId) -> {
+                    ps.setLong(1, jobId);
+                    ps.setLong(2, userId);
+                });
+    }
+
+    /**
+     * 커서 이후의 대상 행을 청크 크기만큼 조회합니다.
+     * 존재하지 않는 사용자와 청크 내 중복은 걸러내고, 처리 건수 집계를 위해 청크의 전체 행 수는 그대로 반환합니다.
+     * @param jobId         작업 식별자
+     * @param afterTargetId 마지막으로 처리한 대상 행 ID
+     * @param chunkSize     조회할 최대 행 수
+     * @return 대상 청크 (남은 행이 없으면 size 가 0)
+     */
+    @Override
+    public CouponBulkIssueChunk findChunk(Long jobId, long afterTargetId, int chunkSize) {
+        long[] lastTargetId = {afterTargetId};
+        int[] size = {0};
+        Set<Long> userIds = new LinkedHashSet<>();
+        jdbcTemplate.query("""
+                select t.id, t.user_id, exists (select 1 from tb_user u where u.id = t.user_id) as known_user
+                  from tb_coupon_bulk_issue_target t
+                 where t.job_id = ?
+                   and t.id > ?
+                 order by t.id
+                 limit ?
+                """, (RowCallbackHandler) rs -> {
+                    lastTargetId[0] = rs.getLong("id");
+                    size[0]++;
+                    if (rs.getBoolean("known_user")) {
+                        userIds.add(rs.getLong("user_id"));
+                    }
+                }, jobId, afterTargetId, chunkSize);
+        return new CouponBulkIssueChunk(lastTargetId[0], size[0], new ArrayList<>(userIds));
+    }
+
+    /**
+     * 처리가 끝난 작업의 대상 행을 삭제합니다.
+     * @param jobId 작업 식별자
+     * @return 삭제된 행 수
+     */
+    @Override
+    public int deleteAllByJobId(Long jobId) {
+        return jdbcTemplate.update("delete from tb_coupon_bulk_issue_target where job_id = ?", jobId);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        jpaRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,123 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaign;
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaignRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponCampaignRepositoryImpl implements CouponCampaignRepository {
+    private final JpaCouponCampaignRepository jpaRepository;
+    private final JpaCouponCampaignStripeRepository jpaStripeRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public CouponCampaign save(CouponCampaign campaign) {
+        return jpaRepository.save(campaign);
+    }
+
+    @Override
+    public Optional<CouponCampaign> findById(Long id) {
+        return jpaRepository.findById(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return jpaRepository.existsById(id);
+    }
+
+    /**
+     * 캠페인의 분할 행을 JDBC 배치 INSERT 로 생성합니다.
+     * @param campaignId 캠페인 식별자
+     * @param quantities 분할 행 번호 순서의 배정 수량
+     */
+    @Override
+    public void createStripes(Long campaignId, int[] quantities) {
+        List<Object[]> rows = new ArrayList<>(quantities.length);
+        for (int stripeNo = 0; stripeNo < quantities.length; stripeNo++) {
+            rows.add(new Object[]{campaignId, stripeNo, quantities[stripeNo]});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into tb_coupon_campaign_stripe (campaign_id, stripe_no, remaining_quantity) values (?, ?, ?)",
+                rows);
+    }
+
+    /**
+     * 분할 행 하나에 잔여 수량이 충분할 때만 차감합니다. 잠금은 해당 행에만 걸립니다.
+     * @param campaignId 캠페인 식별자
+     * @param stripeNo   분할 행 번호
+     * @param quantity   차감할 수량
+     * @return 차감했으면 true
+     */
+    @Override
+    public boolean decreaseStripe(Long campaignId, int stripeNo, int quantity) {
+        return jdbcTemplate.update("""
+                update tb_coupon_campaign_stripe
+                   set remaining_quantity = remaining_quantity - ?
+                 where campaign_id = ?
+                   and stripe_no = ?
+                   and remaining_quantity >= ?
+                """, quantity, campaignId, stripeNo, quantity) > 0;
+    }
+
+    @Override
+    public void increaseStripe(Long campaignId, int stripeNo, int quantity) {
+        jdbcTemplate.update(
+                "update tb_coupon_campaign_stripe set remaining_quantity = remaining_quantity + ? where campaign_id = ? and stripe_no = ?",
+                quantity, campaignId, stripeNo);
+    }
+
+    /**
+     * 캠페인의 모든 분할 행을 행 번호 순서로 잠그고 잔여 수량을 조회합니다.
+     * 항상 같은 순서로 잠그므로 동시에 재분배하는 트랜잭션끼리 교착 상태에 빠지지 않습니다.
+     * @param campaignId 캠페인 식별자
+     * @return 분할 행 번호 순서의 잔여 수량
+     */
+    @Override
+    public int[] lockStripes(Long campaignId) {
+        return jdbcTemplate.queryForList("""
+                select remaining_quantity
+                  from tb_coupon_campaign_stripe
+                 where campaign_id = ?
+                 order by stripe_no
+                   for update
+                """, Integer.class, campaignId).stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * 잠근 분할 행의 잔여 수량을 JDBC 배치 UPDATE 로 갱신합니다.
+     * @param campaignId 캠페인 식별자
+     * @param quantities 분할 행 번호 순서의 잔여 수량
+     */
+    @Override
+    public void updateStripes(Long campaignId, int[] quantities) {
+        List<Object[]> rows = new ArrayList<>(quantities.length);
+        for (int stripeNo = 0; stripeNo < quantities.length; stripeNo++) {
+            rows.add(new Object[]{quantities[stripeNo], campaignId, stripeNo});
+        }
+        jdbcTemplate.batchUpdate(
+                "update tb_coupon_campaign_stripe set remaining_quantity = ? where campaign_id = ? and stripe_no = ?",
+                rows);
+    }
+
+    @Override
+    public int remainingQuantity(Long campaignId) {
+        Integer remaining = jdbcTemplate.queryForObject(
+                "select coalesce(sum(remaining_quantity), 0) from tb_coupon_campaign_stripe where campaign_id = ?",
+                Integer.class, campaignId);
+        return remaining == null ? 0 : remaining;
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        jpaStripeRepository.deleteAllInBatch();
+        jpaRepository.deleteAllInBatch();
+    }
+}
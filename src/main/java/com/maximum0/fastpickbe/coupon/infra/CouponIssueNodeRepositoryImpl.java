@@ -0,0 +1,52 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueNode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueNodeRepository;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueNodeRepositoryImpl implements CouponIssueNodeRepository {
+    private final JpaCouponIssueNodeRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 노드의 하트비트 시각을 DB 시각으로 갱신하고, 처음 참여한 노드면 등록합니다.
+     * 노드마다 시계가 어긋나도 생존 판단이 같도록 하트비트 시각은 DB 시각을 사용합니다.
+     * @param nodeId  노드 식별자
+     * @param baseUrl 다른 노드가 발급 요청을 전달할 주소
+     */
+    @Override
+    public void heartbeat(String nodeId, String baseUrl) {
+        jdbcTemplate.update("""
+                insert into tb_coupon_issue_node (node_id, base_url, heartbeat_at)
+                values (?, ?, localtimestamp)
+                on conflict (node_id) do update
+                   set base_url = excluded.base_url,
+                       heartbeat_at = excluded.heartbeat_at
+                """, nodeId, baseUrl);
+    }
+
+    /**
+     * 유효 시간 안에 하트비트를 남긴 노드를 식별자 순으로 조회합니다.
+     * @param ttl 하트비트 유효 시간
+     * @return 살아 있는 노드 목록
+     */
+    @Override
+    public List<CouponIssueNode> findAlive(Duration ttl) {
+        return jpaRepository.findAlive(ttl.toMillis());
+    }
+
+    /**
+     * 종료하는 노드를 담당 노드 배정 대상에서 즉시 제외합니다.
+     * @param nodeId 노드 식별자
+     */
+    @Override
+    public void delete(String nodeId) {
+        jdbcTemplate.update("delete from tb_coupon_issue_node where node_id = ?", nodeId);
+    }
+}
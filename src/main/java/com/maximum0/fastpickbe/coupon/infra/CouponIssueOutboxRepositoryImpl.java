@@ -0,0 +1,123 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueOutboxRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssuedEvent;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueOutboxRepositoryImpl implements CouponIssueOutboxRepository {
+    private final JpaCouponIssueOutboxRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 발급 이력별 발급 이벤트를 단일 다건 INSERT 문으로 기록합니다.
+     * 현재 트랜잭션의 JDBC 커넥션에서 실행되므로 발급 이력과 함께 커밋/롤백됩니다.
+     * @param couponId          발급된 쿠폰 식별자
+     * @param issuedIdsByUserId 사용자 식별자별 생성된 발급 이력 ID
+     * @param issuedAt          발급 시각
+     */
+    @Override
+    public void appendAll(Long couponId, Map<Long, Long> issuedIdsByUserId, LocalDateTime issuedAt) {
+        if (issuedIdsByUserId.isEmpty()) {
+            return;
+        }
+
+        String sql = "insert into tb_coupon_issue_outbox (issued_coupon_id, coupon_id, user_id, issued_at) values "
+                + String.join(", ", Collections.nCopies(issuedIdsByUserId.size(), "(?, ?, ?, ?)"));
+
+        Timestamp timestamp = Timestamp.valueOf(issuedAt);
+        Object[] args = new Object[issuedIdsByUserId.size() * 4];
+        int i = 0;
+        for (Map.Entry<Long, Long> issued : issuedIdsByUserId.entrySet()) {
+            args[i++] = issued.getValue();
+            args[i++] = couponId;
+            args[i++] = issued.getKey();
+            args[i++] = timestamp;
+        }
+        jdbcTemplate.update(sql, args);
+    }
+
+    /**
+     * 전달되지 않은 발급 이벤트를 기록 순서대로 잠가서 조회합니다.
+     * 다른 릴레이가 잠근 행은 기다리지 않고 건너뛰므로(SKIP LOCKED), 여러 노드의 릴레이가 서로 다른 행을 처리합니다.
+     * 시도 한도에 도달하여 보류된 행은 조회하지 않습니다.
+     * @param batchSize 조회할 최대 행 수
+     * @return 기록 순서대로 정렬된 발급 이벤트 목록
+     */
+    @Override
+    public List<CouponIssuedEvent> lockNextBatch(int batchSize) {
+        return jdbcTemplate.query("""
+                select id, issued_coupon_id, coupon_id, user_id, issued_at
+                  from tb_coupon_issue_outbox
+                 where parked_at is null
+                 order by id
+                 limit ?
+                   for update skip locked
+                """, (rs, rowNum) -> new CouponIssuedEvent(
+                        rs.getLong("id"),
+                        rs.getLong("issued_coupon_id"),
+                        rs.getLong("coupon_id"),
+                        rs.getLong("user_id"),
+                        rs.getTimestamp("issued_at").toLocalDateTime()
+                ), batchSize);
+    }
+
+    /**
+     * 전달이 끝난 발급 이벤트를 삭제합니다.
+     * @param ids 삭제할 아웃박스 행 식별자 목록
+     * @return 삭제된 행 수
+     */
+    @Override
+    public int deleteAllByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(
+                "delete from tb_coupon_issue_outbox where id = any(?)",
+                (Object) ids.toArray(Long[]::new));
+    }
+
+    /**
+     * 전달에 실패한 발급 이벤트의 시도 횟수를 1 증가시키고, 시도 한도에 도달한 행은 보류 처리합니다.
+     * 보류된 행은 삭제하지 않고 남겨 두므로, 원인을 해결한 뒤 보류 시각을 지우면 다시 전달됩니다.
+     * @param ids         전달에 실패한 아웃박스 행 식별자 목록
+     * @param maxAttempts 보류 처리할 시도 횟수
+     * @return 이번에 보류 처리된 행 수
+     */
+    @Override
+    public int recordFailures(Collection<Long> ids, int maxAttempts) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Integer parked = jdbcTemplate.queryForObject("""
+                with failed as (
+                    update tb_coupon_issue_outbox
+                       set attempts = attempts + 1,
+                           parked_at = case when attempts + 1 >= ? then now() end
+                     where id = any(?)
+                    returning parked_at
+                )
+                select count(*) from failed where parked_at is not null
+                """, Integer.class, maxAttempts, ids.toArray(Long[]::new));
+        return parked == null ? 0 : parked;
+    }
+
+    @Override
+    public long count() {
+        return jpaRepository.count();
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        jpaRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,65 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponOwnershipFence;
+import com.maximum0.fastpickbe.coupon.domain.CouponOwnershipRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponOwnershipRepositoryImpl implements CouponOwnershipRepository {
+    private final JpaCouponOwnershipRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 쿠폰의 담당을 넘겨받고 담당 세대를 하나 올립니다.
+     * 단일 INSERT ... ON CONFLICT 문으로 처리하므로 동시에 넘겨받으려는 노드는 서로 다른 세대를 받습니다.
+     * @param couponId  쿠폰 식별자
+     * @param ownerNode 담당을 넘겨받는 노드 식별자
+     * @return 넘겨받은 담당 세대의 펜싱 토큰
+     */
+    @Override
+    public CouponOwnershipFence claim(Long couponId, String ownerNode) {
+        Long epoch = jdbcTemplate.queryForObject("""
+                insert into tb_coupon_ownership (coupon_id, owner_node, epoch, claimed_at)
+                values (?, ?, 1, now())
+                on conflict (coupon_id) do update
+                   set owner_node = excluded.owner_node,
+                       epoch = tb_coupon_ownership.epoch + 1,
+                       claimed_at = excluded.claimed_at
+                returning epoch
+                """, Long.class, couponId, ownerNode);
+        return new CouponOwnershipFence(couponId, ownerNode, epoch);
+    }
+
+    /**
+     * 펜싱 토큰이 쿠폰의 현재 담당 노드와 세대를 가리키는지 확인합니다.
+     * @param fence 펜싱 토큰
+     * @return 현재 담당 세대이면 true
+     */
+    @Override
+    public boolean isCurrent(CouponOwnershipFence fence) {
+        Long count = jdbcTemplate.queryForObject(
+                "select count(*) from tb_coupon_ownership where coupon_id = ? and owner_node = ? and epoch = ?",
+                Long.class, fence.couponId(), fence.ownerNode(), fence.epoch());
+        return count != null && count > 0;
+    }
+
+    /**
+     * 쿠폰의 현재 담당 노드와 세대를 조회합니다.
+     * @param couponId 쿠폰 식별자
+     * @return 현재 담당 세대의 펜싱 토큰 (담당 노드가 없으면 Optional.empty)
+     */
+    @Override
+    public Optional<CouponOwnershipFence> findByCouponId(Long couponId) {
+        return jpaRepository.findById(couponId)
+                .map(ownership -> new CouponOwnershipFence(ownership.getCouponId(), ownership.getOwnerNode(), ownership.getEpoch()));
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        jpaRepository.deleteAllInBatch();
+    }
+}
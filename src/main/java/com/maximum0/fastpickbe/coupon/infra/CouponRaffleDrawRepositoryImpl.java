@@ -0,0 +1,78 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponRaffleDraw;
+import com.maximum0.fastpickbe.coupon.domain.CouponRaffleDrawRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponRaffleDrawRepositoryImpl implements CouponRaffleDrawRepository {
+    private final JpaCouponRaffleDrawRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 쿠폰의 추첨을 선점합니다. 다른 노드가 이미 추첨했거나 추첨 중이면 선점하지 않습니다.
+     * @param couponId 쿠폰 식별자
+     * @param seed     추첨 시드
+     * @param now      추첨 시각
+     * @return 선점에 성공하면 true
+     */
+    @Override
+    public boolean claim(Long couponId, long seed, LocalDateTime now) {
+        return jdbcTemplate.update("""
+                insert into tb_coupon_raffle_draw (coupon_id, seed, entry_count, winner_count, drawn_at)
+                values (?, ?, 0, 0, ?)
+                on conflict (coupon_id) do nothing
+                """, couponId, seed, Timestamp.valueOf(now)) > 0;
+    }
+
+    /**
+     * 추첨 결과와 당첨자 발급 작업을 기록합니다.
+     * @param couponId    쿠폰 식별자
+     * @param jobId       당첨자 발급 작업 식별자
+     * @param entryCount  응모자 수
+     * @param winnerCount 당첨자 수
+     */
+    @Override
+    public void record(Long couponId, Long jobId, int entryCount, int winnerCount) {
+        jdbcTemplate.update(
+                "update tb_coupon_raffle_draw set job_id = ?, entry_count = ?, winner_count = ? where coupon_id = ?",
+                jobId, entryCount, winnerCount, couponId);
+    }
+
+    @Override
+    public Optional<CouponRaffleDraw> findByCouponId(Long couponId) {
+        return jpaRepository.findById(couponId);
+    }
+
+    /**
+     * 응모 마감 시각이 지났지만 아직 추첨하지 않은 추첨 쿠폰을 조회합니다.
+     * 종료 시각이 지난 쿠폰은 당첨자가 사용할 수 없으므로 추첨하지 않습니다.
+     * @param now 기준 시간
+     * @return 추첨할 쿠폰 식별자 목록
+     */
+    @Override
+    public List<Long> findUndrawnCouponIds(LocalDateTime now) {
+        return jdbcTemplate.queryForList("""
+                select c.id
+                  from tb_coupon c
+                 where c.issue_mode = 'RAFFLE'
+                   and c.use_status = 'AVAILABLE'
+                   and c.entry_end_at <= ?
+                   and c.end_at > ?
+                   and not exists (select 1 from tb_coupon_raffle_draw d where d.coupon_id = c.id)
+                 order by c.entry_end_at, c.id
+                """, Long.class, Timestamp.valueOf(now), Timestamp.valueOf(now));
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        jpaRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,49 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponRaffleEntryRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponRaffleEntryRepositoryImpl implements CouponRaffleEntryRepository {
+    private final JpaCouponRaffleEntryRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 응모를 추가합니다. 수량이나 쿠폰 행을 확인하지 않는 단일 INSERT 이므로 응모끼리 잠금 경합이 없습니다.
+     * @param couponId 쿠폰 식별자
+     * @param userId   응모자 식별자
+     * @param now      응모 시각
+     * @return 응모가 추가되면 true, 이미 응모한 사용자이면 false
+     */
+    @Override
+    public boolean append(Long couponId, Long userId, LocalDateTime now) {
+        return jdbcTemplate.update("""
+                insert into tb_coupon_raffle_entry (coupon_id, user_id, entered_at)
+                values (?, ?, ?)
+                on conflict (coupon_id, user_id) do nothing
+                """, couponId, userId, Timestamp.valueOf(now)) > 0;
+    }
+
+    /**
+     * 쿠폰의 응모자를 응모 순서대로 조회합니다.
+     * @param couponId 쿠폰 식별자
+     * @return 응모 순서대로 정렬된 응모자 식별자 목록
+     */
+    @Override
+    public List<Long> findUserIds(Long couponId) {
+        return jdbcTemplate.queryForList(
+                "select user_id from tb_coupon_raffle_entry where coupon_id = ? order by id",
+                Long.class, couponId);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        jpaRepository.deleteAllInBatch();
+    }
+}
@@ -3,12 +3,16 @@ package com.maximum0.fastpickbe.coupon.infra;
 import static com.maximum0.fastpickbe.coupon.domain.QCoupon.coupon;
 
 import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponOwnershipFence;
 import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
 import com.maximum0.fastpickbe.coupon.domain.CouponUseStatus;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,6 +20,7 @@ import org.springframework.stereotype.Repository;
 public class CouponRepositoryImpl implements CouponRepository {
     private final JpaCouponRepository jpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 쿠폰을 저장합니다.
@@ -27,6 +32,16 @@ public class CouponRepositoryImpl implements CouponRepository {
         return jpaRepository.save(coupon);
     }
 
+    /**
+     * 상태와 관계없이 쿠폰을 조회합니다. (락 없음)
+     * @param id 쿠폰 식별자
+     * @return 쿠폰 엔티티 (Optional)
+     */
+    @Override
+    public Optional<Coupon> findById(Long id) {
+        return jpaRepository.findById(id);
+    }
+
     /**
      * 활성화된 쿠폰을 조회합니다.
      * @param id 쿠폰 식별자
@@ -55,6 +70,23 @@ public class CouponRepositoryImpl implements CouponRepository {
         return jpaRepository.findByIdWithLock(id);
     }
 
+    /**
+     * 잠금 대기 한도를 적용하여 비관적 락으로 쿠폰 엔티티를 조회합니다.
+     * 한도가 0 이면 NOWAIT 로 즉시 실패하고, 그 외에는 현재 트랜잭션의 lock_timeout 을 설정한 뒤 조회합니다.
+     * @param id          쿠폰 식별자
+     * @param lockTimeout 잠금 대기 한도
+     * @return 쿠폰 엔티티 (Optional)
+     * @throws org.springframework.dao.PessimisticLockingFailureException 한도 내에 잠금을 획득하지 못한 경우
+     */
+    @Override
+    public Optional<Coupon> findByIdWithLock(Long id, Duration lockTimeout) {
+        if (lockTimeout.isZero()) {
+            return jpaRepository.findByIdWithLockNoWait(id);
+        }
+        jpaRepository.setLocalLockTimeout(lockTimeout.toMillis() + "ms");
+        return jpaRepository.findByIdWithLock(id);
+    }
+
     /**
      * 제공된 식별자 목록에 해당하는 모든 쿠폰 엔티티를 조회합니다.
      * @param ids 쿠폰 식별자 리스트
@@ -72,6 +104,121 @@ public class CouponRepositoryImpl implements CouponRepository {
             .fetch();
     }
 
+    /**
+     * 행 잠금 조회 없이 단일 UPDATE 문으로 발급 수량을 증가시킵니다.
+     * 증가 후 발급 수량이 총 발행 수량이나 공개된 수량을 넘으면 갱신하지 않으므로, DB 밖에서 수량을 선점한 경로가 다른 경로의 발급과 섞여도 초과 발급되지 않습니다.
+     * @param id               쿠폰 식별자
+     * @param quantity         증가시킬 수량
+     * @param releasedQuantity 현재 시각까지 공개된 수량 (공개 일정이 없으면 총 발행 수량 이상)
+     * @return 갱신된 행 수 (남은 수량이 부족하거나 쿠폰이 없으면 0)
+     */
+    @Override
+    public int increaseIssuedQuantity(Long id, int quantity, int releasedQuantity) {
+        return jpaRepository.increaseIssuedQuantity(id, quantity, releasedQuantity);
+    }
+
+    /**
+     * 잔여 수량 한도 내에서 요청 수량을 한 번의 UPDATE 문으로 선점합니다.
+     * 잔여 수량이 요청보다 적으면 잔여 수량만큼만 선점하며, 선점한 수량에 도달하면 품절 처리합니다.
+     * 리스 방식 쿠폰은 선점한 수량이 노드에 빌려준 미발급 재고일 수 있으므로 품절 여부를 바꾸지 않습니다.
+     * 공개 일정이 있는 쿠폰은 현재 시각까지 공개된 수량을 잔여 수량의 상한으로 사용합니다.
+     * @param id               쿠폰 식별자
+     * @param quantity         선점할 수량
+     * @param releasedQuantity 현재 시각까지 공개된 수량 (공개 일정이 없으면 총 발행 수량 이상)
+     * @return 실제로 선점한 수량 (잔여 수량이 없거나 쿠폰이 없으면 0)
+     */
+    @Override
+    public int reserveQuantity(Long id, int quantity, int releasedQuantity) {
+        List<Integer> granted = jdbcTemplate.queryForList("""
+                with reserved as (
+                    select id, least(?, least(total_quantity, ?) - issued_quantity) as granted
+                      from tb_coupon
+                     where id = ?
+                       for update
+                )
+                update tb_coupon c
+                   set issued_quantity = c.issued_quantity + r.granted,
+                       is_sold_out = case when c.issue_mode = 'LEASE' then c.is_sold_out
+                                          else c.issued_quantity + r.granted >= c.total_quantity end,
+                       version = c.version + 1,
+                       updated_at = now()
+                  from reserved r
+                 where c.id = r.id
+                   and r.granted > 0
+                returning r.granted
+                """, Integer.class, quantity, releasedQuantity, id);
+        return granted.isEmpty() ? 0 : granted.get(0);
+    }
+
+    /**
+     * 선점했지만 발급하지 않은 수량을 한 번의 UPDATE 문으로 반환하고, 품절 여부를 다시 계산합니다.
+     * 발급 수량이 0 미만으로 내려가지 않도록 반환 수량을 발급 수량으로 제한합니다.
+     * 리스 방식 쿠폰의 품절 여부는 발급 이력 기준으로만 보정하므로 바꾸지 않습니다.
+     * @param id       쿠폰 식별자
+     * @param quantity 반환할 수량
+     * @return 갱신된 행 수
+     */
+    @Override
+    public int releaseQuantity(Long id, int quantity) {
+        return jdbcTemplate.update("""
+                update tb_coupon
+                   set issued_quantity = issued_quantity - least(?, issued_quantity),
+                       is_sold_out = case when issue_mode = 'LEASE' then is_sold_out
+                                          else issued_quantity - least(?, issued_quantity) >= total_quantity end,
+                       version = version + 1,
+                       updated_at = now()
+                 where id = ?
+                """, quantity, quantity, id);
+    }
+
+    /**
+     * 발급 가능한 상태(공개된 수량 잔여, 사용 가능, 발급 기간 내)일 때만 발급 수량을 1 증가시킵니다.
+     * 조건 검증과 수량 증가를 단일 UPDATE 문으로 처리하여 잠금 조회와 갱신 사이의 왕복이 없습니다.
+     * 갱신한 행의 잠금은 트랜잭션이 끝날 때까지 유지되므로, 호출하는 쪽은 트랜잭션의 다른 쓰기를 모두 마친 뒤 마지막에 호출해야 합니다.
+     * @param id               쿠폰 식별자
+     * @param now              기준 시간
+     * @param releasedQuantity 기준 시간까지 공개된 수량 (공개 일정이 없으면 총 발행 수량 이상)
+     * @return 갱신된 행 수 (발급 불가 상태이거나 쿠폰이 없으면 0)
+     */
+    @Override
+    public int increaseIssuedQuantityIfAvailable(Long id, LocalDateTime now, int releasedQuantity) {
+        return jpaRepository.increaseIssuedQuantityIfAvailable(id, now, releasedQuantity);
+    }
+
+    /**
+     * 담당 노드의 펜싱 토큰이 현재 담당 세대와 일치하고 발급 가능한 상태일 때만 발급 수량을 1 증가시킵니다.
+     * 담당 세대 검증과 수량 증가를 단일 UPDATE 문으로 처리하므로, 담당을 넘겨준 노드의 발급은 반영되지 않습니다.
+     * @param id               쿠폰 식별자
+     * @param now              기준 시간
+     * @param releasedQuantity 기준 시간까지 공개된 수량 (공개 일정이 없으면 총 발행 수량 이상)
+     * @param fence            담당 노드가 발급받은 펜싱 토큰
+     * @return 갱신된 행 수 (담당 세대가 다르거나 발급 불가 상태이면 0)
+     */
+    @Override
+    public int increaseIssuedQuantityIfOwned(Long id, LocalDateTime now, int releasedQuantity, CouponOwnershipFence fence) {
+        return jpaRepository.increaseIssuedQuantityIfOwned(id, now, releasedQuantity, fence.ownerNode(), fence.epoch());
+    }
+
+    /**
+     * 티켓 행 발급 방식 쿠폰의 발급 수량을 선점된 티켓 수로 보정하고, 전체 수량에 도달하면 품절 처리합니다.
+     * 이미 품절 처리된 쿠폰은 선점 가능한 티켓이 없으므로 대상에서 제외합니다.
+     * @return 갱신된 쿠폰 수
+     */
+    @Override
+    public int reconcileTicketIssuedQuantities() {
+        return jpaRepository.reconcileTicketIssuedQuantities();
+    }
+
+    /**
+     * 리스 방식 쿠폰 중 저장된 발급 이력 수가 전체 수량에 도달한 쿠폰을 품절 처리합니다.
+     * 리스로 빌려간 미발급 재고는 발급 수량에만 포함되므로, 발급 수량이 전체 수량에 도달한 쿠폰만 발급 이력을 집계합니다.
+     * @return 품절 처리된 쿠폰 수
+     */
+    @Override
+    public int reconcileLeaseSoldOut() {
+        return jpaRepository.reconcileLeaseSoldOut();
+    }
+
     @Override
     public void deleteAllInBatch() {
         jpaRepository.deleteAllInBatch();
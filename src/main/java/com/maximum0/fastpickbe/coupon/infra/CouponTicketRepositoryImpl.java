@@ -0,0 +1,74 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponTicketRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponTicketRepositoryImpl implements CouponTicketRepository {
+    private final JpaCouponTicketRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 쿠폰의 발급 티켓 행을 수량만큼 단일 INSERT ... SELECT 문으로 생성합니다.
+     * @param couponId 쿠폰 식별자
+     * @param quantity 생성할 티켓 수 (총 발행 수량)
+     * @return 생성된 행 수
+     */
+    @Override
+    public int generate(Long couponId, int quantity) {
+        return jdbcTemplate.update("""
+                insert into tb_coupon_ticket (coupon_id, seq, created_at)
+                select ?, seq, now() from generate_series(1, ?) as seq
+                """, couponId, quantity);
+    }
+
+    /**
+     * 선점되지 않은 티켓 하나를 사용자에게 바인딩합니다.
+     * 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뛰므로(SKIP LOCKED), 동시 요청은 서로 다른 행을 선점합니다.
+     * @param couponId  쿠폰 식별자
+     * @param userId    발급 대상 사용자 식별자
+     * @param claimedAt 선점 시각
+     * @return 선점한 티켓 식별자 (남은 티켓이 없으면 Optional.empty)
+     */
+    @Override
+    public Optional<Long> claim(Long couponId, Long userId, LocalDateTime claimedAt) {
+        List<Long> claimedIds = jdbcTemplate.queryForList("""
+                update tb_coupon_ticket
+                   set user_id = ?, claimed_at = ?
+                 where id = (select id
+                               from tb_coupon_ticket
+                              where coupon_id = ?
+                                and user_id is null
+                              order by id
+                              limit 1
+                                for update skip locked)
+                returning id
+                """, Long.class, userId, Timestamp.valueOf(claimedAt), couponId);
+        return claimedIds.stream().findFirst();
+    }
+
+    /**
+     * 사용자에게 바인딩된 티켓 수를 조회합니다.
+     * @param couponId 쿠폰 식별자
+     * @return 선점된 티켓 수
+     */
+    @Override
+    public long countClaimed(Long couponId) {
+        Long count = jdbcTemplate.queryForObject(
+                "select count(*) from tb_coupon_ticket where coupon_id = ? and user_id is not null",
+                Long.class, couponId);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        jpaRepository.deleteAllInBatch();
+    }
+}
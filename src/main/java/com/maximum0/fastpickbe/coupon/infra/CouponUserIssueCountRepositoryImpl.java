@@ -0,0 +1,72 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponUserIssueCountRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponUserIssueCountRepositoryImpl implements CouponUserIssueCountRepository {
+    private final JpaCouponUserIssueCountRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자의 발급 횟수를 인당 발급 한도 안에서만 단일 UPSERT 문으로 1 증가시킵니다.
+     * 첫 발급은 행을 생성하고, 이후 발급은 해당 행만 잠그고 갱신하므로 발급 이력을 집계하지 않습니다.
+     * @param couponId 쿠폰 식별자
+     * @param userId   발급 대상 사용자 식별자
+     * @return 증가된 발급 횟수 (이번 발급의 회차), 한도에 도달했으면 0
+     */
+    @Override
+    public int increment(Long couponId, Long userId) {
+        List<Integer> counts = jdbcTemplate.queryForList("""
+                insert into tb_coupon_user_issue_count as c (coupon_id, user_id, issued_count)
+                values (?, ?, 1)
+                on conflict (coupon_id, user_id) do update
+                   set issued_count = c.issued_count + 1
+                 where c.issued_count < (select limit_per_user from tb_coupon where id = c.coupon_id)
+                returning issued_count
+                """, Integer.class, couponId, userId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    /**
+     * 여러 사용자의 발급 횟수를 JDBC 배치 UPSERT 로 1씩 증가시킵니다.
+     * 이미 발급받은 사용자를 제외한 일괄 발급 경로에서 사용하므로 한도는 검증하지 않습니다.
+     * @param couponId 쿠폰 식별자
+     * @param userIds  발급된 사용자 식별자 목록
+     */
+    @Override
+    public void incrementAll(Long couponId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            rows.add(new Object[]{couponId, userId});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into tb_coupon_user_issue_count as c (coupon_id, user_id, issued_count)
+                values (?, ?, 1)
+                on conflict (coupon_id, user_id) do update
+                   set issued_count = c.issued_count + 1
+                """, rows);
+    }
+
+    @Override
+    public int findIssuedCount(Long couponId, Long userId) {
+        List<Integer> counts = jdbcTemplate.queryForList(
+                "select issued_count from tb_coupon_user_issue_count where coupon_id = ? and user_id = ?",
+                Integer.class, couponId, userId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        jpaRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,77 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.common.response.ApiResponse;
+import com.maximum0.fastpickbe.common.response.ErrorResponse;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueForwarder;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueNode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 노드 간 HTTP 요청으로 쿠폰 발급 요청을 담당 노드에 전달합니다.
+ * 담당 노드의 에러 응답은 같은 에러 코드의 {@link BusinessException} 으로 되돌려, 요청을 받은 노드가 그대로 응답하도록 합니다.
+ */
+@Component
+public class HttpCouponIssueForwarder implements CouponIssueForwarder {
+    private static final ParameterizedTypeReference<ApiResponse<Long>> ISSUED_ID_RESPONSE = new ParameterizedTypeReference<>() {};
+
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final String internalToken;
+
+    public HttpCouponIssueForwarder(RestClient.Builder restClientBuilder,
+                                    ObjectMapper objectMapper,
+                                    @Value("${coupon.issue.ownership.internal-token:}") String internalToken,
+                                    @Value("${coupon.issue.ownership.forward-timeout:3s}") Duration forwardTimeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(forwardTimeout);
+        requestFactory.setReadTimeout(forwardTimeout);
+        this.restClient = restClientBuilder.requestFactory(requestFactory).build();
+        this.objectMapper = objectMapper;
+        this.internalToken = internalToken;
+    }
+
+    @Override
+    public Long forward(CouponIssueNode owner, Long couponId, Long userId) {
+        try {
+            ApiResponse<Long> response = restClient.post()
+                    .uri(owner.getBaseUrl() + FORWARD_PATH)
+                    .header(INTERNAL_TOKEN_HEADER, internalToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("couponId", couponId, "userId", userId))
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, (request, errorResponse) -> {
+                        throw new BusinessException(readErrorCode(errorResponse.getBody()));
+                    })
+                    .body(ISSUED_ID_RESPONSE);
+            if (response == null || response.data() == null) {
+                throw new BusinessException(ErrorCode.COUPON_ISSUE_OWNER_UNAVAILABLE);
+            }
+            return response.data();
+        } catch (ResourceAccessException e) {
+            throw new BusinessException(ErrorCode.COUPON_ISSUE_OWNER_UNAVAILABLE);
+        }
+    }
+
+    private ErrorCode readErrorCode(InputStream body) {
+        try {
+            ErrorResponse error = objectMapper.readValue(body, ErrorResponse.class);
+            return ErrorCode.findByCode(error.code()).orElse(ErrorCode.COUPON_ISSUE_OWNER_UNAVAILABLE);
+        } catch (IOException e) {
+            return ErrorCode.COUPON_ISSUE_OWNER_UNAVAILABLE;
+        }
+    }
+}
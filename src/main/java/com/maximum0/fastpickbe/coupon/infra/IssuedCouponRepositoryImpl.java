@@ -5,6 +5,7 @@ import static com.maximum0.fastpickbe.coupon.domain.QIssuedCoupon.issuedCoupon;
 import static org.springframework.util.StringUtils.hasText;
 
 import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponRedemptionStatus;
 import com.maximum0.fastpickbe.coupon.domain.IssuedCoupon;
 import com.maximum0.fastpickbe.coupon.domain.IssuedCouponRepository;
 import com.maximum0.fastpickbe.coupon.domain.MyCouponStatusFilter;
@@ -13,12 +14,22 @@ import com.maximum0.fastpickbe.user.domain.User;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -26,6 +37,7 @@ import org.springframework.stereotype.Repository;
 public class IssuedCouponRepositoryImpl implements IssuedCouponRepository {
     private final JpaIssuedCouponRepository jpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 특정 사용자가 특정 쿠폰을 이미 발급받았는지 확인합니다.
@@ -44,11 +56,143 @@ public class IssuedCouponRepositoryImpl implements IssuedCouponRepository {
     }
 
     /**
-     * 발급 이력을 저장합니다.
+     * 발급 이력을 저장하고 즉시 INSERT 를 실행합니다.
+     * 시퀀스 ID 는 커밋 시점까지 INSERT 를 미루므로, 중복 발급(유니크 제약 위반)을 저장 시점에 감지하도록 바로 반영합니다.
      */
     @Override
     public IssuedCoupon save(IssuedCoupon issuedCoupon) {
-        return jpaRepository.save(issuedCoupon);
+        return jpaRepository.saveAndFlush(issuedCoupon);
+    }
+
+    /**
+     * 사용자의 지정된 회차 발급 이력 한 건을 JDBC INSERT 문으로 저장합니다.
+     * 영속성 컨텍스트를 거치지 않으므로 현재 트랜잭션의 JDBC 커넥션에서 바로 실행됩니다.
+     * @param couponId  발급할 쿠폰 식별자
+     * @param userId    발급 대상 사용자 식별자
+     * @param issueSeq  사용자별 발급 회차
+     * @param createdAt 발급 시각
+     * @return 생성된 발급 이력 ID
+     */
+    @Override
+    public Long insert(Long couponId, Long userId, int issueSeq, LocalDateTime createdAt) {
+        return jdbcTemplate.queryForObject(
+                "insert into tb_issued_coupon (id, user_id, coupon_id, issue_seq, created_at) values (nextval('" + IssuedCoupon.ID_SEQUENCE + "'), ?, ?, ?, ?) returning id",
+                Long.class, userId, couponId, issueSeq, Timestamp.valueOf(createdAt));
+    }
+
+    /**
+     * 여러 사용자의 첫 회차 발급 이력을 단일 다건 INSERT 문으로 저장합니다.
+     * 영속성 컨텍스트를 거치지 않으므로 현재 트랜잭션의 JDBC 커넥션에서 바로 실행됩니다.
+     * @param couponId  발급할 쿠폰 식별자
+     * @param userIds   발급 대상 사용자 식별자 목록
+     * @param createdAt 발급 시각
+     * @return 사용자 식별자별 생성된 발급 이력 ID
+     */
+    @Override
+    public Map<Long, Long> insertAll(Long couponId, List<Long> userIds, LocalDateTime createdAt) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String sql = "insert into tb_issued_coupon (id, user_id, coupon_id, issue_seq, created_at) values "
+                + String.join(", ", Collections.nCopies(userIds.size(), "(nextval('" + IssuedCoupon.ID_SEQUENCE + "'), ?, ?, 1, ?)"))
+                + " returning id, user_id";
+
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        Object[] args = new Object[userIds.size() * 3];
+        for (int i = 0; i < userIds.size(); i++) {
+            args[i * 3] = userIds.get(i);
+            args[i * 3 + 1] = couponId;
+            args[i * 3 + 2] = timestamp;
+        }
+
+        Map<Long, Long> issuedIds = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> issuedIds.put(rs.getLong("user_id"), rs.getLong("id")), args);
+        return issuedIds;
+    }
+
+    /**
+     * 주어진 사용자 중 이미 해당 쿠폰을 발급받은 사용자의 식별자를 조회합니다.
+     */
+    @Override
+    public Set<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(queryFactory
+                .select(issuedCoupon.user.id)
+                .from(issuedCoupon)
+                .where(
+                        issuedCoupon.coupon.id.eq(couponId),
+                        issuedCoupon.user.id.in(userIds)
+                )
+                .fetch());
+    }
+
+    /**
+     * 특정 쿠폰을 발급받은 모든 사용자 식별자를 순회합니다.
+     * 발급 건수가 많을 수 있으므로 목록으로 적재하지 않고 결과 행을 바로 전달합니다.
+     * @param couponId 쿠폰 식별자
+     * @param consumer 사용자 식별자를 전달받을 콜백
+     */
+    @Override
+    public void forEachIssuedUserId(Long couponId, LongConsumer consumer) {
+        jdbcTemplate.query("select user_id from tb_issued_coupon where coupon_id = ?",
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1)), couponId);
+    }
+
+    /**
+     * 사용자의 발급 쿠폰들을 엔티티 적재나 비관적 락 없이 단일 조건부 UPDATE 문으로 사용 처리합니다.
+     * 미사용 상태이고 쿠폰 사용 기간이 남은 행만 갱신하며, 같은 사용 요청 키로 이미 사용 처리된 행은 재요청으로 보고 성공에 포함합니다.
+     * @param userId          사용 요청 사용자 식별자
+     * @param issuedCouponIds 사용할 발급 이력 ID 목록
+     * @param usedAt          사용 시각
+     * @param redemptionKey   사용 요청 키 (없으면 null)
+     * @return 사용 처리된(재요청 포함) 발급 이력 ID
+     */
+    @Override
+    public Set<Long> useAll(Long userId, Collection<Long> issuedCouponIds, LocalDateTime usedAt, String redemptionKey) {
+        if (issuedCouponIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(usedAt);
+        Set<Long> usedIds = new HashSet<>();
+        jdbcTemplate.query("""
+                        update tb_issued_coupon ic
+                           set used_at = coalesce(ic.used_at, ?),
+                               redemption_key = coalesce(ic.redemption_key, ?)
+                          from tb_coupon c
+                         where c.id = ic.coupon_id
+                           and ic.id = any(?)
+                           and ic.user_id = ?
+                           and ((ic.used_at is null and c.end_at > ?) or ic.redemption_key = ?)
+                        returning ic.id
+                        """,
+                (RowCallbackHandler) rs -> usedIds.add(rs.getLong(1)),
+                timestamp, redemptionKey, issuedCouponIds.toArray(Long[]::new), userId, timestamp, redemptionKey);
+        return usedIds;
+    }
+
+    /**
+     * 사용 처리되지 않은 발급 쿠폰들의 거절 사유를 조회합니다.
+     * 본인에게 발급되지 않았거나 존재하지 않는 ID 는 결과에 포함되지 않습니다.
+     * @param userId          사용 요청 사용자 식별자
+     * @param issuedCouponIds 거절 사유를 확인할 발급 이력 ID 목록
+     * @return 발급 이력 ID 별 거절 사유 (ALREADY_USED, EXPIRED)
+     */
+    @Override
+    public Map<Long, CouponRedemptionStatus> findRedemptionRejections(Long userId, Collection<Long> issuedCouponIds) {
+        if (issuedCouponIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, CouponRedemptionStatus> rejections = new HashMap<>();
+        jdbcTemplate.query("select id, used_at is not null as used from tb_issued_coupon where id = any(?) and user_id = ?",
+                (RowCallbackHandler) rs -> rejections.put(rs.getLong("id"),
+                        rs.getBoolean("used") ? CouponRedemptionStatus.ALREADY_USED : CouponRedemptionStatus.EXPIRED),
+                issuedCouponIds.toArray(Long[]::new), userId);
+        return rejections;
     }
 
     /**
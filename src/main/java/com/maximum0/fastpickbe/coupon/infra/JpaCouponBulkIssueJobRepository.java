@@ -0,0 +1,23 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJob;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJobStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface JpaCouponBulkIssueJobRepository extends JpaRepository<CouponBulkIssueJob, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select j from CouponBulkIssueJob j where j.id = :id")
+    Optional<CouponBulkIssueJob> findByIdForUpdateSkipLocked(Long id);
+
+    @Query("select j.id from CouponBulkIssueJob j where j.status in :statuses order by j.id")
+    List<Long> findIdsByStatusIn(Collection<CouponBulkIssueJobStatus> statuses);
+}
@@ -0,0 +1,8 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaignStripe;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JpaCouponCampaignStripeRepository extends JpaRepository<CouponCampaignStripe, Long> {
+
+}
@@ -0,0 +1,16 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueNode;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface JpaCouponIssueNodeRepository extends JpaRepository<CouponIssueNode, String> {
+    @Query(value = """
+            select *
+              from tb_coupon_issue_node
+             where heartbeat_at > localtimestamp - :ttlMillis * interval '1 millisecond'
+             order by node_id
+            """, nativeQuery = true)
+    List<CouponIssueNode> findAlive(long ttlMillis);
+}
@@ -0,0 +1,8 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponRaffleEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JpaCouponRaffleEntryRepository extends JpaRepository<CouponRaffleEntry, Long> {
+
+}
@@ -2,13 +2,101 @@ package com.maximum0.fastpickbe.coupon.infra;
 
 import com.maximum0.fastpickbe.coupon.domain.Coupon;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface JpaCouponRepository extends JpaRepository<Coupon, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select c from Coupon c where c.id = :id")
     Optional<Coupon> findByIdWithLock(Long id);
-}
\ No newline at end of file
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("select c from Coupon c where c.id = :id")
+    Optional<Coupon> findByIdWithLockNoWait(Long id);
+
+    @Query(value = "select set_config('lock_timeout', :lockTimeout, true)", nativeQuery = true)
+    String setLocalLockTimeout(String lockTimeout);
+
+    @Modifying
+    @Query(value = """
+            update tb_coupon
+               set issued_quantity = issued_quantity + :quantity,
+                   is_sold_out = (issued_quantity + :quantity >= total_quantity),
+                   version = version + 1,
+                   updated_at = now()
+             where id = :id
+               and issued_quantity + :quantity <= least(total_quantity, :releasedQuantity)
+            """, nativeQuery = true)
+    int increaseIssuedQuantity(Long id, int quantity, int releasedQuantity);
+
+    @Modifying
+    @Query(value = """
+            update tb_coupon
+               set issued_quantity = issued_quantity + 1,
+                   is_sold_out = (issued_quantity + 1 >= total_quantity),
+                   version = version + 1,
+                   updated_at = now()
+             where id = :id
+               and issued_quantity < least(total_quantity, :releasedQuantity)
+               and use_status = 'AVAILABLE'
+               and start_at <= :now
+               and end_at > :now
+            """, nativeQuery = true)
+    int increaseIssuedQuantityIfAvailable(Long id, LocalDateTime now, int releasedQuantity);
+
+    @Modifying
+    @Query(value = """
+            update tb_coupon c
+               set issued_quantity = c.issued_quantity + 1,
+                   is_sold_out = (c.issued_quantity + 1 >= c.total_quantity),
+                   version = c.version + 1,
+                   updated_at = now()
+             where c.id = :id
+               and c.issued_quantity < least(c.total_quantity, :releasedQuantity)
+               and c.use_status = 'AVAILABLE'
+               and c.start_at <= :now
+               and c.end_at > :now
+               and exists (select 1
+                             from tb_coupon_ownership o
+                            where o.coupon_id = c.id
+                              and o.owner_node = :ownerNode
+                              and o.epoch = :epoch)
+            """, nativeQuery = true)
+    int increaseIssuedQuantityIfOwned(Long id, LocalDateTime now, int releasedQuantity, String ownerNode, long epoch);
+
+    @Modifying
+    @Query(value = """
+            update tb_coupon c
+               set issued_quantity = t.claimed,
+                   is_sold_out = (t.claimed >= c.total_quantity),
+                   version = c.version + 1,
+                   updated_at = now()
+              from (select coupon_id, count(user_id) as claimed
+                      from tb_coupon_ticket
+                     where coupon_id in (select id from tb_coupon where issue_mode = 'TICKET' and is_sold_out = false)
+                     group by coupon_id) t
+             where c.id = t.coupon_id
+               and c.issued_quantity <> t.claimed
+            """, nativeQuery = true)
+    int reconcileTicketIssuedQuantities();
+
+    @Modifying
+    @Query(value = """
+            update tb_coupon c
+               set is_sold_out = true,
+                   version = c.version + 1,
+                   updated_at = now()
+             where c.issue_mode = 'LEASE'
+               and c.is_sold_out = false
+               and c.issued_quantity >= c.total_quantity
+               and (select count(*) from tb_issued_coupon i where i.coupon_id = c.id) >= c.total_quantity
+            """, nativeQuery = true)
+    int reconcileLeaseSoldOut();
+}
@@ -0,0 +1,67 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueCounter;
+import com.maximum0.fastpickbe.coupon.domain.CouponReserveResult;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * JVM 메모리 기반의 발급 카운터입니다. 테스트 및 단일 노드 운영 환경에서 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "coupon.issue", name = "counter", havingValue = "local", matchIfMissing = true)
+public class LocalCouponIssueCounter implements CouponIssueCounter {
+    private final ConcurrentMap<Long, Stock> stocks = new ConcurrentHashMap<>();
+
+    @Override
+    public CouponReserveResult reserve(Long couponId, Long userId) {
+        Stock stock = stocks.get(couponId);
+        if (stock == null) {
+            return CouponReserveResult.NOT_INITIALIZED;
+        }
+
+        synchronized (stock) {
+            if (stock.userIds.contains(userId)) {
+                return CouponReserveResult.ALREADY_ISSUED;
+            }
+            if (stock.remaining <= 0) {
+                return CouponReserveResult.EXHAUSTED;
+            }
+            stock.remaining--;
+            stock.userIds.add(userId);
+            return CouponReserveResult.RESERVED;
+        }
+    }
+
+    @Override
+    public void initialize(Long couponId, int remainingQuantity) {
+        stocks.putIfAbsent(couponId, new Stock(remainingQuantity));
+    }
+
+    @Override
+    public void cancel(Long couponId, Long userId) {
+        Stock stock = stocks.get(couponId);
+        if (stock == null) {
+            return;
+        }
+
+        synchronized (stock) {
+            if (stock.userIds.remove(userId)) {
+                stock.remaining++;
+            }
+        }
+    }
+
+    private static final class Stock {
+        private int remaining;
+        private final Set<Long> userIds = new HashSet<>();
+
+        private Stock(int remaining) {
+            this.remaining = remaining;
+        }
+    }
+}
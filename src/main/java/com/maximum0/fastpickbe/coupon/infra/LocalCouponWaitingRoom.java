@@ -0,0 +1,121 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponAdmission;
+import com.maximum0.fastpickbe.coupon.domain.CouponWaitingRoom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * JVM 메모리 기반의 발급 대기열입니다. 테스트 및 단일 노드 운영 환경에서 사용합니다.
+ * 만료된 입장 토큰은 조회 시점에 무시되고, 주기적으로 제거됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "coupon.issue.waiting-room", name = "store", havingValue = "local", matchIfMissing = true)
+public class LocalCouponWaitingRoom implements CouponWaitingRoom {
+    private final Clock clock;
+    private final ConcurrentMap<Long, Line> lines = new ConcurrentHashMap<>();
+    private final ConcurrentMap<AdmissionKey, CouponAdmission> admissions = new ConcurrentHashMap<>();
+
+    @Override
+    public long enter(Long couponId, Long userId) {
+        return lines.computeIfAbsent(couponId, id -> new Line()).enter(userId);
+    }
+
+    @Override
+    public OptionalLong positionOf(Long couponId, Long userId) {
+        Line line = lines.get(couponId);
+        return line != null ? line.positionOf(userId) : OptionalLong.empty();
+    }
+
+    @Override
+    public List<Long> poll(Long couponId, int count) {
+        Line line = lines.get(couponId);
+        return line != null ? line.poll(count) : List.of();
+    }
+
+    @Override
+    public Set<Long> couponIds() {
+        return Set.copyOf(lines.keySet());
+    }
+
+    @Override
+    public void close(Long couponId) {
+        lines.remove(couponId);
+    }
+
+    @Override
+    public void grant(Long couponId, Long userId, CouponAdmission admission, Duration ttl) {
+        admissions.put(new AdmissionKey(couponId, userId), admission);
+    }
+
+    @Override
+    public Optional<CouponAdmission> findAdmission(Long couponId, Long userId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return Optional.ofNullable(admissions.get(new AdmissionKey(couponId, userId)))
+                .filter(admission -> !admission.isExpired(now));
+    }
+
+    /**
+     * 만료된 입장 토큰을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.waiting-room.admission-eviction-interval:60000}")
+    public void evictExpired() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        admissions.values().removeIf(admission -> admission.isExpired(now));
+    }
+
+    private record AdmissionKey(Long couponId, Long userId) {}
+
+    /**
+     * 쿠폰 하나의 대기열입니다. 입장 순서대로 증가하는 순번을 부여하고, 꺼낸 인원 수와의 차이로 대기 순번을 계산합니다.
+     */
+    private static final class Line {
+        private final Deque<Long> waiting = new ArrayDeque<>();
+        private final Map<Long, Long> sequenceByUser = new HashMap<>();
+        private long nextSequence;
+        private long polledSequence;
+
+        synchronized long enter(Long userId) {
+            Long sequence = sequenceByUser.get(userId);
+            if (sequence == null) {
+                sequence = nextSequence++;
+                sequenceByUser.put(userId, sequence);
+                waiting.addLast(userId);
+            }
+            return sequence - polledSequence + 1;
+        }
+
+        synchronized OptionalLong positionOf(Long userId) {
+            Long sequence = sequenceByUser.get(userId);
+            return sequence != null ? OptionalLong.of(sequence - polledSequence + 1) : OptionalLong.empty();
+        }
+
+        synchronized List<Long> poll(int count) {
+            List<Long> userIds = new ArrayList<>(Math.min(count, waiting.size()));
+            while (userIds.size() < count && !waiting.isEmpty()) {
+                Long userId = waiting.pollFirst();
+                sequenceByUser.remove(userId);
+                polledSequence++;
+                userIds.add(userId);
+            }
+            return userIds;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueCounter;
+import com.maximum0.fastpickbe.coupon.domain.CouponReserveResult;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반의 발급 카운터입니다.
+ * Lua 스크립트로 재고 차감과 사용자 중복 검증(SET)을 원자적으로 처리하여 여러 애플리케이션 노드가 하나의 재고를 공유합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "coupon.issue", name = "counter", havingValue = "redis")
+public class RedisCouponIssueCounter implements CouponIssueCounter {
+    /**
+     * KEYS[1]: 잔여 수량 키, KEYS[2]: 발급 사용자 SET 키, ARGV[1]: 사용자 식별자
+     * 반환값: 1(선점), 0(소진), -1(미적재), -2(중복)
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = RedisScript.of("""
+            local stock = redis.call('GET', KEYS[1])
+            if not stock then
+                return -1
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                return -2
+            end
+            if tonumber(stock) <= 0 then
+                return 0
+            end
+            redis.call('DECR', KEYS[1])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 잔여 수량 키, KEYS[2]: 발급 사용자 SET 키, ARGV[1]: 사용자 식별자
+     */
+    private static final RedisScript<Long> CANCEL_SCRIPT = RedisScript.of("""
+            if redis.call('SREM', KEYS[2], ARGV[1]) == 1 then
+                return redis.call('INCR', KEYS[1])
+            end
+            return -1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public CouponReserveResult reserve(Long couponId, Long userId) {
+        Long result = redisTemplate.execute(RESERVE_SCRIPT, keys(couponId), String.valueOf(userId));
+        if (result == null) {
+            throw new IllegalStateException("쿠폰 발급 카운터 스크립트 실행 결과가 없습니다. couponId: " + couponId);
+        }
+
+        return switch (result.intValue()) {
+            case 1 -> CouponReserveResult.RESERVED;
+            case 0 -> CouponReserveResult.EXHAUSTED;
+            case -2 -> CouponReserveResult.ALREADY_ISSUED;
+            default -> CouponReserveResult.NOT_INITIALIZED;
+        };
+    }
+
+    @Override
+    public void initialize(Long couponId, int remainingQuantity) {
+        redisTemplate.opsForValue().setIfAbsent(stockKey(couponId), String.valueOf(remainingQuantity));
+    }
+
+    @Override
+    public void cancel(Long couponId, Long userId) {
+        redisTemplate.execute(CANCEL_SCRIPT, keys(couponId), String.valueOf(userId));
+    }
+
+    /**
+     * Redis Cluster 환경에서 두 키가 같은 슬롯에 배치되도록 쿠폰 식별자를 해시 태그로 감쌉니다.
+     */
+    private List<String> keys(Long couponId) {
+        return List.of(stockKey(couponId), "coupon:{" + couponId + "}:users");
+    }
+
+    private String stockKey(Long couponId) {
+        return "coupon:{" + couponId + "}:stock";
+    }
+}
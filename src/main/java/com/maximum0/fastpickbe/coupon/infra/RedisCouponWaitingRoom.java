@@ -0,0 +1,123 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponAdmission;
+import com.maximum0.fastpickbe.coupon.domain.CouponWaitingRoom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반의 발급 대기열입니다.
+ * 쿠폰별 대기열을 입장 순번을 점수로 하는 Sorted Set 으로 관리하여 여러 애플리케이션 노드가 하나의 대기열을 공유합니다.
+ * 입장 토큰은 유효 기간을 TTL 로 가진 문자열 키로 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "coupon.issue.waiting-room", name = "store", havingValue = "redis")
+public class RedisCouponWaitingRoom implements CouponWaitingRoom {
+    private static final String COUPON_IDS_KEY = "coupon:waiting-room:coupons";
+    private static final String ADMISSION_DELIMITER = "|";
+
+    /**
+     * KEYS[1]: 대기열 Sorted Set 키, KEYS[2]: 입장 순번 키, ARGV[1]: 사용자 식별자
+     * 반환값: 대기 순번 (1부터 시작)
+     */
+    private static final RedisScript<Long> ENTER_SCRIPT = RedisScript.of("""
+            local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+            if not rank then
+                redis.call('ZADD', KEYS[1], redis.call('INCR', KEYS[2]), ARGV[1])
+                rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+            end
+            return rank + 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public long enter(Long couponId, Long userId) {
+        // 대기열이 비워져도 쿠폰 목록에서는 제거하지 않으므로, 입장과 목록 등록 사이의 순서 경합이 없습니다.
+        // 목록에서 제거되는 쿠폰은 발급이 끝나 입장 검증에서 거절되는 쿠폰뿐입니다.
+        redisTemplate.opsForSet().add(COUPON_IDS_KEY, String.valueOf(couponId));
+        Long position = redisTemplate.execute(ENTER_SCRIPT, List.of(lineKey(couponId), sequenceKey(couponId)), String.valueOf(userId));
+        if (position == null) {
+            throw new IllegalStateException("쿠폰 발급 대기열 스크립트 실행 결과가 없습니다. couponId: " + couponId);
+        }
+        return position;
+    }
+
+    @Override
+    public OptionalLong positionOf(Long couponId, Long userId) {
+        Long rank = redisTemplate.opsForZSet().rank(lineKey(couponId), String.valueOf(userId));
+        return rank != null ? OptionalLong.of(rank + 1) : OptionalLong.empty();
+    }
+
+    @Override
+    public List<Long> poll(Long couponId, int count) {
+        Set<TypedTuple<String>> polled = redisTemplate.opsForZSet().popMin(lineKey(couponId), count);
+        if (polled == null) {
+            return List.of();
+        }
+        return polled.stream()
+                .map(tuple -> Long.valueOf(tuple.getValue()))
+                .toList();
+    }
+
+    @Override
+    public Set<Long> couponIds() {
+        Set<String> members = redisTemplate.opsForSet().members(COUPON_IDS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public void close(Long couponId) {
+        redisTemplate.opsForSet().remove(COUPON_IDS_KEY, String.valueOf(couponId));
+        redisTemplate.delete(List.of(lineKey(couponId), sequenceKey(couponId)));
+    }
+
+    @Override
+    public void grant(Long couponId, Long userId, CouponAdmission admission, Duration ttl) {
+        redisTemplate.opsForValue().set(admissionKey(couponId, userId),
+                admission.token() + ADMISSION_DELIMITER + admission.expiresAt(), ttl);
+    }
+
+    @Override
+    public Optional<CouponAdmission> findAdmission(Long couponId, Long userId) {
+        String value = redisTemplate.opsForValue().get(admissionKey(couponId, userId));
+        if (value == null) {
+            return Optional.empty();
+        }
+        int delimiterIndex = value.indexOf(ADMISSION_DELIMITER);
+        return Optional.of(new CouponAdmission(value.substring(0, delimiterIndex),
+                LocalDateTime.parse(value.substring(delimiterIndex + 1))));
+    }
+
+    /**
+     * Redis Cluster 환경에서 같은 쿠폰의 대기열 키들이 같은 슬롯에 배치되도록 쿠폰 식별자를 해시 태그로 감쌉니다.
+     */
+    private String lineKey(Long couponId) {
+        return "coupon:{" + couponId + "}:waiting";
+    }
+
+    private String sequenceKey(Long couponId) {
+        return "coupon:{" + couponId + "}:waiting-seq";
+    }
+
+    private String admissionKey(Long couponId, Long userId) {
+        return "coupon:{" + couponId + "}:admission:" + userId;
+    }
+}
@@ -2,13 +2,25 @@ package com.maximum0.fastpickbe.coupon.ui;
 
 import com.maximum0.fastpickbe.common.annotation.LoginUser;
 import com.maximum0.fastpickbe.common.response.ApiResponse;
-import com.maximum0.fastpickbe.coupon.application.CouponIssueService;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueFacade;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueIdempotencyRegistry;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueOwnershipRouter;
+import com.maximum0.fastpickbe.coupon.application.CouponRaffleService;
+import com.maximum0.fastpickbe.coupon.application.CouponWaitingRoomService;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueTicket;
+import com.maximum0.fastpickbe.coupon.domain.CouponWaitingState;
 import com.maximum0.fastpickbe.coupon.ui.dto.CouponIssueRequest;
+import com.maximum0.fastpickbe.coupon.ui.dto.CouponIssueTicketResponse;
+import com.maximum0.fastpickbe.coupon.ui.dto.CouponWaitingRoomResponse;
 import com.maximum0.fastpickbe.user.domain.User;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -16,18 +28,109 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/coupon-issues")
 @RequiredArgsConstructor
 public class CouponIssueController {
-    private final CouponIssueService couponIssueService;
+    public static final String ADMISSION_TOKEN_HEADER = "X-Admission-Token";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final CouponIssueFacade couponIssueFacade;
+    private final CouponIssueOwnershipRouter couponIssueOwnershipRouter;
+    private final CouponWaitingRoomService couponWaitingRoomService;
+    private final CouponIssueIdempotencyRegistry couponIssueIdempotencyRegistry;
+    private final CouponRaffleService couponRaffleService;
 
     /**
      * 특정 쿠폰에 대한 발급 요청을 처리합니다.
-     * 
-     * @param request 발급 요청 정보 (쿠폰 ID 등)
-     * @param user    @LoginUser 어노테이션을 통해 주입된 현재 인증된 사용자
+     * 발급 대기열 입장 토큰이 필요하도록 설정된 경우, 대기열에서 부여받은 토큰을 헤더로 제출해야 합니다.
+     * Idempotency-Key 헤더가 있으면 같은 키의 재요청에 최초 발급 결과를 그대로 반환합니다.
+     * 여러 노드 환경에서 담당 노드 배정이 활성화되어 있으면, 쿠폰의 담당 노드가 아닌 노드는 담당 노드로 요청을 전달합니다.
+     *
+     * @param request        발급 요청 정보 (쿠폰 ID 등)
+     * @param admissionToken 발급 대기열에서 부여받은 입장 토큰
+     * @param idempotencyKey 재시도 요청을 식별하기 위한 클라이언트 생성 키
+     * @param user           @LoginUser 어노테이션을 통해 주입된 현재 인증된 사용자
      * @return ApiResponse<Long> 생성된 발급 이력의 식별자
      */
     @PostMapping
-    public ApiResponse<Long> issue(@RequestBody @Valid CouponIssueRequest request, @LoginUser User user) {
-        Long issuedId = couponIssueService.issue(request.couponId(), user);
+    public ApiResponse<Long> issue(@RequestBody @Valid CouponIssueRequest request,
+                                   @RequestHeader(value = ADMISSION_TOKEN_HEADER, required = false) String admissionToken,
+                                   @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                   @LoginUser User user) {
+        Long issuedId = couponIssueIdempotencyRegistry.execute(user.getId(), idempotencyKey, request.couponId(), () -> {
+            couponWaitingRoomService.verifyAdmission(request.couponId(), user, admissionToken);
+            return couponIssueOwnershipRouter.issue(request.couponId(), user);
+        });
         return ApiResponse.ok(issuedId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 특정 쿠폰에 대한 발급 요청을 비동기로 접수합니다.
+     * 수량 선점까지만 동기로 처리하고, 발급 결과는 티켓 조회 API 로 확인합니다.
+     *
+     * @param request        발급 요청 정보 (쿠폰 ID 등)
+     * @param admissionToken 발급 대기열에서 부여받은 입장 토큰
+     * @param user           @LoginUser 어노테이션을 통해 주입된 현재 인증된 사용자
+     * @return ApiResponse<CouponIssueTicketResponse> 접수된 발급 티켓 (202 Accepted)
+     */
+    @PostMapping("/async")
+    public ResponseEntity<ApiResponse<CouponIssueTicketResponse>> issueAsync(@RequestBody @Valid CouponIssueRequest request,
+                                                                             @RequestHeader(value = ADMISSION_TOKEN_HEADER, required = false) String admissionToken,
+                                                                             @LoginUser User user) {
+        couponWaitingRoomService.verifyAdmission(request.couponId(), user, admissionToken);
+        CouponIssueTicket ticket = couponIssueFacade.issueAsync(request.couponId(), user);
+        return ResponseEntity.accepted()
+                .body(ApiResponse.ok(CouponIssueTicketResponse.from(ticket)));
+    }
+
+    /**
+     * 추첨 쿠폰에 응모합니다.
+     * 응모는 수량을 차감하지 않으며, 응모 기간이 끝나면 추첨으로 뽑힌 당첨자에게 쿠폰이 일괄 발급됩니다.
+     *
+     * @param request 응모할 쿠폰 정보 (쿠폰 ID)
+     * @param user    @LoginUser 어노테이션을 통해 주입된 현재 인증된 사용자
+     * @return ApiResponse<Void> 응모 결과
+     */
+    @PostMapping("/raffle-entries")
+    public ApiResponse<Void> enterRaffle(@RequestBody @Valid CouponIssueRequest request, @LoginUser User user) {
+        couponRaffleService.enter(request.couponId(), user);
+        return ApiResponse.ok(null);
+    }
+
+    /**
+     * 비동기 발급 티켓의 처리 상태를 조회합니다.
+     *
+     * @param ticketId 조회할 티켓 식별자
+     * @param user     @LoginUser 어노테이션을 통해 주입된 현재 인증된 사용자
+     * @return ApiResponse<CouponIssueTicketResponse> 발급 티켓 상태
+     */
+    @GetMapping("/tickets/{ticketId}")
+    public ApiResponse<CouponIssueTicketResponse> getTicket(@PathVariable String ticketId, @LoginUser User user) {
+        CouponIssueTicket ticket = couponIssueFacade.getTicket(ticketId, user);
+        return ApiResponse.ok(CouponIssueTicketResponse.from(ticket));
+    }
+
+    /**
+     * 쿠폰 발급 대기열에 입장합니다.
+     * 대기 순번과 예상 대기 시간을 반환하며, 입장 순서가 되면 상태 조회 API 로 입장 토큰을 받을 수 있습니다.
+     *
+     * @param request 입장할 쿠폰 정보 (쿠폰 ID)
+     * @param user    @LoginUser 어노테이션을 통해 주입된 현재 인증된 사용자
+     * @return ApiResponse<CouponWaitingRoomResponse> 대기 상태
+     */
+    @PostMapping("/waiting-room")
+    public ApiResponse<CouponWaitingRoomResponse> enterWaitingRoom(@RequestBody @Valid CouponIssueRequest request, @LoginUser User user) {
+        CouponWaitingState state = couponWaitingRoomService.enter(request.couponId(), user);
+        return ApiResponse.ok(CouponWaitingRoomResponse.from(state));
+    }
+
+    /**
+     * 쿠폰 발급 대기열에서의 대기 상태를 조회합니다.
+     *
+     * @param couponId 조회할 쿠폰 식별자
+     * @param user     @LoginUser 어노테이션을 통해 주입된 현재 인증된 사용자
+     * @return ApiResponse<CouponWaitingRoomResponse> 대기 상태 (입장 허용 시 입장 토큰 포함)
+     */
+    @GetMapping("/waiting-room/{couponId}")
+    public ApiResponse<CouponWaitingRoomResponse> getWaitingRoomState(@PathVariable Long couponId, @LoginUser User user) {
+        CouponWaitingState state = couponWaitingRoomService.getState(couponId, user);
+        return ApiResponse.ok(CouponWaitingRoomResponse.from(state));
+    }
+}
@@ -0,0 +1,36 @@
+package com.maximum0.fastpickbe.coupon.ui;
+
+import com.maximum0.fastpickbe.common.response.ApiResponse;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueOwnershipRouter;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueForwarder;
+import com.maximum0.fastpickbe.coupon.ui.dto.CouponIssueForwardRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 다른 노드가 전달한 쿠폰 발급 요청을 받는 노드 간 API 입니다.
+ * 사용자 인증과 입장 토큰, Idempotency-Key 검증은 요청을 처음 받은 노드가 처리하며, 이 API 는 노드 간 인증 토큰만 검증합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class CouponIssueInternalController {
+    private final CouponIssueOwnershipRouter couponIssueOwnershipRouter;
+
+    /**
+     * 담당 노드로서 전달받은 쿠폰 발급 요청을 처리합니다.
+     *
+     * @param request       발급 요청 정보 (쿠폰 ID, 사용자 ID)
+     * @param internalToken 노드 간 인증 토큰
+     * @return ApiResponse<Long> 생성된 발급 이력의 식별자
+     */
+    @PostMapping(CouponIssueForwarder.FORWARD_PATH)
+    public ApiResponse<Long> issueForwarded(@RequestBody @Valid CouponIssueForwardRequest request,
+                                            @RequestHeader(value = CouponIssueForwarder.INTERNAL_TOKEN_HEADER, required = false) String internalToken) {
+        couponIssueOwnershipRouter.verifyInternalToken(internalToken);
+        return ApiResponse.ok(couponIssueOwnershipRouter.issueForwarded(request.couponId(), request.userId()));
+    }
+}
@@ -2,17 +2,25 @@ package com.maximum0.fastpickbe.coupon.ui;
 
 import com.maximum0.fastpickbe.common.annotation.LoginUser;
 import com.maximum0.fastpickbe.common.response.ApiResponse;
+import com.maximum0.fastpickbe.coupon.application.CouponRedemptionService;
 import com.maximum0.fastpickbe.coupon.application.MyCouponService;
+import com.maximum0.fastpickbe.coupon.ui.dto.CouponRedemptionRequest;
+import com.maximum0.fastpickbe.coupon.ui.dto.CouponRedemptionResponse;
 import com.maximum0.fastpickbe.coupon.ui.dto.MyCouponListRequest;
 import com.maximum0.fastpickbe.coupon.ui.dto.MyCouponResponse;
 import com.maximum0.fastpickbe.user.domain.User;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -25,6 +33,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class MyCouponController {
 
     private final MyCouponService myCouponService;
+    private final CouponRedemptionService couponRedemptionService;
 
     /**
      * 현재 로그인된 사용자의 쿠폰 목록을 조회합니다.
@@ -42,4 +51,45 @@ public class MyCouponController {
     ) {
         return ResponseEntity.ok(ApiResponse.ok(myCouponService.getMyCoupons(user, request, pageable)));
     }
+
+    /**
+     * 보유한 쿠폰 한 건을 사용 처리합니다.
+     * Idempotency-Key 헤더가 있으면 같은 키의 재요청에 이전 처리 결과(REDEEMED)를 그대로 반환합니다.
+     *
+     * @param issuedCouponId 사용할 발급 이력 ID
+     * @param idempotencyKey 재시도 요청을 식별하기 위한 클라이언트 생성 키
+     * @param user           현재 로그인된 사용자
+     * @return 사용 처리 결과
+     */
+    @PostMapping("/{issuedCouponId}/redemption")
+    public ResponseEntity<ApiResponse<CouponRedemptionResponse>> redeem(
+            @PathVariable Long issuedCouponId,
+            @RequestHeader(value = CouponIssueController.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @LoginUser User user
+    ) {
+        return ResponseEntity.ok(ApiResponse.ok(
+                CouponRedemptionResponse.from(couponRedemptionService.redeem(user, issuedCouponId, idempotencyKey))));
+    }
+
+    /**
+     * 보유한 쿠폰 여러 건을 한 번에 사용 처리하고 항목별 결과를 반환합니다.
+     * 일부 항목이 거절되어도 요청은 성공으로 응답하며, 항목별 상태로 사용 여부를 확인합니다.
+     *
+     * @param request        사용할 발급 이력 ID 목록
+     * @param idempotencyKey 재시도 요청을 식별하기 위한 클라이언트 생성 키
+     * @param user           현재 로그인된 사용자
+     * @return 요청 순서대로 정렬된 항목별 사용 처리 결과
+     */
+    @PostMapping("/redemptions")
+    public ResponseEntity<ApiResponse<List<CouponRedemptionResponse>>> redeemAll(
+            @RequestBody @Valid CouponRedemptionRequest request,
+            @RequestHeader(value = CouponIssueController.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @LoginUser User user
+    ) {
+        List<CouponRedemptionResponse> responses = couponRedemptionService.redeemAll(user, request.issuedCouponIds(), idempotencyKey)
+                .stream()
+                .map(CouponRedemptionResponse::from)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.ok(responses));
+    }
 }
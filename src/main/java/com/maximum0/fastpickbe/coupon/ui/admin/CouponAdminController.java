@@ -7,6 +7,8 @@ import jakarta.validation.Valid;
 import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -26,4 +28,15 @@ public class CouponAdminController {
         return ResponseEntity.created(URI.create("/api/v1/admin/coupons/" + couponId))
                 .body(response);
     }
+
+    /**
+     * 쿠폰을 사용 중지 처리합니다. 중지된 쿠폰은 즉시 발급이 거절됩니다.
+     * @param couponId 중지할 쿠폰 식별자
+     * @return ApiResponse<Void> 처리 결과
+     */
+    @PatchMapping("/{couponId}/disable")
+    public ApiResponse<Void> disableCoupon(@PathVariable Long couponId) {
+        couponAdminService.disableCoupon(couponId);
+        return ApiResponse.ok(null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.maximum0.fastpickbe.coupon.ui.admin;
+
+import com.maximum0.fastpickbe.common.response.ApiResponse;
+import com.maximum0.fastpickbe.coupon.application.admin.CouponBulkIssueFormat;
+import com.maximum0.fastpickbe.coupon.application.admin.CouponBulkIssueService;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJob;
+import com.maximum0.fastpickbe.coupon.ui.admin.dto.CouponBulkIssueJobResponse;
+import java.io.InputStream;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/coupons")
+@RequiredArgsConstructor
+public class CouponBulkIssueController {
+    private final CouponBulkIssueService couponBulkIssueService;
+
+    /**
+     * 요청 본문으로 스트리밍된 사용자 목록(CSV 또는 NDJSON)을 적재하고 일괄 발급 작업을 생성합니다.
+     * 발급은 비동기로 진행되며, 진행 상태는 Location 헤더의 작업 조회 API 로 확인합니다.
+     *
+     * @param couponId    발급할 쿠폰 식별자
+     * @param contentType 업로드 형식 (text/csv, application/x-ndjson)
+     * @param content     사용자 목록 스트림 (한 줄에 사용자 한 명)
+     * @return ApiResponse<CouponBulkIssueJobResponse> 생성된 작업 (202 Accepted)
+     */
+    @PostMapping(value = "/{couponId}/bulk-issues", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ApiResponse<CouponBulkIssueJobResponse>> createBulkIssueJob(@PathVariable Long couponId,
+                                                                                      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                                                      InputStream content) {
+        CouponBulkIssueJob job = couponBulkIssueService.createJob(couponId, CouponBulkIssueFormat.from(contentType), content);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/admin/coupons/bulk-issues/" + job.getId()))
+                .body(ApiResponse.ok(CouponBulkIssueJobResponse.from(job)));
+    }
+
+    /**
+     * 일괄 발급 작업의 진행 상태를 조회합니다.
+     * @param jobId 작업 식별자
+     * @return ApiResponse<CouponBulkIssueJobResponse> 작업 진행 상태
+     */
+    @GetMapping("/bulk-issues/{jobId}")
+    public ApiResponse<CouponBulkIssueJobResponse> getBulkIssueJob(@PathVariable Long jobId) {
+        return ApiResponse.ok(CouponBulkIssueJobResponse.from(couponBulkIssueService.getJob(jobId)));
+    }
+}
@@ -0,0 +1,34 @@
+package com.maximum0.fastpickbe.coupon.ui.admin;
+
+import com.maximum0.fastpickbe.common.response.ApiResponse;
+import com.maximum0.fastpickbe.coupon.application.admin.CouponAdminService;
+import com.maximum0.fastpickbe.coupon.ui.admin.dto.CouponCampaignCreateRequest;
+import jakarta.validation.Valid;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/coupon-campaigns")
+@RequiredArgsConstructor
+public class CouponCampaignAdminController {
+    private final CouponAdminService couponAdminService;
+
+    /**
+     * 여러 쿠폰이 함께 쓰는 발급 수량을 가진 캠페인을 생성합니다.
+     * 쿠폰 생성 요청의 campaignId 로 쿠폰을 캠페인에 소속시킵니다.
+     *
+     * @param request 캠페인명과 총 수량
+     * @return ApiResponse<Long> 생성된 캠페인 식별자 (201 Created)
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<Long>> createCampaign(@Valid @RequestBody CouponCampaignCreateRequest request) {
+        Long campaignId = couponAdminService.createCampaign(request.name(), request.totalQuantity());
+        return ResponseEntity.created(URI.create("/api/v1/admin/coupon-campaigns/" + campaignId))
+                .body(ApiResponse.ok(campaignId));
+    }
+}
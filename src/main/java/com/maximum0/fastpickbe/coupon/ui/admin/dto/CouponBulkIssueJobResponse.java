@@ -0,0 +1,34 @@
+package com.maximum0.fastpickbe.coupon.ui.admin.dto;
+
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJob;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJobStatus;
+import lombok.Builder;
+
+@Builder
+public record CouponBulkIssueJobResponse(
+        Long jobId,
+        Long couponId,
+        CouponBulkIssueJobStatus status,
+        long totalCount,
+        long processedCount,
+        long issuedCount,
+        long skippedCount,
+        String failureCode,
+        String failureMessage
+) {
+    public static CouponBulkIssueJobResponse from(CouponBulkIssueJob job) {
+        ErrorCode failureCode = job.getFailureCode();
+        return CouponBulkIssueJobResponse.builder()
+                .jobId(job.getId())
+                .couponId(job.getCouponId())
+                .status(job.getStatus())
+                .totalCount(job.getTotalCount())
+                .processedCount(job.getProcessedCount())
+                .issuedCount(job.getIssuedCount())
+                .skippedCount(job.getSkippedCount())
+                .failureCode(failureCode != null ? failureCode.getCode() : null)
+                .failureMessage(failureCode != null ? failureCode.getMessage() : null)
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.maximum0.fastpickbe.coupon.ui.admin.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+public record CouponCampaignCreateRequest(
+        @NotBlank(message = "캠페인명은 필수입니다.")
+        String name,
+
+        @Min(value = 1, message = "캠페인 총 수량은 1개 이상이어야 합니다.")
+        int totalQuantity
+) {}
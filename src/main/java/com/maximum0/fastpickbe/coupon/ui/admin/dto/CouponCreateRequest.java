@@ -2,6 +2,8 @@ package com.maximum0.fastpickbe.coupon.ui.admin.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -23,23 +25,46 @@ public record CouponCreateRequest(
         @Min(value = 1, message = "총 발행 수량은 1개 이상이어야 합니다.")
         int totalQuantity,
 
+        @Min(value = 1, message = "인당 발급 한도는 1 이상이어야 합니다.")
+        Integer limitPerUser,
+
         @NotNull(message = "시작일은 필수입니다.")
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
         LocalDateTime startAt,
 
         @NotNull(message = "종료일은 필수입니다.")
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
-        LocalDateTime endAt
+        LocalDateTime endAt,
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime entryEndAt,
+
+        CouponIssueMode issueMode,
+
+        @Valid
+        CouponReleaseScheduleRequest releaseSchedule,
+
+        Long campaignId
 ) {
     public Coupon toEntity() {
-        return Coupon.create(
+        Coupon coupon = Coupon.create(
                 brand,
                 title,
                 summary,
                 description,
                 totalQuantity,
                 startAt,
-                endAt
+                endAt,
+                issueMode,
+                releaseSchedule != null ? releaseSchedule.toSchedule() : null,
+                entryEndAt
         );
+        if (limitPerUser != null) {
+            coupon.changeLimitPerUser(limitPerUser);
+        }
+        if (campaignId != null) {
+            coupon.joinCampaign(campaignId);
+        }
+        return coupon;
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.maximum0.fastpickbe.coupon.ui.admin.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponReleaseSchedule;
+import com.maximum0.fastpickbe.coupon.domain.CouponReleaseWave;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 쿠폰 수량 공개 일정 요청입니다. 분할 공개(releaseUnit, releaseIntervalSeconds)와 회차 공개(waves) 중 하나만 지정합니다.
+ */
+public record CouponReleaseScheduleRequest(
+        @Min(value = 1, message = "공개 수량은 1개 이상이어야 합니다.")
+        Integer releaseUnit,
+
+        @Min(value = 1, message = "공개 간격은 1초 이상이어야 합니다.")
+        Long releaseIntervalSeconds,
+
+        @Valid
+        List<Wave> waves
+) {
+    public record Wave(
+            @NotBlank(message = "공개 회차 이름은 필수입니다.")
+            String name,
+
+            @NotNull(message = "공개 시각은 필수입니다.")
+            @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+            LocalDateTime releaseAt,
+
+            @Min(value = 1, message = "회차 공개 수량은 1개 이상이어야 합니다.")
+            int quantity
+    ) {
+    }
+
+    /**
+     * @throws BusinessException 분할 공개와 회차 공개를 함께 지정했거나 공개 일정이 올바르지 않을 경우 (INVALID_INPUT_VALUE)
+     */
+    public CouponReleaseSchedule toSchedule() {
+        boolean drip = releaseUnit != null || releaseIntervalSeconds != null;
+        if (waves == null || waves.isEmpty()) {
+            return CouponReleaseSchedule.drip(
+                    releaseUnit != null ? releaseUnit : 0,
+                    releaseIntervalSeconds != null ? Duration.ofSeconds(releaseIntervalSeconds) : null
+            );
+        }
+        if (drip) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return CouponReleaseSchedule.waves(waves.stream()
+                .map(wave -> new CouponReleaseWave(wave.name(), wave.releaseAt(), wave.quantity()))
+                .toList());
+    }
+}
@@ -0,0 +1,11 @@
+package com.maximum0.fastpickbe.coupon.ui.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public record CouponIssueForwardRequest(
+        @NotNull(message = "쿠폰 ID는 필수입니다.")
+        Long couponId,
+        @NotNull(message = "사용자 ID는 필수입니다.")
+        Long userId
+) {
+}
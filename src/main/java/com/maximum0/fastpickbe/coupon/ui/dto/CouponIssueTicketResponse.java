@@ -0,0 +1,33 @@
+package com.maximum0.fastpickbe.coupon.ui.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueTicket;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueTicketStatus;
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record CouponIssueTicketResponse(
+        String ticketId,
+        Long couponId,
+        CouponIssueTicketStatus status,
+        Long issuedCouponId,
+        String errorCode,
+        String errorMessage,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime requestedAt
+) {
+    public static CouponIssueTicketResponse from(CouponIssueTicket ticket) {
+        ErrorCode errorCode = ticket.errorCode();
+        return CouponIssueTicketResponse.builder()
+                .ticketId(ticket.id())
+                .couponId(ticket.couponId())
+                .status(ticket.status())
+                .issuedCouponId(ticket.issuedCouponId())
+                .errorCode(errorCode != null ? errorCode.getCode() : null)
+                .errorMessage(errorCode != null ? errorCode.getMessage() : null)
+                .requestedAt(ticket.requestedAt())
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.maximum0.fastpickbe.coupon.ui.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record CouponRedemptionRequest(
+        @NotEmpty(message = "사용할 쿠폰 ID 목록은 필수입니다.")
+        @Size(max = 100, message = "한 번에 최대 100개의 쿠폰을 사용할 수 있습니다.")
+        List<@NotNull(message = "쿠폰 ID는 필수입니다.") Long> issuedCouponIds
+) {
+}
@@ -0,0 +1,18 @@
+package com.maximum0.fastpickbe.coupon.ui.dto;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponRedemption;
+import com.maximum0.fastpickbe.coupon.domain.CouponRedemptionStatus;
+
+public record CouponRedemptionResponse(
+        Long issuedCouponId,
+        CouponRedemptionStatus status,
+        String description
+) {
+    public static CouponRedemptionResponse from(CouponRedemption redemption) {
+        return new CouponRedemptionResponse(
+                redemption.issuedCouponId(),
+                redemption.status(),
+                redemption.status().getDescription()
+        );
+    }
+}
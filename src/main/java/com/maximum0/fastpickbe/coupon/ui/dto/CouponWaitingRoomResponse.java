@@ -0,0 +1,31 @@
+package com.maximum0.fastpickbe.coupon.ui.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.maximum0.fastpickbe.coupon.domain.CouponAdmission;
+import com.maximum0.fastpickbe.coupon.domain.CouponWaitingState;
+import com.maximum0.fastpickbe.coupon.domain.CouponWaitingStatus;
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record CouponWaitingRoomResponse(
+        Long couponId,
+        CouponWaitingStatus status,
+        Long position,
+        long estimatedWaitSeconds,
+        String admissionToken,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime admissionExpiresAt
+) {
+    public static CouponWaitingRoomResponse from(CouponWaitingState state) {
+        CouponAdmission admission = state.admission();
+        return CouponWaitingRoomResponse.builder()
+                .couponId(state.couponId())
+                .status(state.status())
+                .position(state.position())
+                .estimatedWaitSeconds((state.estimatedWait().toMillis() + 999) / 1000)
+                .admissionToken(admission != null ? admission.token() : null)
+                .admissionExpiresAt(admission != null ? admission.expiresAt() : null)
+                .build();
+    }
+}
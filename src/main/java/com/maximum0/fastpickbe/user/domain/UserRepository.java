@@ -7,6 +7,7 @@ public interface UserRepository {
     User save(User user);
     List<User> saveAll(List<User> users);
     Optional<User> findById(Long id);
+    User getReference(Long id);
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
 
@@ -15,4 +15,13 @@ public enum UserRole {
     public String getWithPrefix() {
         return "ROLE_" + this.name();
     }
+
+    /**
+     * "ROLE_" 접두사가 붙은 권한 문자열을 사용자 역할로 변환합니다.
+     * @param authority 권한 문자열 (예: ROLE_USER)
+     * @return 사용자 역할
+     */
+    public static UserRole fromAuthority(String authority) {
+        return UserRole.valueOf(authority.substring("ROLE_".length()));
+    }
 }
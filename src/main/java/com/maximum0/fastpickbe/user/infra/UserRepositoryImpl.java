@@ -27,6 +27,15 @@ public class UserRepositoryImpl implements UserRepository {
         return userJpaRepository.findById(id);
     }
 
+    /**
+     * 식별자만 채워진 사용자 참조(지연 로딩 프록시)를 조회 쿼리 없이 반환합니다.
+     * 연관관계 설정이나 식별자 비교에만 사용하며, 다른 필드에 접근하면 영속성 컨텍스트 밖에서 예외가 발생합니다.
+     */
+    @Override
+    public User getReference(Long id) {
+        return userJpaRepository.getReferenceById(id);
+    }
+
     @Override
     public Optional<User> findByEmail(String email) {
         return userJpaRepository.findByEmail(email);
@@ -0,0 +1,80 @@
+package com.maximum0.fastpickbe.common.resolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.common.security.principal.PrincipalDetails;
+import com.maximum0.fastpickbe.user.domain.User;
+import com.maximum0.fastpickbe.user.domain.UserRepository;
+import com.maximum0.fastpickbe.user.domain.UserRole;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginUserArgumentResolver 단위 테스트")
+class LoginUserArgumentResolverTest {
+
+    @InjectMocks
+    private LoginUserArgumentResolver loginUserArgumentResolver;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final User user = User.forTest(7L, "user@test.com", "pw", "유저");
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("로그인 사용자 주입 테스트")
+    class ResolveArgumentTest {
+
+        @Test
+        @DisplayName("인증 주체에 사용자 식별자가 있으면 이메일 조회 없이 사용자 참조를 주입한다")
+        void resolveArgument_returnsReference_whenPrincipalHasUserId() {
+            // given
+            PrincipalDetails principal = PrincipalDetails.of(7L, "user@test.com", UserRole.USER);
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(principal, "token", principal.getAuthorities()));
+            given(userRepository.getReference(7L)).willReturn(user);
+
+            // when
+            Object resolved = loginUserArgumentResolver.resolveArgument(null, null, null, null);
+
+            // then
+            assertThat(resolved).isSameAs(user);
+            verify(userRepository, never()).findByEmail(anyString());
+        }
+
+        @Test
+        @DisplayName("사용자 식별자가 없는 이전 토큰이면 이메일로 사용자를 조회한다")
+        void resolveArgument_findsByEmail_whenPrincipalHasNoUserId() {
+            // given
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    "user@test.com", "token", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+            given(userRepository.findByEmail("user@test.com")).willReturn(Optional.of(user));
+
+            // when
+            Object resolved = loginUserArgumentResolver.resolveArgument(null, null, null, null);
+
+            // then
+            assertThat(resolved).isSameAs(user);
+        }
+    }
+}
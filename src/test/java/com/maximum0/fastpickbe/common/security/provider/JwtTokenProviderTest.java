@@ -7,6 +7,9 @@ import static org.mockito.BDDMockito.given;
 import com.maximum0.fastpickbe.common.exception.BusinessException;
 import com.maximum0.fastpickbe.common.exception.ErrorCode;
 import com.maximum0.fastpickbe.common.security.config.JwtProperties;
+import com.maximum0.fastpickbe.common.security.principal.PrincipalDetails;
+import com.maximum0.fastpickbe.user.domain.User;
+import com.maximum0.fastpickbe.user.domain.UserRole;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
@@ -69,6 +72,26 @@ class JwtTokenProviderTest {
             assertThat(resultAuth.getAuthorities().iterator().next().getAuthority()).isEqualTo("ROLE_USER");
         }
 
+        @Test
+        @DisplayName("인증 주체가 PrincipalDetails 이면 사용자 식별자를 토큰에 담고, 조회 없이 인증 주체를 복원한다")
+        void getAuthentication_restoresPrincipalDetails_whenTokenHasUserId() {
+            // given
+            given(jwtProperties.accessTokenExpiration()).willReturn(Duration.ofMinutes(30));
+            PrincipalDetails principal = new PrincipalDetails(User.forTest(7L, "user@test.com", "pw", "유저"));
+            Authentication auth = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+
+            // when
+            String accessToken = jwtTokenProvider.createAccessToken(auth);
+            Authentication resultAuth = jwtTokenProvider.getAuthentication(accessToken);
+
+            // then
+            assertThat(resultAuth.getName()).isEqualTo("user@test.com");
+            assertThat(resultAuth.getPrincipal()).isInstanceOfSatisfying(PrincipalDetails.class, restored -> {
+                assertThat(restored.getId()).isEqualTo(7L);
+                assertThat(restored.getRole()).isEqualTo(UserRole.USER);
+            });
+        }
+
         @Test
         @DisplayName("토큰에 권한 정보가 누락된 경우, INTERNAL_SERVER_ERROR를 발생시킨다")
         void getAuthentication_throwsBusinessException_whenNoAuthorities() {
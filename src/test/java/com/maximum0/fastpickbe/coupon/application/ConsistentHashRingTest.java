@@ -0,0 +1,81 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueNode;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ConsistentHashRing 단위 테스트")
+class ConsistentHashRingTest {
+    private final CouponIssueNode nodeA = CouponIssueNode.forTest("node-a", "http://node-a:8080");
+    private final CouponIssueNode nodeB = CouponIssueNode.forTest("node-b", "http://node-b:8080");
+    private final CouponIssueNode nodeC = CouponIssueNode.forTest("node-c", "http://node-c:8080");
+
+    private String ownerIdOf(ConsistentHashRing ring, long couponId) {
+        return ring.ownerOf(couponId).orElseThrow().getNodeId();
+    }
+
+    @Nested
+    @DisplayName("담당 노드 조회 테스트")
+    class OwnerOfTest {
+
+        @Test
+        @DisplayName("노드 목록의 순서와 관계없이 같은 쿠폰은 같은 담당 노드로 배정된다")
+        void ownerOf_returnsSameNode_regardlessOfNodeOrder() {
+            // given
+            ConsistentHashRing ring = new ConsistentHashRing(List.of(nodeA, nodeB, nodeC), 160);
+            ConsistentHashRing reordered = new ConsistentHashRing(List.of(nodeC, nodeA, nodeB), 160);
+
+            // when & then
+            LongStream.rangeClosed(1, 1_000).forEach(couponId ->
+                    assertThat(ownerIdOf(reordered, couponId)).isEqualTo(ownerIdOf(ring, couponId)));
+        }
+
+        @Test
+        @DisplayName("노드가 추가되면 추가된 노드로 옮겨가는 쿠폰만 담당 노드가 바뀐다")
+        void ownerOf_movesOnlyToAddedNode_whenNodeIsAdded() {
+            // given
+            ConsistentHashRing before = new ConsistentHashRing(List.of(nodeA, nodeB), 160);
+            ConsistentHashRing after = new ConsistentHashRing(List.of(nodeA, nodeB, nodeC), 160);
+
+            // when
+            List<Long> moved = LongStream.rangeClosed(1, 3_000)
+                    .filter(couponId -> !ownerIdOf(before, couponId).equals(ownerIdOf(after, couponId)))
+                    .boxed()
+                    .toList();
+
+            // then
+            assertThat(moved).hasSizeBetween(700, 1_300);
+            assertThat(moved).allMatch(couponId -> ownerIdOf(after, couponId).equals("node-c"));
+        }
+
+        @Test
+        @DisplayName("노드가 없으면 담당 노드를 반환하지 않는다")
+        void ownerOf_returnsEmpty_whenRingIsEmpty() {
+            // when & then
+            assertThat(ConsistentHashRing.EMPTY.ownerOf(1L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("노드 구성 비교 테스트")
+    class HasSameMembersTest {
+
+        @Test
+        @DisplayName("노드 식별자와 주소가 모두 같을 때만 같은 구성으로 판단한다")
+        void hasSameMembers_comparesNodeIdAndBaseUrl() {
+            // given
+            ConsistentHashRing ring = new ConsistentHashRing(List.of(nodeA, nodeB), 160);
+            CouponIssueNode movedB = CouponIssueNode.forTest("node-b", "http://node-b:9090");
+
+            // when & then
+            assertThat(ring.hasSameMembers(List.of(nodeB, nodeA))).isTrue();
+            assertThat(ring.hasSameMembers(List.of(nodeA, movedB))).isFalse();
+            assertThat(ring.hasSameMembers(List.of(nodeA, nodeB, nodeC))).isFalse();
+        }
+    }
+}
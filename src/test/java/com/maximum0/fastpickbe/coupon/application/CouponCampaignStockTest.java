@@ -0,0 +1,133 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaign;
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaignRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponUseStatus;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponCampaignStock 단위 테스트")
+class CouponCampaignStockTest {
+    @InjectMocks
+    private CouponCampaignStock couponCampaignStock;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponCampaignRepository couponCampaignRepository;
+
+    private final Long couponId = 1L;
+    private final Long campaignId = 3L;
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+
+    private void givenCampaignCoupon() {
+        Coupon coupon = Coupon.forTest(couponId, "브랜드명", "캠페인 쿠폰", "요약 설명", "상세 설명", 100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+        coupon.joinCampaign(campaignId);
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+        given(couponCampaignRepository.findById(campaignId)).willReturn(Optional.of(CouponCampaign.forTest(campaignId, "봄 시즌 캠페인", 100, 4)));
+    }
+
+    @Nested
+    @DisplayName("캠페인 수량 차감 테스트")
+    class ReserveTest {
+
+        @Test
+        @DisplayName("힌트로 정한 기본 분할 행에서 차감하며, 캠페인 정보는 최초 한 번만 조회한다")
+        void reserve_decreasesHomeStripe_andLoadsCampaignOnce() {
+            // given
+            givenCampaignCoupon();
+            given(couponCampaignRepository.decreaseStripe(campaignId, 2, 1)).willReturn(true);
+            given(couponCampaignRepository.decreaseStripe(campaignId, 3, 1)).willReturn(true);
+
+            // when
+            couponCampaignStock.reserve(couponId, 6L, 1);
+            couponCampaignStock.reserve(couponId, 7L, 1);
+
+            // then
+            verify(couponRepository, times(1)).findById(couponId);
+            verify(couponCampaignRepository, never()).lockStripes(campaignId);
+        }
+
+        @Test
+        @DisplayName("기본 분할 행이 비면 모든 분할 행을 잠그고 차감한 뒤 남은 수량을 고르게 다시 나눈다")
+        void reserve_rebalancesStripes_whenHomeStripeIsEmpty() {
+            // given
+            givenCampaignCoupon();
+            given(couponCampaignRepository.decreaseStripe(campaignId, 0, 1)).willReturn(false);
+            given(couponCampaignRepository.lockStripes(campaignId)).willReturn(new int[]{0, 5, 0, 2});
+
+            // when
+            couponCampaignStock.reserve(couponId, 0L, 1);
+
+            // then
+            verify(couponCampaignRepository).updateStripes(campaignId, new int[]{2, 2, 1, 1});
+        }
+
+        @Test
+        @DisplayName("모든 분할 행의 합계가 부족하면 COUPON_CAMPAIGN_EXHAUSTED 예외가 발생한다")
+        void reserve_throwsBusinessException_whenCampaignIsExhausted() {
+            // given
+            givenCampaignCoupon();
+            given(couponCampaignRepository.decreaseStripe(campaignId, 0, 1)).willReturn(false);
+            given(couponCampaignRepository.lockStripes(campaignId)).willReturn(new int[]{0, 0, 0, 0});
+
+            // when & then
+            assertThatThrownBy(() -> couponCampaignStock.reserve(couponId, 0L, 1))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_CAMPAIGN_EXHAUSTED);
+        }
+
+        @Test
+        @DisplayName("요청 수량까지 가능한 만큼만 차감하고 차감한 수량을 반환한다")
+        void reserveUpTo_returnsGrantedQuantity_whenCampaignIsShort() {
+            // given
+            givenCampaignCoupon();
+            given(couponCampaignRepository.decreaseStripe(campaignId, 1, 5)).willReturn(false);
+            given(couponCampaignRepository.lockStripes(campaignId)).willReturn(new int[]{1, 1, 0, 1});
+
+            // when
+            int granted = couponCampaignStock.reserveUpTo(couponId, 1L, 5);
+
+            // then
+            assertThat(granted).isEqualTo(3);
+            verify(couponCampaignRepository).updateStripes(campaignId, new int[]{0, 0, 0, 0});
+        }
+
+        @Test
+        @DisplayName("캠페인에 소속되지 않은 쿠폰은 캠페인 수량을 조회하거나 차감하지 않는다")
+        void reserveUpTo_passesThrough_whenCouponHasNoCampaign() {
+            // given
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "일반 쿠폰", "요약 설명", "상세 설명", 100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+
+            // when
+            int granted = couponCampaignStock.reserveUpTo(couponId, 1L, 5);
+
+            // then
+            assertThat(granted).isEqualTo(5);
+            verify(couponCampaignRepository, never()).decreaseStripe(anyLong(), anyInt(), anyInt());
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponUseStatus;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponEligibilityTable 단위 테스트")
+class CouponEligibilityTableTest {
+    @Mock
+    private CouponRepository couponRepository;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+    private CouponEligibilityTable couponEligibilityTable;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        couponEligibilityTable = new CouponEligibilityTable(couponRepository, clock);
+    }
+
+    private Coupon couponOf(int totalQuantity, int issuedQuantity, LocalDateTime startAt, LocalDateTime endAt, CouponUseStatus useStatus) {
+        return Coupon.forTest(1L, "브랜드명", "조건 쿠폰", "요약 설명", "상세 설명", totalQuantity, issuedQuantity, startAt, endAt, useStatus);
+    }
+
+    private Coupon raffleCouponOf(LocalDateTime startAt, LocalDateTime entryEndAt) {
+        return new Coupon(1L, "브랜드명", "추첨 쿠폰", "요약 설명", "상세 설명", 100, 0, startAt, entryEndAt.plusDays(7), CouponUseStatus.AVAILABLE, CouponIssueMode.RAFFLE, null, entryEndAt);
+    }
+
+    @Nested
+    @DisplayName("발급 가능 조건 검증 테스트")
+    class ValidateTest {
+
+        @Test
+        @DisplayName("발급 가능한 쿠폰은 통과하며, DB 조회는 최초 한 번만 수행한다")
+        void validate_passes_andLoadsOnce() {
+            // given
+            given(couponRepository.findById(1L)).willReturn(Optional.of(couponOf(100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE)));
+
+            // when & then
+            assertThatCode(() -> couponEligibilityTable.validate(1L)).doesNotThrowAnyException();
+            assertThatCode(() -> couponEligibilityTable.validate(1L)).doesNotThrowAnyException();
+            verify(couponRepository, times(1)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("발급 시작 전이면 COUPON_NOT_AVAILABLE_PERIOD 예외가 발생한다")
+        void validate_throwsBusinessException_beforeStartAt() {
+            // given
+            given(couponRepository.findById(1L)).willReturn(Optional.of(couponOf(100, 0, now.plusHours(1), now.plusDays(1), CouponUseStatus.AVAILABLE)));
+
+            // when & then
+            assertThatThrownBy(() -> couponEligibilityTable.validate(1L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_AVAILABLE_PERIOD);
+        }
+
+        @Test
+        @DisplayName("사용 중지로 갱신된 쿠폰은 DB 조회 없이 COUPON_DISABLED 예외가 발생한다")
+        void validate_throwsBusinessException_afterRefreshedAsDisabled() {
+            // given
+            Coupon coupon = couponOf(100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            coupon.disable();
+            couponEligibilityTable.refresh(coupon);
+
+            // when & then
+            assertThatThrownBy(() -> couponEligibilityTable.validate(1L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_DISABLED);
+            verify(couponRepository, times(0)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("DB 경로에서 품절이 확인되면 이후 요청은 COUPON_EXHAUSTED 예외가 발생한다")
+        void validate_throwsBusinessException_afterSoldOutFeedback() {
+            // given
+            given(couponRepository.findById(1L)).willReturn(Optional.of(couponOf(100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE)));
+            couponEligibilityTable.validate(1L);
+
+            // when
+            couponEligibilityTable.onRejected(1L, ErrorCode.COUPON_EXHAUSTED);
+
+            // then
+            assertThatThrownBy(() -> couponEligibilityTable.validate(1L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_EXHAUSTED);
+        }
+
+        @Test
+        @DisplayName("리스 방식 쿠폰은 발행 수량이 모두 리스되었거나 리스 재고 부족으로 거절되어도 품절로 기록하지 않는다")
+        void validate_passes_whenLeaseCouponIsOnlyLeased() {
+            // given
+            Coupon leased = new Coupon(1L, "브랜드명", "리스 쿠폰", "요약 설명", "상세 설명", 100, 100, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE, CouponIssueMode.LEASE, null, null);
+            given(couponRepository.findById(1L)).willReturn(Optional.of(leased));
+            couponEligibilityTable.validate(1L);
+
+            // when
+            couponEligibilityTable.onRejected(1L, ErrorCode.COUPON_EXHAUSTED);
+
+            // then
+            assertThatCode(() -> couponEligibilityTable.validate(1L)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("추첨 쿠폰 응모 조건 검증 테스트")
+    class ValidateEnterableTest {
+
+        @Test
+        @DisplayName("응모 기간 중인 추첨 쿠폰은 응모 조건을 통과하지만, 선착순 발급 조건은 COUPON_RAFFLE_ONLY 예외로 거절한다")
+        void validateEnterable_passes_andValidateRejectsRaffleCoupon() {
+            // given
+            given(couponRepository.findById(1L)).willReturn(Optional.of(raffleCouponOf(now.minusDays(1), now.plusDays(1))));
+
+            // when & then
+            assertThatCode(() -> couponEligibilityTable.validateEnterable(1L)).doesNotThrowAnyException();
+            assertThatThrownBy(() -> couponEligibilityTable.validate(1L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_RAFFLE_ONLY);
+        }
+
+        @Test
+        @DisplayName("응모 마감 시각이 지난 추첨 쿠폰이면 사용 기간 중이어도 COUPON_NOT_AVAILABLE_PERIOD 예외가 발생한다")
+        void validateEnterable_throwsBusinessException_afterEntryEndAt() {
+            // given
+            given(couponRepository.findById(1L)).willReturn(Optional.of(raffleCouponOf(now.minusDays(2), now.minusDays(1))));
+
+            // when & then
+            assertThatThrownBy(() -> couponEligibilityTable.validateEnterable(1L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_AVAILABLE_PERIOD);
+        }
+
+        @Test
+        @DisplayName("추첨 쿠폰이 아니면 COUPON_NOT_RAFFLE 예외가 발생한다")
+        void validateEnterable_throwsBusinessException_whenCouponIsNotRaffle() {
+            // given
+            given(couponRepository.findById(1L)).willReturn(Optional.of(couponOf(100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE)));
+
+            // when & then
+            assertThatThrownBy(() -> couponEligibilityTable.validateEnterable(1L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_RAFFLE);
+        }
+    }
+
+    @Nested
+    @DisplayName("발급 대기열 입장 조건 검증 테스트")
+    class ValidateWaitableTest {
+
+        @Test
+        @DisplayName("발급 시작 전인 쿠폰도 대기열 입장 조건을 통과하지만, 발급은 시작되지 않은 상태로 판단한다")
+        void validateWaitable_passes_beforeStartAt() {
+            // given
+            given(couponRepository.findById(1L)).willReturn(Optional.of(couponOf(100, 0, now.plusHours(1), now.plusDays(1), CouponUseStatus.AVAILABLE)));
+
+            // when & then
+            assertThatCode(() -> couponEligibilityTable.validateWaitable(1L)).doesNotThrowAnyException();
+            assertThat(couponEligibilityTable.hasStarted(1L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("품절된 쿠폰이면 COUPON_EXHAUSTED 예외가 발생한다")
+        void validateWaitable_throwsBusinessException_whenSoldOut() {
+            // given
+            given(couponRepository.findById(1L)).willReturn(Optional.of(couponOf(100, 100, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE)));
+
+            // when & then
+            assertThatThrownBy(() -> couponEligibilityTable.validateWaitable(1L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_EXHAUSTED);
+        }
+    }
+
+    @Nested
+    @DisplayName("발급 종료 여부 테스트")
+    class HasEndedTest {
+
+        @Test
+        @DisplayName("발급 기간이 끝난 쿠폰은 종료된 것으로 판단하고, 품절만 된 쿠폰은 종료되지 않은 것으로 판단한다")
+        void hasEnded_returnsTrue_onlyAfterEndAt() {
+            // given
+            Coupon soldOut = Coupon.forTest(1L, "브랜드명", "품절 쿠폰", "요약 설명", "상세 설명", 100, 100, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            Coupon expired = Coupon.forTest(2L, "브랜드명", "종료 쿠폰", "요약 설명", "상세 설명", 100, 0, now.minusDays(2), now, CouponUseStatus.AVAILABLE);
+            given(couponRepository.findById(1L)).willReturn(Optional.of(soldOut));
+            given(couponRepository.findById(2L)).willReturn(Optional.of(expired));
+
+            // when & then
+            assertThat(couponEligibilityTable.hasEnded(1L)).isFalse();
+            assertThat(couponEligibilityTable.hasEnded(2L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("삭제된 쿠폰은 예외 없이 종료된 것으로 판단한다")
+        void hasEnded_returnsTrue_whenCouponNotFound() {
+            // given
+            given(couponRepository.findById(1L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThat(couponEligibilityTable.hasEnded(1L)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueCounter;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueTicket;
+import com.maximum0.fastpickbe.coupon.domain.CouponReleaseSchedule;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponIssueBatchProcessor 단위 테스트")
+class CouponIssueBatchProcessorTest {
+
+    @Mock
+    private CouponIssueService couponIssueService;
+
+    @Mock
+    private CouponIssueCounter couponIssueCounter;
+
+    @Mock
+    private CouponIssueTicketStore couponIssueTicketStore;
+
+    @Mock
+    private IssuedUserBitmapRegistry issuedUserBitmapRegistry;
+
+    @Mock
+    private CouponEligibilityTable couponEligibilityTable;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private CouponReleaseGate couponReleaseGate;
+    private CouponIssueBatchProcessor couponIssueBatchProcessor;
+
+    private final Long couponId = 1L;
+    private final Long userId = 10L;
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        couponReleaseGate = new CouponReleaseGate(couponRepository, clock);
+        couponIssueBatchProcessor = new CouponIssueBatchProcessor(couponIssueService, couponIssueCounter, couponIssueTicketStore,
+                issuedUserBitmapRegistry, couponEligibilityTable, couponReleaseGate, new CouponIssueAsyncProperties(10, 10, Duration.ofMinutes(10)));
+
+        // 한 건만 공개된 쿠폰의 공개분을 비동기 접수 시점에 통과시킨 상태
+        Coupon coupon = Coupon.create("브랜드명", "분할 공개 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(1),
+                null, CouponReleaseSchedule.drip(1, Duration.ofMinutes(10)));
+        given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+        couponReleaseGate.acquire(couponId);
+    }
+
+    @Nested
+    @DisplayName("일괄 발급 결과 반영 테스트")
+    class ProcessTest {
+
+        @Test
+        @DisplayName("남은 수량만큼 발급된 티켓은 완료하고, 나머지 티켓만 개별 사유로 실패 처리한다")
+        void process_completesGrantedTickets_andFailsOnlyTheRest() {
+            // given
+            CouponIssueTicket granted = CouponIssueTicket.pending(couponId, userId, now);
+            CouponIssueTicket rejected = CouponIssueTicket.pending(couponId, 11L, now);
+            given(couponIssueService.issueReservedBatch(couponId, List.of(userId, 11L)))
+                    .willReturn(List.of(CouponIssueOutcome.issued(100L), CouponIssueOutcome.failed(ErrorCode.COUPON_EXHAUSTED)));
+
+            // when
+            couponIssueBatchProcessor.process(List.of(granted, rejected));
+
+            // then
+            verify(couponIssueTicketStore).update(granted.issued(100L));
+            verify(couponIssueTicketStore).update(rejected.failed(ErrorCode.COUPON_EXHAUSTED));
+            verify(couponIssueCounter).cancel(couponId, 11L);
+            verify(couponIssueCounter, never()).cancel(couponId, userId);
+            verify(couponEligibilityTable).onRejected(couponId, ErrorCode.COUPON_EXHAUSTED);
+        }
+    }
+
+    @Nested
+    @DisplayName("발급 실패 처리 테스트")
+    class FailTest {
+
+        @Test
+        @DisplayName("일괄 발급이 예외로 실패하면 공개 수량 게이트의 통과 건수를 되돌려 다음 요청을 통과시킨다")
+        void process_cancelsReleaseGate_whenBatchFails() {
+            // given
+            CouponIssueTicket ticket = CouponIssueTicket.pending(couponId, userId, now);
+            given(couponIssueService.issueReservedBatch(couponId, List.of(userId))).willThrow(new IllegalStateException("DB 오류"));
+
+            // when
+            couponIssueBatchProcessor.process(List.of(ticket));
+
+            // then
+            verify(couponIssueCounter).cancel(couponId, userId);
+            verify(couponIssueTicketStore).update(ticket.failed(ErrorCode.INTERNAL_SERVER_ERROR));
+            assertThatCode(() -> couponReleaseGate.acquire(couponId)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("발급 조건 위반으로 거절되면 거절 사유를 반영하고 공개 수량 게이트의 통과 건수를 되돌린다")
+        void process_cancelsReleaseGate_whenBatchIsRejected() {
+            // given
+            CouponIssueTicket ticket = CouponIssueTicket.pending(couponId, userId, now);
+            given(couponIssueService.issueReservedBatch(couponId, List.of(userId))).willThrow(new BusinessException(ErrorCode.COUPON_DISABLED));
+
+            // when
+            couponIssueBatchProcessor.process(List.of(ticket));
+
+            // then
+            verify(couponEligibilityTable).onRejected(couponId, ErrorCode.COUPON_DISABLED);
+            verify(couponIssueTicketStore).update(ticket.failed(ErrorCode.COUPON_DISABLED));
+            assertThatCode(() -> couponReleaseGate.acquire(couponId)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("이미 발급된 사용자로 확인되어 실패하면 공개 수량 게이트의 통과 건수를 되돌린다")
+        void process_cancelsReleaseGate_whenUserIsAlreadyIssued() {
+            // given
+            CouponIssueTicket ticket = CouponIssueTicket.pending(couponId, userId, now);
+            given(couponIssueService.issueReservedBatch(couponId, List.of(userId))).willReturn(List.of(CouponIssueOutcome.failed(ErrorCode.ALREADY_ISSUED_COUPON)));
+
+            // when
+            couponIssueBatchProcessor.process(List.of(ticket));
+
+            // then
+            verify(couponIssueTicketStore).update(ticket.failed(ErrorCode.ALREADY_ISSUED_COUPON));
+            assertThatCode(() -> couponReleaseGate.acquire(couponId)).doesNotThrowAnyException();
+        }
+    }
+}
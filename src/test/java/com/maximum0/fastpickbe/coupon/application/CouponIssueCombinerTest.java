@@ -0,0 +1,80 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponIssueCombiner 단위 테스트")
+class CouponIssueCombinerTest {
+    @Mock
+    private CouponIssueService couponIssueService;
+
+    private CouponIssueCombiner couponIssueCombiner;
+
+    @BeforeEach
+    void setUp() {
+        CouponLockRetryExecutor couponLockRetryExecutor = new CouponLockRetryExecutor(
+                new CouponIssueLockProperties(Duration.ofMillis(100), 3, Duration.ZERO, Duration.ZERO), new CouponIssueMetrics(new SimpleMeterRegistry()));
+        couponIssueCombiner = new CouponIssueCombiner(couponIssueService, couponLockRetryExecutor, new CouponIssueGroupCommitProperties(Duration.ofMillis(1), 10));
+    }
+
+    @Nested
+    @DisplayName("그룹 커밋 발급 테스트")
+    class IssueTest {
+
+        @Test
+        @DisplayName("단독 요청도 리더로서 직접 커밋하고 발급 이력 ID 를 반환한다")
+        void issue_returnsIssuedId_whenRequestIsAlone() {
+            // given
+            given(couponIssueService.issueGroup(1L, List.of(1L))).willReturn(List.of(CouponIssueOutcome.issued(100L)));
+
+            // when
+            Long issuedId = couponIssueCombiner.issue(1L, 1L);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("개별 요청이 실패하면 해당 에러 코드의 예외가 발생한다")
+        void issue_throwsBusinessException_whenOutcomeFailed() {
+            // given
+            given(couponIssueService.issueGroup(1L, List.of(1L)))
+                    .willReturn(List.of(CouponIssueOutcome.failed(ErrorCode.ALREADY_ISSUED_COUPON)));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueCombiner.issue(1L, 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_ISSUED_COUPON);
+        }
+
+        @Test
+        @DisplayName("배치 전체가 실패하면 모든 요청에 같은 에러 코드의 예외가 발생한다")
+        void issue_throwsBusinessException_whenBatchFailed() {
+            // given
+            given(couponIssueService.issueGroup(eq(1L), anyList()))
+                    .willThrow(new BusinessException(ErrorCode.COUPON_NOT_AVAILABLE_PERIOD));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueCombiner.issue(1L, 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_AVAILABLE_PERIOD);
+        }
+    }
+}
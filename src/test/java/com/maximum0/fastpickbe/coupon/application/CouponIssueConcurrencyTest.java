@@ -1,30 +1,49 @@
 package com.maximum0.fastpickbe.coupon.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.BDDMockito.given;
 
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
 import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaign;
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaignRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueOutboxRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueTicket;
 import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponTicketRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponUserIssueCountRepository;
 import com.maximum0.fastpickbe.coupon.domain.IssuedCouponRepository;
 import com.maximum0.fastpickbe.user.domain.User;
 import com.maximum0.fastpickbe.user.domain.UserRepository;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -34,6 +53,12 @@ class CouponIssueConcurrencyTest {
     @Autowired
     private CouponIssueService couponIssueService;
 
+    @Autowired
+    private CouponIssueFacade couponIssueFacade;
+
+    @Autowired
+    private CouponIssueCombiner couponIssueCombiner;
+
     @Autowired
     private CouponRepository couponRepository;
 
@@ -43,6 +68,36 @@ class CouponIssueConcurrencyTest {
     @Autowired
     private IssuedCouponRepository issuedCouponRepository;
 
+    @Autowired
+    private CouponUserIssueCountRepository couponUserIssueCountRepository;
+
+    @Autowired
+    private CouponTicketRepository couponTicketRepository;
+
+    @Autowired
+    private CouponIssueOutboxRepository couponIssueOutboxRepository;
+
+    @Autowired
+    private CouponIssuedQuantityReconciler couponIssuedQuantityReconciler;
+
+    @Autowired
+    private CouponLockRetryExecutor couponLockRetryExecutor;
+
+    @Autowired
+    private CouponStockLeaseManager couponStockLeaseManager;
+
+    @Autowired
+    private CouponIssueLockProperties couponIssueLockProperties;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CouponCampaignRepository couponCampaignRepository;
+
+    @Autowired
+    private CouponIssueTicketStore couponIssueTicketStore;
+
     @MockitoBean
     private Clock clock;
 
@@ -83,9 +138,13 @@ class CouponIssueConcurrencyTest {
 
     @AfterEach
     void tearDown() {
+        couponIssueOutboxRepository.deleteAllInBatch();
         issuedCouponRepository.deleteAllInBatch();
+        couponUserIssueCountRepository.deleteAllInBatch();
+        couponTicketRepository.deleteAllInBatch();
         userRepository.deleteAllInBatch();
         couponRepository.deleteAllInBatch();
+        couponCampaignRepository.deleteAllInBatch();
     }
 
     @Test
@@ -158,6 +217,48 @@ class CouponIssueConcurrencyTest {
         assertThat(exceptions).hasSize(requestCount - 1);
     }
 
+    @Test
+    @DisplayName("인당 발급 한도가 3인 쿠폰에 한 명의 유저가 동시에 여러 번 발급을 요청하면, 한도만큼만 발급된다")
+    void issueWithConditionalUpdate_issuesUpToLimitPerUser_whenSameUserRequestsConcurrently() throws InterruptedException {
+        // given
+        int limitPerUser = 3;
+        int requestCount = 10;
+        User user = users.get(0);
+        Coupon repeatCoupon = Coupon.create("브랜드명", "인당 3장 쿠폰", "요약 설명", "상세 설명", threadCount, now.minusDays(1), now.plusDays(1), CouponIssueMode.CONDITIONAL_UPDATE);
+        repeatCoupon.changeLimitPerUser(limitPerUser);
+        Long repeatCouponId = couponRepository.save(repeatCoupon).getId();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        final List<Throwable> exceptions = new java.util.concurrent.CopyOnWriteArrayList<>();
+
+        // when
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    couponIssueService.issueWithConditionalUpdate(repeatCouponId, user);
+                } catch (Exception e) {
+                    exceptions.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        Coupon coupon = couponRepository.findActiveById(repeatCouponId)
+                .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다."));
+
+        assertThat(issuedCouponRepository.countByCouponId(repeatCouponId)).isEqualTo(limitPerUser);
+        assertThat(coupon.getIssuedQuantity()).isEqualTo(limitPerUser);
+        assertThat(couponUserIssueCountRepository.findIssuedCount(repeatCouponId, user.getId())).isEqualTo(limitPerUser);
+        assertThat(exceptions).hasSize(requestCount - limitPerUser)
+                .allSatisfy(e -> assertThat(e).hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_ISSUED_COUPON));
+    }
+
         
 
     @Test
@@ -208,4 +309,360 @@ class CouponIssueConcurrencyTest {
         assertThat(exceptions).hasSize(requestingUserCount - availableQuantity);
     }
 
+    @Test
+    @DisplayName("재고보다 많은 요청이 몰리면, 재고 게이트 경로가 락 경로와 같은 수량을 발급하면서 소진 요청을 DB 전에 차단한다")
+    void issue_throughputComparison_betweenLockPathAndStockGatePath() throws InterruptedException {
+        // given
+        int stock = 50;
+        int requestCount = 500;
+        List<User> requesters = saveUsers("gate", requestCount);
+
+        Long lockCouponId = couponRepository.save(Coupon.create("브랜드명", "락 경로 쿠폰", "요약 설명", "상세 설명", stock, now.minusDays(1), now.plusDays(1))).getId();
+        Long gateCouponId = couponRepository.save(Coupon.create("브랜드명", "게이트 경로 쿠폰", "요약 설명", "상세 설명", stock, now.minusDays(1), now.plusDays(1))).getId();
+
+        // when
+        long lockElapsed = runConcurrently(requesters, user -> couponIssueService.issue(lockCouponId, user));
+        long gateElapsed = runConcurrently(requesters, user -> couponIssueFacade.issue(gateCouponId, user));
+
+        System.out.printf("[Throughput] 요청 %d건 / 재고 %d개 - 락 경로: %dms (%.1f req/s), 재고 게이트 경로: %dms (%.1f req/s)%n",
+                requestCount, stock,
+                lockElapsed, requestCount * 1000.0 / Math.max(lockElapsed, 1),
+                gateElapsed, requestCount * 1000.0 / Math.max(gateElapsed, 1));
+
+        // then
+        assertThat(issuedCouponRepository.countByCouponId(lockCouponId)).isEqualTo(stock);
+        assertThat(issuedCouponRepository.countByCouponId(gateCouponId)).isEqualTo(stock);
+        assertThat(couponRepository.findActiveById(gateCouponId).orElseThrow().getIssuedQuantity()).isEqualTo(stock);
+    }
+
+    @Test
+    @DisplayName("같은 쿠폰에 요청이 몰리면, 그룹 커밋 경로가 락 경로와 같은 수량을 발급하면서 트랜잭션 수를 줄인다")
+    void issue_throughputComparison_betweenLockPathAndGroupCommitPath() throws InterruptedException {
+        // given
+        int stock = 300;
+        int requestCount = 500;
+        List<User> requesters = saveUsers("group", requestCount);
+
+        Long lockCouponId = couponRepository.save(Coupon.create("브랜드명", "락 경로 쿠폰", "요약 설명", "상세 설명", stock, now.minusDays(1), now.plusDays(1))).getId();
+        Long groupCouponId = couponRepository.save(Coupon.create("브랜드명", "그룹 커밋 쿠폰", "요약 설명", "상세 설명", stock, now.minusDays(1), now.plusDays(1))).getId();
+
+        // when
+        long lockElapsed = runConcurrently(requesters, user -> couponIssueService.issue(lockCouponId, user));
+        long groupElapsed = runConcurrently(requesters, user -> couponIssueCombiner.issue(groupCouponId, user.getId()));
+
+        System.out.printf("[Throughput] 요청 %d건 / 재고 %d개 - 락 경로: %dms (%.1f req/s), 그룹 커밋 경로: %dms (%.1f req/s)%n",
+                requestCount, stock,
+                lockElapsed, requestCount * 1000.0 / Math.max(lockElapsed, 1),
+                groupElapsed, requestCount * 1000.0 / Math.max(groupElapsed, 1));
+
+        // then
+        assertThat(issuedCouponRepository.countByCouponId(lockCouponId)).isEqualTo(stock);
+        assertThat(issuedCouponRepository.countByCouponId(groupCouponId)).isEqualTo(stock);
+        assertThat(couponRepository.findActiveById(groupCouponId).orElseThrow().getIssuedQuantity()).isEqualTo(stock);
+    }
+
+    @Test
+    @DisplayName("그룹 커밋 경로에서 한 명의 유저가 동시에 여러 번 요청해도 한 장만 발급된다")
+    void issue_issuesOnlyOneCoupon_whenSameUserRequestsConcurrentlyInGroupCommit() throws InterruptedException {
+        // given
+        User user = users.get(0);
+        List<User> requesters = Collections.nCopies(10, user);
+
+        // when
+        runConcurrently(requesters, requester -> couponIssueCombiner.issue(couponId, requester.getId()));
+
+        // then
+        assertThat(issuedCouponRepository.countByCouponId(couponId)).isEqualTo(1);
+        assertThat(couponRepository.findActiveById(couponId).orElseThrow().getIssuedQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 경로에서 재고보다 많은 요청과 같은 유저의 중복 요청이 몰려도, 수량만큼 한 장씩만 발급된다")
+    void issue_issuesOnlyAvailableQuantity_withConditionalUpdate() throws InterruptedException {
+        // given
+        int stock = 50;
+        List<User> requesters = new ArrayList<>(saveUsers("cond", 70));
+        requesters.addAll(Collections.nCopies(10, requesters.get(0)));
+
+        Long conditionalCouponId = couponRepository.save(Coupon.create("브랜드명", "조건부 UPDATE 쿠폰", "요약 설명", "상세 설명", stock, now.minusDays(1), now.plusDays(1))).getId();
+
+        // when
+        runConcurrently(requesters, user -> couponIssueService.issueWithConditionalUpdate(conditionalCouponId, user));
+
+        // then
+        assertThat(issuedCouponRepository.countByCouponId(conditionalCouponId)).isEqualTo(stock);
+        assertThat(couponRepository.findActiveById(conditionalCouponId).orElseThrow().getIssuedQuantity()).isEqualTo(stock);
+    }
+
+    @Test
+    @DisplayName("32개 워커가 같은 쿠폰에 몰리면, 티켓 행 선점 경로가 락 경로와 같은 수량을 발급하고 발급 수량은 보정 작업으로 맞춰진다")
+    void issue_throughputComparison_betweenLockPathAndTicketPath() throws InterruptedException {
+        // given
+        int stock = 300;
+        int requestCount = 500;
+        List<User> requesters = new ArrayList<>(saveUsers("ticket", requestCount));
+        requesters.addAll(Collections.nCopies(10, requesters.get(0)));
+
+        Long lockCouponId = couponRepository.save(Coupon.create("브랜드명", "락 경로 쿠폰", "요약 설명", "상세 설명", stock, now.minusDays(1), now.plusDays(1))).getId();
+        Long ticketCouponId = couponRepository.save(Coupon.create("브랜드명", "티켓 경로 쿠폰", "요약 설명", "상세 설명", stock, now.minusDays(1), now.plusDays(1), CouponIssueMode.TICKET)).getId();
+        couponTicketRepository.generate(ticketCouponId, stock);
+
+        // when
+        long lockElapsed = runConcurrently(requesters, user -> couponIssueService.issue(lockCouponId, user));
+        long ticketElapsed = runConcurrently(requesters, user -> couponIssueService.issueWithTicket(ticketCouponId, user));
+        couponIssuedQuantityReconciler.reconcile();
+
+        System.out.printf("[Throughput] 요청 %d건 / 재고 %d개 - 락 경로: %dms (%.1f req/s), 티켓 행 선점 경로: %dms (%.1f req/s)%n",
+                requesters.size(), stock,
+                lockElapsed, requesters.size() * 1000.0 / Math.max(lockElapsed, 1),
+                ticketElapsed, requesters.size() * 1000.0 / Math.max(ticketElapsed, 1));
+
+        // then
+        assertThat(issuedCouponRepository.countByCouponId(lockCouponId)).isEqualTo(stock);
+        assertThat(issuedCouponRepository.countByCouponId(ticketCouponId)).isEqualTo(stock);
+        assertThat(couponTicketRepository.countClaimed(ticketCouponId)).isEqualTo(stock);
+
+        Coupon ticketCoupon = couponRepository.findActiveById(ticketCouponId).orElseThrow();
+        assertThat(ticketCoupon.getIssuedQuantity()).isEqualTo(stock);
+        assertThat(ticketCoupon.isSoldOut()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 쿠폰 행을 오래 점유하면, 잠금 대기 한도와 재시도 한도 안에서 COUPON_ISSUE_BUSY 로 거절된다")
+    void issue_failsFast_whenCouponRowIsHeldByAnotherTransaction() throws InterruptedException {
+        // given
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            couponRepository.findByIdWithLock(couponId);
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        locked.await();
+
+        // when
+        long startedAt = System.nanoTime();
+        Throwable thrown = catchThrowable(() -> couponLockRetryExecutor.execute(couponId, () -> couponIssueService.issue(couponId, users.get(0))));
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        release.countDown();
+        holder.join();
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_ISSUE_BUSY);
+        long budgetMillis = couponIssueLockProperties.maxAttempts()
+                * (couponIssueLockProperties.timeout().toMillis() + couponIssueLockProperties.maxBackoff().toMillis());
+        assertThat(elapsedMillis).isLessThan(budgetMillis + 1_000);
+        assertThat(issuedCouponRepository.countByCouponId(couponId)).isZero();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(CouponIssueMode.class)
+    @DisplayName("쿠폰별 발급 방식마다 32개 워커의 동시 요청에서 재고를 초과 발급하지 않고, 발급 수량과 발급 이력 수가 일치한다")
+    void issue_keepsQuantityConsistent_acrossIssuanceStrategies(CouponIssueMode mode) throws InterruptedException {
+        // given
+        int stock = 100;
+        List<User> requesters = new ArrayList<>(saveUsers(mode.name().toLowerCase() + "-", 200));
+        requesters.addAll(Collections.nCopies(10, requesters.get(0)));
+
+        Long strategyCouponId = couponRepository.save(Coupon.create("브랜드명", mode.name() + " 쿠폰", "요약 설명", "상세 설명", stock, now.minusDays(1), now.plusDays(1), mode)).getId();
+        if (mode == CouponIssueMode.TICKET) {
+            couponTicketRepository.generate(strategyCouponId, stock);
+        }
+
+        // when
+        long elapsed = runConcurrently(requesters, user -> couponIssueFacade.issue(strategyCouponId, user));
+        couponIssuedQuantityReconciler.reconcile();
+        couponStockLeaseManager.releaseAll();
+
+        long issuedCount = issuedCouponRepository.countByCouponId(strategyCouponId);
+        System.out.printf("[Throughput] %s - 요청 %d건 / 재고 %d개 / 발급 %d건: %dms (%.1f req/s)%n",
+                mode, requesters.size(), stock, issuedCount, elapsed, requesters.size() * 1000.0 / Math.max(elapsed, 1));
+
+        // then
+        assertThat(issuedCount).isLessThanOrEqualTo(stock);
+        if (mode != CouponIssueMode.OPTIMISTIC_LOCK) {
+            // 낙관적 락은 재시도 한도를 넘긴 요청을 COUPON_ISSUE_BUSY 로 거절하므로 재고가 남을 수 있습니다.
+            assertThat(issuedCount).isEqualTo(stock);
+        }
+        assertThat(couponRepository.findActiveById(strategyCouponId).orElseThrow().getIssuedQuantity()).isEqualTo(issuedCount);
+    }
+
+    @Test
+    @DisplayName("캠페인 쿠폰에 동기 발급과 비동기 발급이 함께 몰려도 교착 없이 처리되고, 캠페인 차감 수량과 쿠폰 발급 수량이 발급 이력 수와 일치한다")
+    void issue_keepsCampaignStockConsistent_whenSyncAndAsyncPathsRunTogether() throws InterruptedException {
+        // given
+        int campaignStock = 100;
+        CouponCampaign campaign = couponCampaignRepository.save(CouponCampaign.create("동시성 캠페인", campaignStock, 4));
+        couponCampaignRepository.createStripes(campaign.getId(), campaign.initialStripeQuantities());
+        Coupon coupon = Coupon.create("브랜드명", "캠페인 쿠폰", "요약 설명", "상세 설명", 150, now.minusDays(1), now.plusDays(1), CouponIssueMode.COUNTER);
+        coupon.joinCampaign(campaign.getId());
+        Long campaignCouponId = couponRepository.save(coupon).getId();
+        List<User> requesters = saveUsers("campaign", 200);
+
+        AtomicInteger sequence = new AtomicInteger();
+        List<CouponIssueTicket> tickets = new CopyOnWriteArrayList<>();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+
+        // when
+        runConcurrently(requesters, user -> {
+            try {
+                if (sequence.getAndIncrement() % 2 == 0) {
+                    couponIssueFacade.issue(campaignCouponId, user);
+                } else {
+                    tickets.add(couponIssueFacade.issueAsync(campaignCouponId, user));
+                }
+            } catch (BusinessException ignored) {
+                // 수량 소진 거절은 정상 결과
+            } catch (RuntimeException e) {
+                unexpected.add(e);
+            }
+        });
+        List<CouponIssueTicket> completed = awaitCompleted(tickets);
+
+        // then
+        long issuedCount = issuedCouponRepository.countByCouponId(campaignCouponId);
+        assertThat(unexpected).isEmpty();
+        assertThat(completed).hasSameSizeAs(tickets)
+                .allMatch(CouponIssueTicket::isCompleted)
+                .noneMatch(ticket -> ticket.errorCode() == ErrorCode.INTERNAL_SERVER_ERROR);
+        assertThat(issuedCount).isPositive().isLessThanOrEqualTo(campaignStock);
+        assertThat(couponCampaignRepository.remainingQuantity(campaign.getId())).isEqualTo(campaignStock - issuedCount);
+        assertThat(couponRepository.findActiveById(campaignCouponId).orElseThrow().getIssuedQuantity()).isEqualTo(issuedCount);
+    }
+
+    @Test
+    @DisplayName("여러 노드가 같은 쿠폰의 재고를 리스로 나눠 발급해도 전체 수량을 넘지 않고, 종료 시 미사용 재고를 반환하면 발급 수량과 발급 이력 수가 일치한다")
+    void issue_neverExceedsTotalQuantity_whenNodesIssueFromStockLeases() throws InterruptedException {
+        // given
+        int stock = 300;
+        List<User> requesters = new ArrayList<>(saveUsers("lease", 500));
+        requesters.addAll(Collections.nCopies(10, requesters.get(0)));
+
+        Long leaseCouponId = couponRepository.save(Coupon.create("브랜드명", "재고 리스 쿠폰", "요약 설명", "상세 설명", stock, now.minusDays(1), now.plusDays(1), CouponIssueMode.LEASE)).getId();
+        List<CouponStockLeaseManager> nodes = leaseNodes(4);
+
+        // when
+        issueThroughLeaseNodes(nodes, leaseCouponId, requesters);
+        long issuedBeforeShutdown = issuedCouponRepository.countByCouponId(leaseCouponId);
+        int leasedBeforeShutdown = couponRepository.findActiveById(leaseCouponId).orElseThrow().getIssuedQuantity();
+        nodes.forEach(CouponStockLeaseManager::releaseAll);
+
+        // then
+        assertThat(leasedBeforeShutdown).isLessThanOrEqualTo(stock);
+        assertThat(issuedBeforeShutdown).isLessThanOrEqualTo(leasedBeforeShutdown);
+        long issuedCount = issuedCouponRepository.countByCouponId(leaseCouponId);
+        assertThat(issuedCount).isEqualTo(issuedBeforeShutdown);
+        assertThat(couponRepository.findActiveById(leaseCouponId).orElseThrow().getIssuedQuantity()).isEqualTo(issuedCount);
+    }
+
+    @Test
+    @DisplayName("재고가 충분하면 여러 노드가 리스로 모든 요청을 발급하고, 종료 시 빌려간 미사용 재고를 모두 반환한다")
+    void issue_returnsUnusedLeases_whenNodesShutDown() throws InterruptedException {
+        // given
+        int stock = 1000;
+        List<User> requesters = saveUsers("lease-return", 200);
+
+        Long leaseCouponId = couponRepository.save(Coupon.create("브랜드명", "재고 리스 쿠폰", "요약 설명", "상세 설명", stock, now.minusDays(1), now.plusDays(1), CouponIssueMode.LEASE)).getId();
+        List<CouponStockLeaseManager> nodes = leaseNodes(4);
+
+        // when
+        issueThroughLeaseNodes(nodes, leaseCouponId, requesters);
+        int leasedBeforeShutdown = couponRepository.findActiveById(leaseCouponId).orElseThrow().getIssuedQuantity();
+        int released = nodes.stream().mapToInt(CouponStockLeaseManager::releaseAll).sum();
+
+        // then
+        Coupon coupon = couponRepository.findActiveById(leaseCouponId).orElseThrow();
+        assertThat(issuedCouponRepository.countByCouponId(leaseCouponId)).isEqualTo(requesters.size());
+        assertThat(leasedBeforeShutdown - released).isEqualTo(requesters.size());
+        assertThat(coupon.getIssuedQuantity()).isEqualTo(requesters.size());
+        assertThat(coupon.isSoldOut()).isFalse();
+    }
+
+    /**
+     * 같은 DB 를 바라보는 애플리케이션 노드를 흉내 내기 위해, 노드마다 독립된 리스 관리자를 생성합니다.
+     * 리스 크기를 작게 잡아 노드 간 리스 갱신이 자주 겹치도록 합니다.
+     */
+    private List<CouponStockLeaseManager> leaseNodes(int nodeCount) {
+        CouponStockLeaseProperties properties = new CouponStockLeaseProperties(10, 5, 40, Duration.ofSeconds(5), 1000, Duration.ofSeconds(1));
+        return IntStream.range(0, nodeCount)
+                .mapToObj(i -> new CouponStockLeaseManager(couponRepository, properties, clock))
+                .toList();
+    }
+
+    /**
+     * 요청을 노드에 번갈아 배정하여 노드별 리스에서 선점한 뒤 발급하고, 발급에 실패하면 선점한 수량을 노드로 되돌립니다.
+     */
+    private void issueThroughLeaseNodes(List<CouponStockLeaseManager> nodes, Long couponId, List<User> requesters) throws InterruptedException {
+        AtomicInteger sequence = new AtomicInteger();
+        runConcurrently(requesters, user -> {
+            CouponStockLeaseManager node = nodes.get(sequence.getAndIncrement() % nodes.size());
+            node.acquire(couponId);
+            try {
+                couponIssueService.issueLeased(couponId, user);
+            } catch (RuntimeException e) {
+                node.release(couponId);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * 비동기 발급 티켓이 모두 처리될 때까지 기다린 뒤, 마지막으로 조회한 티켓 상태를 반환합니다.
+     */
+    private List<CouponIssueTicket> awaitCompleted(List<CouponIssueTicket> tickets) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        List<CouponIssueTicket> current;
+        do {
+            current = tickets.stream()
+                    .map(ticket -> couponIssueTicketStore.findById(ticket.id()).orElse(ticket))
+                    .toList();
+            if (current.stream().allMatch(CouponIssueTicket::isCompleted)) {
+                return current;
+            }
+            Thread.sleep(50);
+        } while (System.currentTimeMillis() < deadline);
+        return current;
+    }
+
+    private List<User> saveUsers(String prefix, int count) {
+        List<User> userList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            userList.add(User.create(prefix + i + "@test.com", "pw", "테스터" + i));
+        }
+        return userRepository.saveAll(userList);
+    }
+
+    /**
+     * 사용자별 작업을 동시에 실행하고 전체 소요 시간(ms)을 반환합니다. 개별 작업의 예외는 무시합니다.
+     */
+    private long runConcurrently(List<User> requesters, Consumer<User> task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(requesters.size());
+
+        long startedAt = System.nanoTime();
+        for (User user : requesters) {
+            executorService.submit(() -> {
+                try {
+                    task.accept(user);
+                } catch (Exception ignored) {
+                    // 소진/중복 등 비즈니스 예외는 처리량 측정 대상에서 제외
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        executorService.shutdown();
+
+        return elapsedMillis;
+    }
+
 }
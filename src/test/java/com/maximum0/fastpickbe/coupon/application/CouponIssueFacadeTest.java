@@ -0,0 +1,511 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueCounter;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueTicket;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueTicketStatus;
+import com.maximum0.fastpickbe.coupon.domain.CouponOwnershipFence;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponReserveResult;
+import com.maximum0.fastpickbe.coupon.domain.CouponUseStatus;
+import com.maximum0.fastpickbe.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponIssueFacade 단위 테스트")
+class CouponIssueFacadeTest {
+    @Mock
+    private CouponStockGate couponStockGate;
+    @Mock
+    private CouponIssueService couponIssueService;
+    @Mock
+    private CouponIssueCounter couponIssueCounter;
+    @Mock
+    private CouponRepository couponRepository;
+    @Mock
+    private CouponIssueTicketStore couponIssueTicketStore;
+    @Mock
+    private CouponIssueBatchProcessor couponIssueBatchProcessor;
+    @Mock
+    private CouponIssueCombiner couponIssueCombiner;
+    @Mock
+    private CouponIssueRingBuffer couponIssueRingBuffer;
+    @Mock
+    private IssuedUserBitmapRegistry issuedUserBitmapRegistry;
+    @Mock
+    private CouponEligibilityTable couponEligibilityTable;
+    @Mock
+    private CouponReleaseGate couponReleaseGate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CouponIssueMetrics couponIssueMetrics = new CouponIssueMetrics(meterRegistry);
+    private final CouponLockRetryExecutor couponLockRetryExecutor = new CouponLockRetryExecutor(
+            new CouponIssueLockProperties(Duration.ofMillis(100), 3, Duration.ZERO, Duration.ZERO), couponIssueMetrics);
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+    private final User user = User.forTest(1L, "test@test.com", "password", "테스터");
+
+    private CouponIssueFacade facadeOf(CouponIssueMode defaultMode) {
+        List<IssuanceStrategy> strategies = List.of(
+                new PessimisticLockIssuanceStrategy(couponStockGate, couponIssueService, couponLockRetryExecutor),
+                new OptimisticLockIssuanceStrategy(couponIssueService, couponLockRetryExecutor),
+                new CounterIssuanceStrategy(couponIssueCounter, couponRepository, couponIssueService),
+                new GroupCommitIssuanceStrategy(couponIssueCombiner),
+                new ConditionalUpdateIssuanceStrategy(couponIssueService),
+                new TicketIssuanceStrategy(couponIssueService),
+                new SingleWriterIssuanceStrategy(couponIssueRingBuffer)
+        );
+        return new CouponIssueFacade(strategies, new CouponIssueProperties(defaultMode), couponIssueTicketStore,
+                couponIssueBatchProcessor, issuedUserBitmapRegistry, couponEligibilityTable, couponReleaseGate, couponIssueMetrics);
+    }
+
+    @Nested
+    @DisplayName("원자적 카운터 모드 발급 테스트")
+    class CounterModeTest {
+        private CouponIssueFacade couponIssueFacade;
+
+        @BeforeEach
+        void setUp() {
+            couponIssueFacade = facadeOf(CouponIssueMode.COUNTER);
+        }
+
+        @Test
+        @DisplayName("카운터 선점에 성공하면 락 없는 발급 경로로 이력을 저장한다")
+        void issue_succeeds_whenCounterReserved() {
+            // given
+            Long couponId = 1L;
+            given(couponIssueCounter.reserve(couponId, user.getId())).willReturn(CouponReserveResult.RESERVED);
+            given(couponIssueService.issueReserved(couponId, user)).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueFacade.issue(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(couponIssueService, never()).issue(couponId, user);
+            verify(couponStockGate, never()).tryAcquire(couponId);
+            verify(issuedUserBitmapRegistry).markIssued(couponId, user.getId());
+            assertThat(meterRegistry.get("coupon.issue.outcomes").tag("result", "SUCCESS").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("coupon.issue.transaction").tags("mode", "COUNTER", "result", "SUCCESS").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("발급 가능 조건 테이블에서 거절되면 비트맵/카운터/DB 에 접근하지 않는다")
+        void issue_throwsBusinessException_whenEligibilityRejects() {
+            // given
+            Long couponId = 1L;
+            willThrow(new BusinessException(ErrorCode.COUPON_EXHAUSTED)).given(couponEligibilityTable).validate(couponId);
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueFacade.issue(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_EXHAUSTED);
+            verify(issuedUserBitmapRegistry, never()).isIssued(couponId, user.getId());
+            verify(couponIssueCounter, never()).reserve(couponId, user.getId());
+            assertThat(meterRegistry.get("coupon.issue.outcomes").tag("result", "COUPON_EXHAUSTED").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("공개된 수량이 모두 통과되었으면 카운터/DB 에 접근하지 않고 COUPON_STOCK_NOT_RELEASED 예외가 발생한다")
+        void issue_throwsBusinessException_whenReleaseGateRejects() {
+            // given
+            Long couponId = 1L;
+            willThrow(new BusinessException(ErrorCode.COUPON_STOCK_NOT_RELEASED)).given(couponReleaseGate).acquire(couponId);
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueFacade.issue(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_STOCK_NOT_RELEASED);
+            verify(couponIssueCounter, never()).reserve(couponId, user.getId());
+            verify(couponIssueService, never()).issueReserved(couponId, user);
+        }
+
+        @Test
+        @DisplayName("카운터 선점에 실패하면 공개 수량 게이트의 통과 건수를 되돌린다")
+        void issue_cancelsReleaseGate_whenCounterRejects() {
+            // given
+            Long couponId = 1L;
+            given(couponIssueCounter.reserve(couponId, user.getId())).willReturn(CouponReserveResult.EXHAUSTED);
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueFacade.issue(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_EXHAUSTED);
+            verify(couponReleaseGate).cancel(eq(couponId), any(BusinessException.class));
+        }
+
+        @Test
+        @DisplayName("DB 발급 경로에서 거절되면 거절 사유를 발급 가능 조건 테이블에 반영한다")
+        void issue_feedsRejectionBack_whenPersistenceRejects() {
+            // given
+            Long couponId = 1L;
+            given(couponIssueCounter.reserve(couponId, user.getId())).willReturn(CouponReserveResult.RESERVED);
+            given(couponIssueService.issueReserved(couponId, user))
+                    .willThrow(new BusinessException(ErrorCode.COUPON_DISABLED));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueFacade.issue(couponId, user))
+                    .isInstanceOf(BusinessException.class);
+            verify(couponEligibilityTable).onRejected(couponId, ErrorCode.COUPON_DISABLED);
+        }
+
+        @Test
+        @DisplayName("비트맵에서 발급 이력이 확인되면 카운터와 DB 에 접근하지 않고 ALREADY_ISSUED_COUPON 예외가 발생한다")
+        void issue_throwsBusinessException_whenBitmapContainsUser() {
+            // given
+            Long couponId = 1L;
+            given(issuedUserBitmapRegistry.isIssued(couponId, user.getId())).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueFacade.issue(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_ISSUED_COUPON);
+            verify(couponIssueCounter, never()).reserve(couponId, user.getId());
+            verify(couponIssueService, never()).issueReserved(couponId, user);
+        }
+
+        @Test
+        @DisplayName("카운터가 비어 있으면 DB 잔여 수량으로 초기화한 뒤 다시 선점한다")
+        void issue_initializesCounter_whenNotInitialized() {
+            // given
+            Long couponId = 1L;
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "카운터 쿠폰", "요약 설명", "상세 설명", 10, 3, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            given(couponIssueCounter.reserve(couponId, user.getId()))
+                    .willReturn(CouponReserveResult.NOT_INITIALIZED, CouponReserveResult.RESERVED);
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+            given(couponIssueService.issueReserved(couponId, user)).willReturn(100L);
+
+            // when
+            couponIssueFacade.issue(couponId, user);
+
+            // then
+            verify(couponIssueCounter).initialize(couponId, 7);
+        }
+
+        @Test
+        @DisplayName("카운터에서 소진이 확인되면 COUPON_EXHAUSTED 예외가 발생하고 DB 에 접근하지 않는다")
+        void issue_throwsBusinessException_whenCounterExhausted() {
+            // given
+            Long couponId = 1L;
+            given(couponIssueCounter.reserve(couponId, user.getId())).willReturn(CouponReserveResult.EXHAUSTED);
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueFacade.issue(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_EXHAUSTED);
+            verify(couponIssueService, never()).issueReserved(couponId, user);
+        }
+
+        @Test
+        @DisplayName("카운터에서 중복이 확인되면 ALREADY_ISSUED_COUPON 예외가 발생한다")
+        void issue_throwsBusinessException_whenCounterDetectsDuplicate() {
+            // given
+            Long couponId = 1L;
+            given(couponIssueCounter.reserve(couponId, user.getId())).willReturn(CouponReserveResult.ALREADY_ISSUED);
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueFacade.issue(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_ISSUED_COUPON);
+        }
+
+        @Test
+        @DisplayName("DB 발급이 실패하면 선점한 수량을 카운터에 반환한다")
+        void issue_cancelsReservation_whenPersistenceFails() {
+            // given
+            Long couponId = 1L;
+            given(couponIssueCounter.reserve(couponId, user.getId())).willReturn(CouponReserveResult.RESERVED);
+            given(couponIssueService.issueReserved(couponId, user))
+                    .willThrow(new BusinessException(ErrorCode.COUPON_DISABLED));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueFacade.issue(couponId, user))
+                    .isInstanceOf(BusinessException.class);
+            verify(couponIssueCounter).cancel(couponId, user.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 발급 접수 테스트")
+    class IssueAsyncTest {
+        private CouponIssueFacade couponIssueFacade;
+
+        @BeforeEach
+        void setUp() {
+            couponIssueFacade = facadeOf(CouponIssueMode.PESSIMISTIC_LOCK);
+        }
+
+        @Test
+        @DisplayName("수량 선점에 성공하면 대기 상태의 티켓을 대기열에 추가하고 반환한다")
+        void issueAsync_returnsPendingTicket_whenReserved() {
+            // given
+            Long couponId = 1L;
+            CouponIssueTicket ticket = CouponIssueTicket.pending(couponId, user.getId(), now);
+            given(couponIssueCounter.reserve(couponId, user.getId())).willReturn(CouponReserveResult.RESERVED);
+            given(couponIssueTicketStore.create(couponId, user.getId())).willReturn(ticket);
+            given(couponIssueBatchProcessor.submit(ticket)).willReturn(true);
+
+            // when
+            CouponIssueTicket result = couponIssueFacade.issueAsync(couponId, user);
+
+            // then
+            assertThat(result.status()).isEqualTo(CouponIssueTicketStatus.PENDING);
+            verify(couponIssueService, never()).issueReserved(couponId, user);
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차면 선점을 취소하고 COUPON_ISSUE_QUEUE_FULL 예외가 발생한다")
+        void issueAsync_throwsBusinessException_whenQueueIsFull() {
+            // given
+            Long couponId = 1L;
+            CouponIssueTicket ticket = CouponIssueTicket.pending(couponId, user.getId(), now);
+            given(couponIssueCounter.reserve(couponId, user.getId())).willReturn(CouponReserveResult.RESERVED);
+            given(couponIssueTicketStore.create(couponId, user.getId())).willReturn(ticket);
+            given(couponIssueBatchProcessor.submit(ticket)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueFacade.issueAsync(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_ISSUE_QUEUE_FULL);
+            verify(couponIssueCounter).cancel(couponId, user.getId());
+            verify(couponIssueTicketStore).remove(ticket.id());
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 티켓을 조회하면 COUPON_ISSUE_TICKET_NOT_FOUND 예외가 발생한다")
+        void getTicket_throwsBusinessException_whenTicketOwnedByOtherUser() {
+            // given
+            CouponIssueTicket ticket = CouponIssueTicket.pending(1L, 2L, now);
+            given(couponIssueTicketStore.findById(ticket.id())).willReturn(Optional.of(ticket));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueFacade.getTicket(ticket.id(), user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_ISSUE_TICKET_NOT_FOUND);
+        }
+    }
+
+    @Nested
+    @DisplayName("쿠폰별 발급 방식 테스트")
+    class CouponIssueModeTest {
+        private CouponIssueFacade couponIssueFacade;
+
+        @BeforeEach
+        void setUp() {
+            couponIssueFacade = facadeOf(CouponIssueMode.PESSIMISTIC_LOCK);
+        }
+
+        @Test
+        @DisplayName("쿠폰에 티켓 행 발급 방식이 지정되면 기본 발급 방식 대신 티켓 선점 경로로 발급한다")
+        void issue_usesTicketPath_whenCouponIssueModeIsTicket() {
+            // given
+            Long couponId = 1L;
+            given(couponEligibilityTable.issueModeOf(couponId)).willReturn(Optional.of(CouponIssueMode.TICKET));
+            given(couponIssueService.issueWithTicket(couponId, user)).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueFacade.issue(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(couponStockGate, never()).tryAcquire(couponId);
+            verify(couponIssueService, never()).issue(couponId, user);
+            verify(issuedUserBitmapRegistry).markIssued(couponId, user.getId());
+        }
+
+        @Test
+        @DisplayName("쿠폰에 단일 작성자 발급 방식이 지정되면 링 버퍼 엔진의 처리 결과로 발급한다")
+        void issue_usesRingBuffer_whenCouponIssueModeIsSingleWriter() {
+            // given
+            Long couponId = 1L;
+            given(couponEligibilityTable.issueModeOf(couponId)).willReturn(Optional.of(CouponIssueMode.SINGLE_WRITER));
+            given(couponIssueRingBuffer.issue(couponId, user.getId())).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueFacade.issue(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(couponStockGate, never()).tryAcquire(couponId);
+            verify(couponIssueService, never()).issue(couponId, user);
+            verify(issuedUserBitmapRegistry).markIssued(couponId, user.getId());
+        }
+
+        @Test
+        @DisplayName("쿠폰에 낙관적 락 발급 방식이 지정되면 버전 충돌 시 새 트랜잭션으로 재시도하여 발급한다")
+        void issue_retriesOptimisticPath_whenVersionConflicts() {
+            // given
+            Long couponId = 1L;
+            given(couponEligibilityTable.issueModeOf(couponId)).willReturn(Optional.of(CouponIssueMode.OPTIMISTIC_LOCK));
+            given(couponIssueService.issueWithOptimisticLock(couponId, user))
+                    .willThrow(new ObjectOptimisticLockingFailureException(Coupon.class, couponId))
+                    .willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueFacade.issue(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(couponIssueService, times(2)).issueWithOptimisticLock(couponId, user);
+            verify(couponStockGate, never()).tryAcquire(couponId);
+            assertThat(meterRegistry.get("coupon.issue.lock.conflicts").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("coupon.issue.lock.timeouts").counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("티켓이 소진되면 발급 가능 조건 테이블에 품절을 반영한다")
+        void issue_feedsBackExhausted_whenTicketsAreExhausted() {
+            // given
+            Long couponId = 1L;
+            given(couponEligibilityTable.issueModeOf(couponId)).willReturn(Optional.of(CouponIssueMode.TICKET));
+            given(couponIssueService.issueWithTicket(couponId, user)).willThrow(new BusinessException(ErrorCode.COUPON_EXHAUSTED));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueFacade.issue(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_EXHAUSTED);
+            verify(couponEligibilityTable).onRejected(couponId, ErrorCode.COUPON_EXHAUSTED);
+        }
+
+        @Test
+        @DisplayName("발급 방식 구현을 지정하면 쿠폰에 지정된 발급 방식을 조회하지 않고 지정한 구현으로 발급한다")
+        void issue_usesGivenStrategy_insteadOfCouponIssueMode() {
+            // given
+            Long couponId = 1L;
+            CouponOwnershipFence fence = new CouponOwnershipFence(couponId, "node-a", 1L);
+            given(couponIssueService.issueFenced(couponId, user, fence)).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueFacade.issue(couponId, user, new FencedIssuanceStrategy(couponIssueService, fence));
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(couponEligibilityTable, never()).issueModeOf(couponId);
+            verify(couponStockGate, never()).tryAcquire(couponId);
+            verify(issuedUserBitmapRegistry).markIssued(couponId, user.getId());
+        }
+
+        @Test
+        @DisplayName("티켓 행 발급 방식의 쿠폰은 비동기 발급을 접수하지 않는다")
+        void issueAsync_throwsBusinessException_whenCouponIssueModeIsTicket() {
+            // given
+            Long couponId = 1L;
+            given(couponEligibilityTable.issueModeOf(couponId)).willReturn(Optional.of(CouponIssueMode.TICKET));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueFacade.issueAsync(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_ASYNC_ISSUE_NOT_SUPPORTED);
+            verify(couponIssueCounter, never()).reserve(couponId, user.getId());
+        }
+
+        @Test
+        @DisplayName("인당 여러 번 발급하는 쿠폰은 발급 사용자 비트맵으로 거절하거나 기록하지 않고 DB 발급 경로의 한도 검증에 맡긴다")
+        void issue_bypassesIssuedUserBitmap_whenCouponIsRepeatIssuable() {
+            // given
+            Long couponId = 1L;
+            given(couponEligibilityTable.isRepeatIssuable(couponId)).willReturn(true);
+            given(couponEligibilityTable.issueModeOf(couponId)).willReturn(Optional.of(CouponIssueMode.CONDITIONAL_UPDATE));
+            given(couponIssueService.issueWithConditionalUpdate(couponId, user)).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueFacade.issue(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(issuedUserBitmapRegistry, never()).isIssued(couponId, user.getId());
+            verify(issuedUserBitmapRegistry, never()).markIssued(couponId, user.getId());
+        }
+
+        @Test
+        @DisplayName("인당 여러 번 발급하는 쿠폰은 비동기 발급을 접수하지 않는다")
+        void issueAsync_throwsBusinessException_whenCouponIsRepeatIssuable() {
+            // given
+            Long couponId = 1L;
+            given(couponEligibilityTable.issueModeOf(couponId)).willReturn(Optional.of(CouponIssueMode.CONDITIONAL_UPDATE));
+            given(couponEligibilityTable.isRepeatIssuable(couponId)).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueFacade.issueAsync(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_ASYNC_ISSUE_NOT_SUPPORTED);
+            verify(couponIssueCounter, never()).reserve(couponId, user.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("비관적 락 경로 잠금 대기 테스트")
+    class LockWaitTest {
+        private CouponIssueFacade couponIssueFacade;
+
+        @BeforeEach
+        void setUp() {
+            couponIssueFacade = facadeOf(CouponIssueMode.PESSIMISTIC_LOCK);
+        }
+
+        @Test
+        @DisplayName("잠금 대기 한도를 넘긴 시도는 새 트랜잭션으로 재시도하여 발급한다")
+        void issue_retries_whenLockTimesOut() {
+            // given
+            Long couponId = 1L;
+            given(couponStockGate.tryAcquire(couponId)).willReturn(true);
+            given(couponIssueService.issue(couponId, user))
+                    .willThrow(new CannotAcquireLockException("lock timeout"))
+                    .willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueFacade.issue(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(couponIssueService, times(2)).issue(couponId, user);
+            assertThat(meterRegistry.get("coupon.issue.lock.timeouts").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("coupon.issue.lock.conflicts").counter().count()).isZero();
+            assertThat(meterRegistry.get("coupon.issue.lock.retries").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("재시도 한도를 모두 소진하면 permit 을 반환하고 COUPON_ISSUE_BUSY 예외가 발생한다")
+        void issue_throwsBusinessException_whenLockRetriesAreExhausted() {
+            // given
+            Long couponId = 1L;
+            given(couponStockGate.tryAcquire(couponId)).willReturn(true);
+            given(couponIssueService.issue(couponId, user)).willThrow(new CannotAcquireLockException("lock timeout"));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueFacade.issue(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_ISSUE_BUSY);
+            verify(couponIssueService, times(3)).issue(couponId, user);
+            verify(couponStockGate).release(couponId);
+            verify(issuedUserBitmapRegistry, never()).markIssued(couponId, user.getId());
+            assertThat(meterRegistry.get("coupon.issue.lock.rejected").counter().count()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CouponIssueIdempotencyRegistry 단위 테스트")
+class CouponIssueIdempotencyRegistryTest {
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneId.systemDefault());
+    private final AtomicInteger issuedCount = new AtomicInteger();
+
+    private CouponIssueIdempotencyRegistry registryOf(Duration ttl, int maxEntries) {
+        return new CouponIssueIdempotencyRegistry(clock, new CouponIssueIdempotencyProperties(ttl, maxEntries, Duration.ofSeconds(1)));
+    }
+
+    private Long issue() {
+        return 100L + issuedCount.incrementAndGet();
+    }
+
+    @Nested
+    @DisplayName("멱등 발급 테스트")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("같은 키로 재요청하면 발급을 다시 수행하지 않고 최초 발급 이력 ID 를 반환한다")
+        void execute_returnsOriginalId_whenKeyIsReplayed() {
+            // given
+            CouponIssueIdempotencyRegistry registry = registryOf(Duration.ofMinutes(5), 100);
+            Long first = registry.execute(1L, "key-1", 1L, CouponIssueIdempotencyRegistryTest.this::issue);
+
+            // when
+            Long replayed = registry.execute(1L, "key-1", 1L, CouponIssueIdempotencyRegistryTest.this::issue);
+
+            // then
+            assertThat(replayed).isEqualTo(first);
+            assertThat(issuedCount).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("키가 없거나 사용자가 다르면 매번 발급을 수행한다")
+        void execute_issuesEveryTime_withoutKeyOrForOtherUser() {
+            // given
+            CouponIssueIdempotencyRegistry registry = registryOf(Duration.ofMinutes(5), 100);
+
+            // when
+            registry.execute(1L, null, 1L, CouponIssueIdempotencyRegistryTest.this::issue);
+            registry.execute(1L, null, 1L, CouponIssueIdempotencyRegistryTest.this::issue);
+            registry.execute(1L, "key-1", 1L, CouponIssueIdempotencyRegistryTest.this::issue);
+            registry.execute(2L, "key-1", 1L, CouponIssueIdempotencyRegistryTest.this::issue);
+
+            // then
+            assertThat(issuedCount).hasValue(4);
+        }
+
+        @Test
+        @DisplayName("같은 키를 다른 쿠폰 발급에 사용하면 IDEMPOTENCY_KEY_REUSED 예외가 발생한다")
+        void execute_throwsBusinessException_whenKeyIsReusedForOtherCoupon() {
+            // given
+            CouponIssueIdempotencyRegistry registry = registryOf(Duration.ofMinutes(5), 100);
+            registry.execute(1L, "key-1", 1L, CouponIssueIdempotencyRegistryTest.this::issue);
+
+            // when & then
+            assertThatThrownBy(() -> registry.execute(1L, "key-1", 2L, CouponIssueIdempotencyRegistryTest.this::issue))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+
+        @Test
+        @DisplayName("발급에 실패한 키는 보관하지 않아 같은 키로 다시 발급할 수 있다")
+        void execute_retries_afterFailure() {
+            // given
+            CouponIssueIdempotencyRegistry registry = registryOf(Duration.ofMinutes(5), 100);
+            assertThatThrownBy(() -> registry.execute(1L, "key-1", 1L, () -> {
+                throw new BusinessException(ErrorCode.COUPON_ISSUE_BUSY);
+            })).isInstanceOf(BusinessException.class);
+
+            // when
+            Long issuedId = registry.execute(1L, "key-1", 1L, CouponIssueIdempotencyRegistryTest.this::issue);
+
+            // then
+            assertThat(issuedId).isEqualTo(101L);
+        }
+
+        @Test
+        @DisplayName("보관 기간이 지났거나 최대 보관 수를 넘겨 제거된 키는 다시 발급을 수행한다")
+        void execute_issuesAgain_whenKeyIsEvicted() {
+            // given
+            CouponIssueIdempotencyRegistry expiring = registryOf(Duration.ZERO, 100);
+            CouponIssueIdempotencyRegistry bounded = registryOf(Duration.ofMinutes(5), 1);
+            expiring.execute(1L, "key-1", 1L, CouponIssueIdempotencyRegistryTest.this::issue);
+            bounded.execute(1L, "key-1", 1L, CouponIssueIdempotencyRegistryTest.this::issue);
+            bounded.execute(1L, "key-2", 1L, CouponIssueIdempotencyRegistryTest.this::issue);
+
+            // when
+            expiring.execute(1L, "key-1", 1L, CouponIssueIdempotencyRegistryTest.this::issue);
+            bounded.execute(1L, "key-1", 1L, CouponIssueIdempotencyRegistryTest.this::issue);
+
+            // then
+            assertThat(issuedCount).hasValue(5);
+        }
+
+        @Test
+        @DisplayName("같은 키의 동시 요청은 선행 요청의 결과를 기다려 같은 발급 이력 ID 를 반환한다")
+        void execute_waitsForInFlightRequest_withSameKey() throws Exception {
+            // given
+            CouponIssueIdempotencyRegistry registry = registryOf(Duration.ofMinutes(5), 100);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> registry.execute(1L, "key-1", 1L, () -> {
+                started.countDown();
+                awaitQuietly(release);
+                return issue();
+            }));
+            started.await(1, TimeUnit.SECONDS);
+
+            // when
+            CompletableFuture<Long> duplicate = CompletableFuture.supplyAsync(() -> registry.execute(1L, "key-1", 1L, CouponIssueIdempotencyRegistryTest.this::issue));
+            release.countDown();
+
+            // then
+            assertThat(duplicate.get(1, TimeUnit.SECONDS)).isEqualTo(first.get(1, TimeUnit.SECONDS));
+            assertThat(issuedCount).hasValue(1);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CouponIssueMetrics 단위 테스트")
+class CouponIssueMetricsTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CouponIssueMetrics couponIssueMetrics = new CouponIssueMetrics(meterRegistry);
+
+    private double gauge(String name, int rank) {
+        return meterRegistry.get(name).tag("rank", String.valueOf(rank)).gauge().value();
+    }
+
+    @Nested
+    @DisplayName("상위 경합 쿠폰 지표 테스트")
+    class ContentionTest {
+
+        @Test
+        @DisplayName("집계 구간의 경합 시간 순으로 쿠폰 순위를 매기고, 빈 순위는 NaN 으로 보고한다")
+        void rotateContentionWindow_ranksCouponsByContention() {
+            // given
+            couponIssueMetrics.recordContention(1L, TimeUnit.MILLISECONDS.toNanos(5));
+            couponIssueMetrics.recordContention(2L, TimeUnit.MILLISECONDS.toNanos(30));
+            couponIssueMetrics.recordContention(1L, TimeUnit.MILLISECONDS.toNanos(5));
+
+            // when
+            couponIssueMetrics.rotateContentionWindow();
+
+            // then
+            assertThat(gauge("coupon.issue.contention.top.coupon", 1)).isEqualTo(2);
+            assertThat(gauge("coupon.issue.contention.top.wait", 1)).isEqualTo(30);
+            assertThat(gauge("coupon.issue.contention.top.coupon", 2)).isEqualTo(1);
+            assertThat(gauge("coupon.issue.contention.top.wait", 2)).isEqualTo(10);
+            assertThat(gauge("coupon.issue.contention.top.coupon", 3)).isNaN();
+        }
+
+        @Test
+        @DisplayName("순위는 상위 쿠폰 수만큼만 유지하고, 경합이 없던 구간 뒤에는 비워진다")
+        void rotateContentionWindow_keepsBoundedRanks() {
+            // given
+            for (long couponId = 1; couponId <= CouponIssueMetrics.TOP_CONTENDED_SIZE + 5; couponId++) {
+                couponIssueMetrics.recordContention(couponId, TimeUnit.MILLISECONDS.toNanos(couponId));
+            }
+            couponIssueMetrics.rotateContentionWindow();
+
+            // when
+            double lastRankCouponId = gauge("coupon.issue.contention.top.coupon", CouponIssueMetrics.TOP_CONTENDED_SIZE);
+            couponIssueMetrics.rotateContentionWindow();
+
+            // then
+            assertThat(lastRankCouponId).isEqualTo(6);
+            assertThat(meterRegistry.get("coupon.issue.contention.top.coupon").gauges())
+                    .hasSize(CouponIssueMetrics.TOP_CONTENDED_SIZE);
+            assertThat(gauge("coupon.issue.contention.top.coupon", 1)).isNaN();
+        }
+    }
+
+    @Nested
+    @DisplayName("발급 결과 지표 테스트")
+    class OutcomeTest {
+
+        @Test
+        @DisplayName("발급 실패는 에러 코드별로, 알 수 없는 예외는 UNKNOWN_ERROR 로 집계한다")
+        void recordOutcome_tagsResultByErrorCode() {
+            // when
+            couponIssueMetrics.recordOutcome(null);
+            couponIssueMetrics.recordOutcome(new BusinessException(ErrorCode.COUPON_EXHAUSTED));
+            couponIssueMetrics.recordOutcome(new BusinessException(ErrorCode.COUPON_EXHAUSTED));
+            couponIssueMetrics.recordOutcome(new IllegalStateException("boom"));
+
+            // then
+            assertThat(meterRegistry.get("coupon.issue.outcomes").tag("result", "SUCCESS").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("coupon.issue.outcomes").tag("result", "COUPON_EXHAUSTED").counter().count()).isEqualTo(2);
+            assertThat(meterRegistry.get("coupon.issue.outcomes").tag("result", "UNKNOWN_ERROR").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("발급 트랜잭션 시간은 발급 방식과 결과별로 기록하고 예외는 그대로 전달한다")
+        void recordTransaction_tagsModeAndResult() {
+            // when
+            Long issuedId = couponIssueMetrics.recordTransaction(CouponIssueMode.PESSIMISTIC_LOCK, () -> 100L);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            assertThatThrownBy(() -> couponIssueMetrics.recordTransaction(CouponIssueMode.PESSIMISTIC_LOCK, () -> {
+                throw new BusinessException(ErrorCode.ALREADY_ISSUED_COUPON);
+            })).isInstanceOf(BusinessException.class);
+            assertThat(meterRegistry.get("coupon.issue.transaction")
+                    .tags("mode", "PESSIMISTIC_LOCK", "result", "SUCCESS").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("coupon.issue.transaction")
+                    .tags("mode", "PESSIMISTIC_LOCK", "result", "ALREADY_ISSUED_COUPON").timer().count()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueOutboxRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssuedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.SavepointManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponIssueOutboxRelay 단위 테스트")
+class CouponIssueOutboxRelayTest {
+    @Mock
+    private CouponIssueOutboxRepository couponIssueOutboxRepository;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+    private CouponIssueMetrics couponIssueMetrics;
+    private CouponIssueOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        couponIssueMetrics = new CouponIssueMetrics(new SimpleMeterRegistry());
+        relay = new CouponIssueOutboxRelay(
+                couponIssueOutboxRepository,
+                new CouponIssueOutboxProperties(2, 500, 3),
+                applicationEventPublisher,
+                new TransactionTemplate(new NoOpTransactionManager()),
+                couponIssueMetrics
+        );
+    }
+
+    private List<CouponIssuedEvent> eventsOf(long... outboxIds) {
+        return LongStream.of(outboxIds)
+                .mapToObj(id -> new CouponIssuedEvent(id, id * 10, 1L, id, now))
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("발급 이벤트 전달 테스트")
+    class RelayTest {
+
+        @Test
+        @DisplayName("배치가 가득 차면 이어서 다음 배치를 전달하고, 전달한 이벤트를 삭제한 뒤 워터마크를 전진시킨다")
+        void relay_drainsBatches_andAdvancesWatermark() {
+            // given
+            given(couponIssueOutboxRepository.lockNextBatch(2))
+                    .willReturn(eventsOf(1L, 2L))
+                    .willReturn(eventsOf(3L));
+
+            // when
+            int relayed = relay.relay();
+
+            // then
+            assertThat(relayed).isEqualTo(3);
+            verify(applicationEventPublisher).publishEvent(eventsOf(3L).get(0));
+            verify(couponIssueOutboxRepository).deleteAllByIdIn(List.of(1L, 2L));
+            verify(couponIssueOutboxRepository).deleteAllByIdIn(List.of(3L));
+            assertThat(couponIssueMetrics.outboxWatermark()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("구독자 처리에 실패하면 이벤트를 삭제하지 않고 시도 횟수만 기록하며, 워터마크도 유지하여 다음 실행에서 다시 전달한다")
+        void relay_keepsEvents_andRecordsFailure_whenListenerFails() {
+            // given
+            given(couponIssueOutboxRepository.lockNextBatch(anyInt())).willReturn(eventsOf(1L));
+            willThrow(new IllegalStateException("listener failure"))
+                    .given(applicationEventPublisher).publishEvent(any(Object.class));
+
+            // when
+            int relayed = relay.relay();
+
+            // then
+            assertThat(relayed).isZero();
+            verify(couponIssueOutboxRepository, never()).deleteAllByIdIn(List.of(1L));
+            verify(couponIssueOutboxRepository).recordFailures(List.of(1L), 3);
+            assertThat(couponIssueMetrics.outboxWatermark()).isZero();
+        }
+
+        @Test
+        @DisplayName("구독자 처리에 실패한 이벤트는 건너뛰고 같은 배치의 이후 이벤트는 전달한다")
+        void relay_skipsFailedEvent_andDeliversFollowingEvents() {
+            // given
+            given(couponIssueOutboxRepository.lockNextBatch(2)).willReturn(eventsOf(1L, 2L));
+            willThrow(new IllegalStateException("listener failure"))
+                    .given(applicationEventPublisher).publishEvent(eventsOf(1L).get(0));
+
+            // when
+            int relayed = relay.relay();
+
+            // then
+            assertThat(relayed).isEqualTo(1);
+            verify(applicationEventPublisher).publishEvent(eventsOf(2L).get(0));
+            verify(couponIssueOutboxRepository).deleteAllByIdIn(List.of(2L));
+            verify(couponIssueOutboxRepository).recordFailures(List.of(1L), 3);
+            verify(couponIssueOutboxRepository, times(1)).lockNextBatch(2);
+            assertThat(couponIssueMetrics.outboxWatermark()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("시도 한도에 도달하여 보류된 이벤트 수를 지표로 기록한다")
+        void relay_countsParkedEvents_whenAttemptsAreExhausted() {
+            // given
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            couponIssueMetrics = new CouponIssueMetrics(meterRegistry);
+            relay = new CouponIssueOutboxRelay(
+                    couponIssueOutboxRepository,
+                    new CouponIssueOutboxProperties(2, 500, 3),
+                    applicationEventPublisher,
+                    new TransactionTemplate(new NoOpTransactionManager()),
+                    couponIssueMetrics
+            );
+            given(couponIssueOutboxRepository.lockNextBatch(2)).willReturn(eventsOf(1L));
+            willThrow(new IllegalStateException("listener failure"))
+                    .given(applicationEventPublisher).publishEvent(any(Object.class));
+            given(couponIssueOutboxRepository.recordFailures(List.of(1L), 3)).willReturn(1);
+
+            // when
+            relay.relay();
+
+            // then
+            assertThat(meterRegistry.get("coupon.issue.outbox.parked").counter().count()).isEqualTo(1.0);
+        }
+    }
+
+    /**
+     * 트랜잭션 경계와 세이브포인트만 흉내 내는 테스트용 트랜잭션 매니저입니다.
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new NoOpTransaction();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    private static class NoOpTransaction implements SavepointManager {
+        @Override
+        public Object createSavepoint() {
+            return new Object();
+        }
+
+        @Override
+        public void rollbackToSavepoint(Object savepoint) {
+        }
+
+        @Override
+        public void releaseSavepoint(Object savepoint) {
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueForwarder;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueNode;
+import com.maximum0.fastpickbe.coupon.domain.CouponOwnershipFence;
+import com.maximum0.fastpickbe.coupon.domain.CouponOwnershipRepository;
+import com.maximum0.fastpickbe.user.domain.User;
+import com.maximum0.fastpickbe.user.domain.UserRepository;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponIssueOwnershipRouter 단위 테스트")
+class CouponIssueOwnershipRouterTest {
+
+    @Mock
+    private CouponIssueFacade couponIssueFacade;
+    @Mock
+    private CouponIssueService couponIssueService;
+    @Mock
+    private CouponIssueMembership couponIssueMembership;
+    @Mock
+    private CouponIssueForwarder couponIssueForwarder;
+    @Mock
+    private CouponOwnershipRepository couponOwnershipRepository;
+    @Mock
+    private CouponEligibilityTable couponEligibilityTable;
+    @Mock
+    private UserRepository userRepository;
+
+    private CouponIssueOwnershipRouter couponIssueOwnershipRouter;
+
+    private final Long couponId = 1L;
+    private final User user = User.forTest(1L, "test@test.com", "pw", "테스터");
+    private final CouponIssueNode self = CouponIssueNode.forTest("node-a", "http://node-a:8080");
+    private final CouponIssueNode other = CouponIssueNode.forTest("node-b", "http://node-b:8080");
+
+    @BeforeEach
+    void setUp() {
+        CouponIssueOwnershipProperties properties = new CouponIssueOwnershipProperties(true, "node-a", "http://node-a:8080", "secret", 160, 1000, Duration.ofSeconds(5), Duration.ofSeconds(3));
+        couponIssueOwnershipRouter = new CouponIssueOwnershipRouter(couponIssueFacade, couponIssueService, couponIssueMembership, couponIssueForwarder,
+                couponOwnershipRepository, couponEligibilityTable, properties, new CouponIssueProperties(CouponIssueMode.PESSIMISTIC_LOCK), userRepository);
+    }
+
+    @Nested
+    @DisplayName("발급 요청 라우팅 테스트")
+    class IssueTest {
+
+        @Test
+        @DisplayName("담당 노드 배정이 비활성화되어 있으면 이 노드의 발급 방식으로 처리한다")
+        void issue_delegatesToFacade_whenOwnershipIsDisabled() {
+            // given
+            given(couponIssueMembership.isEnabled()).willReturn(false);
+            given(couponIssueFacade.issue(couponId, user)).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueOwnershipRouter.issue(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(couponOwnershipRepository, never()).claim(any(), any());
+        }
+
+        @Test
+        @DisplayName("재고를 별도 저장소에 두는 발급 방식의 쿠폰은 담당 노드로 보내지 않고 이 노드에서 쿠폰의 발급 방식으로 처리한다")
+        void issue_delegatesToFacade_whenCouponStockIsNotOnCouponRow() {
+            // given
+            given(couponIssueMembership.isEnabled()).willReturn(true);
+            given(couponEligibilityTable.issueModeOf(couponId)).willReturn(Optional.of(CouponIssueMode.TICKET));
+            given(couponIssueFacade.issue(couponId, user)).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueOwnershipRouter.issue(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(couponIssueMembership, never()).ownerOf(couponId);
+            verify(couponOwnershipRepository, never()).claim(any(), any());
+            verify(couponIssueFacade, never()).issue(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("다른 노드가 담당 노드이면 발급 가능 조건을 먼저 확인한 뒤 담당 노드로 요청을 전달한다")
+        void issue_forwardsToOwner_whenOtherNodeOwnsCoupon() {
+            // given
+            given(couponIssueMembership.isEnabled()).willReturn(true);
+            given(couponIssueMembership.ownerOf(couponId)).willReturn(Optional.of(other));
+            given(couponIssueMembership.isSelf(other)).willReturn(false);
+            given(couponIssueForwarder.forward(other, couponId, user.getId())).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueOwnershipRouter.issue(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(couponEligibilityTable).validate(couponId);
+            verify(couponIssueFacade, never()).issue(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("담당 노드가 거절한 사유는 이 노드의 발급 가능 조건 테이블에 반영한다")
+        void issue_feedsRejectionToEligibilityTable_whenOwnerRejects() {
+            // given
+            given(couponIssueMembership.isEnabled()).willReturn(true);
+            given(couponIssueMembership.ownerOf(couponId)).willReturn(Optional.of(other));
+            given(couponIssueMembership.isSelf(other)).willReturn(false);
+            given(couponIssueForwarder.forward(other, couponId, user.getId()))
+                    .willThrow(new BusinessException(ErrorCode.COUPON_EXHAUSTED));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueOwnershipRouter.issue(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_EXHAUSTED);
+            verify(couponEligibilityTable).onRejected(couponId, ErrorCode.COUPON_EXHAUSTED);
+        }
+
+        @Test
+        @DisplayName("이 노드가 담당 노드이면 담당을 한 번만 넘겨받고, 넘겨받은 펜싱 토큰으로 발급한다")
+        void issue_claimsOnceAndIssuesWithFence_whenSelfOwnsCoupon() {
+            // given
+            CouponOwnershipFence fence = new CouponOwnershipFence(couponId, "node-a", 1L);
+            given(couponIssueMembership.isEnabled()).willReturn(true);
+            given(couponIssueMembership.ownerOf(couponId)).willReturn(Optional.of(self));
+            given(couponIssueMembership.isSelf(self)).willReturn(true);
+            given(couponIssueMembership.nodeId()).willReturn("node-a");
+            given(couponOwnershipRepository.claim(couponId, "node-a")).willReturn(fence);
+            given(couponIssueFacade.issue(eq(couponId), eq(user), any(FencedIssuanceStrategy.class))).willReturn(100L, 101L);
+
+            // when
+            Long first = couponIssueOwnershipRouter.issue(couponId, user);
+            Long second = couponIssueOwnershipRouter.issue(couponId, user);
+
+            // then
+            assertThat(first).isEqualTo(100L);
+            assertThat(second).isEqualTo(101L);
+            verify(couponOwnershipRepository, times(1)).claim(couponId, "node-a");
+            verify(couponIssueFacade, times(2)).issue(couponId, user, new FencedIssuanceStrategy(couponIssueService, fence));
+            verify(couponIssueForwarder, never()).forward(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("다른 노드가 담당 세대를 넘겨받았지만 여전히 담당 노드이면, 담당을 다시 넘겨받아 한 번 더 발급한다")
+        void issue_reclaimsAndRetries_whenOwnerMovedButStillOwner() {
+            // given
+            CouponOwnershipFence stale = new CouponOwnershipFence(couponId, "node-a", 1L);
+            CouponOwnershipFence current = new CouponOwnershipFence(couponId, "node-a", 3L);
+            given(couponIssueMembership.isEnabled()).willReturn(true);
+            given(couponIssueMembership.ownerOf(couponId)).willReturn(Optional.of(self));
+            given(couponIssueMembership.isSelf(self)).willReturn(true);
+            given(couponIssueMembership.nodeId()).willReturn("node-a");
+            given(couponIssueMembership.owns(couponId)).willReturn(true);
+            given(couponOwnershipRepository.claim(couponId, "node-a")).willReturn(stale, current);
+            given(couponIssueFacade.issue(couponId, user, new FencedIssuanceStrategy(couponIssueService, stale)))
+                    .willThrow(new BusinessException(ErrorCode.COUPON_ISSUE_OWNER_MOVED));
+            given(couponIssueFacade.issue(couponId, user, new FencedIssuanceStrategy(couponIssueService, current))).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueOwnershipRouter.issue(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(couponIssueMembership).refresh();
+            verify(couponOwnershipRepository, times(2)).claim(couponId, "node-a");
+        }
+
+        @Test
+        @DisplayName("다른 노드가 담당 세대를 넘겨받았고 노드 목록상으로도 담당 노드가 아니면 COUPON_ISSUE_OWNER_MOVED 예외가 발생한다")
+        void issue_throwsBusinessException_whenOwnerMovedToOtherNode() {
+            // given
+            CouponOwnershipFence stale = new CouponOwnershipFence(couponId, "node-a", 1L);
+            given(couponIssueMembership.isEnabled()).willReturn(true);
+            given(couponIssueMembership.ownerOf(couponId)).willReturn(Optional.of(self));
+            given(couponIssueMembership.isSelf(self)).willReturn(true);
+            given(couponIssueMembership.nodeId()).willReturn("node-a");
+            given(couponIssueMembership.owns(couponId)).willReturn(false);
+            given(couponOwnershipRepository.claim(couponId, "node-a")).willReturn(stale);
+            given(couponIssueFacade.issue(couponId, user, new FencedIssuanceStrategy(couponIssueService, stale)))
+                    .willThrow(new BusinessException(ErrorCode.COUPON_ISSUE_OWNER_MOVED));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueOwnershipRouter.issue(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_ISSUE_OWNER_MOVED);
+            verify(couponOwnershipRepository, times(1)).claim(couponId, "node-a");
+        }
+    }
+
+    @Nested
+    @DisplayName("전달받은 발급 요청 처리 테스트")
+    class IssueForwardedTest {
+
+        @Test
+        @DisplayName("이 노드가 담당 노드가 아니면 다시 전달하지 않고 COUPON_ISSUE_OWNER_MOVED 예외가 발생한다")
+        void issueForwarded_throwsBusinessException_whenNotOwner() {
+            // given
+            given(couponIssueMembership.owns(couponId)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueOwnershipRouter.issueForwarded(couponId, user.getId()))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_ISSUE_OWNER_MOVED);
+            verify(couponIssueForwarder, never()).forward(any(), any(), any());
+            verify(couponIssueFacade, never()).issue(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("이 노드가 담당 노드이면 사용자 조회 없이 담당 노드로서 발급한다")
+        void issueForwarded_issuesAsOwner_whenOwner() {
+            // given
+            CouponOwnershipFence fence = new CouponOwnershipFence(couponId, "node-a", 1L);
+            given(couponIssueMembership.owns(couponId)).willReturn(true);
+            given(couponIssueMembership.nodeId()).willReturn("node-a");
+            given(userRepository.getReference(user.getId())).willReturn(user);
+            given(couponOwnershipRepository.claim(couponId, "node-a")).willReturn(fence);
+            given(couponIssueFacade.issue(couponId, user, new FencedIssuanceStrategy(couponIssueService, fence))).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueOwnershipRouter.issueForwarded(couponId, user.getId());
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+        }
+    }
+
+    @Nested
+    @DisplayName("노드 간 인증 토큰 검증 테스트")
+    class VerifyInternalTokenTest {
+
+        @Test
+        @DisplayName("설정된 인증 토큰과 일치하면 통과한다")
+        void verifyInternalToken_passes_whenTokenMatches() {
+            // given
+            given(couponIssueMembership.isEnabled()).willReturn(true);
+
+            // when & then
+            assertThatCode(() -> couponIssueOwnershipRouter.verifyInternalToken("secret")).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("인증 토큰이 없거나 일치하지 않으면 FORBIDDEN 예외가 발생한다")
+        void verifyInternalToken_throwsBusinessException_whenTokenMismatches() {
+            // given
+            given(couponIssueMembership.isEnabled()).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueOwnershipRouter.verifyInternalToken("wrong"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
+            assertThatThrownBy(() -> couponIssueOwnershipRouter.verifyInternalToken(null))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
+        }
+    }
+}
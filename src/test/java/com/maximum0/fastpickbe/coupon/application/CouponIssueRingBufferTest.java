@@ -0,0 +1,240 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueRingBuffer.Lane;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueRingBuffer.Request;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponUseStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponIssueRingBuffer 단위 테스트")
+class CouponIssueRingBufferTest {
+    @Mock
+    private CouponRepository couponRepository;
+    @Mock
+    private CouponIssueService couponIssueService;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+    private final Clock clock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+
+    private CouponIssueRingBuffer couponIssueRingBuffer;
+
+    @BeforeEach
+    void setUp() {
+        couponIssueRingBuffer = new CouponIssueRingBuffer(couponRepository, couponIssueService,
+                new CouponIssueMetrics(new SimpleMeterRegistry()), clock,
+                new CouponIssueRingBufferProperties(16, 8, Duration.ofSeconds(1), Duration.ofMillis(200)));
+    }
+
+    private Coupon couponOf(Long id, int totalQuantity, int issuedQuantity) {
+        return Coupon.forTest(id, "브랜드명", "링 버퍼 쿠폰", "요약 설명", "상세 설명", totalQuantity, issuedQuantity, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+    }
+
+    private Request requestOf(Long userId) {
+        return new Request(userId, new CompletableFuture<>(), System.nanoTime());
+    }
+
+    private Lane laneOf(Long couponId) {
+        return new Lane(couponId, new ArrayBlockingQueue<>(16));
+    }
+
+    private ErrorCode errorCodeOf(Request request) {
+        assertThat(request.result()).isCompletedExceptionally();
+        try {
+            request.result().join();
+        } catch (CompletionException e) {
+            return ((BusinessException) e.getCause()).getErrorCode();
+        }
+        throw new AssertionError("요청이 실패로 완료되지 않았습니다.");
+    }
+
+    @Nested
+    @DisplayName("작성자 스레드 배치 처리 테스트")
+    class ProcessTest {
+
+        @Test
+        @DisplayName("메모리 상태의 잔여 수량만큼만 일괄 반영하고, 초과 요청은 COUPON_EXHAUSTED 로 실패한다")
+        void process_issuesWithinRemainingQuantity_andRejectsOverflow() {
+            // given
+            Long couponId = 1L;
+            Lane lane = laneOf(couponId);
+            List<Request> batch = List.of(requestOf(1L), requestOf(2L), requestOf(3L));
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 10, 8)));
+            given(couponIssueService.issueReservedBatch(couponId, List.of(1L, 2L))).willReturn(List.of(CouponIssueOutcome.issued(100L), CouponIssueOutcome.issued(101L)));
+
+            // when
+            couponIssueRingBuffer.process(lane, batch);
+
+            // then
+            assertThat(batch.get(0).result()).isCompletedWithValue(100L);
+            assertThat(batch.get(1).result()).isCompletedWithValue(101L);
+            assertThat(errorCodeOf(batch.get(2))).isEqualTo(ErrorCode.COUPON_EXHAUSTED);
+        }
+
+        @Test
+        @DisplayName("DB 에 남은 수량이 메모리 상태보다 적으면 남은 수량만큼만 완료하고, 나머지는 DB 의 실패 사유로 실패한다")
+        void process_completesGrantedRequests_whenDbGrantsPartially() {
+            // given
+            Long couponId = 1L;
+            Lane lane = laneOf(couponId);
+            List<Request> batch = List.of(requestOf(1L), requestOf(2L));
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 10, 0)));
+            given(couponIssueService.issueReservedBatch(couponId, List.of(1L, 2L)))
+                    .willReturn(List.of(CouponIssueOutcome.issued(100L), CouponIssueOutcome.failed(ErrorCode.COUPON_EXHAUSTED)));
+
+            // when
+            couponIssueRingBuffer.process(lane, batch);
+
+            // then
+            assertThat(batch.get(0).result()).isCompletedWithValue(100L);
+            assertThat(errorCodeOf(batch.get(1))).isEqualTo(ErrorCode.COUPON_EXHAUSTED);
+        }
+
+        @Test
+        @DisplayName("같은 배치에서 중복 요청한 사용자는 DB 반영 없이 ALREADY_ISSUED_COUPON 으로 실패한다")
+        void process_rejectsDuplicateUser_withinBatch() {
+            // given
+            Long couponId = 1L;
+            Lane lane = laneOf(couponId);
+            List<Request> batch = List.of(requestOf(1L), requestOf(1L));
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 10, 0)));
+            given(couponIssueService.issueReservedBatch(couponId, List.of(1L))).willReturn(List.of(CouponIssueOutcome.issued(100L)));
+
+            // when
+            couponIssueRingBuffer.process(lane, batch);
+
+            // then
+            assertThat(batch.get(0).result()).isCompletedWithValue(100L);
+            assertThat(errorCodeOf(batch.get(1))).isEqualTo(ErrorCode.ALREADY_ISSUED_COUPON);
+        }
+
+        @Test
+        @DisplayName("메모리 상태는 다음 배치에서도 유지되어 DB 를 다시 조회하지 않는다")
+        void process_keepsInMemoryState_acrossBatches() {
+            // given
+            Long couponId = 1L;
+            Lane lane = laneOf(couponId);
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 1, 0)));
+            given(couponIssueService.issueReservedBatch(couponId, List.of(1L))).willReturn(List.of(CouponIssueOutcome.issued(100L)));
+            couponIssueRingBuffer.process(lane, List.of(requestOf(1L)));
+
+            // when
+            Request request = requestOf(2L);
+            couponIssueRingBuffer.process(lane, List.of(request));
+
+            // then
+            assertThat(errorCodeOf(request)).isEqualTo(ErrorCode.COUPON_EXHAUSTED);
+            verify(couponRepository, times(1)).findById(couponId);
+            verify(couponIssueService, never()).issueReservedBatch(couponId, List.of(2L));
+        }
+
+        @Test
+        @DisplayName("DB 반영이 실패하면 반영 대상 요청이 모두 실패하고, 다음 배치에서 쿠폰 상태를 다시 적재한다")
+        void process_failsAcceptedAndReloads_whenFlushFails() {
+            // given
+            Long couponId = 1L;
+            Lane lane = laneOf(couponId);
+            List<Request> batch = List.of(requestOf(1L), requestOf(2L));
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 10, 0)));
+            given(couponIssueService.issueReservedBatch(eq(couponId), anyList()))
+                    .willThrow(new BusinessException(ErrorCode.COUPON_DISABLED));
+
+            // when
+            couponIssueRingBuffer.process(lane, batch);
+            couponIssueRingBuffer.process(lane, List.of(requestOf(3L)));
+
+            // then
+            assertThat(errorCodeOf(batch.get(0))).isEqualTo(ErrorCode.COUPON_DISABLED);
+            assertThat(errorCodeOf(batch.get(1))).isEqualTo(ErrorCode.COUPON_DISABLED);
+            verify(couponRepository, times(2)).findById(couponId);
+        }
+    }
+
+    @Nested
+    @DisplayName("발급 요청 테스트")
+    class IssueTest {
+
+        @AfterEach
+        void tearDown() {
+            couponIssueRingBuffer.stop();
+        }
+
+        @Test
+        @DisplayName("링 버퍼에 적재된 요청은 작성자 스레드가 반영한 발급 이력 ID 를 동기로 반환받는다")
+        void issue_returnsIssuedId_afterWriterFlushes() {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 10, 0)));
+            given(couponIssueService.issueReservedBatch(couponId, List.of(1L))).willReturn(List.of(CouponIssueOutcome.issued(100L)));
+            couponIssueRingBuffer.start();
+
+            // when
+            Long issuedId = couponIssueRingBuffer.issue(couponId, 1L);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("유휴 시간 동안 요청이 없던 쿠폰의 링 버퍼는 정리되고, 다음 요청은 새 링 버퍼에서 처리된다")
+        void issue_reopensLane_afterIdleLaneIsRetired() throws InterruptedException {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 10, 0)));
+            given(couponIssueService.issueReservedBatch(couponId, List.of(1L))).willReturn(List.of(CouponIssueOutcome.issued(100L)));
+            given(couponIssueService.issueReservedBatch(couponId, List.of(2L))).willReturn(List.of(CouponIssueOutcome.issued(101L)));
+            couponIssueRingBuffer.start();
+            couponIssueRingBuffer.issue(couponId, 1L);
+
+            // when
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (couponIssueRingBuffer.laneCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            int laneCountAfterIdle = couponIssueRingBuffer.laneCount();
+            Long issuedId = couponIssueRingBuffer.issue(couponId, 2L);
+
+            // then
+            assertThat(laneCountAfterIdle).isZero();
+            assertThat(issuedId).isEqualTo(101L);
+        }
+
+        @Test
+        @DisplayName("엔진이 시작되지 않았거나 종료 중이면 COUPON_ISSUE_QUEUE_FULL 예외가 발생한다")
+        void issue_throwsBusinessException_whenNotRunning() {
+            // when & then
+            assertThatThrownBy(() -> couponIssueRingBuffer.issue(1L, 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_ISSUE_QUEUE_FULL);
+        }
+    }
+}
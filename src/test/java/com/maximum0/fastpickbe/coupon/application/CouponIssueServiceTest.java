@@ -3,31 +3,49 @@ package com.maximum0.fastpickbe.coupon.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.maximum0.fastpickbe.common.exception.BusinessException;
 import com.maximum0.fastpickbe.common.exception.ErrorCode;
 import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueOutboxRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponOwnershipFence;
+import com.maximum0.fastpickbe.coupon.domain.CouponOwnershipRepository;
 import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponTicketRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponUserIssueCountRepository;
 import com.maximum0.fastpickbe.coupon.domain.CouponUseStatus;
 import com.maximum0.fastpickbe.coupon.domain.IssuedCoupon;
 import com.maximum0.fastpickbe.coupon.domain.IssuedCouponRepository;
 import com.maximum0.fastpickbe.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Coupon Issue Service 단위 테스트")
@@ -38,6 +56,22 @@ class CouponIssueServiceTest {
     private CouponRepository couponRepository;
     @Mock
     private IssuedCouponRepository issuedCouponRepository;
+    @Mock
+    private CouponUserIssueCountRepository couponUserIssueCountRepository;
+    @Mock
+    private CouponTicketRepository couponTicketRepository;
+    @Mock
+    private CouponIssueOutboxRepository couponIssueOutboxRepository;
+    @Mock
+    private CouponOwnershipRepository couponOwnershipRepository;
+    @Mock
+    private CouponCampaignStock couponCampaignStock;
+    @Mock
+    private CouponReleaseGate couponReleaseGate;
+    @Spy
+    private CouponIssueLockProperties couponIssueLockProperties = new CouponIssueLockProperties(Duration.ofMillis(500), 3, Duration.ofMillis(20), Duration.ofMillis(200));
+    @Spy
+    private CouponIssueMetrics couponIssueMetrics = new CouponIssueMetrics(new SimpleMeterRegistry());
 
     @Mock
     private Clock clock;
@@ -64,8 +98,8 @@ class CouponIssueServiceTest {
 
             IssuedCoupon mockSavedIssuedCoupon = mock(IssuedCoupon.class);
 
-            given(couponRepository.findByIdWithLock(couponId)).willReturn(Optional.of(coupon));
-            given(issuedCouponRepository.existsByUserAndCoupon(user, coupon)).willReturn(false);
+            given(couponRepository.findByIdWithLock(couponId, Duration.ofMillis(500))).willReturn(Optional.of(coupon));
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(1);
             given(issuedCouponRepository.save(any(IssuedCoupon.class))).willReturn(mockSavedIssuedCoupon);
             given(mockSavedIssuedCoupon.getId()).willReturn(100L);
 
@@ -76,6 +110,7 @@ class CouponIssueServiceTest {
             assertThat(issuedId).isEqualTo(100L);
             assertThat(coupon.getIssuedQuantity()).isEqualTo(1);
             verify(issuedCouponRepository).save(any(IssuedCoupon.class));
+            verify(couponIssueOutboxRepository).appendAll(couponId, Map.of(user.getId(), 100L), now);
         }
 
         @Test
@@ -86,13 +121,14 @@ class CouponIssueServiceTest {
             User user = User.forTest(1L, "test@test.com", "pw", "테스터");
             Coupon coupon = Coupon.forTest(couponId, "브랜드명", "중복 쿠폰", "요약 설명", "상세 설명", 100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
 
-            given(couponRepository.findByIdWithLock(couponId)).willReturn(Optional.of(coupon));
-            given(issuedCouponRepository.existsByUserAndCoupon(user, coupon)).willReturn(true);
+            given(couponRepository.findByIdWithLock(couponId, Duration.ofMillis(500))).willReturn(Optional.of(coupon));
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(0);
 
             // when & then
             assertThatThrownBy(() -> couponIssueService.issue(couponId, user))
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_ISSUED_COUPON);
+            verify(couponIssueOutboxRepository, never()).appendAll(any(), any(), any());
         }
 
         @Test
@@ -102,7 +138,7 @@ class CouponIssueServiceTest {
             Long couponId = 999L;
             User user = User.forTest(1L, "test@test.com", "pw", "테스터");
 
-            given(couponRepository.findByIdWithLock(couponId)).willReturn(Optional.empty());
+            given(couponRepository.findByIdWithLock(couponId, Duration.ofMillis(500))).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> couponIssueService.issue(couponId, user))
@@ -110,4 +146,558 @@ class CouponIssueServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_FOUND);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("쿠폰 일괄 발급 테스트")
+    class IssueReservedBatchTest {
+        @Test
+        @DisplayName("이미 발급받은 사용자를 제외하고 발급 수량을 한 번에 선점한 뒤 일괄 저장한다")
+        void issueReservedBatch_excludesAlreadyIssuedUsers() {
+            // given
+            Long couponId = 1L;
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "일괄 쿠폰", "요약 설명", "상세 설명", 100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            List<Long> userIds = List.of(1L, 2L, 3L);
+
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+            given(issuedCouponRepository.findIssuedUserIds(couponId, userIds)).willReturn(Set.of(2L));
+            given(couponCampaignStock.reserveUpTo(couponId, couponId, 2)).willReturn(2);
+            given(couponRepository.reserveQuantity(couponId, 2, 100)).willReturn(2);
+            given(issuedCouponRepository.insertAll(couponId, List.of(1L, 3L), now)).willReturn(Map.of(1L, 10L, 3L, 11L));
+
+            // when
+            List<CouponIssueOutcome> outcomes = couponIssueService.issueReservedBatch(couponId, userIds);
+
+            // then
+            assertThat(outcomes).containsExactly(
+                    CouponIssueOutcome.issued(10L),
+                    CouponIssueOutcome.failed(ErrorCode.ALREADY_ISSUED_COUPON),
+                    CouponIssueOutcome.issued(11L));
+            verify(couponUserIssueCountRepository).incrementAll(couponId, List.of(1L, 3L));
+            verify(couponIssueOutboxRepository).appendAll(couponId, Map.of(1L, 10L, 3L, 11L), now);
+        }
+
+        @Test
+        @DisplayName("다른 경로의 발급으로 남은 수량이 배치보다 적으면 남은 수량만큼 요청 순서대로 발급하고, 나머지만 COUPON_EXHAUSTED 로 실패한다")
+        void issueReservedBatch_issuesRemainingQuantity_whenRemainingQuantityIsShort() {
+            // given
+            Long couponId = 1L;
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "일괄 쿠폰", "요약 설명", "상세 설명", 100, 99, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            List<Long> userIds = List.of(1L, 2L);
+
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+            given(issuedCouponRepository.findIssuedUserIds(couponId, userIds)).willReturn(Set.of());
+            given(couponCampaignStock.reserveUpTo(couponId, couponId, 2)).willReturn(2);
+            given(couponRepository.reserveQuantity(couponId, 2, 100)).willReturn(1);
+            given(issuedCouponRepository.insertAll(couponId, List.of(1L), now)).willReturn(Map.of(1L, 10L));
+
+            // when
+            List<CouponIssueOutcome> outcomes = couponIssueService.issueReservedBatch(couponId, userIds);
+
+            // then
+            assertThat(outcomes).containsExactly(
+                    CouponIssueOutcome.issued(10L),
+                    CouponIssueOutcome.failed(ErrorCode.COUPON_EXHAUSTED));
+            verify(couponCampaignStock).release(couponId, couponId, 1);
+        }
+
+        @Test
+        @DisplayName("캠페인 잔여 수량이 배치보다 적으면 캠페인 잔여 수량만큼만 쿠폰 수량을 선점하고, 나머지는 COUPON_CAMPAIGN_EXHAUSTED 로 실패한다")
+        void issueReservedBatch_issuesCampaignBudget_whenCampaignStockIsShort() {
+            // given
+            Long couponId = 1L;
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "일괄 쿠폰", "요약 설명", "상세 설명", 100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            List<Long> userIds = List.of(1L, 2L);
+
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+            given(issuedCouponRepository.findIssuedUserIds(couponId, userIds)).willReturn(Set.of());
+            given(couponCampaignStock.reserveUpTo(couponId, couponId, 2)).willReturn(1);
+            given(couponRepository.reserveQuantity(couponId, 1, 100)).willReturn(1);
+            given(issuedCouponRepository.insertAll(couponId, List.of(1L), now)).willReturn(Map.of(1L, 10L));
+
+            // when
+            List<CouponIssueOutcome> outcomes = couponIssueService.issueReservedBatch(couponId, userIds);
+
+            // then
+            assertThat(outcomes).containsExactly(
+                    CouponIssueOutcome.issued(10L),
+                    CouponIssueOutcome.failed(ErrorCode.COUPON_CAMPAIGN_EXHAUSTED));
+        }
+
+        @Test
+        @DisplayName("사용 중지된 쿠폰이면 저장하지 않고 COUPON_DISABLED 예외가 발생한다")
+        void issueReservedBatch_throwsBusinessException_whenCouponDisabled() {
+            // given
+            Long couponId = 1L;
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "중지 쿠폰", "요약 설명", "상세 설명", 100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.DISABLED);
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueService.issueReservedBatch(couponId, List.of(1L)))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_DISABLED);
+        }
+    }
+
+    @Nested
+    @DisplayName("그룹 커밋 발급 테스트")
+    class IssueGroupTest {
+        @Test
+        @DisplayName("요청 순서대로 중복과 잔여 수량을 검증하여 요청별 결과를 반환한다")
+        void issueGroup_returnsOutcomePerRequest() {
+            // given
+            Long couponId = 1L;
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "그룹 쿠폰", "요약 설명", "상세 설명", 2, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            List<Long> userIds = List.of(1L, 2L, 1L, 3L, 4L);
+
+            given(couponRepository.findByIdWithLock(couponId, Duration.ofMillis(500))).willReturn(Optional.of(coupon));
+            given(couponCampaignStock.reserveUpTo(couponId, couponId, 5)).willReturn(5);
+            given(issuedCouponRepository.findIssuedUserIds(couponId, userIds)).willReturn(Set.of(2L));
+            given(issuedCouponRepository.insertAll(couponId, List.of(1L, 3L), now)).willReturn(Map.of(1L, 10L, 3L, 11L));
+
+            // when
+            List<CouponIssueOutcome> outcomes = couponIssueService.issueGroup(couponId, userIds);
+
+            // then
+            assertThat(outcomes).containsExactly(
+                    CouponIssueOutcome.issued(10L),
+                    CouponIssueOutcome.failed(ErrorCode.ALREADY_ISSUED_COUPON),
+                    CouponIssueOutcome.failed(ErrorCode.ALREADY_ISSUED_COUPON),
+                    CouponIssueOutcome.issued(11L),
+                    CouponIssueOutcome.failed(ErrorCode.COUPON_EXHAUSTED)
+            );
+            assertThat(coupon.getIssuedQuantity()).isEqualTo(2);
+            assertThat(coupon.isSoldOut()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("인당 발급 한도 테스트")
+    class LimitPerUserTest {
+        private final User user = User.forTest(1L, "test@test.com", "pw", "테스터");
+
+        @Test
+        @DisplayName("한도 안의 재발급은 증가된 발급 횟수를 발급 회차로 저장한다")
+        void issue_savesIssueSeq_whenUserIsUnderLimit() {
+            // given
+            Long couponId = 1L;
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "다회 쿠폰", "요약 설명", "상세 설명", 100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            IssuedCoupon mockSavedIssuedCoupon = mock(IssuedCoupon.class);
+
+            given(couponRepository.findByIdWithLock(couponId, Duration.ofMillis(500))).willReturn(Optional.of(coupon));
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(2);
+            given(issuedCouponRepository.save(argThat(issued -> issued.getIssueSeq() == 2))).willReturn(mockSavedIssuedCoupon);
+            given(mockSavedIssuedCoupon.getId()).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueService.issue(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(issuedCouponRepository, never()).existsByUserAndCoupon(any(User.class), any(Coupon.class));
+        }
+
+        @Test
+        @DisplayName("조건부 UPDATE 경로도 증가된 발급 횟수를 발급 회차로 저장한다")
+        void issueWithConditionalUpdate_insertsIssueSeq_whenUserIsUnderLimit() {
+            // given
+            Long couponId = 1L;
+            given(couponReleaseGate.releasedQuantity(couponId)).willReturn(100);
+            given(couponRepository.increaseIssuedQuantityIfAvailable(couponId, now, 100)).willReturn(1);
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(3);
+            given(issuedCouponRepository.insert(couponId, user.getId(), 3, now)).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueService.issueWithConditionalUpdate(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(couponIssueOutboxRepository).appendAll(couponId, Map.of(user.getId(), 100L), now);
+        }
+
+        @Test
+        @DisplayName("한도에 도달한 사용자는 발급 이력을 저장하지 않고 ALREADY_ISSUED_COUPON 예외가 발생한다")
+        void issueLeased_throwsBusinessException_whenUserReachedLimit() {
+            // given
+            Long couponId = 1L;
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "다회 쿠폰", "요약 설명", "상세 설명", 100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueService.issueLeased(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_ISSUED_COUPON);
+            verify(issuedCouponRepository, never()).save(any(IssuedCoupon.class));
+            verify(couponCampaignStock, never()).reserve(couponId, user.getId(), 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("캠페인 공유 수량 발급 테스트")
+    class CampaignStockTest {
+        @Test
+        @DisplayName("캠페인 잔여 수량이 없으면 쿠폰 행을 잠그지 않고, 발급 이력을 저장하지 않은 채 COUPON_CAMPAIGN_EXHAUSTED 예외가 발생한다")
+        void issue_throwsBusinessException_whenCampaignIsExhausted() {
+            // given
+            Long couponId = 1L;
+            User user = User.forTest(1L, "test@test.com", "password", "테스터");
+
+            willThrow(new BusinessException(ErrorCode.COUPON_CAMPAIGN_EXHAUSTED))
+                    .given(couponCampaignStock).reserve(couponId, user.getId(), 1);
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueService.issue(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_CAMPAIGN_EXHAUSTED);
+            verify(couponRepository, never()).findByIdWithLock(any(), any());
+            verify(issuedCouponRepository, never()).save(any(IssuedCoupon.class));
+        }
+
+        @Test
+        @DisplayName("카운터로 선점한 요청은 캠페인 수량을 먼저 차감한 뒤 쿠폰 행의 발급 수량을 증가시킨다")
+        void issueReserved_reservesCampaignStock_beforeCouponRow() {
+            // given
+            Long couponId = 1L;
+            User user = User.forTest(1L, "test@test.com", "password", "테스터");
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "캠페인 쿠폰", "요약 설명", "상세 설명", 100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            IssuedCoupon savedIssuedCoupon = mock(IssuedCoupon.class);
+
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(1);
+            given(couponRepository.increaseIssuedQuantity(couponId, 1, 100)).willReturn(1);
+            given(issuedCouponRepository.save(any(IssuedCoupon.class))).willReturn(savedIssuedCoupon);
+            given(savedIssuedCoupon.getId()).willReturn(100L);
+
+            // when
+            couponIssueService.issueReserved(couponId, user);
+
+            // then
+            InOrder inOrder = inOrder(couponCampaignStock, couponRepository);
+            inOrder.verify(couponCampaignStock).reserve(couponId, user.getId(), 1);
+            inOrder.verify(couponRepository).increaseIssuedQuantity(couponId, 1, 100);
+        }
+
+        @Test
+        @DisplayName("그룹 커밋은 쿠폰 행을 잠그기 전에 캠페인 수량을 차감하고, 캠페인 잔여 수량만큼만 발급하며 나머지 요청은 COUPON_CAMPAIGN_EXHAUSTED 로 실패한다")
+        void issueGroup_issuesUpToCampaignBudget() {
+            // given
+            Long couponId = 1L;
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "캠페인 쿠폰", "요약 설명", "상세 설명", 100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            List<Long> userIds = List.of(1L, 2L, 3L);
+
+            given(couponRepository.findByIdWithLock(couponId, Duration.ofMillis(500))).willReturn(Optional.of(coupon));
+            given(couponCampaignStock.reserveUpTo(couponId, couponId, 3)).willReturn(2);
+            given(issuedCouponRepository.findIssuedUserIds(couponId, userIds)).willReturn(Set.of());
+            given(issuedCouponRepository.insertAll(couponId, List.of(1L, 2L), now)).willReturn(Map.of(1L, 10L, 2L, 11L));
+
+            // when
+            List<CouponIssueOutcome> outcomes = couponIssueService.issueGroup(couponId, userIds);
+
+            // then
+            assertThat(outcomes).containsExactly(
+                    CouponIssueOutcome.issued(10L),
+                    CouponIssueOutcome.issued(11L),
+                    CouponIssueOutcome.failed(ErrorCode.COUPON_CAMPAIGN_EXHAUSTED)
+            );
+            assertThat(coupon.getIssuedQuantity()).isEqualTo(2);
+            verify(couponCampaignStock).release(couponId, couponId, 0);
+            InOrder inOrder = inOrder(couponCampaignStock, couponRepository);
+            inOrder.verify(couponCampaignStock).reserveUpTo(couponId, couponId, 3);
+            inOrder.verify(couponRepository).findByIdWithLock(couponId, Duration.ofMillis(500));
+        }
+
+        @Test
+        @DisplayName("그룹 커밋에서 중복 요청으로 쓰지 않은 캠페인 수량은 되돌린다")
+        void issueGroup_releasesUnusedCampaignBudget() {
+            // given
+            Long couponId = 1L;
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "캠페인 쿠폰", "요약 설명", "상세 설명", 100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            List<Long> userIds = List.of(1L, 1L, 2L);
+
+            given(couponRepository.findByIdWithLock(couponId, Duration.ofMillis(500))).willReturn(Optional.of(coupon));
+            given(couponCampaignStock.reserveUpTo(couponId, couponId, 3)).willReturn(3);
+            given(issuedCouponRepository.findIssuedUserIds(couponId, userIds)).willReturn(Set.of(2L));
+            given(issuedCouponRepository.insertAll(couponId, List.of(1L), now)).willReturn(Map.of(1L, 10L));
+
+            // when
+            couponIssueService.issueGroup(couponId, userIds);
+
+            // then
+            verify(couponCampaignStock).release(couponId, couponId, 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("조건부 UPDATE 발급 테스트")
+    class IssueWithConditionalUpdateTest {
+        private final User user = User.forTest(1L, "test@test.com", "pw", "테스터");
+
+        @Test
+        @DisplayName("수량 증가에 성공하면 중복 조회 없이 발급 이력을 저장한다")
+        void issueWithConditionalUpdate_succeeds_whenRowIsUpdated() {
+            // given
+            Long couponId = 1L;
+            given(couponReleaseGate.releasedQuantity(couponId)).willReturn(100);
+            given(couponRepository.increaseIssuedQuantityIfAvailable(couponId, now, 100)).willReturn(1);
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(1);
+            given(issuedCouponRepository.insert(couponId, user.getId(), 1, now)).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueService.issueWithConditionalUpdate(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(couponRepository, never()).findByIdWithLock(any(), any());
+            verify(issuedCouponRepository, never()).existsByUserAndCoupon(any(User.class), any(Coupon.class));
+        }
+
+        @Test
+        @DisplayName("쿠폰 행 잠금을 커밋 직전에만 잡도록 발급 이력과 캠페인 수량을 먼저 쓰고 쿠폰 행을 마지막에 갱신한다")
+        void issueWithConditionalUpdate_updatesCouponRowLast() {
+            // given
+            Long couponId = 1L;
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(1);
+            given(issuedCouponRepository.insert(couponId, user.getId(), 1, now)).willReturn(100L);
+            given(couponReleaseGate.releasedQuantity(couponId)).willReturn(100);
+            given(couponRepository.increaseIssuedQuantityIfAvailable(couponId, now, 100)).willReturn(1);
+
+            // when
+            couponIssueService.issueWithConditionalUpdate(couponId, user);
+
+            // then
+            InOrder inOrder = inOrder(couponUserIssueCountRepository, issuedCouponRepository, couponIssueOutboxRepository, couponCampaignStock, couponRepository);
+            inOrder.verify(couponUserIssueCountRepository).increment(couponId, user.getId());
+            inOrder.verify(issuedCouponRepository).insert(couponId, user.getId(), 1, now);
+            inOrder.verify(couponIssueOutboxRepository).appendAll(couponId, Map.of(user.getId(), 100L), now);
+            inOrder.verify(couponCampaignStock).reserve(couponId, user.getId(), 1);
+            inOrder.verify(couponRepository).increaseIssuedQuantityIfAvailable(couponId, now, 100);
+        }
+
+        @Test
+        @DisplayName("유니크 제약 위반이 발생하면 ALREADY_ISSUED_COUPON 예외로 변환한다")
+        void issueWithConditionalUpdate_throwsBusinessException_whenUniqueConstraintViolated() {
+            // given
+            Long couponId = 1L;
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(1);
+            given(issuedCouponRepository.insert(couponId, user.getId(), 1, now))
+                    .willThrow(new DataIntegrityViolationException("uk_issued_coupon_user_coupon_seq"));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueService.issueWithConditionalUpdate(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_ISSUED_COUPON);
+        }
+
+        @Test
+        @DisplayName("갱신된 행이 없으면 쿠폰 상태로 실패 원인을 판별한다")
+        void issueWithConditionalUpdate_throwsBusinessException_withPreciseReason() {
+            // given
+            Long couponId = 1L;
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(1);
+            given(issuedCouponRepository.insert(couponId, user.getId(), 1, now)).willReturn(100L);
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "종료 쿠폰", "요약 설명", "상세 설명", 100, 0, now.minusDays(2), now.minusDays(1), CouponUseStatus.AVAILABLE);
+            given(couponReleaseGate.releasedQuantity(couponId)).willReturn(100);
+            given(couponRepository.increaseIssuedQuantityIfAvailable(couponId, now, 100)).willReturn(0);
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueService.issueWithConditionalUpdate(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_AVAILABLE_PERIOD);
+        }
+
+        @Test
+        @DisplayName("갱신된 행이 없고 다른 조건이 모두 충족되면 COUPON_EXHAUSTED 예외가 발생한다")
+        void issueWithConditionalUpdate_throwsBusinessException_whenExhausted() {
+            // given
+            Long couponId = 1L;
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(1);
+            given(issuedCouponRepository.insert(couponId, user.getId(), 1, now)).willReturn(100L);
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "소진 쿠폰", "요약 설명", "상세 설명", 100, 100, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            given(couponReleaseGate.releasedQuantity(couponId)).willReturn(100);
+            given(couponRepository.increaseIssuedQuantityIfAvailable(couponId, now, 100)).willReturn(0);
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueService.issueWithConditionalUpdate(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_EXHAUSTED);
+        }
+    }
+
+    @Nested
+    @DisplayName("티켓 행 선점 발급 테스트")
+    class IssueWithTicketTest {
+        private final User user = User.forTest(1L, "test@test.com", "pw", "테스터");
+
+        private Coupon couponOf(LocalDateTime startAt, LocalDateTime endAt) {
+            return Coupon.forTest(1L, "브랜드명", "티켓 쿠폰", "요약 설명", "상세 설명", 100, 0, startAt, endAt, CouponUseStatus.AVAILABLE);
+        }
+
+        @Test
+        @DisplayName("티켓 선점에 성공하면 쿠폰 행을 잠그거나 갱신하지 않고 발급 이력을 저장한다")
+        void issueWithTicket_succeeds_whenTicketIsClaimed() {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(now.minusDays(1), now.plusDays(1))));
+            given(couponTicketRepository.claim(couponId, user.getId(), now)).willReturn(Optional.of(10L));
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(1);
+            given(issuedCouponRepository.insert(couponId, user.getId(), 1, now)).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueService.issueWithTicket(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(couponRepository, never()).findByIdWithLock(any(), any());
+            verify(couponRepository, never()).increaseIssuedQuantity(any(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("선점할 티켓이 남아있지 않으면 COUPON_EXHAUSTED 예외가 발생한다")
+        void issueWithTicket_throwsBusinessException_whenNoTicketLeft() {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(now.minusDays(1), now.plusDays(1))));
+            given(couponTicketRepository.claim(couponId, user.getId(), now)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueService.issueWithTicket(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_EXHAUSTED);
+            verify(issuedCouponRepository, never()).insert(any(), any(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("발급 기간이 아니면 티켓을 선점하지 않고 COUPON_NOT_AVAILABLE_PERIOD 예외가 발생한다")
+        void issueWithTicket_throwsBusinessException_whenNotAvailablePeriod() {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(now.plusHours(1), now.plusDays(1))));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueService.issueWithTicket(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_AVAILABLE_PERIOD);
+            verify(couponTicketRepository, never()).claim(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("유니크 제약 위반이 발생하면 ALREADY_ISSUED_COUPON 예외로 변환한다")
+        void issueWithTicket_throwsBusinessException_whenUniqueConstraintViolated() {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(now.minusDays(1), now.plusDays(1))));
+            given(couponTicketRepository.claim(couponId, user.getId(), now)).willReturn(Optional.of(10L));
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(1);
+            given(issuedCouponRepository.insert(couponId, user.getId(), 1, now))
+                    .willThrow(new DataIntegrityViolationException("uk_issued_coupon_user_coupon_seq"));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueService.issueWithTicket(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_ISSUED_COUPON);
+        }
+    }
+
+    @Nested
+    @DisplayName("낙관적 락 발급 테스트")
+    class IssueWithOptimisticLockTest {
+        private final User user = User.forTest(1L, "test@test.com", "pw", "테스터");
+
+        @Test
+        @DisplayName("쿠폰 행을 잠그지 않고 발급 수량을 증가시킨 뒤 발급 이력을 저장한다")
+        void issueWithOptimisticLock_succeeds_withoutRowLock() {
+            // given
+            Long couponId = 1L;
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "낙관적 락 쿠폰", "요약 설명", "상세 설명", 100, 0, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(1);
+            given(issuedCouponRepository.insert(couponId, user.getId(), 1, now)).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueService.issueWithOptimisticLock(couponId, user);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            assertThat(coupon.getIssuedQuantity()).isEqualTo(1);
+            verify(couponRepository, never()).findByIdWithLock(any(), any());
+        }
+
+        @Test
+        @DisplayName("수량이 소진된 쿠폰이면 COUPON_EXHAUSTED 예외가 발생한다")
+        void issueWithOptimisticLock_throwsBusinessException_whenExhausted() {
+            // given
+            Long couponId = 1L;
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "소진 쿠폰", "요약 설명", "상세 설명", 100, 100, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueService.issueWithOptimisticLock(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_EXHAUSTED);
+            verify(issuedCouponRepository, never()).insert(any(), any(), anyInt(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("담당 노드 발급 테스트")
+    class IssueFencedTest {
+        private final User user = User.forTest(1L, "test@test.com", "pw", "테스터");
+        private final CouponOwnershipFence fence = new CouponOwnershipFence(1L, "node-a", 3L);
+
+        @Test
+        @DisplayName("담당 세대가 일치하면 조건부 UPDATE 로 수량을 증가시키고 발급 이력을 저장한다")
+        void issueFenced_succeeds_whenFenceIsCurrent() {
+            // given
+            Long couponId = 1L;
+            given(couponReleaseGate.releasedQuantity(couponId)).willReturn(100);
+            given(couponRepository.increaseIssuedQuantityIfOwned(couponId, now, 100, fence)).willReturn(1);
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(1);
+            given(issuedCouponRepository.insert(couponId, user.getId(), 1, now)).willReturn(100L);
+
+            // when
+            Long issuedId = couponIssueService.issueFenced(couponId, user, fence);
+
+            // then
+            assertThat(issuedId).isEqualTo(100L);
+            verify(couponIssueOutboxRepository).appendAll(couponId, Map.of(user.getId(), 100L), now);
+        }
+
+        @Test
+        @DisplayName("다른 노드가 담당을 넘겨받았으면 앞서 저장한 발급 이력이 롤백되도록 COUPON_ISSUE_OWNER_MOVED 예외가 발생한다")
+        void issueFenced_throwsBusinessException_whenFenceIsStale() {
+            // given
+            Long couponId = 1L;
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(1);
+            given(issuedCouponRepository.insert(couponId, user.getId(), 1, now)).willReturn(100L);
+            given(couponReleaseGate.releasedQuantity(couponId)).willReturn(100);
+            given(couponRepository.increaseIssuedQuantityIfOwned(couponId, now, 100, fence)).willReturn(0);
+            given(couponOwnershipRepository.isCurrent(fence)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueService.issueFenced(couponId, user, fence))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_ISSUE_OWNER_MOVED);
+        }
+
+        @Test
+        @DisplayName("담당 세대가 일치하는데 수량이 남지 않았으면 COUPON_EXHAUSTED 예외가 발생한다")
+        void issueFenced_throwsBusinessException_whenCouponIsExhausted() {
+            // given
+            Long couponId = 1L;
+            given(couponUserIssueCountRepository.increment(couponId, user.getId())).willReturn(1);
+            given(issuedCouponRepository.insert(couponId, user.getId(), 1, now)).willReturn(100L);
+            Coupon coupon = Coupon.forTest(couponId, "브랜드명", "소진 쿠폰", "요약 설명", "상세 설명", 10, 10, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+            given(couponReleaseGate.releasedQuantity(couponId)).willReturn(100);
+            given(couponRepository.increaseIssuedQuantityIfOwned(couponId, now, 100, fence)).willReturn(0);
+            given(couponOwnershipRepository.isCurrent(fence)).willReturn(true);
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+
+            // when & then
+            assertThatThrownBy(() -> couponIssueService.issueFenced(couponId, user, fence))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_EXHAUSTED);
+        }
+    }
+}
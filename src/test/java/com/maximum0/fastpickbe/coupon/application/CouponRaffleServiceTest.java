@@ -0,0 +1,167 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.application.admin.CouponBulkIssueProperties;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJob;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJobRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueTargetRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponRaffleDrawRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponRaffleEntryRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponUseStatus;
+import com.maximum0.fastpickbe.user.domain.User;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponRaffleService 단위 테스트")
+class CouponRaffleServiceTest {
+    @Mock
+    private CouponRepository couponRepository;
+    @Mock
+    private CouponRaffleEntryRepository couponRaffleEntryRepository;
+    @Mock
+    private CouponRaffleDrawRepository couponRaffleDrawRepository;
+    @Mock
+    private CouponBulkIssueJobRepository couponBulkIssueJobRepository;
+    @Mock
+    private CouponBulkIssueTargetRepository couponBulkIssueTargetRepository;
+    @Mock
+    private CouponEligibilityTable couponEligibilityTable;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+    private final User user = User.forTest(1L, "test@test.com", "password", "테스터");
+    private CouponRaffleService couponRaffleService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        couponRaffleService = new CouponRaffleService(couponRepository, couponRaffleEntryRepository, couponRaffleDrawRepository,
+                couponBulkIssueJobRepository, couponBulkIssueTargetRepository, new CouponBulkIssueProperties(2, 1000, 10), couponEligibilityTable, clock);
+    }
+
+    private Coupon raffleCouponOf(Long id, int totalQuantity, LocalDateTime entryEndAt) {
+        return new Coupon(id, "브랜드명", "추첨 쿠폰", "요약 설명", "상세 설명", totalQuantity, 0, entryEndAt.minusDays(1), entryEndAt.plusDays(7), CouponUseStatus.AVAILABLE, CouponIssueMode.RAFFLE, null, entryEndAt);
+    }
+
+    @Nested
+    @DisplayName("응모 테스트")
+    class EnterTest {
+
+        @Test
+        @DisplayName("응모 조건을 통과하면 수량 확인 없이 응모 행만 추가한다")
+        void enter_appendsEntry_withoutTouchingStock() {
+            // given
+            Long couponId = 1L;
+            given(couponRaffleEntryRepository.append(couponId, user.getId(), now)).willReturn(true);
+
+            // when
+            couponRaffleService.enter(couponId, user);
+
+            // then
+            verify(couponEligibilityTable).validateEnterable(couponId);
+            verify(couponRepository, never()).findById(couponId);
+        }
+
+        @Test
+        @DisplayName("이미 응모한 사용자면 ALREADY_ENTERED_RAFFLE 예외가 발생한다")
+        void enter_throwsBusinessException_whenAlreadyEntered() {
+            // given
+            Long couponId = 1L;
+            given(couponRaffleEntryRepository.append(couponId, user.getId(), now)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> couponRaffleService.enter(couponId, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_ENTERED_RAFFLE);
+        }
+    }
+
+    @Nested
+    @DisplayName("추첨 테스트")
+    class DrawTest {
+
+        @Test
+        @DisplayName("응모자 중 총 발행 수량만큼 당첨자를 뽑아 청크 단위로 일괄 발급 대상에 적재하고 결과를 기록한다")
+        @SuppressWarnings("unchecked")
+        void draw_stagesWinnersAsBulkIssueJob() {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(raffleCouponOf(couponId, 3, now.minusMinutes(1))));
+            given(couponRaffleDrawRepository.claim(eq(couponId), anyLong(), eq(now))).willReturn(true);
+            given(couponRaffleEntryRepository.findUserIds(couponId)).willReturn(List.of(1L, 2L, 3L, 4L, 5L));
+            CouponBulkIssueJob job = CouponBulkIssueJob.forTest(10L, couponId);
+            given(couponBulkIssueJobRepository.save(any(CouponBulkIssueJob.class))).willReturn(job);
+
+            // when
+            boolean drawn = couponRaffleService.draw(couponId);
+
+            // then
+            ArgumentCaptor<List<Long>> chunks = ArgumentCaptor.forClass(List.class);
+            verify(couponBulkIssueTargetRepository, times(2)).appendAll(eq(10L), chunks.capture());
+            List<Long> winners = chunks.getAllValues().stream().flatMap(List::stream).toList();
+            assertThat(drawn).isTrue();
+            assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(2, 1);
+            assertThat(winners).hasSize(3).doesNotHaveDuplicates();
+            assertThat(List.of(1L, 2L, 3L, 4L, 5L)).containsAll(winners);
+            assertThat(job.getTotalCount()).isEqualTo(3);
+            verify(couponRaffleDrawRepository).record(couponId, 10L, 5, 3);
+        }
+
+        @Test
+        @DisplayName("다른 노드가 이미 추첨했으면 당첨자를 뽑지 않는다")
+        void draw_skips_whenAlreadyClaimed() {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(raffleCouponOf(couponId, 3, now.minusMinutes(1))));
+            given(couponRaffleDrawRepository.claim(eq(couponId), anyLong(), eq(now))).willReturn(false);
+
+            // when
+            boolean drawn = couponRaffleService.draw(couponId);
+
+            // then
+            assertThat(drawn).isFalse();
+            verify(couponRaffleEntryRepository, never()).findUserIds(couponId);
+            verify(couponBulkIssueTargetRepository, never()).appendAll(anyLong(), anyList());
+        }
+
+        @Test
+        @DisplayName("응모 마감 시각이 지나지 않았으면 COUPON_NOT_AVAILABLE_PERIOD 예외가 발생하고 추첨을 선점하지 않는다")
+        void draw_throwsBusinessException_whenRaffleIsStillOpen() {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(raffleCouponOf(couponId, 3, now.plusMinutes(1))));
+
+            // when & then
+            assertThatThrownBy(() -> couponRaffleService.draw(couponId))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_AVAILABLE_PERIOD);
+            verify(couponRaffleDrawRepository, never()).claim(anyLong(), anyLong(), any());
+        }
+    }
+}
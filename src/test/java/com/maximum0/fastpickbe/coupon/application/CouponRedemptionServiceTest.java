@@ -0,0 +1,142 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponRedemption;
+import com.maximum0.fastpickbe.coupon.domain.CouponRedemptionStatus;
+import com.maximum0.fastpickbe.coupon.domain.IssuedCouponRepository;
+import com.maximum0.fastpickbe.user.domain.User;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponRedemptionService 단위 테스트")
+class CouponRedemptionServiceTest {
+
+    @InjectMocks
+    private CouponRedemptionService couponRedemptionService;
+
+    @Mock
+    private IssuedCouponRepository issuedCouponRepository;
+
+    @Mock
+    private Clock clock;
+
+    private final User user = User.forTest(1L, "user1@test.com", "pw", "유저1");
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private void givenNow() {
+        given(clock.instant()).willReturn(now.atZone(ZoneId.systemDefault()).toInstant());
+        given(clock.getZone()).willReturn(ZoneId.systemDefault());
+    }
+
+    @Nested
+    @DisplayName("쿠폰 일괄 사용 처리 테스트")
+    class RedeemAllTest {
+
+        @Test
+        @DisplayName("모든 항목이 사용 처리되면 거절 사유를 조회하지 않는다")
+        void redeemAll_skipsRejectionLookup_whenAllRedeemed() {
+            // given
+            givenNow();
+            given(issuedCouponRepository.useAll(1L, List.of(10L, 11L), now, "order-1")).willReturn(Set.of(10L, 11L));
+
+            // when
+            List<CouponRedemption> result = couponRedemptionService.redeemAll(user, List.of(10L, 11L), "order-1");
+
+            // then
+            assertThat(result).containsExactly(
+                    new CouponRedemption(10L, CouponRedemptionStatus.REDEEMED),
+                    new CouponRedemption(11L, CouponRedemptionStatus.REDEEMED));
+            verify(issuedCouponRepository, never()).findRedemptionRejections(eq(1L), anyCollection());
+        }
+
+        @Test
+        @DisplayName("거절된 항목은 사유를 조회하고, 조회되지 않는 항목은 NOT_FOUND 로 요청 순서대로 반환한다")
+        void redeemAll_returnsRejectionPerItem_inRequestOrder() {
+            // given
+            givenNow();
+            given(issuedCouponRepository.useAll(1L, List.of(13L, 10L, 11L, 12L), now, null)).willReturn(Set.of(10L));
+            given(issuedCouponRepository.findRedemptionRejections(1L, List.of(13L, 11L, 12L)))
+                    .willReturn(Map.of(11L, CouponRedemptionStatus.ALREADY_USED, 12L, CouponRedemptionStatus.EXPIRED));
+
+            // when
+            List<CouponRedemption> result = couponRedemptionService.redeemAll(user, List.of(13L, 10L, 11L, 12L), null);
+
+            // then
+            assertThat(result).containsExactly(
+                    new CouponRedemption(13L, CouponRedemptionStatus.NOT_FOUND),
+                    new CouponRedemption(10L, CouponRedemptionStatus.REDEEMED),
+                    new CouponRedemption(11L, CouponRedemptionStatus.ALREADY_USED),
+                    new CouponRedemption(12L, CouponRedemptionStatus.EXPIRED));
+        }
+
+        @Test
+        @DisplayName("중복된 ID 는 한 번만 처리하고, 빈 사용 요청 키는 키가 없는 요청으로 처리한다")
+        void redeemAll_deduplicatesIds_andIgnoresBlankKey() {
+            // given
+            givenNow();
+            given(issuedCouponRepository.useAll(1L, List.of(10L), now, null)).willReturn(Set.of(10L));
+
+            // when
+            List<CouponRedemption> result = couponRedemptionService.redeemAll(user, List.of(10L, 10L), " ");
+
+            // then
+            assertThat(result).containsExactly(new CouponRedemption(10L, CouponRedemptionStatus.REDEEMED));
+        }
+
+        @Test
+        @DisplayName("사용 요청 키가 64자를 넘으면 INVALID_IDEMPOTENCY_KEY 예외가 발생한다")
+        void redeemAll_throwsBusinessException_whenKeyIsTooLong() {
+            // given
+            String key = "k".repeat(CouponRedemptionService.MAX_REDEMPTION_KEY_LENGTH + 1);
+
+            // when & then
+            assertThatThrownBy(() -> couponRedemptionService.redeemAll(user, List.of(10L), key))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_IDEMPOTENCY_KEY);
+            verify(issuedCouponRepository, never()).useAll(eq(1L), anyCollection(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("쿠폰 단건 사용 처리 테스트")
+    class RedeemTest {
+
+        @Test
+        @DisplayName("단건 요청도 같은 조건부 UPDATE 경로로 처리한다")
+        void redeem_returnsSingleResult() {
+            // given
+            givenNow();
+            given(issuedCouponRepository.useAll(1L, List.of(10L), now, "order-1")).willReturn(Set.of());
+            given(issuedCouponRepository.findRedemptionRejections(1L, List.of(10L)))
+                    .willReturn(Map.of(10L, CouponRedemptionStatus.ALREADY_USED));
+
+            // when
+            CouponRedemption result = couponRedemptionService.redeem(user, 10L, "order-1");
+
+            // then
+            assertThat(result).isEqualTo(new CouponRedemption(10L, CouponRedemptionStatus.ALREADY_USED));
+        }
+    }
+}
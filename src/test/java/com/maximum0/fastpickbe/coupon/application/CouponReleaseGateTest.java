@@ -0,0 +1,172 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponReleaseSchedule;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponReleaseGate 단위 테스트")
+class CouponReleaseGateTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private Clock clock;
+
+    private CouponReleaseGate couponReleaseGate;
+
+    private final Long couponId = 1L;
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+
+    @BeforeEach
+    void setUp() {
+        couponReleaseGate = new CouponReleaseGate(couponRepository, clock);
+    }
+
+    private void setNow(LocalDateTime time) {
+        given(clock.instant()).willReturn(time.atZone(ZoneId.systemDefault()).toInstant());
+        given(clock.getZone()).willReturn(ZoneId.systemDefault());
+    }
+
+    private Coupon dripCoupon(int totalQuantity, int unit) {
+        return Coupon.create("브랜드명", "분할 공개 쿠폰", "요약 설명", "상세 설명", totalQuantity, now, now.plusDays(1),
+                null, CouponReleaseSchedule.drip(unit, Duration.ofMinutes(10)));
+    }
+
+    @Nested
+    @DisplayName("공개 수량 통과 테스트")
+    class AcquireTest {
+
+        @Test
+        @DisplayName("공개된 수량만큼만 통과시키고, 다음 공개 시각이 지나면 다시 통과시킨다")
+        void acquire_admitsOnlyReleasedQuantity_untilNextRelease() {
+            // given
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(dripCoupon(100, 2)));
+            setNow(now);
+            couponReleaseGate.acquire(couponId);
+            couponReleaseGate.acquire(couponId);
+
+            // when & then
+            assertThatThrownBy(() -> couponReleaseGate.acquire(couponId))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_STOCK_NOT_RELEASED);
+            setNow(now.plusMinutes(10));
+            assertThatCode(() -> couponReleaseGate.acquire(couponId)).doesNotThrowAnyException();
+            verify(couponRepository, times(1)).findById(couponId);
+        }
+
+        @Test
+        @DisplayName("발급에 실패하여 되돌린 통과 건수는 다시 통과시킬 수 있다")
+        void acquire_admitsAgain_afterCancel() {
+            // given
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(dripCoupon(100, 1)));
+            setNow(now);
+            couponReleaseGate.acquire(couponId);
+
+            // when
+            couponReleaseGate.cancel(couponId, new BusinessException(ErrorCode.ALREADY_ISSUED_COUPON));
+
+            // then
+            assertThatCode(() -> couponReleaseGate.acquire(couponId)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("DB 경로에서 공개 수량 소진이 확인되면 현재 공개분을 모두 통과된 것으로 처리한다")
+        void cancel_closesCurrentRelease_whenPersistenceReportsNotReleased() {
+            // given
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(dripCoupon(100, 5)));
+            setNow(now);
+            couponReleaseGate.acquire(couponId);
+
+            // when
+            couponReleaseGate.cancel(couponId, new BusinessException(ErrorCode.COUPON_STOCK_NOT_RELEASED));
+
+            // then
+            assertThatThrownBy(() -> couponReleaseGate.acquire(couponId))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_STOCK_NOT_RELEASED);
+        }
+
+        @Test
+        @DisplayName("공개 일정이 없는 쿠폰은 시각을 확인하지 않고 항상 통과시킨다")
+        void acquire_alwaysAdmits_whenCouponHasNoSchedule() {
+            // given
+            Coupon coupon = Coupon.create("브랜드명", "일반 쿠폰", "요약 설명", "상세 설명", 1, now, now.plusDays(1));
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+
+            // when & then
+            assertThatCode(() -> {
+                couponReleaseGate.acquire(couponId);
+                couponReleaseGate.acquire(couponId);
+            }).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 쿠폰이면 COUPON_NOT_FOUND 예외가 발생한다")
+        void acquire_throwsBusinessException_whenCouponNotFound() {
+            // given
+            given(couponRepository.findById(couponId)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> couponReleaseGate.acquire(couponId))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_FOUND);
+        }
+    }
+
+    @Nested
+    @DisplayName("공개 수량 계산 테스트")
+    class ReleasedQuantityTest {
+
+        @Test
+        @DisplayName("노드의 통과 건수와 관계없이 현재 시각까지 공개된 수량을 반환한다")
+        void releasedQuantity_returnsClockComputedQuantity_regardlessOfAdmissions() {
+            // given
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(dripCoupon(100, 2)));
+            setNow(now.plusMinutes(10));
+            couponReleaseGate.acquire(couponId);
+
+            // when
+            int released = couponReleaseGate.releasedQuantity(couponId);
+
+            // then
+            assertThat(released).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("공개 일정이 없는 쿠폰은 수량 제한이 없는 값을 반환한다")
+        void releasedQuantity_returnsMaxValue_whenCouponHasNoSchedule() {
+            // given
+            Coupon coupon = Coupon.create("브랜드명", "일반 쿠폰", "요약 설명", "상세 설명", 1, now, now.plusDays(1));
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(coupon));
+
+            // when
+            int released = couponReleaseGate.releasedQuantity(couponId);
+
+            // then
+            assertThat(released).isEqualTo(Integer.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponUseStatus;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponStockGate 단위 테스트")
+class CouponStockGateTest {
+    @InjectMocks
+    private CouponStockGate couponStockGate;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+
+    private Coupon couponOf(Long id, int totalQuantity, int issuedQuantity) {
+        return Coupon.forTest(id, "브랜드명", "게이트 쿠폰", "요약 설명", "상세 설명", totalQuantity, issuedQuantity, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE);
+    }
+
+    @Nested
+    @DisplayName("permit 획득 테스트")
+    class TryAcquireTest {
+
+        @Test
+        @DisplayName("잔여 수량만큼만 permit 을 획득하고, 이후 요청은 거절한다")
+        void tryAcquire_rejects_whenRemainingQuantityIsExhausted() {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 10, 8)));
+
+            // when
+            boolean first = couponStockGate.tryAcquire(couponId);
+            boolean second = couponStockGate.tryAcquire(couponId);
+            boolean third = couponStockGate.tryAcquire(couponId);
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isTrue();
+            assertThat(third).isFalse();
+            verify(couponRepository, times(1)).findById(couponId);
+        }
+
+        @Test
+        @DisplayName("반환된 permit 은 다시 획득할 수 있다")
+        void tryAcquire_succeeds_afterPermitIsReleased() {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 1, 0)));
+            couponStockGate.tryAcquire(couponId);
+
+            // when
+            couponStockGate.release(couponId);
+
+            // then
+            assertThat(couponStockGate.tryAcquire(couponId)).isTrue();
+        }
+
+        @Test
+        @DisplayName("품절 처리된 쿠폰은 잔여 permit 이 있어도 거절한다")
+        void tryAcquire_rejects_whenMarkedSoldOut() {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 100, 0)));
+            couponStockGate.tryAcquire(couponId);
+
+            // when
+            couponStockGate.markSoldOut(couponId);
+
+            // then
+            assertThat(couponStockGate.tryAcquire(couponId)).isFalse();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 쿠폰이면 COUPON_NOT_FOUND 예외가 발생한다")
+        void tryAcquire_throwsBusinessException_whenCouponNotFound() {
+            // given
+            Long couponId = 999L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> couponStockGate.tryAcquire(couponId))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_FOUND);
+        }
+    }
+}
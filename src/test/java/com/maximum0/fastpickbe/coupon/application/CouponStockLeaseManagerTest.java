@@ -0,0 +1,180 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponStockLeaseManager 단위 테스트")
+class CouponStockLeaseManagerTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponReleaseGate couponReleaseGate;
+
+    @Mock
+    private Clock clock;
+
+    private CouponStockLeaseManager couponStockLeaseManager;
+
+    private final Long couponId = 1L;
+    private final Instant now = Instant.parse("2026-01-01T01:00:00Z");
+    private final CouponStockLeaseProperties properties = new CouponStockLeaseProperties(50, 10, 1000, Duration.ofSeconds(5), 1000, Duration.ofSeconds(1));
+
+    @BeforeEach
+    void setUp() {
+        couponStockLeaseManager = new CouponStockLeaseManager(couponRepository, properties, couponReleaseGate, clock);
+        given(clock.instant()).willReturn(now);
+        given(couponReleaseGate.releasedQuantity(couponId)).willReturn(Integer.MAX_VALUE);
+    }
+
+    @Nested
+    @DisplayName("리스 선점 테스트")
+    class AcquireTest {
+
+        @Test
+        @DisplayName("최초 요청은 최초 리스 크기만큼 빌려오고, 이후 요청은 DB 없이 리스에서 선점한다")
+        void acquire_leasesInitialSize_andServesFromLocalLease() {
+            // given
+            given(couponRepository.reserveQuantity(couponId, 50, Integer.MAX_VALUE)).willReturn(50);
+
+            // when
+            for (int i = 0; i < 50; i++) {
+                couponStockLeaseManager.acquire(couponId);
+            }
+
+            // then
+            verify(couponRepository, times(1)).reserveQuantity(couponId, 50, Integer.MAX_VALUE);
+        }
+
+        @Test
+        @DisplayName("리스가 유지 시간보다 빨리 소진되면, 다음 리스는 요청 빈도에 맞춰 더 크게 빌려온다")
+        void acquire_growsLeaseSize_whenLeaseIsConsumedQuickly() {
+            // given
+            given(couponRepository.reserveQuantity(couponId, 50, Integer.MAX_VALUE)).willReturn(50);
+            for (int i = 0; i < 50; i++) {
+                couponStockLeaseManager.acquire(couponId);
+            }
+            given(clock.instant()).willReturn(now.plusSeconds(1));
+            given(couponRepository.reserveQuantity(couponId, 250, Integer.MAX_VALUE)).willReturn(250);
+
+            // when
+            couponStockLeaseManager.acquire(couponId);
+
+            // then
+            verify(couponRepository).reserveQuantity(couponId, 250, Integer.MAX_VALUE);
+        }
+
+        @Test
+        @DisplayName("쿠폰에 빌려올 재고가 없으면 COUPON_EXHAUSTED 예외가 발생하고, 대기 시간 동안은 DB 를 다시 조회하지 않는다")
+        void acquire_throwsBusinessException_andBacksOff_whenCouponIsExhausted() {
+            // given
+            given(couponRepository.reserveQuantity(couponId, 50, Integer.MAX_VALUE)).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> couponStockLeaseManager.acquire(couponId))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_EXHAUSTED);
+            assertThatThrownBy(() -> couponStockLeaseManager.acquire(couponId))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_EXHAUSTED);
+            verify(couponRepository, times(1)).reserveQuantity(couponId, 50, Integer.MAX_VALUE);
+        }
+
+        @Test
+        @DisplayName("발급에 실패하여 되돌린 수량은 DB 없이 다시 선점할 수 있다")
+        void acquire_reusesReleasedQuantity_withoutNewLease() {
+            // given
+            given(couponRepository.reserveQuantity(couponId, 50, Integer.MAX_VALUE)).willReturn(1);
+            couponStockLeaseManager.acquire(couponId);
+
+            // when
+            couponStockLeaseManager.release(couponId);
+            couponStockLeaseManager.acquire(couponId);
+
+            // then
+            verify(couponRepository, times(1)).reserveQuantity(couponId, 50, Integer.MAX_VALUE);
+            verify(couponRepository, never()).releaseQuantity(couponId, 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("리스 반환 테스트")
+    class ReleaseTest {
+
+        @Test
+        @DisplayName("유지 시간이 지난 리스의 미사용 재고를 반환하고, 다음 리스는 요청 빈도에 맞춰 작게 빌려온다")
+        void releaseExpired_returnsUnusedQuantity_andShrinksNextLease() {
+            // given
+            given(couponRepository.reserveQuantity(couponId, 50, Integer.MAX_VALUE)).willReturn(50);
+            for (int i = 0; i < 3; i++) {
+                couponStockLeaseManager.acquire(couponId);
+            }
+            given(clock.instant()).willReturn(now.plusSeconds(5));
+
+            // when
+            int released = couponStockLeaseManager.releaseExpired();
+            given(couponRepository.reserveQuantity(couponId, 10, Integer.MAX_VALUE)).willReturn(10);
+            couponStockLeaseManager.acquire(couponId);
+
+            // then
+            assertThat(released).isEqualTo(47);
+            verify(couponRepository).releaseQuantity(couponId, 47);
+            verify(couponRepository).reserveQuantity(couponId, 10, Integer.MAX_VALUE);
+        }
+
+        @Test
+        @DisplayName("유지 시간이 남은 리스는 반환하지 않는다")
+        void releaseExpired_keepsLease_whenNotExpired() {
+            // given
+            given(couponRepository.reserveQuantity(couponId, 50, Integer.MAX_VALUE)).willReturn(50);
+            couponStockLeaseManager.acquire(couponId);
+
+            // when
+            int released = couponStockLeaseManager.releaseExpired();
+
+            // then
+            assertThat(released).isZero();
+            verify(couponRepository, never()).releaseQuantity(eq(couponId), anyInt());
+        }
+
+        @Test
+        @DisplayName("노드 종료 시 보유한 모든 리스의 미사용 재고를 반환하고, 이후 되돌린 수량은 쿠폰으로 직접 반환한다")
+        void releaseAll_returnsUnusedQuantity_andReturnsLateReleaseToCoupon() {
+            // given
+            given(couponRepository.reserveQuantity(couponId, 50, Integer.MAX_VALUE)).willReturn(50);
+            couponStockLeaseManager.acquire(couponId);
+            couponStockLeaseManager.acquire(couponId);
+
+            // when
+            int released = couponStockLeaseManager.releaseAll();
+            couponStockLeaseManager.release(couponId);
+
+            // then
+            assertThat(released).isEqualTo(48);
+            verify(couponRepository).releaseQuantity(couponId, 48);
+            verify(couponRepository).releaseQuantity(couponId, 1);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueOutboxRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponWaitingState;
+import com.maximum0.fastpickbe.coupon.domain.CouponWaitingStatus;
+import com.maximum0.fastpickbe.coupon.domain.IssuedCouponRepository;
+import com.maximum0.fastpickbe.user.domain.User;
+import com.maximum0.fastpickbe.user.domain.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = {
+        "coupon.issue.waiting-room.admission-required=true",
+        "coupon.issue.waiting-room.admit-rate=100",
+        "coupon.issue.waiting-room.admit-interval=50"
+})
+@ActiveProfiles("test")
+@DisplayName("쿠폰 발급 대기열 부하 테스트")
+class CouponWaitingRoomLoadTest {
+    private static final long POLL_INTERVAL_MILLIS = 20;
+
+    @Autowired
+    private CouponWaitingRoomService couponWaitingRoomService;
+
+    @Autowired
+    private CouponIssueFacade couponIssueFacade;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IssuedCouponRepository issuedCouponRepository;
+
+    @Autowired
+    private CouponIssueOutboxRepository couponIssueOutboxRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        couponIssueOutboxRepository.deleteAllInBatch();
+        issuedCouponRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        couponRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("발급 시작 순간 요청이 몰려도 입장 토큰을 받은 인원만 발급 경로에 진입하여 DB 커넥션 대기가 발생하지 않는다")
+    void waitingRoom_keepsConnectionUsageFlat_duringSpike() throws Exception {
+        // given
+        int stock = 100;
+        LocalDateTime now = LocalDateTime.now();
+        Long couponId = couponRepository.save(Coupon.create("브랜드명", "대기열 쿠폰", "요약 설명", "상세 설명", stock, now.minusDays(1), now.plusDays(1))).getId();
+
+        List<User> userList = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            userList.add(User.create("waiting" + i + "@test.com", "pw", "테스터" + i));
+        }
+        List<User> requesters = userRepository.saveAll(userList);
+
+        HikariPoolMXBean pool = hikariPool();
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        AtomicInteger peakActive = new AtomicInteger();
+        AtomicInteger peakAwaiting = new AtomicInteger();
+        Thread sampler = new Thread(() -> {
+            while (sampling.get()) {
+                peakActive.accumulateAndGet(pool.getActiveConnections(), Math::max);
+                peakAwaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.start();
+
+        // when
+        ExecutorService executorService = Executors.newFixedThreadPool(requesters.size());
+        CountDownLatch ready = new CountDownLatch(requesters.size());
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requesters.size());
+        long startedAt = System.nanoTime();
+        for (User user : requesters) {
+            executorService.submit(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    enterAndIssue(couponId, user);
+                } catch (Exception ignored) {
+                    // 소진/중복 등 비즈니스 예외는 커넥션 사용량 측정 대상에서 제외
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        done.await(60, TimeUnit.SECONDS);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        executorService.shutdown();
+        sampling.set(false);
+        sampler.join();
+
+        long issuedCount = issuedCouponRepository.countByCouponId(couponId);
+        System.out.printf("[WaitingRoom] 요청 %d건 / 재고 %d개 / 발급 %d건: %dms, 최대 활성 커넥션 %d / 최대 커넥션 대기 스레드 %d (풀 %d)%n",
+                requesters.size(), stock, issuedCount, elapsedMillis, peakActive.get(), peakAwaiting.get(), pool.getTotalConnections());
+
+        // then
+        assertThat(issuedCount).isEqualTo(stock);
+        assertThat(peakAwaiting.get()).isZero();
+        assertThat(peakActive.get()).isLessThan(pool.getTotalConnections());
+    }
+
+    /**
+     * 대기열에 입장한 뒤 입장 토큰을 받을 때까지 상태를 조회하고, 토큰을 제출하여 발급을 요청합니다.
+     */
+    private void enterAndIssue(Long couponId, User user) throws InterruptedException {
+        CouponWaitingState state = couponWaitingRoomService.enter(couponId, user);
+        while (state.status() != CouponWaitingStatus.ADMITTED) {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+            state = couponWaitingRoomService.getState(couponId, user);
+        }
+        couponWaitingRoomService.verifyAdmission(couponId, user, state.admission().token());
+        try {
+            couponIssueFacade.issue(couponId, user);
+        } catch (BusinessException ignored) {
+            // 재고 소진 이후에 입장한 사용자는 품절로 거절됩니다.
+        }
+    }
+
+    private HikariPoolMXBean hikariPool() throws SQLException {
+        return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+    }
+}
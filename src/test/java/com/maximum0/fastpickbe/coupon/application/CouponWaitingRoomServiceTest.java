@@ -0,0 +1,210 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.domain.CouponAdmission;
+import com.maximum0.fastpickbe.coupon.domain.CouponWaitingRoom;
+import com.maximum0.fastpickbe.coupon.domain.CouponWaitingState;
+import com.maximum0.fastpickbe.coupon.domain.CouponWaitingStatus;
+import com.maximum0.fastpickbe.user.domain.User;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponWaitingRoomService 단위 테스트")
+class CouponWaitingRoomServiceTest {
+    @Mock
+    private CouponWaitingRoom couponWaitingRoom;
+    @Mock
+    private CouponEligibilityTable couponEligibilityTable;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+    private final Clock clock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+    private final User user = User.forTest(1L, "test@test.com", "password", "테스터");
+
+    private CouponWaitingRoomService serviceOf(boolean admissionRequired) {
+        CouponWaitingRoomProperties properties = new CouponWaitingRoomProperties(admissionRequired, 100, Duration.ofMillis(100), Duration.ofSeconds(30));
+        return new CouponWaitingRoomService(couponWaitingRoom, couponEligibilityTable, properties, clock);
+    }
+
+    @Nested
+    @DisplayName("대기열 입장 테스트")
+    class EnterTest {
+
+        @Test
+        @DisplayName("대기열에 입장하면 대기 순번과 입장 속도 기준의 예상 대기 시간을 반환한다")
+        void enter_returnsPositionAndEstimatedWait() {
+            // given
+            given(couponWaitingRoom.enter(1L, user.getId())).willReturn(250L);
+
+            // when
+            CouponWaitingState state = serviceOf(true).enter(1L, user);
+
+            // then
+            assertThat(state.status()).isEqualTo(CouponWaitingStatus.WAITING);
+            assertThat(state.position()).isEqualTo(250L);
+            assertThat(state.estimatedWait()).isEqualTo(Duration.ofMillis(2500));
+        }
+
+        @Test
+        @DisplayName("이미 입장 토큰을 받은 사용자는 대기열에 다시 추가하지 않고 토큰을 반환한다")
+        void enter_returnsAdmission_whenAlreadyAdmitted() {
+            // given
+            CouponAdmission admission = CouponAdmission.issue(now.plusSeconds(30));
+            given(couponWaitingRoom.findAdmission(1L, user.getId())).willReturn(Optional.of(admission));
+
+            // when
+            CouponWaitingState state = serviceOf(true).enter(1L, user);
+
+            // then
+            assertThat(state.status()).isEqualTo(CouponWaitingStatus.ADMITTED);
+            assertThat(state.admission()).isEqualTo(admission);
+            verify(couponWaitingRoom, never()).enter(1L, user.getId());
+        }
+
+        @Test
+        @DisplayName("품절된 쿠폰이면 대기열에 입장하지 않고 COUPON_EXHAUSTED 예외가 발생한다")
+        void enter_throwsBusinessException_whenSoldOut() {
+            // given
+            willThrow(new BusinessException(ErrorCode.COUPON_EXHAUSTED))
+                    .given(couponEligibilityTable).validateWaitable(1L);
+
+            // when & then
+            assertThatThrownBy(() -> serviceOf(true).enter(1L, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_EXHAUSTED);
+            verify(couponWaitingRoom, never()).enter(1L, user.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("대기 상태 조회 테스트")
+    class GetStateTest {
+
+        @Test
+        @DisplayName("대기열에도 없고 입장 토큰도 없으면 COUPON_WAITING_NOT_FOUND 예외가 발생한다")
+        void getState_throwsBusinessException_whenNotWaiting() {
+            // given
+            given(couponWaitingRoom.positionOf(1L, user.getId())).willReturn(OptionalLong.empty());
+
+            // when & then
+            assertThatThrownBy(() -> serviceOf(true).getState(1L, user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_WAITING_NOT_FOUND);
+        }
+    }
+
+    @Nested
+    @DisplayName("입장 토큰 검증 테스트")
+    class VerifyAdmissionTest {
+
+        @Test
+        @DisplayName("부여받은 입장 토큰과 일치하면 통과한다")
+        void verifyAdmission_passes_whenTokenMatches() {
+            // given
+            CouponAdmission admission = CouponAdmission.issue(now.plusSeconds(30));
+            given(couponWaitingRoom.findAdmission(1L, user.getId())).willReturn(Optional.of(admission));
+
+            // when & then
+            assertThatCode(() -> serviceOf(true).verifyAdmission(1L, user, admission.token())).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("입장 토큰이 없거나 일치하지 않으면 COUPON_ADMISSION_REQUIRED 예외가 발생한다")
+        void verifyAdmission_throwsBusinessException_whenTokenMismatches() {
+            // given
+            given(couponWaitingRoom.findAdmission(1L, user.getId())).willReturn(Optional.of(CouponAdmission.issue(now.plusSeconds(30))));
+            CouponWaitingRoomService service = serviceOf(true);
+
+            // when & then
+            assertThatThrownBy(() -> service.verifyAdmission(1L, user, null))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_ADMISSION_REQUIRED);
+            assertThatThrownBy(() -> service.verifyAdmission(1L, user, "other-token"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_ADMISSION_REQUIRED);
+        }
+
+        @Test
+        @DisplayName("입장 토큰을 요구하지 않도록 설정되면 토큰 없이 통과한다")
+        void verifyAdmission_passes_whenAdmissionNotRequired() {
+            // when & then
+            assertThatCode(() -> serviceOf(false).verifyAdmission(1L, user, null)).doesNotThrowAnyException();
+            verify(couponWaitingRoom, never()).findAdmission(1L, user.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("입장 허용 테스트")
+    class AdmitTest {
+
+        @Test
+        @DisplayName("발급이 시작된 쿠폰의 대기열에서 주기당 허용 인원만큼 꺼내 입장 토큰을 부여한다")
+        void admit_grantsAdmission_toHeadUsers() {
+            // given
+            given(couponWaitingRoom.couponIds()).willReturn(Set.of(1L));
+            given(couponEligibilityTable.hasStarted(1L)).willReturn(true);
+            given(couponWaitingRoom.poll(1L, 10)).willReturn(List.of(10L, 20L));
+
+            // when
+            serviceOf(true).admit();
+
+            // then
+            verify(couponWaitingRoom, times(1)).grant(eq(1L), eq(10L), any(CouponAdmission.class), eq(Duration.ofSeconds(30)));
+            verify(couponWaitingRoom, times(1)).grant(eq(1L), eq(20L), any(CouponAdmission.class), eq(Duration.ofSeconds(30)));
+        }
+
+        @Test
+        @DisplayName("발급 시작 전인 쿠폰은 대기열에서 꺼내지 않는다")
+        void admit_skips_beforeStartAt() {
+            // given
+            given(couponWaitingRoom.couponIds()).willReturn(Set.of(1L));
+            given(couponEligibilityTable.hasStarted(1L)).willReturn(false);
+
+            // when
+            serviceOf(true).admit();
+
+            // then
+            verify(couponWaitingRoom, never()).poll(eq(1L), anyInt());
+        }
+
+        @Test
+        @DisplayName("삭제, 사용 중지되었거나 발급 기간이 끝난 쿠폰의 대기열은 꺼내지 않고 닫는다")
+        void admit_closesWaitingRoom_whenCouponHasEnded() {
+            // given
+            given(couponWaitingRoom.couponIds()).willReturn(Set.of(1L));
+            given(couponEligibilityTable.hasEnded(1L)).willReturn(true);
+
+            // when
+            serviceOf(true).admit();
+
+            // then
+            verify(couponWaitingRoom).close(1L);
+            verify(couponWaitingRoom, never()).poll(eq(1L), anyInt());
+        }
+    }
+}
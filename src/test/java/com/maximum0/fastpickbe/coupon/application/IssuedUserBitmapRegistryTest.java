@@ -0,0 +1,94 @@
+package com.maximum0.fastpickbe.coupon.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.maximum0.fastpickbe.coupon.domain.IssuedCouponRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.function.LongConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IssuedUserBitmapRegistry 단위 테스트")
+class IssuedUserBitmapRegistryTest {
+    @Mock
+    private IssuedCouponRepository issuedCouponRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private IssuedUserBitmapRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new IssuedUserBitmapRegistry(issuedCouponRepository, meterRegistry);
+    }
+
+    private void givenIssuedUserIds(Long couponId, long... userIds) {
+        willAnswer(invocation -> {
+            LongConsumer consumer = invocation.getArgument(1);
+            for (long userId : userIds) {
+                consumer.accept(userId);
+            }
+            return null;
+        }).given(issuedCouponRepository).forEachIssuedUserId(eq(couponId), any(LongConsumer.class));
+    }
+
+    @Nested
+    @DisplayName("발급 이력 확인 테스트")
+    class IsIssuedTest {
+
+        @Test
+        @DisplayName("최초 조회 시 DB 발급 이력을 한 번만 적재하여 판별한다")
+        void isIssued_loadsBitmapOnce_fromIssuedCoupons() {
+            // given
+            givenIssuedUserIds(1L, 10L, 20L);
+
+            // when
+            boolean issued = registry.isIssued(1L, 10L);
+            boolean notIssued = registry.isIssued(1L, 30L);
+
+            // then
+            assertThat(issued).isTrue();
+            assertThat(notIssued).isFalse();
+            verify(issuedCouponRepository, times(1)).forEachIssuedUserId(eq(1L), any(LongConsumer.class));
+        }
+
+        @Test
+        @DisplayName("커밋된 발급 이력은 DB 재조회 없이 비트맵에 반영된다")
+        void isIssued_returnsTrue_afterMarkIssued() {
+            // given
+            givenIssuedUserIds(1L);
+            registry.isIssued(1L, 10L);
+
+            // when
+            registry.markIssued(1L, 10L);
+
+            // then
+            assertThat(registry.isIssued(1L, 10L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("적재된 사용자 수와 메모리 사용량을 메트릭으로 노출한다")
+        void isIssued_registersMemoryGauges() {
+            // given
+            givenIssuedUserIds(1L, 1L, 2L, 3L);
+
+            // when
+            registry.isIssued(1L, 1L);
+
+            // then
+            assertThat(meterRegistry.get("coupon.issued.bitmap.cardinality").gauge().value()).isEqualTo(3);
+            assertThat(meterRegistry.get("coupon.issued.bitmap.bytes").gauge().value()).isPositive();
+            assertThat(meterRegistry.get("coupon.issued.bitmap.bytes.per.million").gauge().value()).isPositive();
+        }
+    }
+}
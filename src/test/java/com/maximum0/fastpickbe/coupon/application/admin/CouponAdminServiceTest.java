@@ -1,24 +1,38 @@
 package com.maximum0.fastpickbe.coupon.application.admin;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.application.CouponEligibilityTable;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueProperties;
+import com.maximum0.fastpickbe.coupon.application.CouponStockGate;
 import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaign;
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaignRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
 import com.maximum0.fastpickbe.coupon.domain.CouponKeywordRepository;
 import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponTicketRepository;
 import com.maximum0.fastpickbe.coupon.domain.CouponUseStatus;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +51,24 @@ class CouponAdminServiceTest {
     @Mock
     private KeywordExtractor keywordExtractor;
 
+    @Mock
+    private CouponEligibilityTable couponEligibilityTable;
+
+    @Mock
+    private CouponStockGate couponStockGate;
+
+    @Mock
+    private CouponTicketRepository couponTicketRepository;
+
+    @Spy
+    private CouponIssueProperties couponIssueProperties = new CouponIssueProperties(CouponIssueMode.PESSIMISTIC_LOCK);
+
+    @Mock
+    private CouponCampaignRepository couponCampaignRepository;
+
+    @Spy
+    private CouponCampaignProperties couponCampaignProperties = new CouponCampaignProperties(4);
+
     private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
 
     @Nested
@@ -73,6 +105,142 @@ class CouponAdminServiceTest {
             verify(couponRepository, times(1)).save(coupon);
             verify(keywordExtractor).extract("나이키", "[특가] 에어포스");
             verify(couponKeywordRepository).saveAll(anyList());
+            verify(couponEligibilityTable).refresh(coupon);
+            verify(couponTicketRepository, never()).generate(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("티켓 행 발급 방식의 쿠폰이면 총 발행 수량만큼 발급 티켓을 생성한다")
+        void createCoupon_generatesTickets_whenIssueModeIsTicket() {
+            // given
+            Coupon coupon = Coupon.create("나이키", "[한정] 조던 1", "요약 설명", "상세설명", 500, now, now.plusDays(7), CouponIssueMode.TICKET);
+
+            given(couponRepository.save(any(Coupon.class))).willReturn(coupon);
+            given(keywordExtractor.extract(any(), any())).willReturn(List.of("나이키", "한정", "조던"));
+
+            // when
+            couponAdminService.createCoupon(coupon);
+
+            // then
+            verify(couponTicketRepository).generate(coupon.getId(), 500);
+        }
+
+        @Test
+        @DisplayName("발급 방식이 지정되지 않은 쿠폰은 생성 시점의 기본 발급 방식을 저장하고, 기본 발급 방식이 티켓이면 발급 티켓을 생성한다")
+        void createCoupon_persistsDefaultIssueMode_whenIssueModeIsNotSpecified() {
+            // given
+            Coupon coupon = Coupon.create("나이키", "[한정] 조던 1", "요약 설명", "상세설명", 500, now, now.plusDays(7));
+
+            given(couponIssueProperties.mode()).willReturn(CouponIssueMode.TICKET);
+            given(couponRepository.save(any(Coupon.class))).willReturn(coupon);
+            given(keywordExtractor.extract(any(), any())).willReturn(List.of("나이키", "한정", "조던"));
+
+            // when
+            couponAdminService.createCoupon(coupon);
+
+            // then
+            assertThat(coupon.getIssueMode()).isEqualTo(CouponIssueMode.TICKET);
+            verify(couponTicketRepository).generate(coupon.getId(), 500);
+        }
+
+        @Test
+        @DisplayName("발급 방식 없이 2 이상의 인당 발급 한도를 지정한 쿠폰은 기본 발급 방식이 여러 번 발급을 지원하면 한도와 함께 저장한다")
+        void createCoupon_keepsLimitPerUser_whenDefaultIssueModeIsRepeatIssuable() {
+            // given
+            Coupon coupon = Coupon.create("나이키", "[다회] 조던 1", "요약 설명", "상세설명", 500, now, now.plusDays(7));
+            coupon.changeLimitPerUser(3);
+
+            given(couponRepository.save(any(Coupon.class))).willReturn(coupon);
+            given(keywordExtractor.extract(any(), any())).willReturn(List.of("나이키", "다회", "조던"));
+
+            // when
+            couponAdminService.createCoupon(coupon);
+
+            // then
+            assertThat(coupon.getIssueMode()).isEqualTo(CouponIssueMode.PESSIMISTIC_LOCK);
+            assertThat(coupon.getLimitPerUser()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("발급 방식 없이 2 이상의 인당 발급 한도를 지정한 쿠폰은 기본 발급 방식이 여러 번 발급을 지원하지 않으면 저장하지 않고 INVALID_INPUT_VALUE 예외가 발생한다")
+        void createCoupon_throwsBusinessException_whenDefaultIssueModeIsNotRepeatIssuable() {
+            // given
+            Coupon coupon = Coupon.create("나이키", "[다회] 조던 1", "요약 설명", "상세설명", 500, now, now.plusDays(7));
+            coupon.changeLimitPerUser(3);
+            given(couponIssueProperties.mode()).willReturn(CouponIssueMode.COUNTER);
+
+            // when & then
+            assertThatThrownBy(() -> couponAdminService.createCoupon(coupon))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+            verify(couponRepository, never()).save(any(Coupon.class));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 캠페인에 소속시키면 저장하지 않고 COUPON_CAMPAIGN_NOT_FOUND 예외가 발생한다")
+        void createCoupon_throwsBusinessException_whenCampaignNotFound() {
+            // given
+            Coupon coupon = Coupon.create("나이키", "[캠페인] 에어맥스", "요약 설명", "상세설명", 100, now, now.plusDays(7), null);
+            coupon.joinCampaign(99L);
+            given(couponCampaignRepository.existsById(99L)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> couponAdminService.createCoupon(coupon))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_CAMPAIGN_NOT_FOUND);
+            verify(couponRepository, never()).save(any(Coupon.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("캠페인 생성 테스트")
+    class CreateCampaignTest {
+
+        @Test
+        @DisplayName("캠페인을 저장하고 총 수량을 설정된 분할 행 수만큼 고르게 나누어 저장한다")
+        void createCampaign_savesCampaignAndStripes() {
+            // given
+            given(couponCampaignRepository.save(any(CouponCampaign.class))).willReturn(CouponCampaign.forTest(3L, "봄 시즌 캠페인", 10, 4));
+
+            // when
+            Long campaignId = couponAdminService.createCampaign("봄 시즌 캠페인", 10);
+
+            // then
+            assertThat(campaignId).isEqualTo(3L);
+            verify(couponCampaignRepository).createStripes(3L, new int[]{3, 3, 2, 2});
+        }
+    }
+
+    @Nested
+    @DisplayName("쿠폰 사용 중지 테스트")
+    class DisableCouponTest {
+
+        @Test
+        @DisplayName("쿠폰을 사용 중지 처리하고 발급 가능 조건 테이블을 갱신하며 재고 게이트의 카운터를 제거한다")
+        void disableCoupon_disablesCouponAndRefreshesEligibility() {
+            // given
+            Coupon coupon = Coupon.forTest(1L, "나이키", "에어포스", "요약 설명", "상세설명", 100, 0, now, now.plusDays(7), CouponUseStatus.AVAILABLE);
+            given(couponRepository.findByIdWithLock(1L)).willReturn(Optional.of(coupon));
+
+            // when
+            couponAdminService.disableCoupon(1L);
+
+            // then
+            assertThat(coupon.getUseStatus()).isEqualTo(CouponUseStatus.DISABLED);
+            verify(couponEligibilityTable).refresh(coupon);
+            verify(couponStockGate).evict(1L);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 쿠폰이면 COUPON_NOT_FOUND 예외가 발생한다")
+        void disableCoupon_throwsBusinessException_whenCouponNotFound() {
+            // given
+            given(couponRepository.findByIdWithLock(999L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> couponAdminService.disableCoupon(999L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_FOUND);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,363 @@
+package com.maximum0.fastpickbe.coupon.application.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.application.CouponCampaignStock;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueProperties;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueChunk;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJob;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJobRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJobStatus;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueTargetRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueOutboxRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponUserIssueCountRepository;
+import com.maximum0.fastpickbe.coupon.domain.CouponUseStatus;
+import com.maximum0.fastpickbe.coupon.domain.IssuedCouponRepository;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponBulkIssue Service 단위 테스트")
+class CouponBulkIssueServiceTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 1, 0);
+
+    @InjectMocks
+    private CouponBulkIssueService couponBulkIssueService;
+    @Mock
+    private CouponRepository couponRepository;
+    @Mock
+    private IssuedCouponRepository issuedCouponRepository;
+    @Mock
+    private CouponUserIssueCountRepository couponUserIssueCountRepository;
+    @Mock
+    private CouponIssueOutboxRepository couponIssueOutboxRepository;
+    @Mock
+    private CouponBulkIssueJobRepository couponBulkIssueJobRepository;
+    @Mock
+    private CouponBulkIssueTargetRepository couponBulkIssueTargetRepository;
+    @Mock
+    private CouponCampaignStock couponCampaignStock;
+    @Spy
+    private CouponBulkIssueProperties couponBulkIssueProperties = new CouponBulkIssueProperties(2, 1000, 10);
+    @Spy
+    private CouponIssueProperties couponIssueProperties = new CouponIssueProperties(CouponIssueMode.PESSIMISTIC_LOCK);
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    @Mock
+    private Clock clock;
+
+    private Coupon couponOf(Long id, int totalQuantity, int issuedQuantity) {
+        return Coupon.forTest(id, "브랜드명", "일괄 쿠폰", "요약 설명", "상세 설명", totalQuantity, issuedQuantity, NOW.minusDays(1), NOW.plusDays(1), CouponUseStatus.AVAILABLE);
+    }
+
+    private void givenNow() {
+        given(clock.instant()).willReturn(NOW.atZone(ZoneId.systemDefault()).toInstant());
+        given(clock.getZone()).willReturn(ZoneId.systemDefault());
+    }
+
+    private InputStream streamOf(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("일괄 발급 작업 생성 테스트")
+    class CreateJobTest {
+
+        @Test
+        @DisplayName("CSV 헤더와 빈 줄을 건너뛰고 대상을 청크 크기만큼 나누어 적재한다")
+        void createJob_stagesTargetsInChunks_whenCsvIsUploaded() {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 100, 0)));
+            given(couponBulkIssueJobRepository.save(any(CouponBulkIssueJob.class))).willReturn(CouponBulkIssueJob.forTest(10L, couponId));
+
+            // when
+            CouponBulkIssueJob job = couponBulkIssueService.createJob(couponId, CouponBulkIssueFormat.CSV, streamOf("user_id\n1\n2,메모\n\n3\n"));
+
+            // then
+            assertThat(job.getTotalCount()).isEqualTo(3);
+            assertThat(job.getStatus()).isEqualTo(CouponBulkIssueJobStatus.PENDING);
+            verify(couponBulkIssueTargetRepository).appendAll(10L, List.of(1L, 2L));
+            verify(couponBulkIssueTargetRepository).appendAll(10L, List.of(3L));
+        }
+
+        @Test
+        @DisplayName("NDJSON 의 userId 필드를 대상으로 적재한다")
+        void createJob_stagesTargets_whenNdjsonIsUploaded() {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 100, 0)));
+            given(couponBulkIssueJobRepository.save(any(CouponBulkIssueJob.class))).willReturn(CouponBulkIssueJob.forTest(10L, couponId));
+
+            // when
+            CouponBulkIssueJob job = couponBulkIssueService.createJob(couponId, CouponBulkIssueFormat.NDJSON, streamOf("{\"userId\": 7}\n{\"userId\": 8}\n"));
+
+            // then
+            assertThat(job.getTotalCount()).isEqualTo(2);
+            verify(couponBulkIssueTargetRepository).appendAll(10L, List.of(7L, 8L));
+        }
+
+        @Test
+        @DisplayName("사용자 식별자를 읽을 수 없는 줄이 있으면 INVALID_INPUT_VALUE 예외가 발생한다")
+        void createJob_throwsBusinessException_whenLineIsInvalid() {
+            // given
+            Long couponId = 1L;
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 100, 0)));
+            given(couponBulkIssueJobRepository.save(any(CouponBulkIssueJob.class))).willReturn(CouponBulkIssueJob.forTest(10L, couponId));
+
+            // when & then
+            assertThatThrownBy(() -> couponBulkIssueService.createJob(couponId, CouponBulkIssueFormat.CSV, streamOf("1\nabc\n")))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        @Test
+        @DisplayName("재고를 쿠폰 행 밖에 두는 티켓 발급 방식의 쿠폰이면 작업을 만들지 않고 COUPON_BULK_ISSUE_NOT_SUPPORTED 예외가 발생한다")
+        void createJob_throwsBusinessException_whenIssueModeKeepsStockOutsideCouponRow() {
+            // given
+            Long couponId = 1L;
+            Coupon ticket = new Coupon(couponId, "브랜드명", "티켓 쿠폰", "요약 설명", "상세 설명", 100, 0, NOW.minusDays(1), NOW.plusDays(1), CouponUseStatus.AVAILABLE, CouponIssueMode.TICKET, null, null);
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(ticket));
+
+            // when & then
+            assertThatThrownBy(() -> couponBulkIssueService.createJob(couponId, CouponBulkIssueFormat.CSV, streamOf("1\n2\n")))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_BULK_ISSUE_NOT_SUPPORTED);
+            verify(couponBulkIssueJobRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("청크 발급 테스트")
+    class IssueNextChunkTest {
+
+        @Test
+        @DisplayName("이미 발급받은 사용자를 제외하고 청크당 한 번 수량을 선점한 뒤 저장하고 커서를 전진시킨다")
+        void issueNextChunk_issuesCandidates_andAdvancesCursor() {
+            // given
+            givenNow();
+            Long couponId = 1L;
+            CouponBulkIssueJob job = CouponBulkIssueJob.forTest(10L, couponId);
+            given(couponBulkIssueJobRepository.findByIdForUpdateSkipLocked(10L)).willReturn(Optional.of(job));
+            given(couponBulkIssueTargetRepository.findChunk(10L, 0L, 2)).willReturn(new CouponBulkIssueChunk(102L, 2, List.of(1L, 2L)));
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 100, 0)));
+            given(issuedCouponRepository.findIssuedUserIds(couponId, List.of(1L, 2L))).willReturn(Set.of(2L));
+            given(couponCampaignStock.reserveUpTo(couponId, couponId, 1)).willReturn(1);
+            given(couponRepository.reserveQuantity(couponId, 1, 100)).willReturn(1);
+            given(issuedCouponRepository.insertAll(couponId, List.of(1L), NOW)).willReturn(Map.of(1L, 500L));
+
+            // when
+            boolean hasMore = couponBulkIssueService.issueNextChunk(10L);
+
+            // then
+            assertThat(hasMore).isTrue();
+            assertThat(job.getStatus()).isEqualTo(CouponBulkIssueJobStatus.RUNNING);
+            assertThat(job.getLastTargetId()).isEqualTo(102L);
+            assertThat(job.getProcessedCount()).isEqualTo(2);
+            assertThat(job.getIssuedCount()).isEqualTo(1);
+            assertThat(job.getSkippedCount()).isEqualTo(1);
+            verify(couponUserIssueCountRepository).incrementAll(couponId, List.of(1L));
+            verify(couponIssueOutboxRepository).appendAll(couponId, Map.of(1L, 500L), NOW);
+        }
+
+        @Test
+        @DisplayName("잔여 수량이 부족하면 선점한 만큼만 발급하고 COUPON_EXHAUSTED 로 작업을 중단한다")
+        void issueNextChunk_stopsJob_whenCouponIsExhausted() {
+            // given
+            givenNow();
+            Long couponId = 1L;
+            CouponBulkIssueJob job = CouponBulkIssueJob.forTest(10L, couponId);
+            given(couponBulkIssueJobRepository.findByIdForUpdateSkipLocked(10L)).willReturn(Optional.of(job));
+            given(couponBulkIssueTargetRepository.findChunk(10L, 0L, 2)).willReturn(new CouponBulkIssueChunk(102L, 2, List.of(1L, 2L)));
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 1, 0)));
+            given(issuedCouponRepository.findIssuedUserIds(couponId, List.of(1L, 2L))).willReturn(Set.of());
+            given(couponCampaignStock.reserveUpTo(couponId, couponId, 2)).willReturn(2);
+            given(couponRepository.reserveQuantity(couponId, 2, 1)).willReturn(1);
+            given(issuedCouponRepository.insertAll(couponId, List.of(1L), NOW)).willReturn(Map.of(1L, 500L));
+
+            // when
+            boolean hasMore = couponBulkIssueService.issueNextChunk(10L);
+
+            // then
+            assertThat(hasMore).isFalse();
+            assertThat(job.getStatus()).isEqualTo(CouponBulkIssueJobStatus.FAILED);
+            assertThat(job.getFailureCode()).isEqualTo(ErrorCode.COUPON_EXHAUSTED);
+            assertThat(job.getIssuedCount()).isEqualTo(1);
+            verify(couponCampaignStock).release(couponId, couponId, 1);
+            verify(couponBulkIssueTargetRepository).deleteAllByJobId(10L);
+        }
+
+        @Test
+        @DisplayName("캠페인 잔여 수량이 부족하면 캠페인 수량만큼만 쿠폰 수량을 선점해 발급하고 COUPON_CAMPAIGN_EXHAUSTED 로 작업을 중단한다")
+        void issueNextChunk_stopsJob_whenCampaignIsExhausted() {
+            // given
+            givenNow();
+            Long couponId = 1L;
+            CouponBulkIssueJob job = CouponBulkIssueJob.forTest(10L, couponId);
+            given(couponBulkIssueJobRepository.findByIdForUpdateSkipLocked(10L)).willReturn(Optional.of(job));
+            given(couponBulkIssueTargetRepository.findChunk(10L, 0L, 2)).willReturn(new CouponBulkIssueChunk(102L, 2, List.of(1L, 2L)));
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 100, 0)));
+            given(issuedCouponRepository.findIssuedUserIds(couponId, List.of(1L, 2L))).willReturn(Set.of());
+            given(couponCampaignStock.reserveUpTo(couponId, couponId, 2)).willReturn(1);
+            given(couponRepository.reserveQuantity(couponId, 1, 100)).willReturn(1);
+            given(issuedCouponRepository.insertAll(couponId, List.of(1L), NOW)).willReturn(Map.of(1L, 500L));
+
+            // when
+            boolean hasMore = couponBulkIssueService.issueNextChunk(10L);
+
+            // then
+            assertThat(hasMore).isFalse();
+            assertThat(job.getFailureCode()).isEqualTo(ErrorCode.COUPON_CAMPAIGN_EXHAUSTED);
+            assertThat(job.getIssuedCount()).isEqualTo(1);
+            verify(couponRepository, never()).releaseQuantity(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("마지막으로 커밋된 커서 이후의 대상이 없으면 작업을 완료하고 대상 행을 삭제한다")
+        void issueNextChunk_completesJob_whenNoTargetLeft() {
+            // given
+            CouponBulkIssueJob job = CouponBulkIssueJob.forTest(10L, 1L);
+            job.advance(102L, 2, 2);
+            given(couponBulkIssueJobRepository.findByIdForUpdateSkipLocked(10L)).willReturn(Optional.of(job));
+            given(couponBulkIssueTargetRepository.findChunk(10L, 102L, 2)).willReturn(new CouponBulkIssueChunk(102L, 0, List.of()));
+
+            // when
+            boolean hasMore = couponBulkIssueService.issueNextChunk(10L);
+
+            // then
+            assertThat(hasMore).isFalse();
+            assertThat(job.getStatus()).isEqualTo(CouponBulkIssueJobStatus.COMPLETED);
+            verify(couponBulkIssueTargetRepository).deleteAllByJobId(10L);
+        }
+
+        @Test
+        @DisplayName("사용 중지된 쿠폰이면 발급하지 않고 COUPON_DISABLED 로 작업을 중단한다")
+        void issueNextChunk_stopsJob_whenCouponIsDisabled() {
+            // given
+            givenNow();
+            Long couponId = 1L;
+            CouponBulkIssueJob job = CouponBulkIssueJob.forTest(10L, couponId);
+            Coupon disabled = Coupon.forTest(couponId, "브랜드명", "중지 쿠폰", "요약 설명", "상세 설명", 100, 0, NOW.minusDays(1), NOW.plusDays(1), CouponUseStatus.DISABLED);
+            given(couponBulkIssueJobRepository.findByIdForUpdateSkipLocked(10L)).willReturn(Optional.of(job));
+            given(couponBulkIssueTargetRepository.findChunk(10L, 0L, 2)).willReturn(new CouponBulkIssueChunk(102L, 2, List.of(1L, 2L)));
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(disabled));
+
+            // when
+            boolean hasMore = couponBulkIssueService.issueNextChunk(10L);
+
+            // then
+            assertThat(hasMore).isFalse();
+            assertThat(job.getFailureCode()).isEqualTo(ErrorCode.COUPON_DISABLED);
+            verify(couponRepository, never()).reserveQuantity(any(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("기본 발급 방식이 카운터로 바뀌어 쿠폰 행 밖에 재고를 두면 발급하지 않고 COUPON_BULK_ISSUE_NOT_SUPPORTED 로 작업을 중단한다")
+        void issueNextChunk_stopsJob_whenResolvedIssueModeIsNotSupported() {
+            // given
+            givenNow();
+            Long couponId = 1L;
+            CouponBulkIssueJob job = CouponBulkIssueJob.forTest(10L, couponId);
+            given(couponBulkIssueJobRepository.findByIdForUpdateSkipLocked(10L)).willReturn(Optional.of(job));
+            given(couponBulkIssueTargetRepository.findChunk(10L, 0L, 2)).willReturn(new CouponBulkIssueChunk(102L, 2, List.of(1L, 2L)));
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(couponOf(couponId, 100, 0)));
+            given(couponIssueProperties.mode()).willReturn(CouponIssueMode.COUNTER);
+
+            // when
+            boolean hasMore = couponBulkIssueService.issueNextChunk(10L);
+
+            // then
+            assertThat(hasMore).isFalse();
+            assertThat(job.getFailureCode()).isEqualTo(ErrorCode.COUPON_BULK_ISSUE_NOT_SUPPORTED);
+            verify(couponRepository, never()).reserveQuantity(any(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("추첨 쿠폰은 응모 마감 시각이 지난 뒤에만 당첨자에게 발급한다")
+        void issueNextChunk_issuesRaffleWinners_onlyAfterEntryEndAt() {
+            // given
+            givenNow();
+            Long couponId = 1L;
+            CouponBulkIssueJob job = CouponBulkIssueJob.forTest(10L, couponId);
+            Coupon raffle = new Coupon(couponId, "브랜드명", "추첨 쿠폰", "요약 설명", "상세 설명", 100, 0, NOW.minusDays(2), NOW.plusDays(7), CouponUseStatus.AVAILABLE, CouponIssueMode.RAFFLE, null, NOW.minusDays(1));
+            given(couponBulkIssueJobRepository.findByIdForUpdateSkipLocked(10L)).willReturn(Optional.of(job));
+            given(couponBulkIssueTargetRepository.findChunk(10L, 0L, 2)).willReturn(new CouponBulkIssueChunk(102L, 2, List.of(1L, 2L)));
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(raffle));
+            given(issuedCouponRepository.findIssuedUserIds(couponId, List.of(1L, 2L))).willReturn(Set.of());
+            given(couponCampaignStock.reserveUpTo(couponId, couponId, 2)).willReturn(2);
+            given(couponRepository.reserveQuantity(couponId, 2, 100)).willReturn(2);
+            given(issuedCouponRepository.insertAll(couponId, List.of(1L, 2L), NOW)).willReturn(Map.of(1L, 500L, 2L, 501L));
+
+            // when
+            boolean hasMore = couponBulkIssueService.issueNextChunk(10L);
+
+            // then
+            assertThat(hasMore).isTrue();
+            assertThat(job.getIssuedCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("응모 기간이 끝나지 않은 추첨 쿠폰이면 발급하지 않고 COUPON_NOT_AVAILABLE_PERIOD 로 작업을 중단한다")
+        void issueNextChunk_stopsJob_whenRaffleIsStillOpen() {
+            // given
+            givenNow();
+            Long couponId = 1L;
+            CouponBulkIssueJob job = CouponBulkIssueJob.forTest(10L, couponId);
+            Coupon raffle = new Coupon(couponId, "브랜드명", "추첨 쿠폰", "요약 설명", "상세 설명", 100, 0, NOW.minusDays(1), NOW.plusDays(7), CouponUseStatus.AVAILABLE, CouponIssueMode.RAFFLE, null, NOW.plusDays(1));
+            given(couponBulkIssueJobRepository.findByIdForUpdateSkipLocked(10L)).willReturn(Optional.of(job));
+            given(couponBulkIssueTargetRepository.findChunk(10L, 0L, 2)).willReturn(new CouponBulkIssueChunk(102L, 2, List.of(1L, 2L)));
+            given(couponRepository.findById(couponId)).willReturn(Optional.of(raffle));
+
+            // when
+            boolean hasMore = couponBulkIssueService.issueNextChunk(10L);
+
+            // then
+            assertThat(hasMore).isFalse();
+            assertThat(job.getFailureCode()).isEqualTo(ErrorCode.COUPON_NOT_AVAILABLE_PERIOD);
+            verify(couponRepository, never()).reserveQuantity(any(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("다른 노드가 처리 중인 작업이면 건너뛴다")
+        void issueNextChunk_skips_whenJobIsLockedByAnotherNode() {
+            // given
+            given(couponBulkIssueJobRepository.findByIdForUpdateSkipLocked(10L)).willReturn(Optional.empty());
+
+            // when
+            boolean hasMore = couponBulkIssueService.issueNextChunk(10L);
+
+            // then
+            assertThat(hasMore).isFalse();
+            verify(couponBulkIssueTargetRepository, never()).findChunk(any(), anyLong(), anyInt());
+        }
+    }
+}
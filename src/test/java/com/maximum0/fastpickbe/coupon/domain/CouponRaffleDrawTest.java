@@ -0,0 +1,53 @@
+package com.maximum0.fastpickbe.coupon.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CouponRaffleDraw 도메인 단위 테스트")
+class CouponRaffleDrawTest {
+    private final List<Long> entrantIds = LongStream.rangeClosed(1, 100).boxed().toList();
+
+    @Nested
+    @DisplayName("당첨자 추첨 테스트")
+    class PickWinnersTest {
+
+        @Test
+        @DisplayName("당첨자 수만큼 중복 없이 응모자 중에서 뽑는다")
+        void pickWinners_picksDistinctEntrants_upToWinnerCount() {
+            // when
+            List<Long> winners = CouponRaffleDraw.pickWinners(entrantIds, 10, 42L);
+
+            // then
+            assertThat(winners).hasSize(10).doesNotHaveDuplicates();
+            assertThat(entrantIds).containsAll(winners);
+        }
+
+        @Test
+        @DisplayName("같은 응모 순서와 시드로는 항상 같은 당첨자를 같은 순서로 뽑는다")
+        void pickWinners_isReproducible_withSameSeed() {
+            // when
+            List<Long> first = CouponRaffleDraw.pickWinners(entrantIds, 10, 42L);
+            List<Long> second = CouponRaffleDraw.pickWinners(entrantIds, 10, 42L);
+            List<Long> otherSeed = CouponRaffleDraw.pickWinners(entrantIds, 10, 43L);
+
+            // then
+            assertThat(second).isEqualTo(first);
+            assertThat(otherSeed).isNotEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("응모자가 당첨자 수보다 적으면 응모자 전원이 당첨된다")
+        void pickWinners_returnsAllEntrants_whenEntrantsAreFewerThanWinnerCount() {
+            // when
+            List<Long> winners = CouponRaffleDraw.pickWinners(List.of(1L, 2L, 3L), 10, 42L);
+
+            // then
+            assertThat(winners).containsExactlyInAnyOrder(1L, 2L, 3L);
+        }
+    }
+}
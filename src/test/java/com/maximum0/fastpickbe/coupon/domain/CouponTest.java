@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.maximum0.fastpickbe.common.exception.BusinessException;
 import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -57,6 +59,19 @@ class CouponTest {
             assertThat(status).isEqualTo(CouponStatus.EXHAUSTED);
         }
 
+        @Test
+        @DisplayName("리스 방식 쿠폰은 발행 수량이 모두 리스되었더라도 품절 처리되기 전까지 ISSUING 상태를 반환한다.")
+        void calculateStatus_returnsIssuing_whenLeaseCouponIsOnlyLeased() {
+            // given
+            Coupon coupon = new Coupon(1L, "브랜드명", "리스 쿠폰", "요약 설명", "상세 설명", 100, 100, now.minusDays(1), now.plusDays(1), CouponUseStatus.AVAILABLE, CouponIssueMode.LEASE, null, null);
+
+            // when
+            CouponStatus status = coupon.calculateStatus(now);
+
+            // then
+            assertThat(status).isEqualTo(CouponStatus.ISSUING);
+        }
+
         @Test
         @DisplayName("종료 시간이 지나면 EXPIRED 상태를 반환한다.")
         void calculateStatus_returnsExpired_whenAfterEndAt() {
@@ -152,4 +167,188 @@ class CouponTest {
         }
     }
 
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("쿠폰 수량 공개 일정 테스트")
+    class ReleaseScheduleTest {
+
+        @Test
+        @DisplayName("분할 공개 쿠폰은 발급 시작 시각부터 간격마다 지정한 수량을 공개하고, 총 발행 수량을 넘지 않는다")
+        void releasedQuantity_growsEveryInterval_whenDripSchedule() {
+            // given
+            Coupon coupon = Coupon.create("브랜드명", "분할 공개 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(1),
+                    null, CouponReleaseSchedule.drip(30, Duration.ofMinutes(10)));
+
+            // when & then
+            assertThat(coupon.releasedQuantity(now.minusSeconds(1))).isZero();
+            assertThat(coupon.releasedQuantity(now)).isEqualTo(30);
+            assertThat(coupon.releasedQuantity(now.plusMinutes(10).minusSeconds(1))).isEqualTo(30);
+            assertThat(coupon.releasedQuantity(now.plusMinutes(10))).isEqualTo(60);
+            assertThat(coupon.releasedQuantity(now.plusMinutes(30))).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("회차 공개 쿠폰은 공개 시각이 지난 회차의 수량만 공개한다")
+        void releasedQuantity_sumsReleasedWaves_whenWaveSchedule() {
+            // given
+            Coupon coupon = Coupon.create("브랜드명", "회차 공개 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(1),
+                    null, CouponReleaseSchedule.waves(List.of(
+                            new CouponReleaseWave("오후 오픈", now.plusHours(6), 40),
+                            new CouponReleaseWave("오전 오픈", now, 60)
+                    )));
+
+            // when & then
+            assertThat(coupon.releasedQuantity(now)).isEqualTo(60);
+            assertThat(coupon.releasedQuantity(now.plusHours(6))).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("공개 일정이 없는 쿠폰은 총 발행 수량 전체가 공개된 것으로 본다")
+        void releasedQuantity_returnsTotalQuantity_whenNoSchedule() {
+            // given
+            Coupon coupon = Coupon.create("브랜드명", "일반 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(1));
+
+            // when & then
+            assertThat(coupon.releasedQuantity(now)).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("공개된 수량이 모두 발급되면 COUPON_STOCK_NOT_RELEASED 예외가 발생하고, 다음 공개 이후에는 발급할 수 있다")
+        void issue_throwsBusinessException_untilNextRelease() {
+            // given
+            Coupon coupon = Coupon.create("브랜드명", "분할 공개 쿠폰", "요약 설명", "상세 설명", 4, now, now.plusDays(1),
+                    null, CouponReleaseSchedule.drip(2, Duration.ofMinutes(10)));
+            coupon.issue(now);
+            coupon.issue(now);
+
+            // when & then
+            assertThatThrownBy(() -> coupon.issue(now.plusMinutes(5)))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_STOCK_NOT_RELEASED);
+            coupon.issue(now.plusMinutes(10));
+            assertThat(coupon.getIssuedQuantity()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("회차 공개 수량의 합계가 총 발행 수량보다 적으면 INVALID_INPUT_VALUE 예외가 발생한다")
+        void create_throwsBusinessException_whenWavesDoNotCoverTotalQuantity() {
+            // given
+            CouponReleaseSchedule schedule = CouponReleaseSchedule.waves(List.of(new CouponReleaseWave("오전 오픈", now, 60)));
+
+            // when & then
+            assertThatThrownBy(() -> Coupon.create("브랜드명", "회차 공개 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(1), null, schedule))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    @Nested
+    @DisplayName("추첨 쿠폰 응모 마감 테스트")
+    class EntryEndAtTest {
+
+        @Test
+        @DisplayName("응모 마감 시각이 지나고 사용 기간이 남았으면 추첨할 수 있고 쿠폰은 만료되지 않는다")
+        void validateDrawable_passes_betweenEntryEndAtAndEndAt() {
+            // given
+            Coupon coupon = Coupon.create("브랜드명", "추첨 쿠폰", "요약 설명", "상세 설명", 100, now.minusDays(3), now.plusDays(7), CouponIssueMode.RAFFLE, null, now.minusDays(1));
+
+            // when
+            coupon.validateDrawable(now);
+
+            // then
+            assertThat(coupon.isEntryClosed(now)).isTrue();
+            assertThat(coupon.isExpired(now)).isFalse();
+        }
+
+        @Test
+        @DisplayName("응모 마감 시각 전이면 COUPON_NOT_AVAILABLE_PERIOD 예외가 발생한다")
+        void validateDrawable_throwsBusinessException_beforeEntryEndAt() {
+            // given
+            Coupon coupon = Coupon.create("브랜드명", "추첨 쿠폰", "요약 설명", "상세 설명", 100, now.minusDays(1), now.plusDays(7), CouponIssueMode.RAFFLE, null, now.plusDays(1));
+
+            // when & then
+            assertThatThrownBy(() -> coupon.validateDrawable(now))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_NOT_AVAILABLE_PERIOD);
+        }
+
+        @Test
+        @DisplayName("추첨 쿠폰에 응모 마감 시각이 없거나 사용 기간 밖이면 INVALID_INPUT_VALUE 예외가 발생한다")
+        void create_throwsBusinessException_whenEntryEndAtIsInvalid() {
+            // when & then
+            assertThatThrownBy(() -> Coupon.create("브랜드명", "추첨 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(7), CouponIssueMode.RAFFLE, null, null))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+            assertThatThrownBy(() -> Coupon.create("브랜드명", "추첨 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(7), CouponIssueMode.RAFFLE, null, now.plusDays(7)))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+            assertThatThrownBy(() -> Coupon.create("브랜드명", "선착순 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(7), CouponIssueMode.COUNTER, null, now.plusDays(1)))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    @Nested
+    @DisplayName("인당 발급 한도 테스트")
+    class LimitPerUserTest {
+
+        @Test
+        @DisplayName("발급 요청마다 발급 횟수를 검증하는 발급 방식이면 2 이상의 한도를 지정할 수 있다")
+        void changeLimitPerUser_setsLimit_whenIssueModeIsRepeatIssuable() {
+            // given
+            Coupon coupon = Coupon.create("브랜드명", "다회 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(1), CouponIssueMode.PESSIMISTIC_LOCK);
+
+            // when
+            coupon.changeLimitPerUser(3);
+
+            // then
+            assertThat(coupon.getLimitPerUser()).isEqualTo(3);
+            assertThat(coupon.isRepeatIssuable()).isTrue();
+        }
+
+        @Test
+        @DisplayName("발급 사용자 집합으로 중복을 거르는 발급 방식의 쿠폰에 2 이상의 한도를 지정하면 INVALID_INPUT_VALUE 예외가 발생한다")
+        void changeLimitPerUser_throwsBusinessException_whenIssueModeIsNotRepeatIssuable() {
+            // given
+            Coupon counterCoupon = Coupon.create("브랜드명", "카운터 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(1), CouponIssueMode.COUNTER);
+
+            // when & then
+            assertThatThrownBy(() -> counterCoupon.changeLimitPerUser(2))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        @Test
+        @DisplayName("발급 방식이 지정되지 않은 쿠폰의 2 이상의 한도는 기본 발급 방식을 지정할 때 검증한다")
+        void assignDefaultIssueMode_validatesLimitPerUser_whenIssueModeIsNotSpecified() {
+            // given
+            Coupon repeatCoupon = Coupon.create("브랜드명", "다회 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(1));
+            Coupon counterCoupon = Coupon.create("브랜드명", "일반 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(1));
+            repeatCoupon.changeLimitPerUser(2);
+            counterCoupon.changeLimitPerUser(2);
+
+            // when
+            repeatCoupon.assignDefaultIssueMode(CouponIssueMode.PESSIMISTIC_LOCK);
+
+            // then
+            assertThat(repeatCoupon.getIssueMode()).isEqualTo(CouponIssueMode.PESSIMISTIC_LOCK);
+            assertThat(repeatCoupon.getLimitPerUser()).isEqualTo(2);
+            assertThatThrownBy(() -> counterCoupon.assignDefaultIssueMode(CouponIssueMode.COUNTER))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        @Test
+        @DisplayName("이미 발급된 쿠폰의 한도를 바꾸면 INVALID_INPUT_VALUE 예외가 발생한다")
+        void changeLimitPerUser_throwsBusinessException_whenCouponIsAlreadyIssued() {
+            // given
+            Coupon coupon = Coupon.create("브랜드명", "다회 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(1), CouponIssueMode.CONDITIONAL_UPDATE);
+            coupon.issue(now);
+
+            // when & then
+            assertThatThrownBy(() -> coupon.changeLimitPerUser(2))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
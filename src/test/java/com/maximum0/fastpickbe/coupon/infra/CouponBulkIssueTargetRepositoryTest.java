@@ -0,0 +1,85 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maximum0.fastpickbe.common.config.JpaConfig;
+import com.maximum0.fastpickbe.common.config.QuerydslConfig;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueChunk;
+import com.maximum0.fastpickbe.user.domain.User;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CouponBulkIssueTargetRepositoryImpl.class, JpaConfig.class, QuerydslConfig.class})
+@DisplayName("CouponBulkIssueTarget Repository 단위 테스트")
+class CouponBulkIssueTargetRepositoryTest {
+
+    @Autowired
+    private CouponBulkIssueTargetRepositoryImpl couponBulkIssueTargetRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long firstUserId;
+    private Long secondUserId;
+
+    @BeforeEach
+    void setUp() {
+        firstUserId = entityManager.persist(User.create("first@test.com", "encodedPassword", "첫번째")).getId();
+        secondUserId = entityManager.persist(User.create("second@test.com", "encodedPassword", "두번째")).getId();
+        entityManager.flush();
+    }
+
+    @Nested
+    @DisplayName("대상 청크 조회 테스트")
+    class FindChunkTest {
+
+        @Test
+        @DisplayName("청크 크기만큼 적재 순서대로 조회하고, 존재하지 않는 사용자와 청크 내 중복을 제외한다")
+        void findChunk_excludesUnknownAndDuplicatedUsers() {
+            // given
+            Long jobId = 1L;
+            Long unknownUserId = secondUserId + 1000;
+            couponBulkIssueTargetRepository.appendAll(jobId, List.of(secondUserId, unknownUserId, secondUserId, firstUserId, firstUserId));
+
+            // when
+            CouponBulkIssueChunk first = couponBulkIssueTargetRepository.findChunk(jobId, 0L, 4);
+            CouponBulkIssueChunk second = couponBulkIssueTargetRepository.findChunk(jobId, first.lastTargetId(), 4);
+            CouponBulkIssueChunk last = couponBulkIssueTargetRepository.findChunk(jobId, second.lastTargetId(), 4);
+
+            // then
+            assertThat(first.size()).isEqualTo(4);
+            assertThat(first.userIds()).containsExactly(secondUserId, firstUserId);
+            assertThat(second.size()).isEqualTo(1);
+            assertThat(second.userIds()).containsExactly(firstUserId);
+            assertThat(last.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("다른 작업의 대상은 조회하지 않고, 작업별로 대상을 삭제한다")
+        void deleteAllByJobId_removesOnlyTargetsOfJob() {
+            // given
+            couponBulkIssueTargetRepository.appendAll(1L, List.of(firstUserId));
+            couponBulkIssueTargetRepository.appendAll(2L, List.of(secondUserId));
+
+            // when
+            int deleted = couponBulkIssueTargetRepository.deleteAllByJobId(1L);
+
+            // then
+            assertThat(deleted).isEqualTo(1);
+            assertThat(couponBulkIssueTargetRepository.findChunk(1L, 0L, 10).isEmpty()).isTrue();
+            assertThat(couponBulkIssueTargetRepository.findChunk(2L, 0L, 10).userIds()).containsExactly(secondUserId);
+        }
+    }
+}
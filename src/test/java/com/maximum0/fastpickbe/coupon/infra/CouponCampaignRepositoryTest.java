@@ -0,0 +1,87 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maximum0.fastpickbe.common.config.JpaConfig;
+import com.maximum0.fastpickbe.common.config.QuerydslConfig;
+import com.maximum0.fastpickbe.coupon.domain.CouponCampaign;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CouponCampaignRepositoryImpl.class, JpaConfig.class, QuerydslConfig.class})
+@DisplayName("CouponCampaign Repository 단위 테스트")
+class CouponCampaignRepositoryTest {
+
+    @Autowired
+    private CouponCampaignRepositoryImpl couponCampaignRepository;
+
+    private Long campaignId;
+
+    @BeforeEach
+    void setUp() {
+        CouponCampaign campaign = couponCampaignRepository.save(CouponCampaign.create("봄 시즌 캠페인", 10, 4));
+        couponCampaignRepository.createStripes(campaign.getId(), campaign.initialStripeQuantities());
+        campaignId = campaign.getId();
+    }
+
+    @Nested
+    @DisplayName("분할 행 차감 테스트")
+    class DecreaseStripeTest {
+
+        @Test
+        @DisplayName("분할 행의 잔여 수량이 충분할 때만 차감한다")
+        void decreaseStripe_decreases_onlyWhenStripeHasEnoughQuantity() {
+            // when
+            boolean enough = couponCampaignRepository.decreaseStripe(campaignId, 0, 3);
+            boolean insufficient = couponCampaignRepository.decreaseStripe(campaignId, 0, 1);
+
+            // then
+            assertThat(enough).isTrue();
+            assertThat(insufficient).isFalse();
+            assertThat(couponCampaignRepository.remainingQuantity(campaignId)).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("되돌린 수량은 지정한 분할 행에 더해진다")
+        void increaseStripe_addsQuantityToStripe() {
+            // given
+            couponCampaignRepository.decreaseStripe(campaignId, 1, 3);
+
+            // when
+            couponCampaignRepository.increaseStripe(campaignId, 1, 2);
+
+            // then
+            assertThat(couponCampaignRepository.lockStripes(campaignId)).containsExactly(3, 2, 2, 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("분할 행 재분배 테스트")
+    class RebalanceTest {
+
+        @Test
+        @DisplayName("분할 행을 번호 순서로 조회하고, 재분배한 수량으로 갱신한다")
+        void lockStripes_andUpdateStripes_rewritesRemainingQuantities() {
+            // given
+            int[] stripes = couponCampaignRepository.lockStripes(campaignId);
+
+            // when
+            couponCampaignRepository.updateStripes(campaignId, new int[]{0, 0, 5, 4});
+
+            // then
+            assertThat(stripes).containsExactly(3, 3, 2, 2);
+            assertThat(couponCampaignRepository.lockStripes(campaignId)).containsExactly(0, 0, 5, 4);
+            assertThat(couponCampaignRepository.remainingQuantity(campaignId)).isEqualTo(9);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maximum0.fastpickbe.common.config.JpaConfig;
+import com.maximum0.fastpickbe.common.config.QuerydslConfig;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssuedEvent;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CouponIssueOutboxRepositoryImpl.class, JpaConfig.class, QuerydslConfig.class})
+@DisplayName("CouponIssueOutbox Repository 단위 테스트")
+class CouponIssueOutboxRepositoryTest {
+
+    @Autowired
+    private CouponIssueOutboxRepositoryImpl couponIssueOutboxRepository;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+
+    private Map<Long, Long> issuedIdsOf(long... userIds) {
+        Map<Long, Long> issuedIds = new LinkedHashMap<>();
+        for (long userId : userIds) {
+            issuedIds.put(userId, userId * 10);
+        }
+        return issuedIds;
+    }
+
+    @Nested
+    @DisplayName("발급 이벤트 기록 및 전달 테스트")
+    class RelayTest {
+
+        @Test
+        @DisplayName("기록된 발급 이벤트를 기록 순서대로 배치 크기만큼 조회한다")
+        void lockNextBatch_returnsEventsInOrder_upToBatchSize() {
+            // given
+            couponIssueOutboxRepository.appendAll(1L, issuedIdsOf(1L, 2L), now);
+            couponIssueOutboxRepository.appendAll(2L, issuedIdsOf(3L), now);
+
+            // when
+            List<CouponIssuedEvent> batch = couponIssueOutboxRepository.lockNextBatch(2);
+
+            // then
+            assertThat(batch).hasSize(2);
+            assertThat(batch.get(0).outboxId()).isLessThan(batch.get(1).outboxId());
+            assertThat(batch).extracting(CouponIssuedEvent::userId).containsExactly(1L, 2L);
+            assertThat(batch.get(0).issuedCouponId()).isEqualTo(10L);
+            assertThat(batch.get(0).couponId()).isEqualTo(1L);
+            assertThat(batch.get(0).issuedAt()).isEqualTo(now);
+        }
+
+        @Test
+        @DisplayName("전달이 끝난 이벤트를 삭제하면 다음 배치는 남은 이벤트부터 조회한다")
+        void deleteAllByIdIn_removesRelayedEvents() {
+            // given
+            couponIssueOutboxRepository.appendAll(1L, issuedIdsOf(1L, 2L, 3L), now);
+            List<CouponIssuedEvent> first = couponIssueOutboxRepository.lockNextBatch(2);
+
+            // when
+            int deleted = couponIssueOutboxRepository.deleteAllByIdIn(first.stream().map(CouponIssuedEvent::outboxId).toList());
+
+            // then
+            assertThat(deleted).isEqualTo(2);
+            assertThat(couponIssueOutboxRepository.count()).isEqualTo(1);
+            assertThat(couponIssueOutboxRepository.lockNextBatch(2))
+                    .extracting(CouponIssuedEvent::userId)
+                    .containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("전달 실패가 시도 한도에 도달한 이벤트는 보류 처리되어 다음 배치에서 제외된다")
+        void recordFailures_parksEvent_whenAttemptsReachLimit() {
+            // given
+            couponIssueOutboxRepository.appendAll(1L, issuedIdsOf(1L, 2L), now);
+            Long failedId = couponIssueOutboxRepository.lockNextBatch(1).get(0).outboxId();
+
+            // when
+            int parkedOnFirstFailure = couponIssueOutboxRepository.recordFailures(List.of(failedId), 2);
+            List<CouponIssuedEvent> retried = couponIssueOutboxRepository.lockNextBatch(2);
+            int parkedOnSecondFailure = couponIssueOutboxRepository.recordFailures(List.of(failedId), 2);
+
+            // then
+            assertThat(parkedOnFirstFailure).isZero();
+            assertThat(retried).extracting(CouponIssuedEvent::userId).containsExactly(1L, 2L);
+            assertThat(parkedOnSecondFailure).isEqualTo(1);
+            assertThat(couponIssueOutboxRepository.count()).isEqualTo(2);
+            assertThat(couponIssueOutboxRepository.lockNextBatch(2))
+                    .extracting(CouponIssuedEvent::userId)
+                    .containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("기록할 발급 이력이 없으면 아무것도 기록하지 않는다")
+        void appendAll_doesNothing_whenEmpty() {
+            // when
+            couponIssueOutboxRepository.appendAll(1L, Map.of(), now);
+
+            // then
+            assertThat(couponIssueOutboxRepository.count()).isZero();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maximum0.fastpickbe.common.config.JpaConfig;
+import com.maximum0.fastpickbe.common.config.QuerydslConfig;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponOwnershipFence;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CouponOwnershipRepositoryImpl.class, CouponRepositoryImpl.class, JpaConfig.class, QuerydslConfig.class})
+@DisplayName("CouponOwnership Repository 단위 테스트")
+class CouponOwnershipRepositoryTest {
+
+    @Autowired
+    private CouponOwnershipRepositoryImpl couponOwnershipRepository;
+
+    @Autowired
+    private CouponRepositoryImpl couponRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+
+    @Nested
+    @DisplayName("담당 넘겨받기 테스트")
+    class ClaimTest {
+
+        @Test
+        @DisplayName("담당을 넘겨받을 때마다 세대가 올라가고, 이전 세대의 펜싱 토큰은 더 이상 유효하지 않다")
+        void claim_increasesEpoch_andInvalidatesPreviousFence() {
+            // given
+            Long couponId = 1L;
+            CouponOwnershipFence first = couponOwnershipRepository.claim(couponId, "node-a");
+
+            // when
+            CouponOwnershipFence second = couponOwnershipRepository.claim(couponId, "node-b");
+
+            // then
+            assertThat(first.epoch()).isEqualTo(1L);
+            assertThat(second.epoch()).isEqualTo(2L);
+            assertThat(couponOwnershipRepository.isCurrent(first)).isFalse();
+            assertThat(couponOwnershipRepository.isCurrent(second)).isTrue();
+            assertThat(couponOwnershipRepository.findByCouponId(couponId)).contains(second);
+        }
+    }
+
+    @Nested
+    @DisplayName("펜싱 토큰 검증 수량 증가 테스트")
+    class IncreaseIssuedQuantityIfOwnedTest {
+
+        @Test
+        @DisplayName("현재 담당 세대의 펜싱 토큰이면 발급 수량을 증가시키고, 이전 세대의 펜싱 토큰이면 증가시키지 않는다")
+        void increaseIssuedQuantityIfOwned_updatesOnlyWithCurrentFence() {
+            // given
+            Coupon saved = couponRepository.save(Coupon.create("브랜드", "담당 쿠폰", "요약 설명", "상세 설명", 10, now.minusDays(1), now.plusDays(1)));
+            entityManager.flush();
+            CouponOwnershipFence stale = couponOwnershipRepository.claim(saved.getId(), "node-a");
+            CouponOwnershipFence current = couponOwnershipRepository.claim(saved.getId(), "node-b");
+
+            // when
+            int staleUpdated = couponRepository.increaseIssuedQuantityIfOwned(saved.getId(), now, 10, stale);
+            int currentUpdated = couponRepository.increaseIssuedQuantityIfOwned(saved.getId(), now, 10, current);
+            entityManager.clear();
+
+            // then
+            assertThat(staleUpdated).isZero();
+            assertThat(currentUpdated).isEqualTo(1);
+            assertThat(couponRepository.findById(saved.getId()).orElseThrow().getIssuedQuantity()).isEqualTo(1);
+        }
+    }
+}
@@ -5,6 +5,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.maximum0.fastpickbe.common.config.JpaConfig;
 import com.maximum0.fastpickbe.common.config.QuerydslConfig;
 import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponReleaseSchedule;
+import com.maximum0.fastpickbe.coupon.domain.CouponReleaseWave;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +32,9 @@ class CouponRepositoryTest {
     @Autowired
     private CouponRepositoryImpl couponRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
 
     @Nested
@@ -80,6 +88,34 @@ class CouponRepositoryTest {
             assertThat(found.get().getTitle()).isEqualTo("락 테스트 쿠폰");
             // 로그상에 'for no key update'가 포함되는지 확인
         }
+
+        @Test
+        @DisplayName("잠금 대기 한도를 지정하면 현재 트랜잭션의 lock_timeout 을 설정하고 쿠폰을 조회한다")
+        void findByIdWithLock_setsLockTimeout_whenTimeoutIsGiven() {
+            // given
+            Coupon saved = couponRepository.save(Coupon.create("브랜드", "락 대기 쿠폰", "요약 설명", "상세 설명", 100, now.minusDays(1), now.plusDays(1)));
+
+            // when
+            Optional<Coupon> found = couponRepository.findByIdWithLock(saved.getId(), Duration.ofMillis(300));
+
+            // then
+            assertThat(found).isPresent();
+            assertThat(entityManager.createNativeQuery("select current_setting('lock_timeout')").getSingleResult()).isEqualTo("300ms");
+        }
+
+        @Test
+        @DisplayName("잠금 대기 한도가 0 이면 NOWAIT 로 쿠폰을 조회한다")
+        void findByIdWithLock_returnsCoupon_withNoWait() {
+            // given
+            Coupon saved = couponRepository.save(Coupon.create("브랜드", "NOWAIT 쿠폰", "요약 설명", "상세 설명", 100, now.minusDays(1), now.plusDays(1)));
+
+            // when
+            Optional<Coupon> found = couponRepository.findByIdWithLock(saved.getId(), Duration.ZERO);
+
+            // then
+            assertThat(found).isPresent();
+            // 로그상에 'nowait'가 포함되는지 확인
+        }
     }
 
     @Nested
@@ -114,4 +150,227 @@ class CouponRepositoryTest {
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    @DisplayName("조건부 발급 수량 증가 테스트")
+    class IncreaseIssuedQuantityIfAvailableTest {
+
+        @Test
+        @DisplayName("발급 가능한 쿠폰이면 1개 행을 갱신하고, 마지막 수량이면 품절 처리한다")
+        void increaseIssuedQuantityIfAvailable_updatesRow_whenCouponIsAvailable() {
+            // given
+            Coupon saved = couponRepository.save(Coupon.create("브랜드", "조건부 쿠폰", "요약 설명", "상세 설명", 1, now.minusDays(1), now.plusDays(1)));
+            entityManager.flush();
+
+            // when
+            int updated = couponRepository.increaseIssuedQuantityIfAvailable(saved.getId(), now, 1);
+            entityManager.clear();
+
+            // then
+            Coupon found = couponRepository.findById(saved.getId()).orElseThrow();
+            assertThat(updated).isEqualTo(1);
+            assertThat(found.getIssuedQuantity()).isEqualTo(1);
+            assertThat(found.isSoldOut()).isTrue();
+        }
+
+        @Test
+        @DisplayName("수량이 소진되었거나 발급 기간이 아니면 갱신하지 않는다")
+        void increaseIssuedQuantityIfAvailable_returnsZero_whenCouponIsNotAvailable() {
+            // given
+            Coupon exhausted = couponRepository.save(Coupon.create("브랜드", "소진 쿠폰", "요약 설명", "상세 설명", 10, 10, now.minusDays(1), now.plusDays(1)));
+            Coupon expired = couponRepository.save(Coupon.create("브랜드", "종료 쿠폰", "요약 설명", "상세 설명", 10, now.minusDays(2), now));
+            entityManager.flush();
+
+            // when
+            int exhaustedUpdated = couponRepository.increaseIssuedQuantityIfAvailable(exhausted.getId(), now, 10);
+            int expiredUpdated = couponRepository.increaseIssuedQuantityIfAvailable(expired.getId(), now, 10);
+
+            // then
+            assertThat(exhaustedUpdated).isZero();
+            assertThat(expiredUpdated).isZero();
+        }
+
+        @Test
+        @DisplayName("공개된 수량이 모두 발급되었으면 총 발행 수량이 남아 있어도 갱신하지 않는다")
+        void increaseIssuedQuantityIfAvailable_returnsZero_whenReleasedQuantityIsExhausted() {
+            // given
+            Coupon saved = couponRepository.save(Coupon.create("브랜드", "단계 공개 쿠폰", "요약 설명", "상세 설명", 10, 3, now.minusDays(1), now.plusDays(1)));
+            entityManager.flush();
+
+            // when
+            int updated = couponRepository.increaseIssuedQuantityIfAvailable(saved.getId(), now, 3);
+            entityManager.clear();
+
+            // then
+            Coupon found = couponRepository.findById(saved.getId()).orElseThrow();
+            assertThat(updated).isZero();
+            assertThat(found.getIssuedQuantity()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("수량 일괄 선점 테스트")
+    class ReserveQuantityTest {
+
+        @Test
+        @DisplayName("잔여 수량이 충분하면 요청 수량만큼 선점한다")
+        void reserveQuantity_reservesRequestedQuantity_whenStockIsEnough() {
+            // given
+            Coupon saved = couponRepository.save(Coupon.create("브랜드", "일괄 쿠폰", "요약 설명", "상세 설명", 10, 2, now.minusDays(1), now.plusDays(1)));
+            entityManager.flush();
+
+            // when
+            int granted = couponRepository.reserveQuantity(saved.getId(), 5, 10);
+            entityManager.clear();
+
+            // then
+            Coupon found = couponRepository.findById(saved.getId()).orElseThrow();
+            assertThat(granted).isEqualTo(5);
+            assertThat(found.getIssuedQuantity()).isEqualTo(7);
+            assertThat(found.isSoldOut()).isFalse();
+        }
+
+        @Test
+        @DisplayName("잔여 수량이 부족하면 잔여 수량만큼만 선점하고 품절 처리하며, 소진된 쿠폰은 선점하지 않는다")
+        void reserveQuantity_reservesRemainingOnly_whenStockIsShort() {
+            // given
+            Coupon saved = couponRepository.save(Coupon.create("브랜드", "일괄 쿠폰", "요약 설명", "상세 설명", 10, 8, now.minusDays(1), now.plusDays(1)));
+            entityManager.flush();
+
+            // when
+            int granted = couponRepository.reserveQuantity(saved.getId(), 5, 10);
+            int grantedAfterSoldOut = couponRepository.reserveQuantity(saved.getId(), 5, 10);
+            entityManager.clear();
+
+            // then
+            Coupon found = couponRepository.findById(saved.getId()).orElseThrow();
+            assertThat(granted).isEqualTo(2);
+            assertThat(grantedAfterSoldOut).isZero();
+            assertThat(found.getIssuedQuantity()).isEqualTo(10);
+            assertThat(found.isSoldOut()).isTrue();
+        }
+
+        @Test
+        @DisplayName("공개 일정이 있으면 총 발행 수량이 아닌 공개된 수량까지만 선점하고 품절 처리하지 않는다")
+        void reserveQuantity_reservesUpToReleasedQuantity_whenReleaseIsScheduled() {
+            // given
+            Coupon saved = couponRepository.save(Coupon.create("브랜드", "단계 공개 쿠폰", "요약 설명", "상세 설명", 10, 2, now.minusDays(1), now.plusDays(1)));
+            entityManager.flush();
+
+            // when
+            int granted = couponRepository.reserveQuantity(saved.getId(), 5, 4);
+            int grantedAfterReleasedExhausted = couponRepository.reserveQuantity(saved.getId(), 5, 4);
+            entityManager.clear();
+
+            // then
+            Coupon found = couponRepository.findById(saved.getId()).orElseThrow();
+            assertThat(granted).isEqualTo(2);
+            assertThat(grantedAfterReleasedExhausted).isZero();
+            assertThat(found.getIssuedQuantity()).isEqualTo(4);
+            assertThat(found.isSoldOut()).isFalse();
+        }
+
+        @Test
+        @DisplayName("리스 방식 쿠폰은 잔여 수량을 모두 선점해도 품절 처리하지 않고, 발급 이력이 전체 수량에 미치지 않으면 품절 보정도 하지 않는다")
+        void reserveQuantity_doesNotMarkSoldOut_whenLeaseCouponIsFullyLeased() {
+            // given
+            Coupon saved = couponRepository.save(Coupon.create("브랜드", "리스 쿠폰", "요약 설명", "상세 설명", 2, now.minusDays(1), now.plusDays(1), CouponIssueMode.LEASE));
+            entityManager.flush();
+
+            // when
+            int granted = couponRepository.reserveQuantity(saved.getId(), 5, 2);
+            int reconciled = couponRepository.reconcileLeaseSoldOut();
+            entityManager.clear();
+
+            // then
+            Coupon found = couponRepository.findById(saved.getId()).orElseThrow();
+            assertThat(granted).isEqualTo(2);
+            assertThat(reconciled).isZero();
+            assertThat(found.getIssuedQuantity()).isEqualTo(2);
+            assertThat(found.isSoldOut()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("선점 수량 반환 테스트")
+    class ReleaseQuantityTest {
+
+        @Test
+        @DisplayName("선점한 수량을 반환하면 발급 수량이 줄고 품절이 해제된다")
+        void releaseQuantity_decreasesIssuedQuantityAndClearsSoldOut() {
+            // given
+            Coupon saved = couponRepository.save(Coupon.create("브랜드", "리스 쿠폰", "요약 설명", "상세 설명", 10, 0, now.minusDays(1), now.plusDays(1)));
+            entityManager.flush();
+            couponRepository.reserveQuantity(saved.getId(), 10, 10);
+
+            // when
+            int updated = couponRepository.releaseQuantity(saved.getId(), 4);
+            entityManager.clear();
+
+            // then
+            Coupon found = couponRepository.findById(saved.getId()).orElseThrow();
+            assertThat(updated).isEqualTo(1);
+            assertThat(found.getIssuedQuantity()).isEqualTo(6);
+            assertThat(found.isSoldOut()).isFalse();
+        }
+
+        @Test
+        @DisplayName("발급 수량보다 많이 반환해도 발급 수량은 0 미만으로 내려가지 않는다")
+        void releaseQuantity_doesNotGoBelowZero() {
+            // given
+            Coupon saved = couponRepository.save(Coupon.create("브랜드", "리스 쿠폰", "요약 설명", "상세 설명", 10, 2, now.minusDays(1), now.plusDays(1)));
+            entityManager.flush();
+
+            // when
+            couponRepository.releaseQuantity(saved.getId(), 5);
+            entityManager.clear();
+
+            // then
+            assertThat(couponRepository.findById(saved.getId()).orElseThrow().getIssuedQuantity()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("쿠폰 수량 공개 일정 저장 테스트")
+    class ReleaseScheduleTest {
+
+        @Test
+        @DisplayName("회차 공개 일정을 저장하고 다시 조회해도 같은 공개 수량을 계산한다")
+        void save_persistsWaveSchedule() {
+            // given
+            Coupon saved = couponRepository.save(Coupon.create("브랜드", "회차 공개 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(1), null,
+                    CouponReleaseSchedule.waves(List.of(
+                            new CouponReleaseWave("오전 오픈", now, 60),
+                            new CouponReleaseWave("오후 오픈", now.plusHours(6), 40)
+                    ))));
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            Coupon found = couponRepository.findById(saved.getId()).orElseThrow();
+
+            // then
+            assertThat(found.getReleaseSchedule().getReleaseWaves()).extracting(CouponReleaseWave::name).containsExactly("오전 오픈", "오후 오픈");
+            assertThat(found.releasedQuantity(now)).isEqualTo(60);
+            assertThat(found.releasedQuantity(now.plusHours(6))).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("분할 공개 일정을 저장하고, 공개 일정이 없는 쿠폰은 공개 일정 없이 조회된다")
+        void save_persistsDripSchedule_andKeepsUnscheduledCouponWithoutSchedule() {
+            // given
+            Coupon drip = couponRepository.save(Coupon.create("브랜드", "분할 공개 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(1), null,
+                    CouponReleaseSchedule.drip(10, Duration.ofMinutes(1))));
+            Coupon plain = couponRepository.save(Coupon.create("브랜드", "일반 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(1)));
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            Coupon foundDrip = couponRepository.findById(drip.getId()).orElseThrow();
+            Coupon foundPlain = couponRepository.findById(plain.getId()).orElseThrow();
+
+            // then
+            assertThat(foundDrip.releasedQuantity(now.plusMinutes(2))).isEqualTo(30);
+            assertThat(foundPlain.getReleaseSchedule()).isNull();
+        }
+    }
+}
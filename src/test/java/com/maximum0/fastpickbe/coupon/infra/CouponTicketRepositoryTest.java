@@ -0,0 +1,98 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maximum0.fastpickbe.common.config.JpaConfig;
+import com.maximum0.fastpickbe.common.config.QuerydslConfig;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CouponTicketRepositoryImpl.class, CouponRepositoryImpl.class, JpaConfig.class, QuerydslConfig.class})
+@DisplayName("CouponTicket Repository 단위 테스트")
+class CouponTicketRepositoryTest {
+
+    @Autowired
+    private CouponTicketRepositoryImpl couponTicketRepository;
+
+    @Autowired
+    private CouponRepositoryImpl couponRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+
+    private Coupon saveTicketCoupon(int totalQuantity) {
+        Coupon coupon = couponRepository.save(Coupon.create("브랜드", "티켓 쿠폰", "요약 설명", "상세 설명", totalQuantity, now.minusDays(1), now.plusDays(1), CouponIssueMode.TICKET));
+        couponTicketRepository.generate(coupon.getId(), totalQuantity);
+        return coupon;
+    }
+
+    @Nested
+    @DisplayName("티켓 생성 및 선점 테스트")
+    class ClaimTest {
+
+        @Test
+        @DisplayName("총 발행 수량만큼 티켓을 생성하고, 모두 선점되면 빈 Optional 을 반환한다")
+        void claim_returnsEmpty_whenAllTicketsAreClaimed() {
+            // given
+            Coupon coupon = saveTicketCoupon(2);
+
+            // when
+            Optional<Long> first = couponTicketRepository.claim(coupon.getId(), 1L, now);
+            Optional<Long> second = couponTicketRepository.claim(coupon.getId(), 2L, now);
+            Optional<Long> third = couponTicketRepository.claim(coupon.getId(), 3L, now);
+
+            // then
+            assertThat(first).isPresent();
+            assertThat(second).isPresent();
+            assertThat(first.get()).isNotEqualTo(second.get());
+            assertThat(third).isEmpty();
+            assertThat(couponTicketRepository.countClaimed(coupon.getId())).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("발급 수량 보정 테스트")
+    class ReconcileTest {
+
+        @Test
+        @DisplayName("선점된 티켓 수로 발급 수량을 보정하고, 전체 수량에 도달하면 품절 처리한다")
+        void reconcileTicketIssuedQuantities_updatesIssuedQuantityAndSoldOut() {
+            // given
+            Coupon partial = saveTicketCoupon(3);
+            Coupon soldOut = saveTicketCoupon(1);
+            couponTicketRepository.claim(partial.getId(), 1L, now);
+            couponTicketRepository.claim(soldOut.getId(), 1L, now);
+
+            // when
+            int updated = couponRepository.reconcileTicketIssuedQuantities();
+            entityManager.clear();
+
+            // then
+            assertThat(updated).isEqualTo(2);
+
+            Coupon reconciledPartial = couponRepository.findById(partial.getId()).orElseThrow();
+            assertThat(reconciledPartial.getIssuedQuantity()).isEqualTo(1);
+            assertThat(reconciledPartial.isSoldOut()).isFalse();
+
+            Coupon reconciledSoldOut = couponRepository.findById(soldOut.getId()).orElseThrow();
+            assertThat(reconciledSoldOut.getIssuedQuantity()).isEqualTo(1);
+            assertThat(reconciledSoldOut.isSoldOut()).isTrue();
+        }
+    }
+}
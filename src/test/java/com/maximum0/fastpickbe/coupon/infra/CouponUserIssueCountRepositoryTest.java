@@ -0,0 +1,90 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maximum0.fastpickbe.common.config.JpaConfig;
+import com.maximum0.fastpickbe.common.config.QuerydslConfig;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CouponUserIssueCountRepositoryImpl.class, JpaConfig.class, QuerydslConfig.class})
+@DisplayName("CouponUserIssueCount Repository 단위 테스트")
+class CouponUserIssueCountRepositoryTest {
+
+    @Autowired
+    private CouponUserIssueCountRepositoryImpl couponUserIssueCountRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private final Long userId = 1L;
+
+    private Long couponId;
+
+    @BeforeEach
+    void setUp() {
+        Coupon coupon = Coupon.create("브랜드", "인당 2장 쿠폰", "요약 설명", "상세 설명", 100, now, now.plusDays(1), CouponIssueMode.PESSIMISTIC_LOCK);
+        coupon.changeLimitPerUser(2);
+        entityManager.persist(coupon);
+        entityManager.flush();
+        couponId = coupon.getId();
+    }
+
+    @Nested
+    @DisplayName("발급 횟수 증가 테스트")
+    class IncrementTest {
+
+        @Test
+        @DisplayName("인당 발급 한도까지는 증가된 발급 횟수를 반환하고, 한도에 도달하면 0 을 반환한다")
+        void increment_returnsIssueSeq_untilLimitPerUser() {
+            // when
+            int first = couponUserIssueCountRepository.increment(couponId, userId);
+            int second = couponUserIssueCountRepository.increment(couponId, userId);
+            int third = couponUserIssueCountRepository.increment(couponId, userId);
+
+            // then
+            assertThat(first).isEqualTo(1);
+            assertThat(second).isEqualTo(2);
+            assertThat(third).isZero();
+            assertThat(couponUserIssueCountRepository.findIssuedCount(couponId, userId)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("일괄 발급된 사용자의 발급 횟수를 함께 증가시키고, 이후 요청은 남은 한도만큼만 발급된다")
+        void incrementAll_countsBulkIssuedUsers() {
+            // given
+            couponUserIssueCountRepository.incrementAll(couponId, List.of(userId, 2L));
+
+            // when
+            int next = couponUserIssueCountRepository.increment(couponId, userId);
+
+            // then
+            assertThat(next).isEqualTo(2);
+            assertThat(couponUserIssueCountRepository.findIssuedCount(couponId, 2L)).isEqualTo(1);
+            assertThat(couponUserIssueCountRepository.increment(couponId, userId)).isZero();
+        }
+
+        @Test
+        @DisplayName("발급 이력이 없는 사용자의 발급 횟수는 0 이다")
+        void findIssuedCount_returnsZero_whenUserHasNoIssue() {
+            // when & then
+            assertThat(couponUserIssueCountRepository.findIssuedCount(couponId, userId)).isZero();
+        }
+    }
+}
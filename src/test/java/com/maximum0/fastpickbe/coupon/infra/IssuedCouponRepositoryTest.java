@@ -1,15 +1,22 @@
 package com.maximum0.fastpickbe.coupon.infra;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.maximum0.fastpickbe.common.config.JpaConfig;
 import com.maximum0.fastpickbe.common.config.QuerydslConfig;
 import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
+import com.maximum0.fastpickbe.coupon.domain.CouponRedemptionStatus;
 import com.maximum0.fastpickbe.coupon.domain.IssuedCoupon;
+import com.maximum0.fastpickbe.coupon.domain.MyCouponStatus;
 import com.maximum0.fastpickbe.coupon.domain.MyCouponStatusFilter;
 import com.maximum0.fastpickbe.coupon.ui.dto.MyCouponListRequest;
 import com.maximum0.fastpickbe.user.domain.User;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,6 +26,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
@@ -87,6 +95,35 @@ class IssuedCouponRepositoryTest {
             // then
             assertThat(exists).isFalse();
         }
+
+        @Test
+        @DisplayName("같은 유저에게 같은 쿠폰을 두 번 저장하면 유니크 제약 위반 예외가 발생한다")
+        void save_throwsDataIntegrityViolation_whenDuplicateIssued() {
+            // given
+            User user = entityManager.find(User.class, this.user.getId());
+            Coupon coupon = entityManager.find(Coupon.class, this.coupon.getId());
+            issuedCouponRepository.save(IssuedCoupon.create(user, coupon));
+
+            // when & then
+            assertThatThrownBy(() -> issuedCouponRepository.save(IssuedCoupon.create(user, coupon)))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
+
+        @Test
+        @DisplayName("같은 유저에게 같은 쿠폰을 다른 발급 회차로 저장할 수 있고, 같은 회차는 유니크 제약 위반 예외가 발생한다")
+        void insert_allowsDistinctIssueSeq_andRejectsDuplicateSeq() {
+            // given
+            issuedCouponRepository.insert(coupon.getId(), user.getId(), 1, now);
+
+            // when
+            Long secondId = issuedCouponRepository.insert(coupon.getId(), user.getId(), 2, now);
+
+            // then
+            assertThat(secondId).isNotNull();
+            assertThat(issuedCouponRepository.countByCouponId(coupon.getId())).isEqualTo(2);
+            assertThatThrownBy(() -> issuedCouponRepository.insert(coupon.getId(), user.getId(), 2, now))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
     }
 
     @Nested
@@ -198,4 +235,98 @@ class IssuedCouponRepositoryTest {
             assertThat(result.getContent().get(0).isUsed()).isTrue();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("쿠폰 사용 처리 테스트")
+    class RedemptionTest {
+        private User user1;
+        private Long availableId;
+        private Long usedId;
+        private Long expiredId;
+        private Long otherUsersId;
+
+        @BeforeEach
+        void setUp() {
+            user1 = entityManager.persist(User.create("user1@test.com", "pw", "유저1"));
+            User user2 = entityManager.persist(User.create("user2@test.com", "pw", "유저2"));
+
+            Coupon coupon = entityManager.persist(Coupon.create("브랜드", "할인쿠폰A", "요약 설명", "상세 설명", 100, now.minusDays(10), now.plusDays(10)));
+            Coupon otherCoupon = entityManager.persist(Coupon.create("브랜드", "할인쿠폰B", "요약 설명", "상세 설명", 100, now.minusDays(10), now.plusDays(10)));
+            Coupon expiredCoupon = entityManager.persist(Coupon.create("브랜드", "만료된쿠폰", "요약 설명", "상세 설명", 100, now.minusDays(20), now.minusDays(10)));
+
+            availableId = entityManager.persist(IssuedCoupon.create(user1, coupon)).getId();
+            IssuedCoupon used = IssuedCoupon.create(user1, otherCoupon);
+            used.use(now.minusDays(1));
+            usedId = entityManager.persist(used).getId();
+            expiredId = entityManager.persist(IssuedCoupon.create(user1, expiredCoupon)).getId();
+            otherUsersId = entityManager.persist(IssuedCoupon.create(user2, coupon)).getId();
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("본인에게 발급된 미사용, 사용 기간 내 쿠폰만 사용 처리한다")
+        void useAll_updatesOnlyAvailableCouponsOfUser() {
+            // when
+            Set<Long> usedIds = issuedCouponRepository.useAll(user1.getId(),
+                    List.of(availableId, usedId, expiredId, otherUsersId), now, null);
+
+            // then
+            assertThat(usedIds).containsExactly(availableId);
+            entityManager.clear();
+            assertThat(entityManager.find(IssuedCoupon.class, availableId).getUsedAt()).isEqualTo(now);
+            assertThat(entityManager.find(IssuedCoupon.class, otherUsersId).isUsed()).isFalse();
+        }
+
+        @Test
+        @DisplayName("응모 마감 후 추첨되어 발급된 당첨 쿠폰은 사용 가능 상태이고 사용 처리된다")
+        void useAll_updatesRaffleWinnerCoupon_afterEntryEndAt() {
+            // given
+            Coupon raffle = entityManager.persist(Coupon.create("브랜드", "추첨쿠폰", "요약 설명", "상세 설명", 100,
+                    now.minusDays(3), now.plusDays(10), CouponIssueMode.RAFFLE, null, now.minusDays(1)));
+            entityManager.flush();
+            raffle.validateDrawable(now);
+            Long winnerId = issuedCouponRepository.insertAll(raffle.getId(), List.of(user1.getId()), now).get(user1.getId());
+            entityManager.clear();
+
+            // when
+            MyCouponStatus status = entityManager.find(IssuedCoupon.class, winnerId).calculateStatus(now);
+            Set<Long> usedIds = issuedCouponRepository.useAll(user1.getId(), List.of(winnerId), now, null);
+
+            // then
+            assertThat(status).isEqualTo(MyCouponStatus.AVAILABLE);
+            assertThat(usedIds).containsExactly(winnerId);
+        }
+
+        @Test
+        @DisplayName("같은 사용 요청 키로 다시 요청하면 최초 사용 시각을 유지한 채 사용 처리 결과에 포함한다")
+        void useAll_includesReplay_whenRedemptionKeyMatches() {
+            // given
+            issuedCouponRepository.useAll(user1.getId(), List.of(availableId), now, "order-1");
+
+            // when
+            Set<Long> replayed = issuedCouponRepository.useAll(user1.getId(), List.of(availableId), now.plusMinutes(1), "order-1");
+            Set<Long> otherKey = issuedCouponRepository.useAll(user1.getId(), List.of(availableId), now.plusMinutes(1), "order-2");
+
+            // then
+            assertThat(replayed).containsExactly(availableId);
+            assertThat(otherKey).isEmpty();
+            entityManager.clear();
+            assertThat(entityManager.find(IssuedCoupon.class, availableId).getUsedAt()).isEqualTo(now);
+        }
+
+        @Test
+        @DisplayName("거절 사유는 사용 완료와 기간 만료로 구분하고, 다른 사용자의 쿠폰은 포함하지 않는다")
+        void findRedemptionRejections_classifiesRejectedCoupons() {
+            // when
+            Map<Long, CouponRedemptionStatus> rejections = issuedCouponRepository.findRedemptionRejections(user1.getId(),
+                    List.of(usedId, expiredId, otherUsersId));
+
+            // then
+            assertThat(rejections).containsExactlyInAnyOrderEntriesOf(Map.of(
+                    usedId, CouponRedemptionStatus.ALREADY_USED,
+                    expiredId, CouponRedemptionStatus.EXPIRED));
+        }
+    }
+}
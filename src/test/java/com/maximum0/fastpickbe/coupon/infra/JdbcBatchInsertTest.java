@@ -0,0 +1,194 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maximum0.fastpickbe.common.config.JpaConfig;
+import com.maximum0.fastpickbe.common.config.QuerydslConfig;
+import com.maximum0.fastpickbe.coupon.domain.Coupon;
+import com.maximum0.fastpickbe.coupon.domain.CouponKeyword;
+import com.maximum0.fastpickbe.coupon.domain.IssuedCoupon;
+import com.maximum0.fastpickbe.user.domain.User;
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CouponKeywordRepositoryImpl.class, JpaConfig.class, QuerydslConfig.class, JdbcBatchInsertTest.BatchCountingConfig.class})
+@DisplayName("JDBC 배치 INSERT 테스트")
+class JdbcBatchInsertTest {
+
+    @Autowired
+    private CouponKeywordRepositoryImpl couponKeywordRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        coupon = Coupon.create("브랜드", "배치쿠폰", "요약 설명", "상세 설명", 1000, now, now.plusDays(1));
+        em.persist(coupon);
+        em.flush();
+        BatchCountingConfig.reset();
+    }
+
+    @Nested
+    @DisplayName("시퀀스 ID 엔티티 저장 테스트")
+    class SequenceIdBatchTest {
+
+        @Test
+        @DisplayName("쿠폰 키워드 N건 저장은 ceil(N / batch_size) 번의 배치 실행으로 처리된다")
+        void saveAll_executesCeilOfBatches_forCouponKeywords() {
+            // given
+            int count = batchSize * 2 + 1;
+            List<CouponKeyword> keywords = IntStream.range(0, count)
+                    .mapToObj(i -> CouponKeyword.create(coupon, "키워드" + i))
+                    .toList();
+
+            // when
+            couponKeywordRepository.saveAll(keywords);
+            em.flush();
+
+            // then
+            assertThat(BatchCountingConfig.batches("insert into tb_coupon_keyword")).isEqualTo(ceilDiv(count, batchSize));
+            assertThat(BatchCountingConfig.updates("insert into tb_coupon_keyword")).isZero();
+        }
+
+        @Test
+        @DisplayName("발급 이력 N건 저장은 ceil(N / batch_size) 번의 배치 실행으로 처리된다")
+        void persist_executesCeilOfBatches_forIssuedCoupons() {
+            // given
+            int count = batchSize + 10;
+            List<User> users = IntStream.range(0, count)
+                    .mapToObj(i -> User.create("batch" + i + "@test.com", "pw", "유저" + i))
+                    .toList();
+            users.forEach(em::persist);
+            em.flush();
+            BatchCountingConfig.reset();
+
+            // when
+            users.forEach(user -> em.persist(IssuedCoupon.create(user, coupon)));
+            em.flush();
+
+            // then
+            assertThat(BatchCountingConfig.batches("insert into tb_issued_coupon")).isEqualTo(ceilDiv(count, batchSize));
+            assertThat(BatchCountingConfig.updates("insert into tb_issued_coupon")).isZero();
+        }
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    /**
+     * DataSource 를 감싸 SQL 별 executeBatch / 단건 실행 횟수를 집계합니다.
+     */
+    @TestConfiguration
+    static class BatchCountingConfig {
+        private static final Map<String, AtomicInteger> BATCHES = new ConcurrentHashMap<>();
+        private static final Map<String, AtomicInteger> UPDATES = new ConcurrentHashMap<>();
+
+        static void reset() {
+            BATCHES.clear();
+            UPDATES.clear();
+        }
+
+        static int batches(String sqlPrefix) {
+            return count(BATCHES, sqlPrefix);
+        }
+
+        static int updates(String sqlPrefix) {
+            return count(UPDATES, sqlPrefix);
+        }
+
+        private static int count(Map<String, AtomicInteger> counts, String sqlPrefix) {
+            return counts.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(sqlPrefix))
+                    .mapToInt(entry -> entry.getValue().get())
+                    .sum();
+        }
+
+        @Bean
+        static BeanPostProcessor batchCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? countingDataSource(dataSource) : bean;
+                }
+            };
+        }
+
+        private static DataSource countingDataSource(DataSource dataSource) {
+            return proxy(DataSource.class, (proxy, method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                return result instanceof Connection connection ? countingConnection(connection) : result;
+            });
+        }
+
+        private static Connection countingConnection(Connection connection) {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                    return countingStatement(statement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement countingStatement(PreparedStatement statement, String sql) {
+            return proxy(PreparedStatement.class, (proxy, method, args) -> {
+                if (method.getName().equals("executeBatch")) {
+                    BATCHES.computeIfAbsent(sql, key -> new AtomicInteger()).incrementAndGet();
+                } else if (method.getName().equals("executeUpdate") && method.getParameterCount() == 0) {
+                    UPDATES.computeIfAbsent(sql, key -> new AtomicInteger()).incrementAndGet();
+                }
+                return invoke(statement, method, args);
+            });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponReserveResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LocalCouponIssueCounter 단위 테스트")
+class LocalCouponIssueCounterTest {
+    private final LocalCouponIssueCounter counter = new LocalCouponIssueCounter();
+
+    @Nested
+    @DisplayName("수량 선점 테스트")
+    class ReserveTest {
+
+        @Test
+        @DisplayName("초기화되지 않은 쿠폰이면 NOT_INITIALIZED 를 반환한다")
+        void reserve_returnsNotInitialized_whenCounterIsEmpty() {
+            // when
+            CouponReserveResult result = counter.reserve(1L, 1L);
+
+            // then
+            assertThat(result).isEqualTo(CouponReserveResult.NOT_INITIALIZED);
+        }
+
+        @Test
+        @DisplayName("잔여 수량만큼만 선점하고, 이후 요청은 EXHAUSTED 를 반환한다")
+        void reserve_returnsExhausted_whenRemainingQuantityIsZero() {
+            // given
+            counter.initialize(1L, 1);
+
+            // when
+            CouponReserveResult first = counter.reserve(1L, 1L);
+            CouponReserveResult second = counter.reserve(1L, 2L);
+
+            // then
+            assertThat(first).isEqualTo(CouponReserveResult.RESERVED);
+            assertThat(second).isEqualTo(CouponReserveResult.EXHAUSTED);
+        }
+
+        @Test
+        @DisplayName("이미 선점한 사용자가 다시 요청하면 ALREADY_ISSUED 를 반환한다")
+        void reserve_returnsAlreadyIssued_whenUserAlreadyReserved() {
+            // given
+            counter.initialize(1L, 10);
+            counter.reserve(1L, 1L);
+
+            // when
+            CouponReserveResult result = counter.reserve(1L, 1L);
+
+            // then
+            assertThat(result).isEqualTo(CouponReserveResult.ALREADY_ISSUED);
+        }
+
+        @Test
+        @DisplayName("선점을 취소하면 수량과 사용자 기록이 복구된다")
+        void reserve_succeeds_afterReservationIsCancelled() {
+            // given
+            counter.initialize(1L, 1);
+            counter.reserve(1L, 1L);
+
+            // when
+            counter.cancel(1L, 1L);
+
+            // then
+            assertThat(counter.reserve(1L, 1L)).isEqualTo(CouponReserveResult.RESERVED);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.maximum0.fastpickbe.coupon.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.maximum0.fastpickbe.coupon.domain.CouponAdmission;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LocalCouponWaitingRoom 단위 테스트")
+class LocalCouponWaitingRoomTest {
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+    private final LocalCouponWaitingRoom waitingRoom = new LocalCouponWaitingRoom(
+            Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+
+    @Nested
+    @DisplayName("대기열 입장 테스트")
+    class EnterTest {
+
+        @Test
+        @DisplayName("입장 순서대로 1부터 시작하는 대기 순번을 부여한다")
+        void enter_returnsPosition_inArrivalOrder() {
+            // when
+            long first = waitingRoom.enter(1L, 10L);
+            long second = waitingRoom.enter(1L, 20L);
+
+            // then
+            assertThat(first).isEqualTo(1L);
+            assertThat(second).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("이미 대기 중인 사용자가 다시 입장하면 기존 순번을 유지한다")
+        void enter_keepsPosition_whenUserReenters() {
+            // given
+            waitingRoom.enter(1L, 10L);
+            waitingRoom.enter(1L, 20L);
+
+            // when
+            long position = waitingRoom.enter(1L, 10L);
+
+            // then
+            assertThat(position).isEqualTo(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("대기열 입장 허용 테스트")
+    class PollTest {
+
+        @Test
+        @DisplayName("앞에서부터 요청한 인원만큼 꺼내고, 남은 사용자의 순번을 앞당긴다")
+        void poll_removesHeadUsers_andAdvancesPositions() {
+            // given
+            waitingRoom.enter(1L, 10L);
+            waitingRoom.enter(1L, 20L);
+            waitingRoom.enter(1L, 30L);
+
+            // when
+            List<Long> admitted = waitingRoom.poll(1L, 2);
+
+            // then
+            assertThat(admitted).containsExactly(10L, 20L);
+            assertThat(waitingRoom.positionOf(1L, 10L)).isEqualTo(OptionalLong.empty());
+            assertThat(waitingRoom.positionOf(1L, 30L)).isEqualTo(OptionalLong.of(1L));
+        }
+
+        @Test
+        @DisplayName("닫힌 대기열은 쿠폰 목록에서 제거되고 대기 중인 사용자도 함께 제거된다")
+        void close_removesCouponAndWaitingUsers() {
+            // given
+            waitingRoom.enter(1L, 10L);
+            waitingRoom.enter(2L, 20L);
+
+            // when
+            waitingRoom.close(1L);
+
+            // then
+            assertThat(waitingRoom.couponIds()).containsExactly(2L);
+            assertThat(waitingRoom.positionOf(1L, 10L)).isEqualTo(OptionalLong.empty());
+            assertThat(waitingRoom.poll(1L, 1)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("만료된 입장 토큰은 조회되지 않는다")
+        void findAdmission_ignoresExpiredAdmission() {
+            // given
+            waitingRoom.grant(1L, 10L, CouponAdmission.issue(now.plusSeconds(30)), Duration.ofSeconds(30));
+            waitingRoom.grant(1L, 20L, CouponAdmission.issue(now), Duration.ZERO);
+
+            // when & then
+            assertThat(waitingRoom.findAdmission(1L, 10L)).isPresent();
+            assertThat(waitingRoom.findAdmission(1L, 20L)).isEmpty();
+        }
+    }
+}
@@ -2,12 +2,20 @@ package com.maximum0.fastpickbe.coupon.ui;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -16,24 +24,43 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.maximum0.fastpickbe.base.BaseRestDocsTest;
 import com.maximum0.fastpickbe.common.exception.BusinessException;
 import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.common.response.ApiResponse;
 import com.maximum0.fastpickbe.common.security.principal.PrincipalDetails;
-import com.maximum0.fastpickbe.coupon.application.CouponIssueService;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueFacade;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueIdempotencyProperties;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueIdempotencyRegistry;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueOwnershipRouter;
+import com.maximum0.fastpickbe.coupon.application.CouponRaffleService;
+import com.maximum0.fastpickbe.coupon.application.CouponWaitingRoomService;
+import com.maximum0.fastpickbe.coupon.domain.CouponAdmission;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueTicket;
+import com.maximum0.fastpickbe.coupon.domain.CouponWaitingState;
 import com.maximum0.fastpickbe.coupon.ui.dto.CouponIssueRequest;
 import com.maximum0.fastpickbe.user.domain.User;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.FieldDescriptor;
+import org.springframework.restdocs.payload.JsonFieldType;
 
 @DisplayName("쿠폰 발급 컨트롤러 단위 테스트")
 class CouponIssueControllerTest extends BaseRestDocsTest {
 
-    private final CouponIssueService couponIssueService = Mockito.mock(CouponIssueService.class);
+    private final CouponIssueFacade couponIssueFacade = Mockito.mock(CouponIssueFacade.class);
+    private final CouponIssueOwnershipRouter couponIssueOwnershipRouter = Mockito.mock(CouponIssueOwnershipRouter.class);
+    private final CouponWaitingRoomService couponWaitingRoomService = Mockito.mock(CouponWaitingRoomService.class);
+    private final CouponRaffleService couponRaffleService = Mockito.mock(CouponRaffleService.class);
+    private final CouponIssueIdempotencyRegistry couponIssueIdempotencyRegistry = new CouponIssueIdempotencyRegistry(
+            Clock.systemDefaultZone(), new CouponIssueIdempotencyProperties(Duration.ofMinutes(5), 100, Duration.ofSeconds(1)));
 
     @Override
     protected Object initController() {
-        return new CouponIssueController(couponIssueService);
+        return new CouponIssueController(couponIssueFacade, couponIssueOwnershipRouter, couponWaitingRoomService, couponIssueIdempotencyRegistry, couponRaffleService);
     }
 
     @Nested
@@ -51,7 +78,7 @@ class CouponIssueControllerTest extends BaseRestDocsTest {
             long issuedCouponId = 100L;
             CouponIssueRequest request = new CouponIssueRequest(couponId);
 
-            given(couponIssueService.issue(anyLong(), any(User.class))).willReturn(issuedCouponId);
+            given(couponIssueOwnershipRouter.issue(anyLong(), any(User.class))).willReturn(issuedCouponId);
 
             // when & then
             mockMvc.perform(post("/api/v1/coupon-issues")
@@ -64,7 +91,9 @@ class CouponIssueControllerTest extends BaseRestDocsTest {
                     .andExpect(jsonPath("$.data").value(issuedCouponId))
                     .andDo(restDocument("coupon-issue/success",
                             requestHeaders(
-                                    headerWithName("Authorization").description("Bearer <ACCESS_TOKEN>")
+                                    headerWithName("Authorization").description("Bearer <ACCESS_TOKEN>"),
+                                    headerWithName(CouponIssueController.ADMISSION_TOKEN_HEADER).description("발급 대기열에서 부여받은 입장 토큰 (입장 토큰 요구 설정 시 필수)").optional(),
+                                    headerWithName(CouponIssueController.IDEMPOTENCY_KEY_HEADER).description("재시도 요청 식별 키 (같은 키의 재요청은 최초 발급 결과를 반환)").optional()
                             ),
                             requestFields(
                                     fieldWithPath("couponId").description("발급 요청할 쿠폰 ID")
@@ -75,6 +104,71 @@ class CouponIssueControllerTest extends BaseRestDocsTest {
                     ));
         }
 
+        @Test
+        @DisplayName("같은 Idempotency-Key 로 재요청하면 다시 발급하지 않고 최초 발급 이력 ID 를 반환한다")
+        void issue_returnsOriginalId_whenIdempotencyKeyIsReplayed() throws Exception {
+            // given
+            long couponId = 2L;
+            long issuedCouponId = 100L;
+            CouponIssueRequest request = new CouponIssueRequest(couponId);
+
+            given(couponIssueOwnershipRouter.issue(eq(couponId), any(User.class))).willReturn(issuedCouponId);
+            mockMvc.perform(post("/api/v1/coupon-issues")
+                    .with(user(principalDetails))
+                    .header("Authorization", "Bearer dummy-token")
+                    .header(CouponIssueController.IDEMPOTENCY_KEY_HEADER, "retry-key-1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/coupon-issues")
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token")
+                            .header(CouponIssueController.IDEMPOTENCY_KEY_HEADER, "retry-key-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data").value(issuedCouponId))
+                    .andDo(restDocument("coupon-issue/success-idempotent-replay",
+                            requestHeaders(
+                                    headerWithName("Authorization").description("Bearer <ACCESS_TOKEN>"),
+                                    headerWithName(CouponIssueController.IDEMPOTENCY_KEY_HEADER).description("최초 요청과 같은 재시도 요청 식별 키")
+                            ),
+                            responseFields(successFields(
+                                    fieldWithPath("data").description("최초 요청에서 생성된 발급 이력 ID")
+                            ))
+                    ));
+            verify(couponIssueOwnershipRouter, times(1)).issue(eq(couponId), any(User.class));
+        }
+
+        @Test
+        @DisplayName("같은 Idempotency-Key 를 다른 쿠폰 발급에 사용하면 422 Unprocessable Entity 에러를 반환한다")
+        void issue_returnsUnprocessableEntity_whenIdempotencyKeyIsReused() throws Exception {
+            // given
+            ErrorCode errorCode = ErrorCode.IDEMPOTENCY_KEY_REUSED;
+
+            given(couponIssueOwnershipRouter.issue(anyLong(), any(User.class))).willReturn(100L);
+            mockMvc.perform(post("/api/v1/coupon-issues")
+                    .with(user(principalDetails))
+                    .header("Authorization", "Bearer dummy-token")
+                    .header(CouponIssueController.IDEMPOTENCY_KEY_HEADER, "reused-key")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new CouponIssueRequest(3L))));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/coupon-issues")
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token")
+                            .header(CouponIssueController.IDEMPOTENCY_KEY_HEADER, "reused-key")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CouponIssueRequest(4L))))
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                    .andDo(restDocument("coupon-issue/fail-idempotency-key-reused",
+                            responseFields(errorFields())
+                    ));
+        }
+
         @Test
         @DisplayName("이미 발급받은 쿠폰을 요청하면 400 Bad Request 에러를 반환한다")
         void issue_returnsBadRequest_whenCouponAlreadyIssued() throws Exception {
@@ -83,7 +177,7 @@ class CouponIssueControllerTest extends BaseRestDocsTest {
             CouponIssueRequest request = new CouponIssueRequest(couponId);
             ErrorCode errorCode = ErrorCode.ALREADY_ISSUED_COUPON;
 
-            given(couponIssueService.issue(anyLong(), any(User.class)))
+            given(couponIssueOwnershipRouter.issue(anyLong(), any(User.class)))
                     .willThrow(new BusinessException(errorCode));
 
             // when & then
@@ -108,7 +202,7 @@ class CouponIssueControllerTest extends BaseRestDocsTest {
             CouponIssueRequest request = new CouponIssueRequest(couponId);
             ErrorCode errorCode = ErrorCode.COUPON_NOT_FOUND;
 
-            given(couponIssueService.issue(anyLong(), any(User.class)))
+            given(couponIssueOwnershipRouter.issue(anyLong(), any(User.class)))
                     .willThrow(new BusinessException(errorCode));
 
             // when & then
@@ -131,7 +225,7 @@ class CouponIssueControllerTest extends BaseRestDocsTest {
             CouponIssueRequest request = new CouponIssueRequest(couponId);
             ErrorCode errorCode = ErrorCode.COUPON_EXHAUSTED;
 
-            given(couponIssueService.issue(anyLong(), any(User.class)))
+            given(couponIssueOwnershipRouter.issue(anyLong(), any(User.class)))
                     .willThrow(new BusinessException(errorCode));
 
             // when & then
@@ -146,5 +240,346 @@ class CouponIssueControllerTest extends BaseRestDocsTest {
                             responseFields(errorFields())
                     ));
         }
+
+        @Test
+        @DisplayName("쿠폰 행 잠금을 재시도 한도 안에 획득하지 못하면 503 Service Unavailable 에러를 반환한다")
+        void issue_returnsServiceUnavailable_whenLockIsBusy() throws Exception {
+            // given
+            long couponId = 1L;
+            CouponIssueRequest request = new CouponIssueRequest(couponId);
+            ErrorCode errorCode = ErrorCode.COUPON_ISSUE_BUSY;
+
+            given(couponIssueOwnershipRouter.issue(anyLong(), any(User.class)))
+                    .willThrow(new BusinessException(errorCode));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/coupon-issues")
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                    .andDo(restDocument("coupon-issue/fail-busy",
+                            responseFields(errorFields())
+                    ));
+        }
+
+        @Test
+        @DisplayName("입장 토큰 없이 발급을 요청하면 403 Forbidden 에러를 반환한다")
+        void issue_returnsForbidden_whenAdmissionTokenMissing() throws Exception {
+            // given
+            long couponId = 1L;
+            CouponIssueRequest request = new CouponIssueRequest(couponId);
+            ErrorCode errorCode = ErrorCode.COUPON_ADMISSION_REQUIRED;
+
+            willThrow(new BusinessException(errorCode))
+                    .given(couponWaitingRoomService).verifyAdmission(anyLong(), any(User.class), isNull());
+
+            // when & then
+            mockMvc.perform(post("/api/v1/coupon-issues")
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                    .andDo(restDocument("coupon-issue/fail-admission-required",
+                            responseFields(errorFields())
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("쿠폰 비동기 발급 요청 테스트")
+    class IssueCouponAsyncApiTest {
+
+        private final User testUser = User.forTest(1L, "test@test.com", "password", "테스터");
+        private final PrincipalDetails principalDetails = new PrincipalDetails(testUser);
+        private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+
+        @Test
+        @DisplayName("비동기 발급 요청 시 202 Accepted 와 대기 상태의 티켓을 반환한다")
+        void issueAsync_returnsAccepted_withPendingTicket() throws Exception {
+            // given
+            CouponIssueRequest request = new CouponIssueRequest(1L);
+            CouponIssueTicket ticket = CouponIssueTicket.pending(1L, testUser.getId(), now);
+
+            given(couponIssueFacade.issueAsync(anyLong(), any(User.class))).willReturn(ticket);
+
+            // when & then
+            mockMvc.perform(post("/api/v1/coupon-issues/async")
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.data.ticketId").value(ticket.id()))
+                    .andExpect(jsonPath("$.data.status").value("PENDING"))
+                    .andDo(restDocument("coupon-issue/async-success",
+                            requestHeaders(
+                                    headerWithName("Authorization").description("Bearer <ACCESS_TOKEN>")
+                            ),
+                            requestFields(
+                                    fieldWithPath("couponId").description("발급 요청할 쿠폰 ID")
+                            ),
+                            responseFields(successFields(ticketFields()))
+                    ));
+        }
+
+        @Test
+        @DisplayName("발급 대기열이 가득 차면 503 Service Unavailable 에러를 반환한다")
+        void issueAsync_returnsServiceUnavailable_whenQueueIsFull() throws Exception {
+            // given
+            CouponIssueRequest request = new CouponIssueRequest(1L);
+            ErrorCode errorCode = ErrorCode.COUPON_ISSUE_QUEUE_FULL;
+
+            given(couponIssueFacade.issueAsync(anyLong(), any(User.class)))
+                    .willThrow(new BusinessException(errorCode));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/coupon-issues/async")
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                    .andDo(restDocument("coupon-issue/async-fail-queue-full",
+                            responseFields(errorFields())
+                    ));
+        }
+
+        @Test
+        @DisplayName("티켓 행 발급 방식의 쿠폰이면 400 Bad Request 에러를 반환한다")
+        void issueAsync_returnsBadRequest_whenCouponIssueModeIsTicket() throws Exception {
+            // given
+            CouponIssueRequest request = new CouponIssueRequest(1L);
+            ErrorCode errorCode = ErrorCode.COUPON_ASYNC_ISSUE_NOT_SUPPORTED;
+
+            given(couponIssueFacade.issueAsync(anyLong(), any(User.class)))
+                    .willThrow(new BusinessException(errorCode));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/coupon-issues/async")
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                    .andDo(restDocument("coupon-issue/async-fail-not-supported",
+                            responseFields(errorFields())
+                    ));
+        }
+
+        @Test
+        @DisplayName("발급 티켓 조회 시 처리 상태와 발급 이력 ID 를 반환한다")
+        void getTicket_returnsTicketStatus() throws Exception {
+            // given
+            CouponIssueTicket ticket = CouponIssueTicket.pending(1L, testUser.getId(), now).issued(100L);
+
+            given(couponIssueFacade.getTicket(anyString(), any(User.class))).willReturn(ticket);
+
+            // when & then
+            mockMvc.perform(getRequest("/api/v1/coupon-issues/tickets/{ticketId}", ticket.id())
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.status").value("ISSUED"))
+                    .andExpect(jsonPath("$.data.issuedCouponId").value(100L))
+                    .andDo(restDocument("coupon-issue/ticket",
+                            pathParameters(
+                                    parameterWithName("ticketId").description("조회할 발급 티켓 ID")
+                            ),
+                            responseFields(successFields(ticketFields()))
+                    ));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 티켓을 조회하면 404 Not Found 에러를 반환한다")
+        void getTicket_returnsNotFound_whenTicketNotFound() throws Exception {
+            // given
+            ErrorCode errorCode = ErrorCode.COUPON_ISSUE_TICKET_NOT_FOUND;
+
+            given(couponIssueFacade.getTicket(anyString(), any(User.class)))
+                    .willThrow(new BusinessException(errorCode));
+
+            // when & then
+            mockMvc.perform(getRequest("/api/v1/coupon-issues/tickets/{ticketId}", "unknown-ticket")
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                    .andDo(restDocument("coupon-issue/ticket-fail-not-found",
+                            responseFields(errorFields())
+                    ));
+        }
+
+        private FieldDescriptor[] ticketFields() {
+            return new FieldDescriptor[]{
+                    fieldWithPath("data.ticketId").description("발급 티켓 ID"),
+                    fieldWithPath("data.couponId").description("발급 요청한 쿠폰 ID"),
+                    fieldWithPath("data.status").description("처리 상태 (PENDING, ISSUED, FAILED)"),
+                    fieldWithPath("data.issuedCouponId").type(JsonFieldType.NUMBER).description("생성된 발급 이력 ID (발급 완료 시)").optional(),
+                    fieldWithPath("data.errorCode").type(JsonFieldType.STRING).description("실패 에러 코드 (발급 실패 시)").optional(),
+                    fieldWithPath("data.errorMessage").type(JsonFieldType.STRING).description("실패 에러 메시지 (발급 실패 시)").optional(),
+                    fieldWithPath("data.requestedAt").description("요청 접수 시각")
+            };
+        }
+    }
+
+    @Nested
+    @DisplayName("추첨 쿠폰 응모 테스트")
+    class RaffleEntryApiTest {
+
+        private final User testUser = User.forTest(1L, "test@test.com", "password", "테스터");
+        private final PrincipalDetails principalDetails = new PrincipalDetails(testUser);
+
+        @Test
+        @DisplayName("추첨 쿠폰에 응모하면 성공 응답을 반환한다")
+        void enterRaffle_returnsOk_whenEntryIsAppended() throws Exception {
+            // given
+            CouponIssueRequest request = new CouponIssueRequest(1L);
+
+            // when & then
+            mockMvc.perform(post("/api/v1/coupon-issues/raffle-entries")
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.code").value(ApiResponse.SUCCESS_CODE))
+                    .andDo(restDocument("coupon-issue/raffle-entry-success",
+                            requestHeaders(
+                                    headerWithName("Authorization").description("Bearer <ACCESS_TOKEN>")
+                            ),
+                            requestFields(
+                                    fieldWithPath("couponId").description("응모할 추첨 쿠폰 ID")
+                            ),
+                            responseFields(successFields(
+                                    fieldWithPath("data").type(JsonFieldType.NULL).description("응답 데이터 없음").optional()
+                            ))
+                    ));
+
+            verify(couponRaffleService).enter(eq(1L), any(User.class));
+        }
+
+        @Test
+        @DisplayName("이미 응모한 추첨 쿠폰이면 400 Bad Request 에러를 반환한다")
+        void enterRaffle_returnsBadRequest_whenAlreadyEntered() throws Exception {
+            // given
+            CouponIssueRequest request = new CouponIssueRequest(1L);
+            ErrorCode errorCode = ErrorCode.ALREADY_ENTERED_RAFFLE;
+
+            willThrow(new BusinessException(errorCode))
+                    .given(couponRaffleService).enter(anyLong(), any(User.class));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/coupon-issues/raffle-entries")
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                    .andDo(restDocument("coupon-issue/raffle-entry-fail-already-entered",
+                            responseFields(errorFields())
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("쿠폰 발급 대기열 테스트")
+    class WaitingRoomApiTest {
+
+        private final User testUser = User.forTest(1L, "test@test.com", "password", "테스터");
+        private final PrincipalDetails principalDetails = new PrincipalDetails(testUser);
+        private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 1, 0);
+
+        @Test
+        @DisplayName("대기열에 입장하면 대기 순번과 예상 대기 시간을 반환한다")
+        void enterWaitingRoom_returnsWaitingState() throws Exception {
+            // given
+            CouponIssueRequest request = new CouponIssueRequest(1L);
+            CouponWaitingState state = CouponWaitingState.waiting(1L, 250L, Duration.ofMillis(2500));
+
+            given(couponWaitingRoomService.enter(anyLong(), any(User.class))).willReturn(state);
+
+            // when & then
+            mockMvc.perform(post("/api/v1/coupon-issues/waiting-room")
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.status").value("WAITING"))
+                    .andExpect(jsonPath("$.data.position").value(250L))
+                    .andExpect(jsonPath("$.data.estimatedWaitSeconds").value(3L))
+                    .andDo(restDocument("coupon-waiting-room/enter",
+                            requestHeaders(
+                                    headerWithName("Authorization").description("Bearer <ACCESS_TOKEN>")
+                            ),
+                            requestFields(
+                                    fieldWithPath("couponId").description("입장할 쿠폰 ID")
+                            ),
+                            responseFields(successFields(waitingRoomFields()))
+                    ));
+        }
+
+        @Test
+        @DisplayName("입장 순서가 된 사용자가 대기 상태를 조회하면 입장 토큰을 반환한다")
+        void getWaitingRoomState_returnsAdmission_whenAdmitted() throws Exception {
+            // given
+            CouponAdmission admission = CouponAdmission.issue(now.plusSeconds(30));
+            CouponWaitingState state = CouponWaitingState.admitted(1L, admission);
+
+            given(couponWaitingRoomService.getState(anyLong(), any(User.class))).willReturn(state);
+
+            // when & then
+            mockMvc.perform(getRequest("/api/v1/coupon-issues/waiting-room/{couponId}", 1L)
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.status").value("ADMITTED"))
+                    .andExpect(jsonPath("$.data.admissionToken").value(admission.token()))
+                    .andDo(restDocument("coupon-waiting-room/state",
+                            pathParameters(
+                                    parameterWithName("couponId").description("조회할 쿠폰 ID")
+                            ),
+                            responseFields(successFields(waitingRoomFields()))
+                    ));
+        }
+
+        @Test
+        @DisplayName("대기열에 입장하지 않은 사용자가 대기 상태를 조회하면 404 Not Found 에러를 반환한다")
+        void getWaitingRoomState_returnsNotFound_whenNotWaiting() throws Exception {
+            // given
+            ErrorCode errorCode = ErrorCode.COUPON_WAITING_NOT_FOUND;
+
+            given(couponWaitingRoomService.getState(anyLong(), any(User.class)))
+                    .willThrow(new BusinessException(errorCode));
+
+            // when & then
+            mockMvc.perform(getRequest("/api/v1/coupon-issues/waiting-room/{couponId}", 1L)
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                    .andDo(restDocument("coupon-waiting-room/state-fail-not-found",
+                            responseFields(errorFields())
+                    ));
+        }
+
+        private FieldDescriptor[] waitingRoomFields() {
+            return new FieldDescriptor[]{
+                    fieldWithPath("data.couponId").description("쿠폰 ID"),
+                    fieldWithPath("data.status").description("대기 상태 (WAITING, ADMITTED)"),
+                    fieldWithPath("data.position").type(JsonFieldType.NUMBER).description("대기 순번 (대기 중일 때)").optional(),
+                    fieldWithPath("data.estimatedWaitSeconds").description("입장까지 예상 대기 시간(초)"),
+                    fieldWithPath("data.admissionToken").type(JsonFieldType.STRING).description("입장 토큰 (입장 허용 시, 발급 요청의 X-Admission-Token 헤더로 제출)").optional(),
+                    fieldWithPath("data.admissionExpiresAt").type(JsonFieldType.STRING).description("입장 토큰 만료 시각 (입장 허용 시)").optional()
+            };
+        }
     }
 }
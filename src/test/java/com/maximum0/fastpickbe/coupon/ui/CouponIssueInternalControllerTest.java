@@ -0,0 +1,110 @@
+package com.maximum0.fastpickbe.coupon.ui;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.maximum0.fastpickbe.base.BaseRestDocsTest;
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.coupon.application.CouponIssueOwnershipRouter;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueForwarder;
+import com.maximum0.fastpickbe.coupon.ui.dto.CouponIssueForwardRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+
+@DisplayName("노드 간 쿠폰 발급 컨트롤러 단위 테스트")
+class CouponIssueInternalControllerTest extends BaseRestDocsTest {
+
+    private final CouponIssueOwnershipRouter couponIssueOwnershipRouter = Mockito.mock(CouponIssueOwnershipRouter.class);
+
+    @Override
+    protected Object initController() {
+        return new CouponIssueInternalController(couponIssueOwnershipRouter);
+    }
+
+    @Nested
+    @DisplayName("전달받은 쿠폰 발급 요청 테스트")
+    class IssueForwardedApiTest {
+
+        @Test
+        @DisplayName("노드 간 인증 토큰이 유효하면 담당 노드로서 발급하고 발급 이력 ID 를 반환한다")
+        void issueForwarded_succeeds_withValidInternalToken() throws Exception {
+            // given
+            CouponIssueForwardRequest request = new CouponIssueForwardRequest(1L, 7L);
+            given(couponIssueOwnershipRouter.issueForwarded(1L, 7L)).willReturn(100L);
+
+            // when & then
+            mockMvc.perform(post(CouponIssueForwarder.FORWARD_PATH)
+                            .header(CouponIssueForwarder.INTERNAL_TOKEN_HEADER, "secret")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data").value(100L))
+                    .andDo(restDocument("coupon-issue-internal/success",
+                            requestHeaders(
+                                    headerWithName(CouponIssueForwarder.INTERNAL_TOKEN_HEADER).description("노드 간 인증 토큰")
+                            ),
+                            requestFields(
+                                    fieldWithPath("couponId").description("발급할 쿠폰 ID"),
+                                    fieldWithPath("userId").description("발급 대상 사용자 ID")
+                            ),
+                            responseFields(successFields(
+                                    fieldWithPath("data").description("생성된 발급 이력 ID")
+                            ))
+                    ));
+            verify(couponIssueOwnershipRouter).verifyInternalToken("secret");
+        }
+
+        @Test
+        @DisplayName("노드 간 인증 토큰이 유효하지 않으면 403 Forbidden 에러를 반환하고 발급하지 않는다")
+        void issueForwarded_returnsForbidden_whenInternalTokenIsInvalid() throws Exception {
+            // given
+            ErrorCode errorCode = ErrorCode.FORBIDDEN;
+            willThrow(new BusinessException(errorCode)).given(couponIssueOwnershipRouter).verifyInternalToken(any());
+
+            // when & then
+            mockMvc.perform(post(CouponIssueForwarder.FORWARD_PATH)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CouponIssueForwardRequest(1L, 7L))))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                    .andDo(restDocument("coupon-issue-internal/fail-forbidden",
+                            responseFields(errorFields())
+                    ));
+            verify(couponIssueOwnershipRouter, never()).issueForwarded(any(), any());
+        }
+
+        @Test
+        @DisplayName("이 노드가 담당 노드가 아니면 503 Service Unavailable 에러를 반환한다")
+        void issueForwarded_returnsServiceUnavailable_whenOwnerMoved() throws Exception {
+            // given
+            ErrorCode errorCode = ErrorCode.COUPON_ISSUE_OWNER_MOVED;
+            given(couponIssueOwnershipRouter.issueForwarded(1L, 7L)).willThrow(new BusinessException(errorCode));
+
+            // when & then
+            mockMvc.perform(post(CouponIssueForwarder.FORWARD_PATH)
+                            .header(CouponIssueForwarder.INTERNAL_TOKEN_HEADER, "secret")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CouponIssueForwardRequest(1L, 7L))))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                    .andDo(restDocument("coupon-issue-internal/fail-owner-moved",
+                            responseFields(errorFields())
+                    ));
+        }
+    }
+}
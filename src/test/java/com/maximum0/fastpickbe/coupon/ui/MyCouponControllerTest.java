@@ -1,21 +1,29 @@
 package com.maximum0.fastpickbe.coupon.ui;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.maximum0.fastpickbe.base.BaseRestDocsTest;
 import com.maximum0.fastpickbe.common.security.principal.PrincipalDetails;
+import com.maximum0.fastpickbe.coupon.application.CouponRedemptionService;
 import com.maximum0.fastpickbe.coupon.application.MyCouponService;
+import com.maximum0.fastpickbe.coupon.domain.CouponRedemption;
+import com.maximum0.fastpickbe.coupon.domain.CouponRedemptionStatus;
 import com.maximum0.fastpickbe.coupon.domain.MyCouponStatus;
+import com.maximum0.fastpickbe.coupon.ui.dto.CouponRedemptionRequest;
 import com.maximum0.fastpickbe.coupon.ui.dto.MyCouponResponse;
 import com.maximum0.fastpickbe.user.domain.User;
 import java.time.LocalDateTime;
@@ -32,10 +40,11 @@ import org.springframework.data.domain.Pageable;
 class MyCouponControllerTest extends BaseRestDocsTest {
 
     private final MyCouponService myCouponService = Mockito.mock(MyCouponService.class);
+    private final CouponRedemptionService couponRedemptionService = Mockito.mock(CouponRedemptionService.class);
 
     @Override
     protected Object initController() {
-        return new MyCouponController(myCouponService);
+        return new MyCouponController(myCouponService, couponRedemptionService);
     }
 
     @Nested
@@ -97,4 +106,93 @@ class MyCouponControllerTest extends BaseRestDocsTest {
                     ));
         }
     }
+
+    @Nested
+    @DisplayName("쿠폰 사용 처리 API 테스트")
+    class RedeemApiTest {
+
+        private final User testUser = User.forTest(1L, "user1@test.com", "pw", "유저1");
+        private final PrincipalDetails principalDetails = new PrincipalDetails(testUser);
+
+        @Test
+        @DisplayName("보유한 쿠폰 한 건을 사용 처리하고 결과를 반환한다")
+        void redeem_succeeds_withOwnedCoupon() throws Exception {
+            // given
+            given(couponRedemptionService.redeem(any(User.class), eq(100L), eq("order-1")))
+                    .willReturn(new CouponRedemption(100L, CouponRedemptionStatus.REDEEMED));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/my/coupons/{issuedCouponId}/redemption", 100L)
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token")
+                            .header(CouponIssueController.IDEMPOTENCY_KEY_HEADER, "order-1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.issuedCouponId").value(100L))
+                    .andExpect(jsonPath("$.data.status").value("REDEEMED"))
+                    .andDo(restDocument("my-coupons/redeem",
+                            requestHeaders(
+                                    headerWithName("Authorization").description("Bearer <ACCESS_TOKEN>"),
+                                    headerWithName(CouponIssueController.IDEMPOTENCY_KEY_HEADER).description("재시도 요청 식별 키 (최대 64자, 같은 키의 재요청은 REDEEMED 로 응답)").optional()
+                            ),
+                            pathParameters(
+                                    parameterWithName("issuedCouponId").description("사용할 발급 이력 ID")
+                            ),
+                            responseFields(successFields(
+                                    fieldWithPath("data.issuedCouponId").description("발급 이력 ID"),
+                                    fieldWithPath("data.status").description("처리 결과 (REDEEMED, ALREADY_USED, EXPIRED, NOT_FOUND)"),
+                                    fieldWithPath("data.description").description("처리 결과 설명")
+                            ))
+                    ));
+        }
+
+        @Test
+        @DisplayName("여러 쿠폰을 한 번에 사용 처리하고 항목별 결과를 반환한다")
+        void redeemAll_returnsResultPerItem() throws Exception {
+            // given
+            CouponRedemptionRequest request = new CouponRedemptionRequest(List.of(100L, 101L, 102L));
+            given(couponRedemptionService.redeemAll(any(User.class), eq(List.of(100L, 101L, 102L)), eq("order-1")))
+                    .willReturn(List.of(
+                            new CouponRedemption(100L, CouponRedemptionStatus.REDEEMED),
+                            new CouponRedemption(101L, CouponRedemptionStatus.ALREADY_USED),
+                            new CouponRedemption(102L, CouponRedemptionStatus.NOT_FOUND)
+                    ));
+
+            // when & then
+            mockMvc.perform(postRequest("/api/v1/my/coupons/redemptions", request)
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token")
+                            .header(CouponIssueController.IDEMPOTENCY_KEY_HEADER, "order-1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].status").value("REDEEMED"))
+                    .andExpect(jsonPath("$.data[1].status").value("ALREADY_USED"))
+                    .andExpect(jsonPath("$.data[2].status").value("NOT_FOUND"))
+                    .andDo(restDocument("my-coupons/redeem-all",
+                            requestHeaders(
+                                    headerWithName("Authorization").description("Bearer <ACCESS_TOKEN>"),
+                                    headerWithName(CouponIssueController.IDEMPOTENCY_KEY_HEADER).description("재시도 요청 식별 키 (최대 64자, 같은 키의 재요청은 이전에 사용 처리된 항목을 REDEEMED 로 응답)").optional()
+                            ),
+                            requestFields(
+                                    fieldWithPath("issuedCouponIds").description("사용할 발급 이력 ID 목록 (최대 100개)")
+                            ),
+                            responseFields(successFields(
+                                    fieldWithPath("data[].issuedCouponId").description("발급 이력 ID"),
+                                    fieldWithPath("data[].status").description("처리 결과 (REDEEMED, ALREADY_USED, EXPIRED, NOT_FOUND)"),
+                                    fieldWithPath("data[].description").description("처리 결과 설명")
+                            ))
+                    ));
+        }
+
+        @Test
+        @DisplayName("사용할 쿠폰 목록이 비어 있으면 400 Bad Request 를 반환한다")
+        void redeemAll_returnsBadRequest_whenIdsAreEmpty() throws Exception {
+            // given
+            CouponRedemptionRequest request = new CouponRedemptionRequest(List.of());
+
+            // when & then
+            mockMvc.perform(postRequest("/api/v1/my/coupons/redemptions", request)
+                            .with(user(principalDetails))
+                            .header("Authorization", "Bearer dummy-token"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
 }
@@ -2,25 +2,34 @@ package com.maximum0.fastpickbe.coupon.ui.admin;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.maximum0.fastpickbe.base.BaseRestDocsTest;
+import com.maximum0.fastpickbe.common.exception.BusinessException;
 import com.maximum0.fastpickbe.common.exception.ErrorCode;
 import com.maximum0.fastpickbe.common.response.ApiResponse;
 import com.maximum0.fastpickbe.coupon.application.admin.CouponAdminService;
+import com.maximum0.fastpickbe.coupon.domain.CouponIssueMode;
 import com.maximum0.fastpickbe.coupon.ui.admin.dto.CouponCreateRequest;
+import com.maximum0.fastpickbe.coupon.ui.admin.dto.CouponReleaseScheduleRequest;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.restdocs.payload.JsonFieldType;
 
 @DisplayName("쿠폰 관리자 컨트롤러 단위 테스트")
 class CouponAdminControllerTest extends BaseRestDocsTest {
@@ -48,8 +57,16 @@ class CouponAdminControllerTest extends BaseRestDocsTest {
                     "요약 설명",
                     "상세 설명입니다.",
                     100,
+                    2,
                     now.plusDays(1),
-                    now.plusDays(7)
+                    now.plusDays(7),
+                    null,
+                    CouponIssueMode.TICKET,
+                    new CouponReleaseScheduleRequest(null, null, List.of(
+                            new CouponReleaseScheduleRequest.Wave("오전 오픈", now.plusDays(1), 60),
+                            new CouponReleaseScheduleRequest.Wave("오후 오픈", now.plusDays(1).plusHours(6), 40)
+                    )),
+                    7L
             );
 
             given(couponAdminService.createCoupon(any())).willReturn(savedId);
@@ -67,8 +84,19 @@ class CouponAdminControllerTest extends BaseRestDocsTest {
                                     fieldWithPath("summary").description("요약 설명"),
                                     fieldWithPath("description").description("상세 설명"),
                                     fieldWithPath("totalQuantity").description("총 발행 수량"),
+                                    fieldWithPath("limitPerUser").type(JsonFieldType.NUMBER).description("인당 발급 한도 (미지정 시 1 / 2 이상은 PESSIMISTIC_LOCK, OPTIMISTIC_LOCK, CONDITIONAL_UPDATE, TICKET, LEASE 발급 방식에서만 지정 가능)").optional(),
                                     fieldWithPath("startAt").description("발급 시작 일시 (yyyy-MM-dd'T'HH:mm:ss)"),
-                                    fieldWithPath("endAt").description("발급 종료 일시 (yyyy-MM-dd'T'HH:mm:ss)")
+                                    fieldWithPath("endAt").description("발급 종료 일시 (yyyy-MM-dd'T'HH:mm:ss)"),
+                                    fieldWithPath("entryEndAt").type(JsonFieldType.STRING).description("추첨 쿠폰의 응모 마감 일시 (RAFFLE 발급 방식에서만 지정 / 발급 시작 일시 이후, 종료 일시 이전)").optional(),
+                                    fieldWithPath("issueMode").type(JsonFieldType.STRING).description("발급 방식 (PESSIMISTIC_LOCK, OPTIMISTIC_LOCK, COUNTER, GROUP_COMMIT, CONDITIONAL_UPDATE, TICKET, SINGLE_WRITER, LEASE, RAFFLE / 미지정 시 생성 시점의 기본 발급 방식으로 저장)").optional(),
+                                    fieldWithPath("releaseSchedule").type(JsonFieldType.OBJECT).description("수량 공개 일정 (미지정 시 발급 시작 시각에 전체 수량 공개)").optional(),
+                                    fieldWithPath("releaseSchedule.releaseUnit").type(JsonFieldType.NUMBER).description("분할 공개 시 간격마다 공개할 수량").optional(),
+                                    fieldWithPath("releaseSchedule.releaseIntervalSeconds").type(JsonFieldType.NUMBER).description("분할 공개 간격(초)").optional(),
+                                    fieldWithPath("releaseSchedule.waves").type(JsonFieldType.ARRAY).description("회차 공개 목록 (분할 공개와 함께 지정할 수 없음)").optional(),
+                                    fieldWithPath("releaseSchedule.waves[].name").type(JsonFieldType.STRING).description("공개 회차 이름").optional(),
+                                    fieldWithPath("releaseSchedule.waves[].releaseAt").type(JsonFieldType.STRING).description("공개 시각 (yyyy-MM-dd'T'HH:mm:ss)").optional(),
+                                    fieldWithPath("releaseSchedule.waves[].quantity").type(JsonFieldType.NUMBER).description("회차 공개 수량").optional(),
+                                    fieldWithPath("campaignId").type(JsonFieldType.NUMBER).description("소속 캠페인 식별자 (지정 시 캠페인 수량을 다른 소속 쿠폰과 함께 사용)").optional()
                             ),
                             responseHeaders(
                                     headerWithName("Location").description("생성된 쿠폰의 상세 조회 URI")
@@ -83,7 +111,7 @@ class CouponAdminControllerTest extends BaseRestDocsTest {
         @DisplayName("필수값이 누락되면 INVALID_INPUT_VALUE 예외를 반환한다.")
         void createCoupon_returnsBadRequest_whenRequestIsInvalid() throws Exception {
             // given
-            CouponCreateRequest invalidRequest = new CouponCreateRequest("", "", "", "", 0, null, null);
+            CouponCreateRequest invalidRequest = new CouponCreateRequest("", "", "", "", 0, 0, null, null, null, null, null, null);
             ErrorCode errorCode = ErrorCode.INVALID_INPUT_VALUE;
 
             // when & then
@@ -96,4 +124,42 @@ class CouponAdminControllerTest extends BaseRestDocsTest {
                     ));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("쿠폰 사용 중지 테스트")
+    class DisableCouponTest {
+
+        @Test
+        @DisplayName("쿠폰을 사용 중지 처리하고 성공 응답을 반환한다.")
+        void disableCoupon_returnsOk_whenCouponExists() throws Exception {
+            // when & then
+            mockMvc.perform(patch("/api/v1/admin/coupons/{couponId}/disable", 1L))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.code").value(ApiResponse.SUCCESS_CODE))
+                    .andDo(restDocument("admin/coupon/disable",
+                            pathParameters(
+                                    parameterWithName("couponId").description("중지할 쿠폰 식별자")
+                            ),
+                            responseFields(successFields(
+                                    fieldWithPath("data").type(JsonFieldType.NULL).description("응답 데이터 없음").optional()
+                            ))
+                    ));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 쿠폰이면 404 Not Found 에러를 반환한다.")
+        void disableCoupon_returnsNotFound_whenCouponNotFound() throws Exception {
+            // given
+            ErrorCode errorCode = ErrorCode.COUPON_NOT_FOUND;
+            willThrow(new BusinessException(errorCode)).given(couponAdminService).disableCoupon(999L);
+
+            // when & then
+            mockMvc.perform(patch("/api/v1/admin/coupons/{couponId}/disable", 999L))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                    .andDo(restDocument("admin/coupon/disable-fail-not-found",
+                            responseFields(errorFields())
+                    ));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.maximum0.fastpickbe.coupon.ui.admin;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.maximum0.fastpickbe.base.BaseRestDocsTest;
+import com.maximum0.fastpickbe.common.exception.BusinessException;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.common.response.ApiResponse;
+import com.maximum0.fastpickbe.coupon.application.admin.CouponBulkIssueFormat;
+import com.maximum0.fastpickbe.coupon.application.admin.CouponBulkIssueService;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJob;
+import com.maximum0.fastpickbe.coupon.domain.CouponBulkIssueJobStatus;
+import java.io.InputStream;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.restdocs.payload.FieldDescriptor;
+import org.springframework.restdocs.payload.JsonFieldType;
+
+@DisplayName("쿠폰 일괄 발급 컨트롤러 단위 테스트")
+class CouponBulkIssueControllerTest extends BaseRestDocsTest {
+    private final CouponBulkIssueService couponBulkIssueService = Mockito.mock(CouponBulkIssueService.class);
+
+    @Override
+    protected Object initController() {
+        return new CouponBulkIssueController(couponBulkIssueService);
+    }
+
+    private List<FieldDescriptor> jobFields() {
+        return successFields(
+                fieldWithPath("data.jobId").description("일괄 발급 작업 식별자"),
+                fieldWithPath("data.couponId").description("발급할 쿠폰 식별자"),
+                fieldWithPath("data.status").description("작업 상태 (PENDING, RUNNING, COMPLETED, FAILED)"),
+                fieldWithPath("data.totalCount").description("업로드된 대상 수 (중복 포함)"),
+                fieldWithPath("data.processedCount").description("처리한 대상 수"),
+                fieldWithPath("data.issuedCount").description("발급한 수"),
+                fieldWithPath("data.skippedCount").description("건너뛴 대상 수 (이미 발급, 존재하지 않는 사용자, 목록 내 중복)"),
+                fieldWithPath("data.failureCode").type(JsonFieldType.STRING).description("작업 중단 사유 코드 (FAILED 일 때)").optional(),
+                fieldWithPath("data.failureMessage").type(JsonFieldType.STRING).description("작업 중단 사유 메시지 (FAILED 일 때)").optional()
+        );
+    }
+
+    @Nested
+    @DisplayName("일괄 발급 작업 생성 테스트")
+    class CreateBulkIssueJobTest {
+
+        @Test
+        @DisplayName("CSV 로 업로드한 사용자 목록을 적재하고 202 Accepted 와 작업 조회 URI 를 반환한다.")
+        void createBulkIssueJob_returnsAccepted_whenCsvIsUploaded() throws Exception {
+            // given
+            Long couponId = 1L;
+            CouponBulkIssueJob job = CouponBulkIssueJob.forTest(10L, couponId);
+            job.staged(3);
+            given(couponBulkIssueService.createJob(eq(couponId), eq(CouponBulkIssueFormat.CSV), any(InputStream.class))).willReturn(job);
+
+            // when & then
+            mockMvc.perform(post("/api/v1/admin/coupons/{couponId}/bulk-issues", couponId)
+                            .contentType("text/csv")
+                            .content("user_id\n1\n2\n3\n"))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("Location", "/api/v1/admin/coupons/bulk-issues/10"))
+                    .andExpect(jsonPath("$.code").value(ApiResponse.SUCCESS_CODE))
+                    .andExpect(jsonPath("$.data.status").value(CouponBulkIssueJobStatus.PENDING.name()))
+                    .andExpect(jsonPath("$.data.totalCount").value(3))
+                    .andDo(restDocument("admin/coupon/bulk-issue/create",
+                            pathParameters(
+                                    parameterWithName("couponId").description("발급할 쿠폰 식별자")
+                            ),
+                            responseHeaders(
+                                    headerWithName("Location").description("일괄 발급 작업 조회 URI")
+                            ),
+                            responseFields(jobFields())
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("일괄 발급 작업 조회 테스트")
+    class GetBulkIssueJobTest {
+
+        @Test
+        @DisplayName("작업의 진행 상태를 반환한다.")
+        void getBulkIssueJob_returnsProgress() throws Exception {
+            // given
+            CouponBulkIssueJob job = CouponBulkIssueJob.forTest(10L, 1L);
+            job.staged(3);
+            job.advance(3L, 2, 1);
+            given(couponBulkIssueService.getJob(10L)).willReturn(job);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/admin/coupons/bulk-issues/{jobId}", 10L))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.status").value(CouponBulkIssueJobStatus.RUNNING.name()))
+                    .andExpect(jsonPath("$.data.processedCount").value(2))
+                    .andExpect(jsonPath("$.data.issuedCount").value(1))
+                    .andExpect(jsonPath("$.data.skippedCount").value(1))
+                    .andDo(restDocument("admin/coupon/bulk-issue/get",
+                            pathParameters(
+                                    parameterWithName("jobId").description("일괄 발급 작업 식별자")
+                            ),
+                            responseFields(jobFields())
+                    ));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 작업이면 404 Not Found 에러를 반환한다.")
+        void getBulkIssueJob_returnsNotFound_whenJobNotFound() throws Exception {
+            // given
+            ErrorCode errorCode = ErrorCode.COUPON_BULK_ISSUE_JOB_NOT_FOUND;
+            given(couponBulkIssueService.getJob(999L)).willThrow(new BusinessException(errorCode));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/admin/coupons/bulk-issues/{jobId}", 999L))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                    .andDo(restDocument("admin/coupon/bulk-issue/get-fail-not-found",
+                            responseFields(errorFields())
+                    ));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.maximum0.fastpickbe.coupon.ui.admin;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.maximum0.fastpickbe.base.BaseRestDocsTest;
+import com.maximum0.fastpickbe.common.exception.ErrorCode;
+import com.maximum0.fastpickbe.common.response.ApiResponse;
+import com.maximum0.fastpickbe.coupon.application.admin.CouponAdminService;
+import com.maximum0.fastpickbe.coupon.ui.admin.dto.CouponCampaignCreateRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+@DisplayName("CouponCampaignAdmin 컨트롤러 단위 테스트")
+class CouponCampaignAdminControllerTest extends BaseRestDocsTest {
+    private final CouponAdminService couponAdminService = Mockito.mock(CouponAdminService.class);
+
+    @Override
+    protected Object initController() {
+        return new CouponCampaignAdminController(couponAdminService);
+    }
+
+    @Nested
+    @DisplayName("캠페인 생성 테스트")
+    class CreateCampaignTest {
+
+        @Test
+        @DisplayName("올바른 캠페인 정보를 입력하면 캠페인을 생성하고 Created를 반환한다.")
+        void createCampaign_returnsCreated_whenRequestIsValid() throws Exception {
+            // given
+            CouponCampaignCreateRequest request = new CouponCampaignCreateRequest("봄 시즌 캠페인", 10000);
+            given(couponAdminService.createCampaign("봄 시즌 캠페인", 10000)).willReturn(3L);
+
+            // when & then
+            mockMvc.perform(postRequest("/api/v1/admin/coupon-campaigns", request))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string("Location", "/api/v1/admin/coupon-campaigns/3"))
+                    .andExpect(jsonPath("$.code").value(ApiResponse.SUCCESS_CODE))
+                    .andExpect(jsonPath("$.data").value(3L))
+                    .andDo(restDocument("admin/coupon-campaign/create",
+                            requestFields(
+                                    fieldWithPath("name").description("캠페인명"),
+                                    fieldWithPath("totalQuantity").description("소속 쿠폰이 함께 쓰는 총 발급 수량")
+                            ),
+                            responseHeaders(
+                                    headerWithName("Location").description("생성된 캠페인 URI")
+                            ),
+                            responseFields(successFields(
+                                    fieldWithPath("data").description("생성된 캠페인 식별자")
+                            ))
+                    ));
+        }
+
+        @Test
+        @DisplayName("총 수량이 1 미만이면 INVALID_INPUT_VALUE 예외를 반환한다.")
+        void createCampaign_returnsBadRequest_whenQuantityIsInvalid() throws Exception {
+            // given
+            CouponCampaignCreateRequest invalidRequest = new CouponCampaignCreateRequest("봄 시즌 캠페인", 0);
+            ErrorCode errorCode = ErrorCode.INVALID_INPUT_VALUE;
+
+            // when & then
+            mockMvc.perform(postRequest("/api/v1/admin/coupon-campaigns", invalidRequest))
+                    .andExpect(status().is(errorCode.getStatus()))
+                    .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+                    .andDo(restDocument("admin/coupon-campaign/create-fail",
+                            responseFields(errorFields())
+                    ));
+        }
+    }
+}